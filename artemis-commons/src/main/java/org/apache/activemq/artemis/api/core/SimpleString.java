@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import io.netty.buffer.ByteBuf;
+import org.apache.activemq.artemis.utils.ByteUtil;
 import org.apache.activemq.artemis.utils.DataConstants;
 
 /**
@@ -215,13 +216,7 @@ public final class SimpleString implements CharSequence, Serializable, Comparabl
          return false;
       }
 
-      for (int i = 0; i < otherdata.length; i++) {
-         if (data[i] != otherdata[i]) {
-            return false;
-         }
-      }
-
-      return true;
+      return ByteUtil.equals(data, otherdata, otherdata.length);
    }
 
    @Override
@@ -256,17 +251,11 @@ public final class SimpleString implements CharSequence, Serializable, Comparabl
       if (other instanceof SimpleString) {
          SimpleString s = (SimpleString) other;
 
-         if (data.length != s.data.length) {
+         if (hash != 0 && s.hash != 0 && hash != s.hash) {
             return false;
          }
 
-         for (int i = 0; i < data.length; i++) {
-            if (data[i] != s.data[i]) {
-               return false;
-            }
-         }
-
-         return true;
+         return ByteUtil.equals(data, s.data);
       } else {
          return false;
       }
@@ -275,11 +264,7 @@ public final class SimpleString implements CharSequence, Serializable, Comparabl
    @Override
    public int hashCode() {
       if (hash == 0) {
-         int tmphash = 0;
-         for (byte element : data) {
-            tmphash = (tmphash << 5) - tmphash + element; // (hash << 5) - hash is same as hash * 31
-         }
-         hash = tmphash;
+         hash = ByteUtil.hashCode(data);
       }
 
       return hash;
@@ -22,6 +22,7 @@ import java.util.regex.Pattern;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.util.internal.PlatformDependent;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.logs.ActiveMQUtilBundle;
@@ -39,6 +40,10 @@ public class ByteUtil {
    private static final Pattern MEGA = Pattern.compile(prefix + "m" + suffix, Pattern.CASE_INSENSITIVE);
    private static final Pattern GIGA = Pattern.compile(prefix + "g" + suffix, Pattern.CASE_INSENSITIVE);
 
+   private static final boolean WORD_AT_A_TIME = PlatformDependent.hasUnsafe() && PlatformDependent.isUnaligned();
+   private static final long HIGH_BITS = 0x8080808080808080L;
+   private static final long LOW_BITS = 0x0101010101010101L;
+
    public static void debugFrame(Logger logger, String message, ByteBuf byteIn) {
       if (logger.isTraceEnabled()) {
          int location = byteIn.readerIndex();
@@ -207,4 +212,67 @@ public class ByteUtil {
          throw ActiveMQUtilBundle.BUNDLE.failedToParseLong(text);
       }
    }
+
+   /**
+    * Compares two byte arrays, 8 bytes at a time when the platform supports unaligned reads.
+    */
+   public static boolean equals(final byte[] left, final byte[] right) {
+      if (left == right) {
+         return true;
+      }
+      if (left.length != right.length) {
+         return false;
+      }
+      return PlatformDependent.equals(left, 0, right, 0, left.length);
+   }
+
+   /**
+    * Same as {@code equals} but only compares the first {@code length} bytes of both arrays.
+    */
+   public static boolean equals(final byte[] left, final byte[] right, final int length) {
+      return PlatformDependent.equals(left, 0, right, 0, length);
+   }
+
+   /**
+    * The same value as the classic {@code hash = 31 * hash + b} loop, unrolled 4 bytes at a time
+    * to break the dependency chain between iterations.
+    */
+   public static int hashCode(final byte[] bytes) {
+      int hash = 0;
+      int i = 0;
+      final int unrolledEnd = bytes.length & ~3;
+      for (; i < unrolledEnd; i += 4) {
+         // 31^4, 31^3, 31^2, 31
+         hash = 923521 * hash + 29791 * bytes[i] + 961 * bytes[i + 1] + 31 * bytes[i + 2] + bytes[i + 3];
+      }
+      for (; i < bytes.length; i++) {
+         hash = 31 * hash + bytes[i];
+      }
+      return hash;
+   }
+
+   /**
+    * Returns true when every byte in the range is in {@code [0x01, 0x7F]}, i.e. the range is a valid
+    * single byte (modified) UTF-8 sequence and can be widened to chars as is.
+    */
+   public static boolean isSingleByteUTF(final byte[] bytes, final int offset, final int length) {
+      int i = offset;
+      final int end = offset + length;
+      if (WORD_AT_A_TIME) {
+         final int wordEnd = end - 7;
+         for (; i < wordEnd; i += 8) {
+            final long word = PlatformDependent.getLong(bytes, i);
+            // any high bit set or any zero byte
+            if ((word & HIGH_BITS) != 0 || ((word - LOW_BITS) & ~word & HIGH_BITS) != 0) {
+               return false;
+            }
+         }
+      }
+      for (; i < end; i++) {
+         if (bytes[i] <= 0) {
+            return false;
+         }
+      }
+      return true;
+   }
 }
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.activemq.artemis.api.core.SimpleString;
+
+/**
+ * A bounded, lock free interning cache of {@link SimpleString}s decoded from a {@link ByteBuf}.
+ * <p>
+ * Addresses, queue names and property keys repeat on almost every message, so decoding them through
+ * this pool returns the same instance (with its cached hashCode) instead of allocating a new one
+ * each time. Each slot holds a single entry selected by the hash of the encoded bytes and is simply
+ * overwritten on collision: racing threads may lose an entry but never see a wrong one, as
+ * {@link SimpleString} is immutable.
+ * <p>
+ * The capacity of {@link #DEFAULT} is set by the {@value #CAPACITY_PROPERTY} system property, 0 disables it.
+ */
+public final class SimpleStringPool {
+
+   public static final String CAPACITY_PROPERTY = "org.apache.activemq.artemis.simpleStringPool.capacity";
+
+   public static final String MAX_LENGTH_PROPERTY = "org.apache.activemq.artemis.simpleStringPool.maxLength";
+
+   /**
+    * Encoded sizes above this are never pooled, 128 bytes = 64 chars
+    */
+   public static final int DEFAULT_MAX_LENGTH = 128;
+
+   public static final int DEFAULT_CAPACITY = 1024;
+
+   public static final SimpleStringPool DEFAULT = new SimpleStringPool(Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY), Integer.getInteger(MAX_LENGTH_PROPERTY, DEFAULT_MAX_LENGTH));
+
+   private final SimpleString[] entries;
+
+   private final int mask;
+
+   private final int maxLength;
+
+   private final LongAdder hits = new LongAdder();
+
+   private final LongAdder misses = new LongAdder();
+
+   public SimpleStringPool(final int capacity, final int maxLength) {
+      if (capacity > 0) {
+         int size = Integer.highestOneBit(capacity);
+         if (size < capacity) {
+            size <<= 1;
+         }
+         this.entries = new SimpleString[size];
+         this.mask = size - 1;
+      } else {
+         this.entries = null;
+         this.mask = 0;
+      }
+      this.maxLength = maxLength;
+   }
+
+   public boolean isEnabled() {
+      return entries != null;
+   }
+
+   public int getCapacity() {
+      return entries == null ? 0 : entries.length;
+   }
+
+   public long getHits() {
+      return hits.sum();
+   }
+
+   public long getMisses() {
+      return misses.sum();
+   }
+
+   /**
+    * @return hits / lookups, or 0 if there was no lookup yet
+    */
+   public double getHitRatio() {
+      long hits = this.hits.sum();
+      long total = hits + misses.sum();
+      return total == 0 ? 0 : (double) hits / total;
+   }
+
+   public void resetStatistics() {
+      hits.reset();
+      misses.reset();
+   }
+
+   /**
+    * Same encoding as {@link SimpleString#readSimpleString(ByteBuf)}.
+    */
+   public SimpleString readSimpleString(final ByteBuf buffer) {
+      return getOrCreate(buffer, buffer.readInt());
+   }
+
+   /**
+    * Same encoding as {@link SimpleString#readNullableSimpleString(ByteBuf)}.
+    */
+   public SimpleString readNullableSimpleString(final ByteBuf buffer) {
+      int b = buffer.readByte();
+      if (b == DataConstants.NULL) {
+         return null;
+      }
+      return readSimpleString(buffer);
+   }
+
+   /**
+    * Reads {@code length} bytes from the buffer, returning a pooled instance if one with the same content exists.
+    */
+   public SimpleString getOrCreate(final ByteBuf buffer, final int length) {
+      if (entries == null || length > maxLength) {
+         byte[] data = new byte[length];
+         buffer.readBytes(data);
+         return new SimpleString(data);
+      }
+
+      final int start = buffer.readerIndex();
+      final int hash = hash(buffer, start, length);
+      final int index = (hash ^ (hash >>> 16)) & mask;
+
+      final SimpleString candidate = entries[index];
+      if (candidate != null && candidate.hashCode() == hash && contentEquals(candidate.getData(), buffer, start, length)) {
+         buffer.skipBytes(length);
+         hits.increment();
+         return candidate;
+      }
+
+      byte[] data = new byte[length];
+      buffer.readBytes(data);
+      SimpleString value = new SimpleString(data);
+      // computing it now makes the next lookup cheaper and it is what the caller will do next anyway
+      value.hashCode();
+      entries[index] = value;
+      misses.increment();
+      return value;
+   }
+
+   /**
+    * Same function as {@link SimpleString#hashCode()}.
+    */
+   private static int hash(final ByteBuf buffer, final int start, final int length) {
+      int hash = 0;
+      for (int i = start, end = start + length; i < end; i++) {
+         hash = 31 * hash + buffer.getByte(i);
+      }
+      return hash;
+   }
+
+   private static boolean contentEquals(final byte[] data, final ByteBuf buffer, final int start, final int length) {
+      if (data.length != length) {
+         return false;
+      }
+      for (int i = 0; i < length; i++) {
+         if (data[i] != buffer.getByte(start + i)) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   @Override
+   public String toString() {
+      return "SimpleStringPool(capacity=" + getCapacity() + ", hits=" + getHits() + ", misses=" + getMisses() + ")";
+   }
+}
@@ -17,6 +17,7 @@
 package org.apache.activemq.artemis.utils;
 
 import java.lang.ref.SoftReference;
+import java.nio.charset.StandardCharsets;
 
 import io.netty.buffer.ByteBuf;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
@@ -74,6 +75,10 @@ public final class UTF8Util {
          throw ActiveMQUtilBundle.BUNDLE.stringTooLong(str.length());
       }
 
+      if (saveSingleByteUTF(out, str, buffer)) {
+         return;
+      }
+
       final int len = UTF8Util.calculateUTFSize(str, buffer);
 
       if (len > 0xffff) {
@@ -86,36 +91,64 @@ public final class UTF8Util {
          buffer.resizeByteBuffer(len);
       }
 
-      if (len == (long) str.length()) {
-         for (int byteLocation = 0; byteLocation < len; byteLocation++) {
-            buffer.byteBuffer[byteLocation] = (byte) buffer.charBuffer[byteLocation];
-         }
-         out.writeBytes(buffer.byteBuffer, 0, len);
-      } else {
-         if (UTF8Util.isTrace) {
-            // This message is too verbose for debug, that's why we are using trace here
-            ActiveMQUtilLogger.LOGGER.trace("Saving string with utfSize=" + len + " stringSize=" + str.length());
+      if (UTF8Util.isTrace) {
+         // This message is too verbose for debug, that's why we are using trace here
+         ActiveMQUtilLogger.LOGGER.trace("Saving string with utfSize=" + len + " stringSize=" + str.length());
+      }
+
+      int stringLength = str.length();
+
+      int charCount = 0;
+
+      for (int i = 0; i < stringLength; i++) {
+         char charAtPos = buffer.charBuffer[i];
+         if (charAtPos >= 1 && charAtPos < 0x7f) {
+            buffer.byteBuffer[charCount++] = (byte) charAtPos;
+         } else if (charAtPos >= 0x800) {
+            buffer.byteBuffer[charCount++] = (byte) (0xE0 | charAtPos >> 12 & 0x0F);
+            buffer.byteBuffer[charCount++] = (byte) (0x80 | charAtPos >> 6 & 0x3F);
+            buffer.byteBuffer[charCount++] = (byte) (0x80 | charAtPos >> 0 & 0x3F);
+         } else {
+            buffer.byteBuffer[charCount++] = (byte) (0xC0 | charAtPos >> 6 & 0x1F);
+            buffer.byteBuffer[charCount++] = (byte) (0x80 | charAtPos >> 0 & 0x3F);
          }
+      }
+      out.writeBytes(buffer.byteBuffer, 0, len);
+   }
 
-         int stringLength = str.length();
-
-         int charCount = 0;
-
-         for (int i = 0; i < stringLength; i++) {
-            char charAtPos = buffer.charBuffer[i];
-            if (charAtPos >= 1 && charAtPos < 0x7f) {
-               buffer.byteBuffer[charCount++] = (byte) charAtPos;
-            } else if (charAtPos >= 0x800) {
-               buffer.byteBuffer[charCount++] = (byte) (0xE0 | charAtPos >> 12 & 0x0F);
-               buffer.byteBuffer[charCount++] = (byte) (0x80 | charAtPos >> 6 & 0x3F);
-               buffer.byteBuffer[charCount++] = (byte) (0x80 | charAtPos >> 0 & 0x3F);
-            } else {
-               buffer.byteBuffer[charCount++] = (byte) (0xC0 | charAtPos >> 6 & 0x1F);
-               buffer.byteBuffer[charCount++] = (byte) (0x80 | charAtPos >> 0 & 0x3F);
-            }
+   /**
+    * Most strings only have single byte chars: these are narrowed while being checked, in a single pass
+    * instead of sizing the string first and encoding it after.
+    *
+    * @return false, without writing anything, if the string has a char taking more than one byte
+    */
+   private static boolean saveSingleByteUTF(final ByteBuf out, final String str, final StringUtilBuffer buffer) {
+      final int stringLength = str.length();
+
+      if (stringLength > buffer.charBuffer.length) {
+         buffer.resizeCharBuffer(stringLength);
+      }
+
+      if (stringLength > buffer.byteBuffer.length) {
+         buffer.resizeByteBuffer(stringLength);
+      }
+
+      final char[] chars = buffer.charBuffer;
+      final byte[] bytes = buffer.byteBuffer;
+
+      str.getChars(0, stringLength, chars, 0);
+
+      for (int i = 0; i < stringLength; i++) {
+         final char c = chars[i];
+         if (c < 1 || c >= 0x7f) {
+            return false;
          }
-         out.writeBytes(buffer.byteBuffer, 0, len);
+         bytes[i] = (byte) c;
       }
+
+      out.writeShort((short) stringLength);
+      out.writeBytes(bytes, 0, stringLength);
+      return true;
    }
 
    public static String readUTF(final ActiveMQBuffer input) {
@@ -142,6 +175,11 @@ public final class UTF8Util {
 
       input.readBytes(buffer.byteBuffer, 0, size);
 
+      if (ByteUtil.isSingleByteUTF(buffer.byteBuffer, 0, size)) {
+         // every byte is a char: let the JDK widen it in bulk instead of decoding byte by byte
+         return new String(buffer.byteBuffer, 0, size, StandardCharsets.ISO_8859_1);
+      }
+
       while (count < size) {
          byte1 = buffer.byteBuffer[count++];
 
@@ -16,10 +16,13 @@
  */
 package org.apache.activemq.artemis.utils;
 
+import java.util.Arrays;
+
 import org.junit.Assert;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -42,6 +45,52 @@ public class ByteUtilTest {
       System.out.println(ByteUtil.toSimpleString(new byte[]{0, 97, 0, 65}));
    }
 
+   @Test
+   public void testHashCodeMatchesScalarLoop() {
+      for (int size = 0; size < 40; size++) {
+         byte[] bytes = RandomUtil.randomBytes(size);
+         int expected = 0;
+         for (byte b : bytes) {
+            expected = 31 * expected + b;
+         }
+         assertEquals(expected, ByteUtil.hashCode(bytes));
+      }
+   }
+
+   @Test
+   public void testEquals() {
+      for (int size = 0; size < 40; size++) {
+         byte[] bytes = RandomUtil.randomBytes(size);
+         byte[] copy = bytes.clone();
+         assertTrue(ByteUtil.equals(bytes, copy));
+         for (int i = 0; i < size; i++) {
+            copy[i]++;
+            assertFalse(ByteUtil.equals(bytes, copy));
+            copy[i]--;
+         }
+      }
+      assertFalse(ByteUtil.equals(new byte[3], new byte[4]));
+   }
+
+   @Test
+   public void testSingleByteUTF() {
+      for (int size = 1; size < 40; size++) {
+         byte[] bytes = new byte[size];
+         Arrays.fill(bytes, (byte) 'a');
+         assertTrue(ByteUtil.isSingleByteUTF(bytes, 0, size));
+         for (int i = 0; i < size; i++) {
+            bytes[i] = 0;
+            assertFalse(ByteUtil.isSingleByteUTF(bytes, 0, size));
+            bytes[i] = (byte) 0xC3;
+            assertFalse(ByteUtil.isSingleByteUTF(bytes, 0, size));
+            bytes[i] = 0x7F;
+            assertTrue(ByteUtil.isSingleByteUTF(bytes, 0, size));
+            bytes[i] = 'a';
+         }
+         assertTrue(ByteUtil.isSingleByteUTF(new byte[]{0, 'a', 0}, 1, 1));
+      }
+   }
+
    @Test
    public void testMaxString() {
       byte[] byteArray = new byte[20 * 1024];
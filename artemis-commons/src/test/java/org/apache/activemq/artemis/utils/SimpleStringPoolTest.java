@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SimpleStringPoolTest {
+
+   @Test
+   public void testSameInstanceReturned() {
+      SimpleStringPool pool = new SimpleStringPool(16, SimpleStringPool.DEFAULT_MAX_LENGTH);
+      SimpleString key = new SimpleString("_AMQ_GROUP_ID");
+
+      ByteBuf buffer = Unpooled.buffer();
+      SimpleString.writeSimpleString(buffer, key);
+      SimpleString.writeSimpleString(buffer, key);
+      buffer.writeInt(42);
+
+      SimpleString first = pool.readSimpleString(buffer);
+      SimpleString second = pool.readSimpleString(buffer);
+
+      Assert.assertEquals(key, first);
+      Assert.assertSame(first, second);
+      Assert.assertEquals(42, buffer.readInt());
+      Assert.assertEquals(1, pool.getHits());
+      Assert.assertEquals(1, pool.getMisses());
+      Assert.assertEquals(0.5, pool.getHitRatio(), 0);
+   }
+
+   @Test
+   public void testNullable() {
+      SimpleStringPool pool = new SimpleStringPool(16, SimpleStringPool.DEFAULT_MAX_LENGTH);
+      ByteBuf buffer = Unpooled.buffer();
+      SimpleString.writeNullableSimpleString(buffer, null);
+      SimpleString.writeNullableSimpleString(buffer, new SimpleString("queue"));
+
+      Assert.assertNull(pool.readNullableSimpleString(buffer));
+      Assert.assertEquals(new SimpleString("queue"), pool.readNullableSimpleString(buffer));
+      Assert.assertEquals(0, buffer.readableBytes());
+   }
+
+   @Test
+   public void testCollisionsNeverReturnWrongValue() {
+      // a single slot: every different value collides
+      SimpleStringPool pool = new SimpleStringPool(1, SimpleStringPool.DEFAULT_MAX_LENGTH);
+      ByteBuf buffer = Unpooled.buffer();
+      for (int i = 0; i < 100; i++) {
+         SimpleString value = new SimpleString("address." + (i % 3));
+         SimpleString.writeSimpleString(buffer, value);
+         Assert.assertEquals(value, pool.readSimpleString(buffer));
+      }
+   }
+
+   @Test
+   public void testLongAndDisabledNotPooled() {
+      SimpleStringPool pool = new SimpleStringPool(16, 4);
+      SimpleStringPool disabled = new SimpleStringPool(0, SimpleStringPool.DEFAULT_MAX_LENGTH);
+      Assert.assertFalse(disabled.isEnabled());
+
+      ByteBuf buffer = Unpooled.buffer();
+      for (SimpleStringPool p : new SimpleStringPool[]{pool, disabled}) {
+         SimpleString.writeSimpleString(buffer, new SimpleString("longer"));
+         SimpleString.writeSimpleString(buffer, new SimpleString("longer"));
+         Assert.assertNotSame(p.readSimpleString(buffer), p.readSimpleString(buffer));
+         Assert.assertEquals(0, p.getHits() + p.getMisses());
+      }
+   }
+
+   @Test
+   public void testCapacityRoundedToPowerOfTwo() {
+      Assert.assertEquals(1024, new SimpleStringPool(1000, 10).getCapacity());
+      Assert.assertEquals(1024, new SimpleStringPool(1024, 10).getCapacity());
+   }
+}
@@ -237,6 +237,24 @@ public final class ActiveMQDefaultConfiguration {
    // The max number of concurrent reads allowed on paging
    private static int DEFAULT_MAX_CONCURRENT_PAGE_IO = 5;
 
+   // how many page files are read ahead of a consuming page subscription, 0 disables read-ahead
+   private static int DEFAULT_PAGE_READ_AHEAD = 0;
+
+   // the max number of bytes of page files read ahead and not consumed yet, shared by all addresses
+   private static long DEFAULT_PAGE_READ_AHEAD_MAX_BYTES = 50 * 1024 * 1024;
+
+   // the percentage of a page file taken by messages acknowledged by every subscription before the page is rewritten without them, 0 disables it
+   private static int DEFAULT_PAGE_COMPACT_PERCENTAGE = 0;
+
+   // the size in bytes of the buffer batching the writes of the current page file, 0 writes every message directly
+   private static int DEFAULT_PAGE_WRITE_BUFFER_SIZE = 0;
+
+   // true means that the batches written through the page write buffer are compressed
+   private static boolean DEFAULT_PAGE_COMPRESSION_ENABLED = false;
+
+   // the max number of bytes of page files kept mapped to be read again, 0 maps page files only while reading them
+   private static long DEFAULT_PAGE_MAPPING_MAX_BYTES = 0;
+
    // the directory to store the journal files in
    private static String DEFAULT_JOURNAL_DIR = "data/journal";
 
@@ -309,6 +327,9 @@ public final class ActiveMQDefaultConfiguration {
    // Producer flow control
    private static int DEFAULT_BRIDGE_PRODUCER_WINDOW_SIZE = -1;
 
+   // The number of parallel connections a core bridge forwards messages over
+   private static int DEFAULT_BRIDGE_CONCURRENCY = 1;
+
    // Upon reconnection this configures the number of time the same node on the topology will be retried before resetting the server locator and using the initial connectors
    private static int DEFAULT_BRIDGE_CONNECT_SAME_NODE = 10;
 
@@ -359,6 +380,15 @@ public final class ActiveMQDefaultConfiguration {
    // how many times this cluster connection will notify the cluster of its existence right after joining the cluster
    private static int DEFAULT_CLUSTER_NOTIFICATION_ATTEMPTS = 2;
 
+   // how often a cluster connection using LOAD_AWARE load balancing reports the load of its local queues to the cluster
+   private static long DEFAULT_CLUSTER_LOAD_NOTIFICATION_INTERVAL = 1000;
+
+   // how often a cluster connection advertises the load of its server in the topology, -1 means never
+   private static long DEFAULT_CLUSTER_TOPOLOGY_LOAD_HINT_INTERVAL = -1;
+
+   // how many messages the bridges of a cluster connection send, and their targets route, at once, 1 means one by one
+   private static int DEFAULT_CLUSTER_STORE_AND_FORWARD_BATCH_SIZE = 1;
+
    // whether this is an exclusive divert
    private static boolean DEFAULT_DIVERT_EXCLUSIVE = false;
 
@@ -395,6 +425,18 @@ public final class ActiveMQDefaultConfiguration {
    // When a replica comes online this is how long the replicating server will wait for a confirmation from the replica that the replication synchronization process is complete
    private static long DEFAULT_INITIAL_REPLICATION_SYNC_TIMEOUT = 30000;
 
+   // The maximum size in bytes of the replicated journal, page and large message records sent to the replica as a single batch, 0 to send them one by one
+   private static int DEFAULT_REPLICATION_BATCH_SIZE = 64 * 1024;
+
+   // The number of journal, page and large message files streamed concurrently to a replica during its initial synchronization
+   private static int DEFAULT_INITIAL_REPLICATION_SYNC_PARALLELISM = 4;
+
+   // How often in milliseconds a replica sends heartbeats to its live server on a dedicated connection, -1 to not send any
+   private static long DEFAULT_LIVE_HEARTBEAT_PERIOD = -1;
+
+   // The suspicion level (phi) of the heartbeats above which a replica considers its live server may have failed
+   private static double DEFAULT_LIVE_HEARTBEAT_PHI_THRESHOLD = 8.0;
+
    // Will this backup server come live on a normal server shutdown
    private static boolean DEFAULT_FAILOVER_ON_SERVER_SHUTDOWN = false;
 
@@ -449,6 +491,8 @@ public final class ActiveMQDefaultConfiguration {
 
    public static final long DEFAULT_GLOBAL_MAX_SIZE = Runtime.getRuntime().maxMemory() / 2;
 
+   public static final int DEFAULT_GLOBAL_MAX_SIZE_HOT_PERCENTAGE = 0;
+
    public static final int DEFAULT_MAX_DISK_USAGE = 100;
 
    public static final int DEFAULT_DISK_SCAN = 5000;
@@ -740,6 +784,48 @@ public final class ActiveMQDefaultConfiguration {
       return DEFAULT_MAX_CONCURRENT_PAGE_IO;
    }
 
+   /**
+    * how many page files are read ahead of a consuming page subscription, 0 disables read-ahead
+    */
+   public static int getDefaultPageReadAhead() {
+      return DEFAULT_PAGE_READ_AHEAD;
+   }
+
+   /**
+    * the max number of bytes of page files read ahead and not consumed yet, shared by all addresses
+    */
+   public static long getDefaultPageReadAheadMaxBytes() {
+      return DEFAULT_PAGE_READ_AHEAD_MAX_BYTES;
+   }
+
+   /**
+    * the percentage of a page file taken by messages acknowledged by every subscription before the page is rewritten without them, 0 disables it
+    */
+   public static int getDefaultPageCompactPercentage() {
+      return DEFAULT_PAGE_COMPACT_PERCENTAGE;
+   }
+
+   /**
+    * the size in bytes of the buffer batching the writes of the current page file, 0 writes every message directly
+    */
+   public static int getDefaultPageWriteBufferSize() {
+      return DEFAULT_PAGE_WRITE_BUFFER_SIZE;
+   }
+
+   /**
+    * true means that the batches written through the page write buffer are compressed
+    */
+   public static boolean isDefaultPageCompressionEnabled() {
+      return DEFAULT_PAGE_COMPRESSION_ENABLED;
+   }
+
+   /**
+    * the max number of bytes of page files kept mapped to be read again, 0 maps page files only while reading them
+    */
+   public static long getDefaultPageMappingMaxBytes() {
+      return DEFAULT_PAGE_MAPPING_MAX_BYTES;
+   }
+
    /**
     * the directory to store the journal files in
     */
@@ -914,6 +1000,13 @@ public final class ActiveMQDefaultConfiguration {
       return DEFAULT_BRIDGE_PRODUCER_WINDOW_SIZE;
    }
 
+   /**
+    * The number of parallel connections a core bridge forwards messages over
+    */
+   public static int getDefaultBridgeConcurrency() {
+      return DEFAULT_BRIDGE_CONCURRENCY;
+   }
+
    /**
     * Upon reconnection this configures the number of time the same node on the topology will be retried before reseting the server locator and using the initial connectors
     */
@@ -1023,6 +1116,27 @@ public final class ActiveMQDefaultConfiguration {
       return DEFAULT_CLUSTER_NOTIFICATION_INTERVAL;
    }
 
+   /**
+    * how often a cluster connection using LOAD_AWARE load balancing reports the load of its local queues to the cluster
+    */
+   public static long getDefaultClusterLoadNotificationInterval() {
+      return DEFAULT_CLUSTER_LOAD_NOTIFICATION_INTERVAL;
+   }
+
+   /**
+    * how often a cluster connection advertises the load of its server in the topology, -1 means never
+    */
+   public static long getDefaultClusterTopologyLoadHintInterval() {
+      return DEFAULT_CLUSTER_TOPOLOGY_LOAD_HINT_INTERVAL;
+   }
+
+   /**
+    * how many messages the bridges of a cluster connection send, and their targets route, at once, 1 means one by one
+    */
+   public static int getDefaultClusterStoreAndForwardBatchSize() {
+      return DEFAULT_CLUSTER_STORE_AND_FORWARD_BATCH_SIZE;
+   }
+
    /**
     * how many times this cluster connection will notify the cluster of its existence right after joining the cluster
     */
@@ -1114,6 +1228,34 @@ public final class ActiveMQDefaultConfiguration {
       return DEFAULT_INITIAL_REPLICATION_SYNC_TIMEOUT;
    }
 
+   /**
+    * The maximum size in bytes of the replicated journal, page and large message records sent to the replica as a single batch, 0 to send them one by one
+    */
+   public static int getDefaultReplicationBatchSize() {
+      return DEFAULT_REPLICATION_BATCH_SIZE;
+   }
+
+   /**
+    * The number of journal, page and large message files streamed concurrently to a replica during its initial synchronization
+    */
+   public static int getDefaultInitialReplicationSyncParallelism() {
+      return DEFAULT_INITIAL_REPLICATION_SYNC_PARALLELISM;
+   }
+
+   /**
+    * How often in milliseconds a replica sends heartbeats to its live server on a dedicated connection, -1 to not send any
+    */
+   public static long getDefaultLiveHeartbeatPeriod() {
+      return DEFAULT_LIVE_HEARTBEAT_PERIOD;
+   }
+
+   /**
+    * The suspicion level (phi) of the heartbeats above which a replica considers its live server may have failed
+    */
+   public static double getDefaultLiveHeartbeatPhiThreshold() {
+      return DEFAULT_LIVE_HEARTBEAT_PHI_THRESHOLD;
+   }
+
    /**
     * if we have to start as a replicated server this is the delay to wait before fail-back occurs
     *
@@ -1233,6 +1375,14 @@ public final class ActiveMQDefaultConfiguration {
       return DEFAULT_GLOBAL_MAX_SIZE;
    }
 
+   /**
+    * The default percentage of the global max size kept for the addresses consumed the fastest. 0 = every address
+    * starts paging on the global max size.
+    */
+   public static int getDefaultGlobalMaxSizeHotPercentage() {
+      return DEFAULT_GLOBAL_MAX_SIZE_HOT_PERCENTAGE;
+   }
+
    public static int getDefaultMaxDiskUsage() {
       return DEFAULT_MAX_DISK_USAGE;
    }
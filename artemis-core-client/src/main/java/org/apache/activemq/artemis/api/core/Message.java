@@ -117,6 +117,11 @@ public interface Message {
     */
    SimpleString HDR_LARGE_COMPRESSED = new SimpleString("_AMQ_LARGE_COMPRESSED");
 
+   /**
+    * The name of the codec a compressed message was compressed with, Deflate when absent.
+    */
+   SimpleString HDR_COMPRESSION_CODEC = new SimpleString("_AMQ_COMPRESSION_CODEC");
+
    /**
     * The body size of a large message before it was compressed.
     */
@@ -775,6 +775,47 @@ public interface ServerLocator extends AutoCloseable {
     */
    ServerLocator setCompressLargeMessage(boolean compressLargeMessages);
 
+   /**
+    * Returns the name of the codec used to compress large messages.
+    * <p>
+    * Default value is {@link ActiveMQClient#DEFAULT_COMPRESSION_CODEC}.
+    *
+    * @return the name of the compression codec
+    */
+   String getCompressionCodec();
+
+   /**
+    * Sets the codec used to compress large messages, e.g. {@code deflate} or {@code lz4}.
+    * <p>
+    * The codec must be available to the consumers of the messages as well.
+    *
+    * @param compressionCodec the name of a codec registered in
+    *                         {@link org.apache.activemq.artemis.utils.compression.CompressionCodecs}
+    * @return this ServerLocator
+    */
+   ServerLocator setCompressionCodec(String compressionCodec);
+
+   /**
+    * Returns the body size from which regular (non large) messages are compressed.
+    * <p>
+    * Default value is {@link ActiveMQClient#DEFAULT_COMPRESS_MESSAGE_BODY_MIN_SIZE}.
+    *
+    * @return the minimum body size of compressed messages, -1 if regular messages aren't compressed
+    */
+   int getCompressMessageBodyMinSize();
+
+   /**
+    * Sets the body size from which regular (non large) messages are compressed with the
+    * {@link #getCompressionCodec() compression codec}.
+    * <p>
+    * Messages are only compressed when it makes them smaller. They are stored compressed by the server and
+    * decompressed by the consumers when their body is read.
+    *
+    * @param compressMessageBodyMinSize the minimum body size in bytes, -1 to disable
+    * @return this ServerLocator
+    */
+   ServerLocator setCompressMessageBodyMinSize(int compressMessageBodyMinSize);
+
    // XXX No javadocs
    ServerLocator addClusterTopologyListener(ClusterTopologyListener listener);
 
@@ -76,6 +76,25 @@ public interface TopologyMember {
     */
    long getUniqueEventID();
 
+   /**
+    * Returns the number of connections the live server last advertised.
+    *
+    * @return the number of connections, or {@code -1} if the server didn't advertise any load
+    */
+   default int getConnectionCount() {
+      return -1;
+   }
+
+   /**
+    * Returns the load the live server last advertised, that is the percentage of its CPU, of its heap or of its
+    * global address memory that is used, whichever is the highest.
+    *
+    * @return the load between {@code 0} and {@code 100}, or {@code -1} if the server didn't advertise any load
+    */
+   default int getLoad() {
+      return -1;
+   }
+
    /**
     * Returns true if this TopologyMember is the target of this remoting connection
     *
@@ -16,6 +16,8 @@
  */
 package org.apache.activemq.artemis.api.core.client.loadbalance;
 
+import org.apache.activemq.artemis.api.core.client.TopologyMember;
+
 /**
  * A ConnectionLoadBalancingPolicy defines a policy to load balance between connections.
  */
@@ -27,4 +29,15 @@ public interface ConnectionLoadBalancingPolicy {
     * @param max maximum position index that can be selected
     */
    int select(int max);
+
+   /**
+    * Returns the selected index according to the policy implementation, when selecting among the members of the
+    * cluster topology. Policies that take the load advertised by the members into account override this, the others
+    * select among {@code members.length} positions.
+    *
+    * @param members the members that can be selected
+    */
+   default int select(TopologyMember[] members) {
+      return select(members.length);
+   }
 }
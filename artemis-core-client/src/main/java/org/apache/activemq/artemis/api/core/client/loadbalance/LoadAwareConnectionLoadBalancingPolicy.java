@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.api.core.client.loadbalance;
+
+import org.apache.activemq.artemis.api.core.client.TopologyMember;
+import org.apache.activemq.artemis.utils.RandomUtil;
+
+/**
+ * {@link LoadAwareConnectionLoadBalancingPolicy#select(TopologyMember[])} picks a member of the topology at random,
+ * weighted by the connection count and the load the servers advertise, so busy servers get a smaller share of the
+ * new connections.
+ * <p>
+ * A random pick rather than always the least loaded server keeps clients that connect at the same time from all
+ * going to the same server before it advertises its new load. Until every member advertised its load, and when
+ * selecting among the initial connectors, it selects at random.
+ */
+public final class LoadAwareConnectionLoadBalancingPolicy implements ConnectionLoadBalancingPolicy {
+
+   @Override
+   public int select(final int max) {
+      return RandomUtil.randomInterval(0, max);
+   }
+
+   @Override
+   public int select(final TopologyMember[] members) {
+      if (members.length < 2) {
+         return select(members.length);
+      }
+
+      double[] weights = new double[members.length];
+
+      double total = 0;
+
+      for (int i = 0; i < members.length; i++) {
+         int connectionCount = members[i].getConnectionCount();
+         int load = members[i].getLoad();
+
+         if (connectionCount < 0 || load < 0) {
+            return select(members.length);
+         }
+
+         weights[i] = weight(connectionCount, load);
+         total += weights[i];
+      }
+
+      double pick = RandomUtil.getRandom().nextDouble() * total;
+
+      for (int i = 0; i < members.length; i++) {
+         pick -= weights[i];
+
+         if (pick < 0) {
+            return i;
+         }
+      }
+
+      return members.length - 1;
+   }
+
+   /**
+    * The share of new connections a server gets: the CPU or memory it has left, spread over the connections it
+    * already has. A fully loaded server still keeps a small share, so it's never left out altogether.
+    */
+   static double weight(final int connectionCount, final int load) {
+      return (101 - Math.min(100, load)) / (1.0 + connectionCount);
+   }
+}
@@ -420,6 +420,14 @@ public interface ActiveMQServerControl {
    @Attribute(desc = "whether the initial replication synchronization process with the backup server is complete")
    boolean isReplicaSync();
 
+   /**
+    * Returns the progress of the initial replication synchronization with the backup server as a JSON object, with the
+    * number of files and bytes to synchronize and already synchronized, the number of bytes sent and the throughput
+    * in bytes per second; applicable for the live server only.
+    */
+   @Attribute(desc = "progress and throughput of the initial replication synchronization with the backup server, as JSON")
+   String getReplicaSyncProgress();
+
    /**
     * Returns how often the server checks for disk space usage.
     */
@@ -438,6 +446,18 @@ public interface ActiveMQServerControl {
    @Attribute(desc = "global maximum limit for in-memory messages, in bytes")
    long getGlobalMaxSize();
 
+   /**
+    * Returns how many decoded addresses, queue names and property keys were found in the string pool of this JVM.
+    */
+   @Attribute(desc = "number of decoded addresses, queue names and property keys found in the string pool")
+   long getStringPoolHits();
+
+   /**
+    * Returns how many decoded addresses, queue names and property keys were not found in the string pool of this JVM.
+    */
+   @Attribute(desc = "number of decoded addresses, queue names and property keys not found in the string pool")
+   long getStringPoolMisses();
+
    // Operations ----------------------------------------------------
    @Operation(desc = "Isolate the broker", impact = MBeanOperationInfo.ACTION)
    boolean freezeReplication();
@@ -16,6 +16,8 @@
  */
 package org.apache.activemq.artemis.api.core.management;
 
+import javax.management.MBeanOperationInfo;
+
 /**
  * A BridgeControl is used to manage a Bridge.
  */
@@ -92,4 +94,16 @@ public interface BridgeControl extends ActiveMQComponentControl {
     */
    @Attribute(desc = "whether this bridge is using high availability")
    boolean isHA();
+
+   /**
+    * Returns the number of parallel connections this bridge forwards messages over.
+    */
+   @Attribute(desc = "number of parallel connections this bridge forwards messages over")
+   int getConcurrency();
+
+   /**
+    * Lists the messages forwarded and acknowledged on each connection of this bridge using JSON.
+    */
+   @Operation(desc = "List the messages forwarded and acknowledged on each connection of this bridge (as a JSON string)", impact = MBeanOperationInfo.INFO)
+   String listLaneStatisticsAsJSON() throws Exception;
 }
@@ -39,7 +39,8 @@ public enum CoreNotificationType implements NotificationType {
    PROPOSAL(18),
    PROPOSAL_RESPONSE(19),
    UNPROPOSAL(20),
-   CONSUMER_SLOW(21);
+   CONSUMER_SLOW(21),
+   QUEUE_LOAD(22);
 
    private final int value;
 
@@ -116,6 +116,18 @@ public interface QueueControl {
    @Attribute(desc = "number of messages removed from this queue since it was created due to exceeding the max delivery attempts")
    long getMessagesKilled();
 
+   /**
+    * Returns the number of messages redistributed to other nodes of the cluster since this queue was created.
+    */
+   @Attribute(desc = "number of messages redistributed to other nodes of the cluster since this queue was created")
+   long getMessagesRedistributed();
+
+   /**
+    * Returns the number of messages per second recently redistributed to other nodes of the cluster.
+    */
+   @Attribute(desc = "number of messages per second recently redistributed to other nodes of the cluster")
+   double getRedistributionRate();
+
    /**
     * Returns the first message on the queue as JSON
     */
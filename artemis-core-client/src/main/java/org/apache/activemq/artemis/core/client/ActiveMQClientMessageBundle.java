@@ -234,4 +234,10 @@ public interface ActiveMQClientMessageBundle {
 
    @Message(id = 119062, value = "Multi-packet transmission (e.g. Large Messages) interrupted because of a reconnection.")
    ActiveMQInterruptedException packetTransmissionInterrupted();
+
+   @Message(id = 119063, value = "Unknown compression codec {0}", format = Message.Format.MESSAGE_FORMAT)
+   IllegalArgumentException unknownCompressionCodec(String name);
+
+   @Message(id = 119064, value = "Error compressing the message body")
+   ActiveMQInternalErrorException errorCompressingBody(@Cause Exception e);
 }
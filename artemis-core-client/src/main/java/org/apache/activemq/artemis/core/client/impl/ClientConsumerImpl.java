@@ -45,6 +45,7 @@ import org.apache.activemq.artemis.utils.ReusableLatch;
 import org.apache.activemq.artemis.utils.TokenBucketLimiter;
 import org.apache.activemq.artemis.utils.collections.PriorityLinkedList;
 import org.apache.activemq.artemis.utils.collections.PriorityLinkedListImpl;
+import org.apache.activemq.artemis.utils.compression.CompressionCodecs;
 import org.jboss.logging.Logger;
 
 public final class ClientConsumerImpl implements ClientConsumerInternal {
@@ -635,7 +636,7 @@ public final class ClientConsumerImpl implements ClientConsumerInternal {
       int bytesToRead = qbuff.writerIndex() - qbuff.readerIndex();
       final byte[] body = ByteUtil.getActiveArray(qbuff.readBytes(bytesToRead).toByteBuffer());
 
-      largeMessage.setLargeMessageController(new CompressedLargeMessageControllerImpl(currentLargeMessageController));
+      largeMessage.setLargeMessageController(new CompressedLargeMessageControllerImpl(currentLargeMessageController, CompressionCodecs.getCodec(largeMessage.getSimpleStringProperty(Message.HDR_COMPRESSION_CODEC))));
       currentLargeMessageController.addPacket(body, body.length, false);
 
       handleRegularMessage(largeMessage);
@@ -664,7 +665,7 @@ public final class ClientConsumerImpl implements ClientConsumerInternal {
       currentLargeMessageController = new LargeMessageControllerImpl(this, largeMessageSize, callTimeout, largeMessageCache);
 
       if (clientLargeMessage.isCompressed()) {
-         clientLargeMessage.setLargeMessageController(new CompressedLargeMessageControllerImpl(currentLargeMessageController));
+         clientLargeMessage.setLargeMessageController(new CompressedLargeMessageControllerImpl(currentLargeMessageController, CompressionCodecs.getCodec(clientLargeMessage.getSimpleStringProperty(Message.HDR_COMPRESSION_CODEC))));
       } else {
          clientLargeMessage.setLargeMessageController(currentLargeMessageController);
       }
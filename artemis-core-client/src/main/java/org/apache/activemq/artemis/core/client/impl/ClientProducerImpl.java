@@ -18,6 +18,8 @@ package org.apache.activemq.artemis.core.client.impl;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
@@ -31,9 +33,11 @@ import org.apache.activemq.artemis.core.client.ActiveMQClientMessageBundle;
 import org.apache.activemq.artemis.core.message.LargeBodyEncoder;
 import org.apache.activemq.artemis.spi.core.remoting.SessionContext;
 import org.apache.activemq.artemis.utils.ActiveMQBufferInputStream;
-import org.apache.activemq.artemis.utils.DeflaterReader;
 import org.apache.activemq.artemis.utils.TokenBucketLimiter;
 import org.apache.activemq.artemis.utils.UUIDGenerator;
+import org.apache.activemq.artemis.utils.compression.CompressionCodec;
+import org.apache.activemq.artemis.utils.compression.CompressionCodecs;
+import org.apache.activemq.artemis.utils.compression.MessageBodyCompression;
 import org.jboss.logging.Logger;
 
 /**
@@ -152,6 +156,59 @@ public class ClientProducerImpl implements ClientProducerInternal {
       send(null, message, handler);
    }
 
+   @Override
+   public boolean isBulkSendSupported() {
+      return sessionContext.supportsBulkSend();
+   }
+
+   @Override
+   public void sendBulk(SimpleString sendingAddress,
+                        final List<? extends Message> messages,
+                        final byte[] duplicateIDPrefix) throws ActiveMQException {
+      checkClosed();
+
+      if (sendingAddress == null) {
+         sendingAddress = this.address;
+      }
+      session.startCall();
+
+      try {
+         final ClientProducerCredits theCredits = session.getCredits(sendingAddress, true);
+         final List<ICoreMessage> coreMessages = new ArrayList<>(messages.size());
+         boolean sendBlocking = false;
+
+         for (Message message : messages) {
+            ICoreMessage msg = message.toCore();
+            session.setAddress(msg, sendingAddress);
+
+            if (groupID != null) {
+               msg.putStringProperty(Message.HDR_GROUP_ID, groupID);
+            }
+
+            if (rateLimiter != null) {
+               rateLimiter.limit();
+            }
+
+            sendBlocking |= msg.isDurable() ? blockOnDurableSend : blockOnNonDurableSend;
+
+            // This will block if credits are not available
+            theCredits.acquireCredits(sessionContext.getCreditsOnSendingFull(msg));
+
+            coreMessages.add(msg);
+         }
+
+         session.workDone();
+
+         if (logger.isTraceEnabled()) {
+            logger.trace("sendBulk::" + coreMessages.size() + " messages, Blocking=" + sendBlocking);
+         }
+
+         sessionContext.sendBulk(coreMessages, duplicateIDPrefix, sendBlocking, null);
+      } finally {
+         session.endCall();
+      }
+   }
+
    @Override
    public synchronized void close() throws ActiveMQException {
       if (closed) {
@@ -235,6 +292,13 @@ public class ClientProducerImpl implements ClientProducerInternal {
 
          if (!isLarge) {
             session.setAddress(msg, sendingAddress);
+            if (session.getCompressMessageBodyMinSize() >= 0 && !msg.isServerMessage()) {
+               try {
+                  msg = MessageBodyCompression.compressedCopy(msg, session.getCompressionCodec(), session.getCompressMessageBodyMinSize());
+               } catch (IOException e) {
+                  throw ActiveMQClientMessageBundle.BUNDLE.errorCompressingBody(e);
+               }
+            }
          } else {
             msg.setAddress(sendingAddress);
          }
@@ -418,15 +482,17 @@ public class ClientProducerImpl implements ClientProducerInternal {
       InputStream input = inputStreamParameter;
 
       // We won't know the real size of the message since we are compressing while reading the streaming.
-      // This counter will be passed to the deflater to be updated for every byte read
+      // This counter will be passed to the compressing reader to be updated for every byte read
       AtomicLong messageSize = new AtomicLong();
 
-      DeflaterReader deflaterReader = null;
-
       if (session.isCompressLargeMessages()) {
+         CompressionCodec codec = session.getCompressionCodec();
          msgI.putBooleanProperty(Message.HDR_LARGE_COMPRESSED, true);
-         deflaterReader = new DeflaterReader(inputStreamParameter, messageSize);
-         input = deflaterReader;
+         // Deflate messages are left untouched so older clients can still read them
+         if (codec != CompressionCodecs.DEFLATE) {
+            msgI.putStringProperty(Message.HDR_COMPRESSION_CODEC, SimpleString.toSimpleString(codec.getName()));
+         }
+         input = codec.createCompressingReader(inputStreamParameter, messageSize);
       }
 
       long totalSize = 0;
@@ -478,7 +544,7 @@ public class ClientProducerImpl implements ClientProducerInternal {
             if (!headerSent && session.isCompressLargeMessages() && buff2.length < minLargeMessageSize) {
                msgI.getBodyBuffer().resetReaderIndex();
                msgI.getBodyBuffer().resetWriterIndex();
-               msgI.putLongProperty(Message.HDR_LARGE_BODY_SIZE, deflaterReader.getTotalSize());
+               msgI.putLongProperty(Message.HDR_LARGE_BODY_SIZE, messageSize.get());
 
                msgI.getBodyBuffer().writeBytes(buff, 0, pos);
                sendRegularMessage(msgI.getAddressSimpleString(), msgI, sendBlocking, credits, handler);
@@ -16,6 +16,11 @@
  */
 package org.apache.activemq.artemis.core.client.impl;
 
+import java.util.List;
+
+import org.apache.activemq.artemis.api.core.ActiveMQException;
+import org.apache.activemq.artemis.api.core.Message;
+import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.api.core.client.ClientProducer;
 
 /**
@@ -26,4 +31,19 @@ public interface ClientProducerInternal extends ClientProducer {
    void cleanUp();
 
    ClientProducerCredits getProducerCredits();
+
+   /**
+    * @return whether the server this producer sends to accepts {@link #sendBulk(SimpleString, List, byte[])}
+    */
+   boolean isBulkSendSupported();
+
+   /**
+    * Sends messages that are not large in a single packet, the server routes them in a single transaction. Each message
+    * is still acknowledged to the {@link org.apache.activemq.artemis.api.core.client.SendAcknowledgementHandler} of the
+    * session.
+    *
+    * @param duplicateIDPrefix when not {@code null}, the server completes it with the ID of each message to detect the
+    *                          messages it already has, as bridges do
+    */
+   void sendBulk(SimpleString address, List<? extends Message> messages, byte[] duplicateIDPrefix) throws ActiveMQException;
 }
@@ -53,6 +53,7 @@ import org.apache.activemq.artemis.utils.ConfirmationWindowWarning;
 import org.apache.activemq.artemis.utils.TokenBucketLimiterImpl;
 import org.apache.activemq.artemis.utils.UUIDGenerator;
 import org.apache.activemq.artemis.utils.XidCodecSupport;
+import org.apache.activemq.artemis.utils.compression.CompressionCodec;
 import org.jboss.logging.Logger;
 
 public final class ClientSessionImpl implements ClientSessionInternal, FailureListener {
@@ -114,6 +115,10 @@ public final class ClientSessionImpl implements ClientSessionInternal, FailureLi
 
    private final boolean compressLargeMessages;
 
+   private final CompressionCodec compressionCodec;
+
+   private final int compressMessageBodyMinSize;
+
    private volatile int initialMessagePacketSize;
 
    private final boolean cacheLargeMessageClient;
@@ -169,6 +174,8 @@ public final class ClientSessionImpl implements ClientSessionInternal, FailureLi
                      final boolean cacheLargeMessageClient,
                      final int minLargeMessageSize,
                      final boolean compressLargeMessages,
+                     final CompressionCodec compressionCodec,
+                     final int compressMessageBodyMinSize,
                      final int initialMessagePacketSize,
                      final String groupID,
                      final SessionContext sessionContext,
@@ -219,6 +226,10 @@ public final class ClientSessionImpl implements ClientSessionInternal, FailureLi
 
       this.compressLargeMessages = compressLargeMessages;
 
+      this.compressionCodec = compressionCodec;
+
+      this.compressMessageBodyMinSize = compressMessageBodyMinSize;
+
       this.initialMessagePacketSize = initialMessagePacketSize;
 
       this.groupID = groupID;
@@ -999,6 +1010,16 @@ public final class ClientSessionImpl implements ClientSessionInternal, FailureLi
       return compressLargeMessages;
    }
 
+   @Override
+   public CompressionCodec getCompressionCodec() {
+      return compressionCodec;
+   }
+
+   @Override
+   public int getCompressMessageBodyMinSize() {
+      return compressMessageBodyMinSize;
+   }
+
    /**
     * @return the cacheLargeMessageClient
     */
@@ -30,9 +30,8 @@ import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.core.client.ActiveMQClientLogger;
 import org.apache.activemq.artemis.utils.ActiveMQBufferInputStream;
 import org.apache.activemq.artemis.utils.DataConstants;
-import org.apache.activemq.artemis.utils.InflaterReader;
-import org.apache.activemq.artemis.utils.InflaterWriter;
 import org.apache.activemq.artemis.utils.UTF8Util;
+import org.apache.activemq.artemis.utils.compression.CompressionCodec;
 
 final class CompressedLargeMessageControllerImpl implements LargeMessageController {
 
@@ -40,8 +39,11 @@ final class CompressedLargeMessageControllerImpl implements LargeMessageControll
 
    private final LargeMessageController bufferDelegate;
 
-   CompressedLargeMessageControllerImpl(final LargeMessageController bufferDelegate) {
+   private final CompressionCodec codec;
+
+   CompressedLargeMessageControllerImpl(final LargeMessageController bufferDelegate, final CompressionCodec codec) {
       this.bufferDelegate = bufferDelegate;
+      this.codec = codec;
    }
 
    /**
@@ -72,7 +74,7 @@ final class CompressedLargeMessageControllerImpl implements LargeMessageControll
 
    @Override
    public void setOutputStream(final OutputStream output) throws ActiveMQException {
-      bufferDelegate.setOutputStream(new InflaterWriter(output));
+      bufferDelegate.setOutputStream(codec.createDecompressingWriter(output));
    }
 
    @Override
@@ -101,7 +103,7 @@ final class CompressedLargeMessageControllerImpl implements LargeMessageControll
          try {
             InputStream input = new ActiveMQBufferInputStream(bufferDelegate);
 
-            dataInput = new DataInputStream(new InflaterReader(input));
+            dataInput = new DataInputStream(codec.createDecompressingReader(input));
          } catch (Exception e) {
             throw new RuntimeException(e.getMessage(), e);
          }
@@ -116,10 +116,17 @@ public final class ServerLocatorImpl implements ServerLocatorInternal, Discovery
 
    private volatile Pair<TransportConfiguration, TransportConfiguration>[] topologyArray;
 
+   // the members of topologyArray, in the same order
+   private volatile TopologyMember[] topologyMembers;
+
    private volatile boolean receivedTopology;
 
    private boolean compressLargeMessage;
 
+   private String compressionCodec;
+
+   private int compressMessageBodyMinSize;
+
    // if the system should shutdown the pool when shutting down
    private transient boolean shutdownPool;
 
@@ -394,6 +401,10 @@ public final class ServerLocatorImpl implements ServerLocatorInternal, Discovery
 
       compressLargeMessage = ActiveMQClient.DEFAULT_COMPRESS_LARGE_MESSAGES;
 
+      compressionCodec = ActiveMQClient.DEFAULT_COMPRESSION_CODEC;
+
+      compressMessageBodyMinSize = ActiveMQClient.DEFAULT_COMPRESS_MESSAGE_BODY_MIN_SIZE;
+
       clusterConnection = false;
 
       useTopologyForLoadBalancing = ActiveMQClient.DEFAULT_USE_TOPOLOGY_FOR_LOADBALANCING;
@@ -468,6 +479,7 @@ public final class ServerLocatorImpl implements ServerLocatorInternal, Discovery
    public void resetToInitialConnectors() {
       receivedTopology = false;
       topologyArray = null;
+      topologyMembers = null;
       topology.clear();
    }
 
@@ -493,8 +505,11 @@ public final class ServerLocatorImpl implements ServerLocatorInternal, Discovery
       discoveryGroupConfiguration = locator.discoveryGroupConfiguration;
       topology = locator.topology;
       topologyArray = locator.topologyArray;
+      topologyMembers = locator.topologyMembers;
       receivedTopology = locator.receivedTopology;
       compressLargeMessage = locator.compressLargeMessage;
+      compressionCodec = locator.compressionCodec;
+      compressMessageBodyMinSize = locator.compressMessageBodyMinSize;
       cacheLargeMessagesClient = locator.cacheLargeMessagesClient;
       clientFailureCheckPeriod = locator.clientFailureCheckPeriod;
       connectionTTL = locator.connectionTTL;
@@ -534,8 +549,11 @@ public final class ServerLocatorImpl implements ServerLocatorInternal, Discovery
    private TransportConfiguration selectConnector() {
       Pair<TransportConfiguration, TransportConfiguration>[] usedTopology;
 
+      TopologyMember[] usedMembers;
+
       synchronized (topologyArrayGuard) {
          usedTopology = topologyArray;
+         usedMembers = topologyMembers;
       }
 
       synchronized (this) {
@@ -543,7 +561,7 @@ public final class ServerLocatorImpl implements ServerLocatorInternal, Discovery
             if (logger.isTraceEnabled()) {
                logger.trace("Selecting connector from topology.");
             }
-            int pos = loadBalancingPolicy.select(usedTopology.length);
+            int pos = usedMembers != null ? loadBalancingPolicy.select(usedMembers) : loadBalancingPolicy.select(usedTopology.length);
             Pair<TransportConfiguration, TransportConfiguration> pair = usedTopology[pos];
 
             return pair.getA();
@@ -1239,6 +1257,28 @@ public final class ServerLocatorImpl implements ServerLocatorInternal, Discovery
       return this;
    }
 
+   @Override
+   public String getCompressionCodec() {
+      return compressionCodec;
+   }
+
+   @Override
+   public ServerLocatorImpl setCompressionCodec(String compressionCodec) {
+      this.compressionCodec = compressionCodec;
+      return this;
+   }
+
+   @Override
+   public int getCompressMessageBodyMinSize() {
+      return compressMessageBodyMinSize;
+   }
+
+   @Override
+   public ServerLocatorImpl setCompressMessageBodyMinSize(int compressMessageBodyMinSize) {
+      this.compressMessageBodyMinSize = compressMessageBodyMinSize;
+      return this;
+   }
+
    private void checkWrite() {
       synchronized (stateGuard) {
          if (state != null && state != STATE.CLOSED) {
@@ -1432,6 +1472,7 @@ public final class ServerLocatorImpl implements ServerLocatorInternal, Discovery
             // Resetting the topology to its original condition as it was brand new
             receivedTopology = false;
             topologyArray = null;
+            topologyMembers = null;
          } else {
             updateArraysAndPairs();
 
@@ -1450,13 +1491,17 @@ public final class ServerLocatorImpl implements ServerLocatorInternal, Discovery
                             final String backupGroupName,
                             final String scaleDownGroupName,
                             final Pair<TransportConfiguration, TransportConfiguration> connectorPair,
-                            final boolean last) {
+                            final boolean last,
+                            final int connectionCount,
+                            final int load) {
       if (logger.isTraceEnabled()) {
          logger.trace("NodeUp " + this + "::nodeID=" + nodeID + ", connectorPair=" + connectorPair, new Exception("trace"));
       }
 
       TopologyMemberImpl member = new TopologyMemberImpl(nodeID, backupGroupName, scaleDownGroupName, connectorPair.getA(), connectorPair.getB());
 
+      member.setLoadHints(connectionCount, load);
+
       topology.updateMember(uniqueEventID, nodeID, member);
 
       TopologyMember actMember = topology.getMember(nodeID);
@@ -1502,12 +1547,16 @@ public final class ServerLocatorImpl implements ServerLocatorInternal, Discovery
 
          Pair<TransportConfiguration, TransportConfiguration>[] topologyArrayLocal = (Pair<TransportConfiguration, TransportConfiguration>[]) Array.newInstance(Pair.class, membersCopy.size());
 
+         TopologyMember[] topologyMembersLocal = new TopologyMember[membersCopy.size()];
+
          int count = 0;
          for (TopologyMemberImpl pair : membersCopy) {
+            topologyMembersLocal[count] = pair;
             topologyArrayLocal[count++] = pair.getConnector();
          }
 
          this.topologyArray = topologyArrayLocal;
+         this.topologyMembers = topologyMembersLocal;
       }
    }
 
@@ -1564,6 +1613,7 @@ public final class ServerLocatorImpl implements ServerLocatorInternal, Discovery
       if (!clusterConnection && isEmpty) {
          receivedTopology = false;
          topologyArray = null;
+         topologyMembers = null;
       }
    }
 
@@ -65,7 +65,9 @@ public interface ServerLocatorInternal extends ServerLocator {
                      String backupGroupName,
                      String scaleDownGroupName,
                      Pair<TransportConfiguration, TransportConfiguration> connectorPair,
-                     boolean last);
+                     boolean last,
+                     int connectionCount,
+                     int load);
 
    /**
     * @param uniqueEventID 0 means get the previous ID +1
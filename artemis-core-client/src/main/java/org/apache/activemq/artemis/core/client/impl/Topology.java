@@ -161,6 +161,7 @@ public final class Topology {
          }
 
          TopologyMemberImpl newMember = new TopologyMemberImpl(nodeId, currentMember.getBackupGroupName(), currentMember.getScaleDownGroupName(), currentMember.getLive(), memberInput.getBackup());
+         newMember.setLoadHints(currentMember.getConnectionCount(), currentMember.getLoad());
          newMember.setUniqueEventID(System.currentTimeMillis());
          topology.remove(nodeId);
          topology.put(nodeId, newMember);
@@ -213,6 +214,13 @@ public final class Topology {
                newMember.setBackup(currentMember.getBackup());
             }
 
+            // updates that don't carry any load hints keep the last ones known
+            if (memberInput.getLoad() == -1) {
+               newMember.setLoadHints(currentMember.getConnectionCount(), currentMember.getLoad());
+            } else {
+               newMember.setLoadHints(memberInput.getConnectionCount(), memberInput.getLoad());
+            }
+
             if (logger.isTraceEnabled()) {
                logger.trace(this + "::updated currentMember=nodeID=" + nodeId + ", currentMember=" +
                                currentMember + ", memberInput=" + memberInput + "newMember=" +
@@ -44,6 +44,10 @@ public final class TopologyMemberImpl implements TopologyMember {
 
    private final String nodeId;
 
+   private volatile int connectionCount = -1;
+
+   private volatile int load = -1;
+
    public TopologyMemberImpl(String nodeId,
                              final String backupGroupName,
                              final String scaleDownGroupName,
@@ -94,6 +98,21 @@ public final class TopologyMemberImpl implements TopologyMember {
       return scaleDownGroupName;
    }
 
+   @Override
+   public int getConnectionCount() {
+      return connectionCount;
+   }
+
+   @Override
+   public int getLoad() {
+      return load;
+   }
+
+   public void setLoadHints(final int connectionCount, final int load) {
+      this.connectionCount = connectionCount;
+      this.load = load;
+   }
+
    /**
     * @param uniqueEventID the uniqueEventID to set
     */
@@ -149,6 +168,6 @@ public final class TopologyMemberImpl implements TopologyMember {
 
    @Override
    public String toString() {
-      return "TopologyMember[id = " + nodeId + ", connector=" + connector + ", backupGroupName=" + backupGroupName + ", scaleDownGroupName=" + scaleDownGroupName + "]";
+      return "TopologyMember[id = " + nodeId + ", connector=" + connector + ", backupGroupName=" + backupGroupName + ", scaleDownGroupName=" + scaleDownGroupName + ", connectionCount=" + connectionCount + ", load=" + load + "]";
    }
 }
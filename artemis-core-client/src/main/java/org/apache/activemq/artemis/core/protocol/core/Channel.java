@@ -16,9 +16,11 @@
  */
 package org.apache.activemq.artemis.core.protocol.core;
 
+import java.io.IOException;
 import java.util.concurrent.locks.Lock;
 
 import org.apache.activemq.artemis.api.core.ActiveMQException;
+import org.apache.activemq.artemis.spi.core.remoting.SharedFileChannel;
 
 /**
  * A channel is a way of interleaving data meant for different endpoints over the same {@link org.apache.activemq.artemis.core.protocol.core.CoreRemotingConnection}.
@@ -93,6 +95,17 @@ public interface Channel {
     */
    boolean sendAndFlush(Packet packet);
 
+   /**
+    * Sends a packet on this channel whose body is {@code count} bytes of {@code file} starting at {@code position},
+    * written by the transport without copying them through the heap.
+    *
+    * @return false if the packet can't be sent this way (e.g. outgoing interceptors or a confirmation window need the body
+    * in memory, or the transport doesn't support it), nothing was sent in that case; true if the send was successful
+    */
+   default boolean sendFileRegion(FileRegionPacket packet, SharedFileChannel file, long position, int count) throws IOException {
+      return false;
+   }
+
    /**
     * Sends a packet on this channel and then blocks until a response is received or a timeout
     * occurs.
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.protocol.core;
+
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.spi.core.protocol.RemotingConnection;
+
+/**
+ * A packet whose body is not held in memory but sent by the transport straight from a file,
+ * see {@link Channel#sendFileRegion(FileRegionPacket, java.io.File, long, int)}.
+ * <p>
+ * On the wire it is the same as the equivalent packet carrying the body bytes.
+ */
+public interface FileRegionPacket extends Packet {
+
+   /**
+    * Encodes what goes on the wire before a body of {@code bodySize} bytes.
+    */
+   ActiveMQBuffer encodeHeader(RemotingConnection connection, int bodySize);
+
+   /**
+    * Encodes what goes on the wire after the body.
+    */
+   ActiveMQBuffer encodeTrailer(RemotingConnection connection);
+}
@@ -88,6 +88,7 @@ import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.SessionRec
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.SessionReceiveLargeMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.SessionReceiveMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.SessionRequestProducerCreditsMessage;
+import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.SessionSendBulkMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.SessionSendContinuationMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.SessionSendLargeMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.SessionSendMessage;
@@ -186,6 +187,11 @@ public class ActiveMQSessionContext extends SessionContext {
          if (packet.getType() == PacketImpl.SESS_SEND) {
             SessionSendMessage ssm = (SessionSendMessage) packet;
             callSendAck(ssm.getHandler(), ssm.getMessage());
+         } else if (packet.getType() == PacketImpl.SESS_SEND_BULK) {
+            SessionSendBulkMessage ssbm = (SessionSendBulkMessage) packet;
+            for (Message message : ssbm.getMessages()) {
+               callSendAck(ssbm.getHandler(), message);
+            }
          } else if (packet.getType() == PacketImpl.SESS_SEND_CONTINUATION) {
             SessionSendContinuationMessage scm = (SessionSendContinuationMessage) packet;
             if (!scm.isContinues()) {
@@ -450,6 +456,25 @@ public class ActiveMQSessionContext extends SessionContext {
       }
    }
 
+   @Override
+   public boolean supportsBulkSend() {
+      return sessionChannel.supports(PacketImpl.SESS_SEND_BULK, getServerVersion());
+   }
+
+   @Override
+   public void sendBulk(List<ICoreMessage> messages,
+                        byte[] duplicateIDPrefix,
+                        boolean sendBlocking,
+                        SendAcknowledgementHandler handler) throws ActiveMQException {
+      SessionSendBulkMessage packet = new SessionSendBulkMessage(messages, duplicateIDPrefix, sendBlocking, handler);
+
+      if (sendBlocking) {
+         sessionChannel.sendBlocking(packet, PacketImpl.NULL_RESPONSE);
+      } else {
+         sessionChannel.sendBatched(packet);
+      }
+   }
+
    @Override
    public int sendInitialChunkOnLargeMessage(Message msgI) throws ActiveMQException {
       SessionSendLargeMessage initialChunk = new SessionSendLargeMessage(msgI);
@@ -16,6 +16,7 @@
  */
 package org.apache.activemq.artemis.core.protocol.core.impl;
 
+import java.io.IOException;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -35,10 +36,13 @@ import org.apache.activemq.artemis.core.protocol.core.Channel;
 import org.apache.activemq.artemis.core.protocol.core.ChannelHandler;
 import org.apache.activemq.artemis.core.protocol.core.CommandConfirmationHandler;
 import org.apache.activemq.artemis.core.protocol.core.CoreRemotingConnection;
+import org.apache.activemq.artemis.core.protocol.core.FileRegionPacket;
 import org.apache.activemq.artemis.core.protocol.core.Packet;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ActiveMQExceptionMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.PacketsConfirmedMessage;
 import org.apache.activemq.artemis.spi.core.protocol.RemotingConnection;
+import org.apache.activemq.artemis.spi.core.remoting.Connection;
+import org.apache.activemq.artemis.spi.core.remoting.SharedFileChannel;
 import org.apache.activemq.artemis.utils.ConcurrentUtil;
 import org.jboss.logging.Logger;
 
@@ -176,6 +180,14 @@ public final class ChannelImpl implements Channel {
             return version >= 129;
          case PacketImpl.SESS_BINDINGQUERY_RESP_V4:
             return version >= 129;
+         case PacketImpl.REPLICATION_BATCH:
+            return version >= PacketImpl.REPLICATION_BATCH_VERSION;
+         case PacketImpl.REPLICATION_SYNC_FILE_V2:
+            return version >= PacketImpl.REPLICATION_SYNC_FILE_V2_VERSION;
+         case PacketImpl.CLUSTER_TOPOLOGY_V4:
+            return version >= PacketImpl.CLUSTER_TOPOLOGY_V4_VERSION;
+         case PacketImpl.SESS_SEND_BULK:
+            return version >= PacketImpl.SESS_SEND_BULK_VERSION;
          default:
             return true;
       }
@@ -308,6 +320,48 @@ public final class ChannelImpl implements Channel {
       }
    }
 
+   @Override
+   public boolean sendFileRegion(final FileRegionPacket packet,
+                                 final SharedFileChannel file,
+                                 final long position,
+                                 final int count) throws IOException {
+      final Connection transportConnection = connection.getTransportConnection();
+
+      // interceptors and the resend cache need to see the body
+      if ((interceptors != null && !interceptors.isEmpty()) || resendCache != null || !transportConnection.isFileRegionSupported()) {
+         return false;
+      }
+
+      synchronized (sendLock) {
+         packet.setChannelID(id);
+
+         if (logger.isTraceEnabled()) {
+            logger.trace("Sending packet with a file region of " + count + " bytes " + packet + " on channelID=" + id);
+         }
+
+         ActiveMQBuffer header = packet.encodeHeader(connection, count);
+         ActiveMQBuffer trailer = packet.encodeTrailer(connection);
+
+         lock.lock();
+
+         try {
+            if (failingOver) {
+               waitForFailOver("timed-out waiting for fail-over condition on non-blocking send");
+            }
+
+            // Sanity check
+            if (transferring) {
+               throw ActiveMQClientMessageBundle.BUNDLE.cannotSendPacketDuringFailover();
+            }
+         } finally {
+            lock.unlock();
+         }
+
+         transportConnection.writeFileRegion(header, file, position, count, trailer);
+         return true;
+      }
+   }
+
    private void checkReconnectID(int reconnectID) {
       if (reconnectID >= 0 && reconnectID != this.reconnectID.get()) {
          throw ActiveMQClientMessageBundle.BUNDLE.packetTransmissionInterrupted();
@@ -31,6 +31,14 @@ public class PacketImpl implements Packet {
 
    public static final int ADDRESSING_CHANGE_VERSION = 129;
 
+   public static final int REPLICATION_BATCH_VERSION = 130;
+
+   public static final int REPLICATION_SYNC_FILE_V2_VERSION = 131;
+
+   public static final int CLUSTER_TOPOLOGY_V4_VERSION = 132;
+
+   public static final int SESS_SEND_BULK_VERSION = 133;
+
    public static final SimpleString OLD_QUEUE_PREFIX = new SimpleString("jms.queue.");
    public static final SimpleString OLD_TOPIC_PREFIX = new SimpleString("jms.topic.");
 
@@ -267,6 +275,18 @@ public class PacketImpl implements Packet {
 
    public static final byte SESS_BINDINGQUERY_RESP_V4 = -15;
 
+   public static final byte REPLICATION_BATCH = -16;
+
+   public static final byte REPLICATION_BATCH_RESPONSE = -17;
+
+   public static final byte REPLICATION_REUSE_FILE = -18;
+
+   public static final byte REPLICATION_SYNC_FILE_V2 = -19;
+
+   public static final byte CLUSTER_TOPOLOGY_V4 = -20;
+
+   public static final byte SESS_SEND_BULK = -21;
+
    // Static --------------------------------------------------------
 
    public PacketImpl(final byte type) {
@@ -22,7 +22,7 @@ import org.apache.activemq.artemis.api.core.TransportConfiguration;
 
 public class ClusterTopologyChangeMessage_V3 extends ClusterTopologyChangeMessage_V2 {
 
-   private String scaleDownGroupName;
+   protected String scaleDownGroupName;
 
    public ClusterTopologyChangeMessage_V3(final long uniqueEventID,
                                           final String nodeID,
@@ -51,10 +51,13 @@ public class ClusterTopologyChangeMessage_V3 extends ClusterTopologyChangeMessag
       super(CLUSTER_TOPOLOGY_V3);
    }
 
+   public ClusterTopologyChangeMessage_V3(byte packetType) {
+      super(packetType);
+   }
+
    public String getScaleDownGroupName() {
       return scaleDownGroupName;
    }
-
    @Override
    public void encodeRest(final ActiveMQBuffer buffer) {
       super.encodeRest(buffer);
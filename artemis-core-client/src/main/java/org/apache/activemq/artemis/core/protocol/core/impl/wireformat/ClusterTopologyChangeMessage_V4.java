@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.protocol.core.impl.wireformat;
+
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.api.core.Pair;
+import org.apache.activemq.artemis.api.core.TransportConfiguration;
+
+/**
+ * A topology update that also carries the load hints of the node.
+ */
+public class ClusterTopologyChangeMessage_V4 extends ClusterTopologyChangeMessage_V3 {
+
+   private int connectionCount = -1;
+
+   private int load = -1;
+
+   public ClusterTopologyChangeMessage_V4(final long uniqueEventID,
+                                          final String nodeID,
+                                          final String backupGroupName,
+                                          final String scaleDownGroupName,
+                                          final Pair<TransportConfiguration, TransportConfiguration> pair,
+                                          final boolean last,
+                                          final int connectionCount,
+                                          final int load) {
+      super(CLUSTER_TOPOLOGY_V4);
+
+      this.nodeID = nodeID;
+
+      this.pair = pair;
+
+      this.last = last;
+
+      this.exit = false;
+
+      this.uniqueEventID = uniqueEventID;
+
+      this.backupGroupName = backupGroupName;
+
+      this.scaleDownGroupName = scaleDownGroupName;
+
+      this.connectionCount = connectionCount;
+
+      this.load = load;
+   }
+
+   public ClusterTopologyChangeMessage_V4() {
+      super(CLUSTER_TOPOLOGY_V4);
+   }
+
+   public int getConnectionCount() {
+      return connectionCount;
+   }
+
+   public int getLoad() {
+      return load;
+   }
+
+   @Override
+   public void encodeRest(final ActiveMQBuffer buffer) {
+      super.encodeRest(buffer);
+      buffer.writeInt(connectionCount);
+      buffer.writeInt(load);
+   }
+
+   @Override
+   public void decodeRest(final ActiveMQBuffer buffer) {
+      super.decodeRest(buffer);
+      connectionCount = buffer.readInt();
+      load = buffer.readInt();
+   }
+
+   @Override
+   public int hashCode() {
+      final int prime = 31;
+      int result = super.hashCode();
+      result = prime * result + connectionCount;
+      result = prime * result + load;
+      return result;
+   }
+
+   @Override
+   public String toString() {
+      StringBuffer buff = new StringBuffer(getParentString());
+      buff.append(", exit=" + exit);
+      buff.append(", last=" + last);
+      buff.append(", nodeID=" + nodeID);
+      buff.append(", pair=" + pair);
+      buff.append(", backupGroupName=" + backupGroupName);
+      buff.append(", uniqueEventID=" + uniqueEventID);
+      buff.append(", scaleDownGroupName=" + scaleDownGroupName);
+      buff.append(", connectionCount=" + connectionCount);
+      buff.append(", load=" + load);
+      buff.append("]");
+      return buff.toString();
+   }
+
+   @Override
+   public boolean equals(Object obj) {
+      if (this == obj) {
+         return true;
+      }
+      if (!super.equals(obj)) {
+         return false;
+      }
+      if (!(obj instanceof ClusterTopologyChangeMessage_V4)) {
+         return false;
+      }
+      ClusterTopologyChangeMessage_V4 other = (ClusterTopologyChangeMessage_V4) obj;
+      return connectionCount == other.connectionCount && load == other.load;
+   }
+}
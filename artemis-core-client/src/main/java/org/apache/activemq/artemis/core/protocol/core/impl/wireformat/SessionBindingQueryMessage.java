@@ -18,6 +18,7 @@ package org.apache.activemq.artemis.core.protocol.core.impl.wireformat;
 
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.utils.SimpleStringPool;
 
 public class SessionBindingQueryMessage extends QueueAbstractPacket {
 
@@ -38,7 +39,7 @@ public class SessionBindingQueryMessage extends QueueAbstractPacket {
 
    @Override
    public void decodeRest(final ActiveMQBuffer buffer) {
-      address = buffer.readSimpleString();
+      address = SimpleStringPool.DEFAULT.readSimpleString(buffer.byteBuf());
    }
 
    @Override
@@ -18,6 +18,7 @@ package org.apache.activemq.artemis.core.protocol.core.impl.wireformat;
 
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.utils.SimpleStringPool;
 
 public class SessionCreateConsumerMessage extends QueueAbstractPacket {
 
@@ -99,7 +100,7 @@ public class SessionCreateConsumerMessage extends QueueAbstractPacket {
    @Override
    public void decodeRest(final ActiveMQBuffer buffer) {
       id = buffer.readLong();
-      queueName = buffer.readSimpleString();
+      queueName = SimpleStringPool.DEFAULT.readSimpleString(buffer.byteBuf());
       filterString = buffer.readNullableSimpleString();
       browseOnly = buffer.readBoolean();
       requiresResponse = buffer.readBoolean();
@@ -19,6 +19,7 @@ package org.apache.activemq.artemis.core.protocol.core.impl.wireformat;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.core.protocol.core.impl.PacketImpl;
+import org.apache.activemq.artemis.utils.SimpleStringPool;
 
 public class SessionDeleteQueueMessage extends PacketImpl {
 
@@ -53,7 +54,7 @@ public class SessionDeleteQueueMessage extends PacketImpl {
 
    @Override
    public void decodeRest(final ActiveMQBuffer buffer) {
-      queueName = buffer.readSimpleString();
+      queueName = SimpleStringPool.DEFAULT.readSimpleString(buffer.byteBuf());
    }
 
    @Override
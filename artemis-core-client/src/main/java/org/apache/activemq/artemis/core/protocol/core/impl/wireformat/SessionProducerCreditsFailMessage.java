@@ -19,6 +19,7 @@ package org.apache.activemq.artemis.core.protocol.core.impl.wireformat;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.core.protocol.core.impl.PacketImpl;
+import org.apache.activemq.artemis.utils.SimpleStringPool;
 
 public class SessionProducerCreditsFailMessage extends PacketImpl {
 
@@ -55,7 +56,7 @@ public class SessionProducerCreditsFailMessage extends PacketImpl {
    @Override
    public void decodeRest(final ActiveMQBuffer buffer) {
       credits = buffer.readInt();
-      address = buffer.readSimpleString();
+      address = SimpleStringPool.DEFAULT.readSimpleString(buffer.byteBuf());
    }
 
    @Override
@@ -18,6 +18,7 @@ package org.apache.activemq.artemis.core.protocol.core.impl.wireformat;
 
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.utils.SimpleStringPool;
 
 public class SessionQueueQueryMessage extends QueueAbstractPacket {
 
@@ -38,7 +39,7 @@ public class SessionQueueQueryMessage extends QueueAbstractPacket {
 
    @Override
    public void decodeRest(final ActiveMQBuffer buffer) {
-      queueName = buffer.readSimpleString();
+      queueName = SimpleStringPool.DEFAULT.readSimpleString(buffer.byteBuf());
    }
 
    @Override
@@ -17,9 +17,11 @@
 package org.apache.activemq.artemis.core.protocol.core.impl.wireformat;
 
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.core.protocol.core.FileRegionPacket;
+import org.apache.activemq.artemis.spi.core.protocol.RemotingConnection;
 import org.apache.activemq.artemis.utils.DataConstants;
 
-public class SessionReceiveContinuationMessage extends SessionContinuationMessage {
+public class SessionReceiveContinuationMessage extends SessionContinuationMessage implements FileRegionPacket {
 
    // Constants -----------------------------------------------------
 
@@ -82,6 +84,32 @@ public class SessionReceiveContinuationMessage extends SessionContinuationMessag
       buffer.writeLong(consumerID);
    }
 
+   /**
+    * Used when the body is sent from a file: the header is everything up to the body length
+    */
+   @Override
+   public ActiveMQBuffer encodeHeader(final RemotingConnection connection, final int bodySize) {
+      ActiveMQBuffer buffer = connection.createTransportBuffer(PACKET_HEADERS_SIZE + DataConstants.SIZE_INT);
+
+      size = SESSION_RECEIVE_CONTINUATION_BASE_SIZE + bodySize;
+
+      // The length doesn't include the actual length byte
+      buffer.writeInt(size - DataConstants.SIZE_INT);
+      buffer.writeByte(getType());
+      buffer.writeLong(getChannelID());
+      buffer.writeInt(bodySize);
+
+      return buffer;
+   }
+
+   @Override
+   public ActiveMQBuffer encodeTrailer(final RemotingConnection connection) {
+      ActiveMQBuffer buffer = connection.createTransportBuffer(DataConstants.SIZE_BOOLEAN + DataConstants.SIZE_LONG);
+      buffer.writeBoolean(continues);
+      buffer.writeLong(consumerID);
+      return buffer;
+   }
+
    @Override
    public int getPacketSize() {
       if (size == -1) {
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.protocol.core.impl.wireformat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.api.core.ICoreMessage;
+import org.apache.activemq.artemis.api.core.client.SendAcknowledgementHandler;
+import org.apache.activemq.artemis.core.message.impl.CoreMessage;
+import org.apache.activemq.artemis.core.protocol.core.impl.PacketImpl;
+import org.apache.activemq.artemis.utils.DataConstants;
+
+/**
+ * Several messages sent, routed in a single transaction and confirmed, as one.
+ * <p>
+ * When the messages are forwarded by a bridge, the duplicate ID prefix identifying the source is sent once for the
+ * whole batch instead of once per message, the target completes it with the ID each message had on the source.
+ */
+public class SessionSendBulkMessage extends PacketImpl {
+
+   private final List<ICoreMessage> messages;
+
+   private byte[] duplicateIDPrefix;
+
+   private boolean requiresResponse;
+
+   /**
+    * This field is only used at the client side.
+    *
+    * @see SessionSendMessage#getHandler()
+    */
+   private final transient SendAcknowledgementHandler handler;
+
+   public SessionSendBulkMessage(final List<ICoreMessage> messages,
+                                 final byte[] duplicateIDPrefix,
+                                 final boolean requiresResponse,
+                                 final SendAcknowledgementHandler handler) {
+      super(SESS_SEND_BULK);
+      this.messages = messages;
+      this.duplicateIDPrefix = duplicateIDPrefix;
+      this.requiresResponse = requiresResponse;
+      this.handler = handler;
+   }
+
+   public SessionSendBulkMessage() {
+      super(SESS_SEND_BULK);
+      this.messages = new ArrayList<>();
+      this.handler = null;
+   }
+
+   // Public --------------------------------------------------------
+
+   public List<ICoreMessage> getMessages() {
+      return messages;
+   }
+
+   /**
+    * @return the bytes every duplicate ID of the batch starts with, {@code null} when the messages are not subject to
+    * duplicate detection
+    */
+   public byte[] getDuplicateIDPrefix() {
+      return duplicateIDPrefix;
+   }
+
+   public boolean isRequiresResponse() {
+      return requiresResponse;
+   }
+
+   public SendAcknowledgementHandler getHandler() {
+      return handler;
+   }
+
+   @Override
+   public int expectedEncodeSize() {
+      int size = PACKET_HEADERS_SIZE + DataConstants.SIZE_BOOLEAN + DataConstants.SIZE_INT + DataConstants.SIZE_BOOLEAN;
+      if (duplicateIDPrefix != null) {
+         size += DataConstants.SIZE_INT + duplicateIDPrefix.length;
+      }
+      for (ICoreMessage message : messages) {
+         size += DataConstants.SIZE_INT + message.getEncodeSize();
+      }
+      return size;
+   }
+
+   @Override
+   public void encodeRest(final ActiveMQBuffer buffer) {
+      buffer.writeBoolean(duplicateIDPrefix != null);
+      if (duplicateIDPrefix != null) {
+         buffer.writeInt(duplicateIDPrefix.length);
+         buffer.writeBytes(duplicateIDPrefix);
+      }
+      buffer.writeInt(messages.size());
+      for (ICoreMessage message : messages) {
+         buffer.writeInt(message.getEncodeSize());
+         message.sendBuffer(buffer.byteBuf(), 0);
+      }
+      buffer.writeBoolean(requiresResponse);
+   }
+
+   @Override
+   public void decodeRest(final ActiveMQBuffer buffer) {
+      if (buffer.readBoolean()) {
+         duplicateIDPrefix = new byte[buffer.readInt()];
+         buffer.readBytes(duplicateIDPrefix);
+      }
+      int count = buffer.readInt();
+      for (int i = 0; i < count; i++) {
+         int size = buffer.readInt();
+         ByteBuf messageBuffer = Unpooled.buffer(size);
+         messageBuffer.writeBytes(buffer.byteBuf(), size);
+         CoreMessage message = new CoreMessage();
+         message.receiveBuffer(messageBuffer);
+         messages.add(message);
+      }
+      requiresResponse = buffer.readBoolean();
+   }
+
+   @Override
+   public int hashCode() {
+      final int prime = 31;
+      int result = super.hashCode();
+      result = prime * result + Arrays.hashCode(duplicateIDPrefix);
+      result = prime * result + messages.size();
+      result = prime * result + (requiresResponse ? 1231 : 1237);
+      return result;
+   }
+
+   @Override
+   public String toString() {
+      StringBuffer buff = new StringBuffer(getParentString());
+      buff.append(", messages=" + messages.size());
+      buff.append(", requiresResponse=" + requiresResponse);
+      buff.append("]");
+      return buff.toString();
+   }
+
+   @Override
+   public boolean equals(Object obj) {
+      if (this == obj)
+         return true;
+      if (!super.equals(obj))
+         return false;
+      if (!(obj instanceof SessionSendBulkMessage))
+         return false;
+      SessionSendBulkMessage other = (SessionSendBulkMessage) obj;
+      if (requiresResponse != other.requiresResponse)
+         return false;
+      if (!Arrays.equals(duplicateIDPrefix, other.duplicateIDPrefix))
+         return false;
+      if (!messages.equals(other.messages))
+         return false;
+      return true;
+   }
+
+}
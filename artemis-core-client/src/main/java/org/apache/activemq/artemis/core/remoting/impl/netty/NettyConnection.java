@@ -16,10 +16,12 @@
  */
 package org.apache.activemq.artemis.core.remoting.impl.netty;
 
+import java.io.IOException;
 import java.net.SocketAddress;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
@@ -29,8 +31,11 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelOutboundHandler;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.channel.EventLoop;
+import io.netty.channel.FileRegion;
 import io.netty.handler.ssl.SslHandler;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.ActiveMQInterruptedException;
@@ -42,6 +47,7 @@ import org.apache.activemq.artemis.spi.core.protocol.RemotingConnection;
 import org.apache.activemq.artemis.spi.core.remoting.BaseConnectionLifeCycleListener;
 import org.apache.activemq.artemis.spi.core.remoting.Connection;
 import org.apache.activemq.artemis.spi.core.remoting.ReadyListener;
+import org.apache.activemq.artemis.spi.core.remoting.SharedFileChannel;
 import org.apache.activemq.artemis.utils.Env;
 import org.apache.activemq.artemis.utils.IPV6Util;
 import org.jboss.logging.Logger;
@@ -58,6 +64,7 @@ public class NettyConnection implements Connection {
    protected final Channel channel;
    private final BaseConnectionLifeCycleListener<?> listener;
    private final boolean directDeliver;
+   private final boolean zeroCopyLargeMessages;
    private final Map<String, Object> configuration;
    /**
     * if {@link #isWritable(ReadyListener)} returns false, we add a callback
@@ -77,6 +84,12 @@ public class NettyConnection implements Connection {
    private final AtomicLong pendingWritesOnEventLoopView = new AtomicLong();
    private long pendingWritesOnEventLoop = 0;
 
+   /**
+    * Netty doesn't count the file regions towards the channel writability, so these are counted apart
+    * from the moment they're handed to {@link #writeFileRegion} until they're written
+    */
+   private final AtomicLong pendingFileRegionBytes = new AtomicLong();
+
    private boolean closed;
    private RemotingConnection protocolConnection;
 
@@ -87,6 +100,15 @@ public class NettyConnection implements Connection {
                           final BaseConnectionLifeCycleListener<?> listener,
                           boolean batchingEnabled,
                           boolean directDeliver) {
+      this(configuration, channel, listener, batchingEnabled, directDeliver, false);
+   }
+
+   public NettyConnection(final Map<String, Object> configuration,
+                          final Channel channel,
+                          final BaseConnectionLifeCycleListener<?> listener,
+                          boolean batchingEnabled,
+                          boolean directDeliver,
+                          boolean zeroCopyLargeMessages) {
       this.configuration = configuration;
 
       this.channel = channel;
@@ -95,6 +117,8 @@ public class NettyConnection implements Connection {
 
       this.directDeliver = directDeliver;
 
+      this.zeroCopyLargeMessages = zeroCopyLargeMessages;
+
       this.batchingEnabled = batchingEnabled;
 
       this.writeBufferHighWaterMark = this.channel.config().getWriteBufferHighWaterMark();
@@ -157,11 +181,13 @@ public class NettyConnection implements Connection {
    @Override
    public final boolean isWritable(ReadyListener callback) {
       synchronized (readyListeners) {
-         if (!ready) {
+         final boolean writable = ready && pendingFileRegionBytes.get() < writeBufferHighWaterMark;
+
+         if (!writable) {
             readyListeners.add(callback);
          }
 
-         return ready;
+         return writable;
       }
    }
 
@@ -456,6 +482,78 @@ public class NettyConnection implements Connection {
       }
    }
 
+   @Override
+   public final boolean isFileRegionSupported() {
+      if (!zeroCopyLargeMessages) {
+         return false;
+      }
+      // any outbound handler but ours would need to transform the bytes (e.g. SslHandler), which a FileRegion can't do
+      for (Map.Entry<String, ChannelHandler> entry : channel.pipeline()) {
+         final ChannelHandler handler = entry.getValue();
+         if (handler instanceof ChannelOutboundHandler && !(handler instanceof ActiveMQChannelHandler)) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   @Override
+   public final void writeFileRegion(final ActiveMQBuffer header,
+                                     final SharedFileChannel file,
+                                     final long position,
+                                     final long count,
+                                     final ActiveMQBuffer trailer) throws IOException {
+      checkConnectionState();
+      final FileRegion region = new SharedFileRegion(file, position, count);
+      pendingFileRegionBytes.addAndGet(count);
+      final EventLoop eventLoop = channel.eventLoop();
+      if (eventLoop.inEventLoop()) {
+         writeFileRegionInEventLoop(header.byteBuf(), region, trailer.byteBuf());
+      } else {
+         try {
+            // a single task: no write from another thread can end up in between the parts of the packet
+            eventLoop.execute(() -> writeFileRegionInEventLoop(header.byteBuf(), region, trailer.byteBuf()));
+         } catch (RejectedExecutionException e) {
+            region.release();
+            throw e;
+         }
+      }
+   }
+
+   private void fileRegionWritten(final long count) {
+      // isWritable holds back the ready listeners while too many file region bytes are pending
+      if (pendingFileRegionBytes.addAndGet(-count) < writeBufferHighWaterMark && channel.isWritable()) {
+         fireReady(true);
+      }
+   }
+
+   private void writeFileRegionInEventLoop(final ByteBuf header, final FileRegion region, final ByteBuf trailer) {
+      channel.write(header, channel.voidPromise());
+      channel.write(region, channel.voidPromise());
+      channel.writeAndFlush(trailer, channel.voidPromise());
+   }
+
+   /**
+    * A part of a {@link SharedFileChannel} that releases its reference to it, instead of closing it, once written or failed.
+    * It's still a {@link DefaultFileRegion} so the native transports send it with sendfile.
+    */
+   private final class SharedFileRegion extends DefaultFileRegion {
+
+      private final SharedFileChannel file;
+
+      SharedFileRegion(final SharedFileChannel file, final long position, final long count) {
+         super(file.channel(), position, count);
+         this.file = file;
+         file.retain();
+      }
+
+      @Override
+      protected void deallocate() {
+         file.release();
+         fileRegionWritten(count());
+      }
+   }
+
    private ChannelFuture writeBatch(final ByteBuf bytes, final int readableBytes, final ChannelPromise promise) {
       final int batchBufferSize = batchBufferSize(channel, this.writeBufferHighWaterMark);
       final int nextBatchSize = batchBufferSize + readableBytes;
@@ -16,6 +16,7 @@
  */
 package org.apache.activemq.artemis.spi.core.remoting;
 
+import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 
 import io.netty.channel.ChannelFutureListener;
@@ -99,6 +100,31 @@ public interface Connection {
     */
    void write(ActiveMQBuffer buffer);
 
+   /**
+    * @return true if {@link #writeFileRegion(ActiveMQBuffer, SharedFileChannel, long, long, ActiveMQBuffer)} can be used on this connection,
+    * i.e. the transport is able to send file content to the socket as is (no TLS, HTTP or WebSocket framing).
+    */
+   default boolean isFileRegionSupported() {
+      return false;
+   }
+
+   /**
+    * Writes {@code header}, then {@code count} bytes of {@code file} starting at {@code position}, then {@code trailer},
+    * with no other write in between and without copying the file content through the heap.
+    * The write holds a reference to {@code file} until it's done, so the caller may release its own right after.
+    * <p>
+    * The bytes pending to be written count against {@link #isWritable(ReadyListener)}.
+    *
+    * @throws UnsupportedOperationException if {@link #isFileRegionSupported()} is false
+    */
+   default void writeFileRegion(ActiveMQBuffer header,
+                                SharedFileChannel file,
+                                long position,
+                                long count,
+                                ActiveMQBuffer trailer) throws IOException {
+      throw new UnsupportedOperationException();
+   }
+
    /**
     * This should close the internal channel without calling any listeners.
     * This is to avoid a situation where the broker is busy writing on an internal thread.
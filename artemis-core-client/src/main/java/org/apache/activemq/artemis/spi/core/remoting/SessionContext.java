@@ -19,6 +19,7 @@ package org.apache.activemq.artemis.spi.core.remoting;
 import javax.transaction.xa.XAException;
 import javax.transaction.xa.Xid;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executor;
 
@@ -135,6 +136,27 @@ public abstract class SessionContext {
                                         SendAcknowledgementHandler handler,
                                         SimpleString defaultAddress) throws ActiveMQException;
 
+   /**
+    * @return whether {@link #sendBulk(List, byte[], boolean, SendAcknowledgementHandler)} can be used
+    */
+   public boolean supportsBulkSend() {
+      return false;
+   }
+
+   /**
+    * Sends several messages the server routes in a single transaction and confirms as one, each message is still
+    * acknowledged to the handler.
+    *
+    * @param duplicateIDPrefix when not {@code null}, the server completes it with the ID of each message to detect the
+    *                          messages it already has, as bridges do
+    */
+   public void sendBulk(List<ICoreMessage> messages,
+                        byte[] duplicateIDPrefix,
+                        boolean sendBlocking,
+                        SendAcknowledgementHandler handler) throws ActiveMQException {
+      throw new UnsupportedOperationException();
+   }
+
    /**
     * it should return the number of credits (or bytes) used to send this packet
     *
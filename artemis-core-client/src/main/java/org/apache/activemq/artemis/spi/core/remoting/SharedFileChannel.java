@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.spi.core.remoting;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import io.netty.util.AbstractReferenceCounted;
+import org.jboss.logging.Logger;
+
+/**
+ * A file opened once for reading and shared by every {@link Connection#writeFileRegion} sending a part of it.
+ * <p>
+ * Each pending write holds a reference, so the file is closed once its owner released it and every write is done.
+ */
+public final class SharedFileChannel extends AbstractReferenceCounted {
+
+   private static final Logger logger = Logger.getLogger(SharedFileChannel.class);
+
+   private final FileChannel channel;
+
+   private SharedFileChannel(final FileChannel channel) {
+      this.channel = channel;
+   }
+
+   public static SharedFileChannel open(final File file) throws IOException {
+      return new SharedFileChannel(FileChannel.open(file.toPath(), StandardOpenOption.READ));
+   }
+
+   public FileChannel channel() {
+      return channel;
+   }
+
+   @Override
+   protected void deallocate() {
+      try {
+         channel.close();
+      } catch (IOException e) {
+         logger.debug("Error closing a shared file channel", e);
+      }
+   }
+
+   @Override
+   public SharedFileChannel touch(final Object hint) {
+      return this;
+   }
+}
@@ -32,6 +32,21 @@ public interface TopologyResponseHandler {
                      Pair<TransportConfiguration, TransportConfiguration> connectorPair,
                      boolean isLast);
 
+   /**
+    * Same as {@link #notifyNodeUp(long, String, String, String, Pair, boolean)}, for servers that also advertise
+    * their load.
+    */
+   default void notifyNodeUp(long uniqueEventID,
+                             String nodeID,
+                             String backupGroupName,
+                             String scaleDownGroupName,
+                             Pair<TransportConfiguration, TransportConfiguration> connectorPair,
+                             boolean isLast,
+                             int connectionCount,
+                             int load) {
+      notifyNodeUp(uniqueEventID, nodeID, backupGroupName, scaleDownGroupName, connectorPair, isLast);
+   }
+
    // This is sent when any node on the cluster topology is going down
    void notifyNodeDown(long eventTime, String nodeID);
 }
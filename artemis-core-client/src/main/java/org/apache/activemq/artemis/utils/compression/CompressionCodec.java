@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils.compression;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A stream compression format for message bodies.
+ * <p>
+ * The codec used to compress a message is identified by {@link #getName()}, carried on the message by
+ * {@link org.apache.activemq.artemis.api.core.Message#HDR_COMPRESSION_CODEC}, so both the client and the broker
+ * need it registered in {@link CompressionCodecs}. Additional codecs can be plugged in through
+ * {@link java.util.ServiceLoader}.
+ * <p>
+ * Implementations must be thread safe, the streams they create are not.
+ */
+public interface CompressionCodec {
+
+   /**
+    * @return the unique name of this codec
+    */
+   String getName();
+
+   /**
+    * Returns a stream reading the compressed form of {@code input}, which behaves as
+    * {@link org.apache.activemq.artemis.utils.DeflaterReader}: every read fills the buffer except the last one.
+    *
+    * @param bytesRead updated with the number of uncompressed bytes read from {@code input}
+    */
+   InputStream createCompressingReader(InputStream input, AtomicLong bytesRead);
+
+   /**
+    * Returns a stream reading the uncompressed form of the compressed {@code input}.
+    */
+   InputStream createDecompressingReader(InputStream input);
+
+   /**
+    * Returns a stream where compressed bytes are written, writing their uncompressed form to {@code output}.
+    * {@link OutputStream#close()} flushes and closes {@code output}.
+    */
+   OutputStream createDecompressingWriter(OutputStream output);
+}
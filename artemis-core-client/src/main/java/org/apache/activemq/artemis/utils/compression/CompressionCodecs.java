@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils.compression;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.client.ActiveMQClientMessageBundle;
+
+/**
+ * The registry of the available {@link CompressionCodec}s.
+ * <p>
+ * {@link DeflateCodec} and {@link LZ4Codec} are always available, other codecs (e.g. Zstandard through a native
+ * library) are discovered with {@link ServiceLoader} or {@link #register(CompressionCodec) registered} explicitly.
+ */
+public final class CompressionCodecs {
+
+   public static final CompressionCodec DEFLATE = new DeflateCodec();
+
+   public static final CompressionCodec LZ4 = new LZ4Codec();
+
+   private static final Map<String, CompressionCodec> CODECS = new ConcurrentHashMap<>();
+
+   static {
+      register(DEFLATE);
+      register(LZ4);
+      for (CompressionCodec codec : ServiceLoader.load(CompressionCodec.class, CompressionCodecs.class.getClassLoader())) {
+         register(codec);
+      }
+   }
+
+   private CompressionCodecs() {
+   }
+
+   public static void register(CompressionCodec codec) {
+      CODECS.put(codec.getName(), codec);
+   }
+
+   public static Set<String> getNames() {
+      return Collections.unmodifiableSet(CODECS.keySet());
+   }
+
+   /**
+    * @param name the codec name, {@code null} means {@link #DEFLATE} for compatibility with messages sent before
+    *             codecs could be chosen
+    * @throws IllegalArgumentException if no codec is registered with that name
+    */
+   public static CompressionCodec getCodec(String name) {
+      if (name == null) {
+         return DEFLATE;
+      }
+      CompressionCodec codec = CODECS.get(name);
+      if (codec == null) {
+         throw ActiveMQClientMessageBundle.BUNDLE.unknownCompressionCodec(name);
+      }
+      return codec;
+   }
+
+   public static CompressionCodec getCodec(SimpleString name) {
+      return getCodec(name == null ? null : name.toString());
+   }
+}
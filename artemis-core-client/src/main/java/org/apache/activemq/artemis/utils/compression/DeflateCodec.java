@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils.compression;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.activemq.artemis.utils.DeflaterReader;
+import org.apache.activemq.artemis.utils.InflaterReader;
+import org.apache.activemq.artemis.utils.InflaterWriter;
+
+/**
+ * {@code java.util.zip} Deflate: the original format, used when a compressed message doesn't name its codec.
+ */
+public final class DeflateCodec implements CompressionCodec {
+
+   public static final String NAME = "deflate";
+
+   @Override
+   public String getName() {
+      return NAME;
+   }
+
+   @Override
+   public InputStream createCompressingReader(InputStream input, AtomicLong bytesRead) {
+      return new DeflaterReader(input, bytesRead);
+   }
+
+   @Override
+   public InputStream createDecompressingReader(InputStream input) {
+      return new InflaterReader(input);
+   }
+
+   @Override
+   public OutputStream createDecompressingWriter(OutputStream output) {
+      return new InflaterWriter(output);
+   }
+}
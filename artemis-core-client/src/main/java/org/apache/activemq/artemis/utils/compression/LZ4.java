@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils.compression;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A pure Java implementation of the LZ4 block format plus the framing used by {@link LZ4Codec}.
+ * <p>
+ * A frame is a sequence of independent blocks of at most {@link #BLOCK_SIZE} uncompressed bytes, each one prefixed
+ * by an 8 bytes header: the big endian uncompressed length followed by the big endian stored length. When the top
+ * bit of the stored length is set the block didn't compress and is stored as is.
+ */
+final class LZ4 {
+
+   static final int BLOCK_SIZE = 64 * 1024;
+
+   static final int HEADER_SIZE = 8;
+
+   static final int STORED_FLAG = 0x80000000;
+
+   private static final int MIN_MATCH = 4;
+
+   private static final int LAST_LITERALS = 5;
+
+   private static final int MF_LIMIT = 12;
+
+   private static final int MIN_LENGTH = MF_LIMIT + 1;
+
+   private static final int MAX_DISTANCE = 65535;
+
+   private static final int HASH_LOG = 12;
+
+   private static final int SKIP_TRIGGER = 6;
+
+   private LZ4() {
+   }
+
+   static int maxCompressedLength(int length) {
+      return length + length / 255 + 16;
+   }
+
+   static int[] newHashTable() {
+      return new int[1 << HASH_LOG];
+   }
+
+   /**
+    * Compresses {@code src[srcOff, srcOff + srcLen)} into {@code dst}, which must have room for
+    * {@link #maxCompressedLength(int)} bytes.
+    *
+    * @return the compressed length
+    */
+   static int compress(byte[] src, int srcOff, int srcLen, byte[] dst, int dstOff, int[] hashTable) {
+      final int srcEnd = srcOff + srcLen;
+      final int matchStartLimit = srcEnd - MF_LIMIT;
+      final int matchEndLimit = srcEnd - LAST_LITERALS;
+
+      int sp = srcOff;
+      int anchor = srcOff;
+      int dp = dstOff;
+
+      if (srcLen >= MIN_LENGTH) {
+         Arrays.fill(hashTable, -1);
+         int misses = 1 << SKIP_TRIGGER;
+         while (sp < matchStartLimit) {
+            final int sequence = readInt(src, sp);
+            final int hash = hash(sequence);
+            int ref = hashTable[hash];
+            hashTable[hash] = sp;
+            if (ref < 0 || sp - ref > MAX_DISTANCE || readInt(src, ref) != sequence) {
+               // incompressible data gets skipped faster and faster
+               sp += misses++ >>> SKIP_TRIGGER;
+               continue;
+            }
+            misses = 1 << SKIP_TRIGGER;
+
+            while (sp > anchor && ref > srcOff && src[sp - 1] == src[ref - 1]) {
+               sp--;
+               ref--;
+            }
+            int matchLength = MIN_MATCH;
+            while (sp + matchLength < matchEndLimit && src[sp + matchLength] == src[ref + matchLength]) {
+               matchLength++;
+            }
+
+            final int token = dp;
+            dp = writeLiterals(src, anchor, sp - anchor, dst, dp);
+            final int offset = sp - ref;
+            dst[dp++] = (byte) offset;
+            dst[dp++] = (byte) (offset >>> 8);
+            int length = matchLength - MIN_MATCH;
+            if (length >= 15) {
+               dst[token] |= 15;
+               dp = writeLength(length - 15, dst, dp);
+            } else {
+               dst[token] |= length;
+            }
+
+            sp += matchLength;
+            anchor = sp;
+         }
+      }
+
+      dp = writeLiterals(src, anchor, srcEnd - anchor, dst, dp);
+      return dp - dstOff;
+   }
+
+   /**
+    * Decompresses the block {@code src[srcOff, srcOff + srcLen)} into {@code dst}, which must have room for
+    * {@code dstLen} bytes.
+    *
+    * @return the decompressed length
+    * @throws IOException if the block is malformed
+    */
+   static int decompress(byte[] src, int srcOff, int srcLen, byte[] dst, int dstOff, int dstLen) throws IOException {
+      final int srcEnd = srcOff + srcLen;
+      final int dstEnd = dstOff + dstLen;
+      int sp = srcOff;
+      int dp = dstOff;
+
+      while (sp < srcEnd) {
+         final int token = src[sp++] & 0xFF;
+
+         int literals = token >>> 4;
+         if (literals == 15) {
+            int b;
+            do {
+               if (sp == srcEnd) {
+                  throw malformed();
+               }
+               b = src[sp++] & 0xFF;
+               literals += b;
+            }
+            while (b == 255);
+         }
+         if (literals > srcEnd - sp || literals > dstEnd - dp) {
+            throw malformed();
+         }
+         System.arraycopy(src, sp, dst, dp, literals);
+         sp += literals;
+         dp += literals;
+
+         if (sp == srcEnd) {
+            // the last sequence has no match
+            break;
+         }
+
+         if (srcEnd - sp < 2) {
+            throw malformed();
+         }
+         final int offset = (src[sp] & 0xFF) | (src[sp + 1] & 0xFF) << 8;
+         sp += 2;
+         if (offset == 0 || offset > dp - dstOff) {
+            throw malformed();
+         }
+
+         int matchLength = token & 0x0F;
+         if (matchLength == 15) {
+            int b;
+            do {
+               if (sp == srcEnd) {
+                  throw malformed();
+               }
+               b = src[sp++] & 0xFF;
+               matchLength += b;
+            }
+            while (b == 255);
+         }
+         matchLength += MIN_MATCH;
+         if (matchLength > dstEnd - dp) {
+            throw malformed();
+         }
+
+         final int ref = dp - offset;
+         if (offset >= matchLength) {
+            System.arraycopy(dst, ref, dst, dp, matchLength);
+         } else {
+            // overlapping copy: the match repeats bytes it is producing
+            for (int i = 0; i < matchLength; i++) {
+               dst[dp + i] = dst[ref + i];
+            }
+         }
+         dp += matchLength;
+      }
+      return dp - dstOff;
+   }
+
+   /**
+    * Compresses {@code src[srcOff, srcOff + srcLen)} into a frame block, header included.
+    *
+    * @return the block length, header included
+    */
+   static int compressBlock(byte[] src, int srcOff, int srcLen, byte[] dst, int[] hashTable) {
+      int length = compress(src, srcOff, srcLen, dst, HEADER_SIZE, hashTable);
+      int stored;
+      if (length >= srcLen) {
+         System.arraycopy(src, srcOff, dst, HEADER_SIZE, srcLen);
+         length = srcLen;
+         stored = length | STORED_FLAG;
+      } else {
+         stored = length;
+      }
+      writeIntBE(dst, 0, srcLen);
+      writeIntBE(dst, 4, stored);
+      return HEADER_SIZE + length;
+   }
+
+   /**
+    * @return the stored length of the block whose header is at {@code header[0, HEADER_SIZE)}
+    */
+   static int storedLength(byte[] header) throws IOException {
+      final int rawLength = readIntBE(header, 0);
+      final int storedLength = readIntBE(header, 4) & ~STORED_FLAG;
+      if (rawLength <= 0 || rawLength > BLOCK_SIZE || storedLength > maxCompressedLength(BLOCK_SIZE)) {
+         throw malformed();
+      }
+      return storedLength;
+   }
+
+   /**
+    * Decodes the block whose header is at {@code header[0, HEADER_SIZE)} and payload is {@code payload[0, storedLength)}.
+    *
+    * @return the decompressed length
+    */
+   static int decompressBlock(byte[] header, byte[] payload, int storedLength, byte[] dst) throws IOException {
+      final int rawLength = readIntBE(header, 0);
+      if ((readIntBE(header, 4) & STORED_FLAG) != 0) {
+         if (storedLength != rawLength) {
+            throw malformed();
+         }
+         System.arraycopy(payload, 0, dst, 0, rawLength);
+         return rawLength;
+      }
+      if (decompress(payload, 0, storedLength, dst, 0, rawLength) != rawLength) {
+         throw malformed();
+      }
+      return rawLength;
+   }
+
+   private static int writeLiterals(byte[] src, int srcOff, int length, byte[] dst, int dp) {
+      final int token = dp++;
+      if (length >= 15) {
+         dst[token] = (byte) (15 << 4);
+         dp = writeLength(length - 15, dst, dp);
+      } else {
+         dst[token] = (byte) (length << 4);
+      }
+      System.arraycopy(src, srcOff, dst, dp, length);
+      return dp + length;
+   }
+
+   private static int writeLength(int length, byte[] dst, int dp) {
+      while (length >= 255) {
+         dst[dp++] = (byte) 255;
+         length -= 255;
+      }
+      dst[dp++] = (byte) length;
+      return dp;
+   }
+
+   private static int hash(int sequence) {
+      return (sequence * -1640531535) >>> (32 - HASH_LOG);
+   }
+
+   private static int readInt(byte[] buf, int i) {
+      return (buf[i] & 0xFF) | (buf[i + 1] & 0xFF) << 8 | (buf[i + 2] & 0xFF) << 16 | (buf[i + 3] & 0xFF) << 24;
+   }
+
+   static int readIntBE(byte[] buf, int i) {
+      return (buf[i] & 0xFF) << 24 | (buf[i + 1] & 0xFF) << 16 | (buf[i + 2] & 0xFF) << 8 | (buf[i + 3] & 0xFF);
+   }
+
+   private static void writeIntBE(byte[] buf, int i, int value) {
+      buf[i] = (byte) (value >>> 24);
+      buf[i + 1] = (byte) (value >>> 16);
+      buf[i + 2] = (byte) (value >>> 8);
+      buf[i + 3] = (byte) value;
+   }
+
+   static IOException malformed() {
+      return new IOException("Malformed LZ4 compressed data");
+   }
+}
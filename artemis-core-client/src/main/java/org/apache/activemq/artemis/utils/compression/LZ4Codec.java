@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils.compression;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LZ4 block compression in a simple framing of independent blocks, see {@link LZ4}.
+ * <p>
+ * Much faster than Deflate on both sides for a lower compression ratio.
+ */
+public final class LZ4Codec implements CompressionCodec {
+
+   public static final String NAME = "lz4";
+
+   @Override
+   public String getName() {
+      return NAME;
+   }
+
+   @Override
+   public InputStream createCompressingReader(InputStream input, AtomicLong bytesRead) {
+      return new LZ4CompressingReader(input, bytesRead);
+   }
+
+   @Override
+   public InputStream createDecompressingReader(InputStream input) {
+      return new LZ4DecompressingReader(input);
+   }
+
+   @Override
+   public OutputStream createDecompressingWriter(OutputStream output) {
+      return new LZ4DecompressingWriter(output);
+   }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reads an input stream and returns its LZ4 compressed form.
+ * <p>
+ * As {@link org.apache.activemq.artemis.utils.DeflaterReader}, except the last effective read this stream always
+ * fills the buffer.
+ * Not for concurrent use.
+ */
+final class LZ4CompressingReader extends InputStream {
+
+   private final InputStream input;
+
+   private final AtomicLong bytesRead;
+
+   private final byte[] rawBuffer = new byte[LZ4.BLOCK_SIZE];
+
+   private final byte[] blockBuffer = new byte[LZ4.HEADER_SIZE + LZ4.maxCompressedLength(LZ4.BLOCK_SIZE)];
+
+   private final int[] hashTable = LZ4.newHashTable();
+
+   private int blockPosition;
+
+   private int blockLimit;
+
+   private boolean inputDone;
+
+   LZ4CompressingReader(final InputStream input, final AtomicLong bytesRead) {
+      this.input = input;
+      this.bytesRead = bytesRead;
+   }
+
+   @Override
+   public int read() throws IOException {
+      if (blockPosition == blockLimit && !nextBlock()) {
+         return -1;
+      }
+      return blockBuffer[blockPosition++] & 0xFF;
+   }
+
+   @Override
+   public int read(final byte[] buffer, int offset, int len) throws IOException {
+      int read = 0;
+      while (len > 0) {
+         if (blockPosition == blockLimit && !nextBlock()) {
+            break;
+         }
+         final int n = Math.min(len, blockLimit - blockPosition);
+         System.arraycopy(blockBuffer, blockPosition, buffer, offset, n);
+         blockPosition += n;
+         offset += n;
+         len -= n;
+         read += n;
+      }
+      return read == 0 && len > 0 ? -1 : read;
+   }
+
+   @Override
+   public void close() throws IOException {
+      input.close();
+   }
+
+   private boolean nextBlock() throws IOException {
+      if (inputDone) {
+         return false;
+      }
+      int length = 0;
+      while (length < rawBuffer.length) {
+         final int n = input.read(rawBuffer, length, rawBuffer.length - length);
+         if (n == -1) {
+            inputDone = true;
+            break;
+         }
+         length += n;
+      }
+      if (length == 0) {
+         return false;
+      }
+      if (bytesRead != null) {
+         bytesRead.addAndGet(length);
+      }
+      blockPosition = 0;
+      blockLimit = LZ4.compressBlock(rawBuffer, 0, length, blockBuffer, hashTable);
+      return true;
+   }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils.compression;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads an LZ4 compressed input stream and returns its uncompressed form.
+ * Not for concurrent use.
+ */
+final class LZ4DecompressingReader extends InputStream {
+
+   private final InputStream input;
+
+   private final byte[] header = new byte[LZ4.HEADER_SIZE];
+
+   private final byte[] payload = new byte[LZ4.maxCompressedLength(LZ4.BLOCK_SIZE)];
+
+   private final byte[] rawBuffer = new byte[LZ4.BLOCK_SIZE];
+
+   private int rawPosition;
+
+   private int rawLimit;
+
+   LZ4DecompressingReader(final InputStream input) {
+      this.input = input;
+   }
+
+   @Override
+   public int read() throws IOException {
+      if (rawPosition == rawLimit && !nextBlock()) {
+         return -1;
+      }
+      return rawBuffer[rawPosition++] & 0xFF;
+   }
+
+   @Override
+   public int read(final byte[] buffer, final int offset, final int len) throws IOException {
+      if (len == 0) {
+         return 0;
+      }
+      if (rawPosition == rawLimit && !nextBlock()) {
+         return -1;
+      }
+      final int n = Math.min(len, rawLimit - rawPosition);
+      System.arraycopy(rawBuffer, rawPosition, buffer, offset, n);
+      rawPosition += n;
+      return n;
+   }
+
+   @Override
+   public int available() {
+      return rawLimit - rawPosition;
+   }
+
+   @Override
+   public void close() throws IOException {
+      input.close();
+   }
+
+   private boolean nextBlock() throws IOException {
+      if (!readFully(header, LZ4.HEADER_SIZE, true)) {
+         return false;
+      }
+      final int storedLength = LZ4.storedLength(header);
+      readFully(payload, storedLength, false);
+      rawPosition = 0;
+      rawLimit = LZ4.decompressBlock(header, payload, storedLength, rawBuffer);
+      return true;
+   }
+
+   private boolean readFully(final byte[] buffer, final int length, final boolean eofAllowed) throws IOException {
+      int read = 0;
+      while (read < length) {
+         final int n = input.read(buffer, read, length - read);
+         if (n == -1) {
+            if (read == 0 && eofAllowed) {
+               return false;
+            }
+            throw new EOFException("Truncated LZ4 compressed data");
+         }
+         read += n;
+      }
+      return true;
+   }
+}
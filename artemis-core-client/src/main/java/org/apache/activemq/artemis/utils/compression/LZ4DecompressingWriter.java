@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * LZ4 compressed bytes are written into this stream, which writes their uncompressed form to the output stream.
+ * Not for concurrent use.
+ */
+final class LZ4DecompressingWriter extends OutputStream {
+
+   private final OutputStream output;
+
+   private final byte[] header = new byte[LZ4.HEADER_SIZE];
+
+   private final byte[] payload = new byte[LZ4.maxCompressedLength(LZ4.BLOCK_SIZE)];
+
+   private final byte[] rawBuffer = new byte[LZ4.BLOCK_SIZE];
+
+   private int headerPosition;
+
+   private int payloadPosition;
+
+   /**
+    * -1 while the header of the next block is being written
+    */
+   private int storedLength = -1;
+
+   LZ4DecompressingWriter(final OutputStream output) {
+      this.output = output;
+   }
+
+   @Override
+   public void write(final int b) throws IOException {
+      write(new byte[]{(byte) b}, 0, 1);
+   }
+
+   @Override
+   public void write(final byte[] buffer, int offset, int len) throws IOException {
+      while (len > 0) {
+         final int n;
+         if (storedLength < 0) {
+            n = Math.min(len, LZ4.HEADER_SIZE - headerPosition);
+            System.arraycopy(buffer, offset, header, headerPosition, n);
+            headerPosition += n;
+            if (headerPosition == LZ4.HEADER_SIZE) {
+               storedLength = LZ4.storedLength(header);
+               payloadPosition = 0;
+            }
+         } else {
+            n = Math.min(len, storedLength - payloadPosition);
+            System.arraycopy(buffer, offset, payload, payloadPosition, n);
+            payloadPosition += n;
+         }
+         offset += n;
+         len -= n;
+         if (storedLength >= 0 && payloadPosition == storedLength) {
+            output.write(rawBuffer, 0, LZ4.decompressBlock(header, payload, storedLength, rawBuffer));
+            headerPosition = 0;
+            storedLength = -1;
+         }
+      }
+   }
+
+   @Override
+   public void close() throws IOException {
+      try {
+         if (headerPosition > 0) {
+            throw new IOException("Truncated LZ4 compressed data");
+         }
+      } finally {
+         output.close();
+      }
+   }
+}
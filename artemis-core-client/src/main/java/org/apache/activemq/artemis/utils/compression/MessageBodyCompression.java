@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.utils.compression;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.api.core.ICoreMessage;
+import org.apache.activemq.artemis.api.core.Message;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.utils.ActiveMQBufferInputStream;
+
+/**
+ * Compresses the body of regular (non large) core messages.
+ * <p>
+ * A compressed message is flagged as {@link Message#HDR_LARGE_COMPRESSED} with its original body size in
+ * {@link Message#HDR_LARGE_BODY_SIZE}, just as a compressed large message that turned out to be smaller than
+ * min-large-message-size: it is routed, journaled, paged and replicated in that form and consumers only
+ * decompress it when they read its body.
+ */
+public final class MessageBodyCompression {
+
+   private MessageBodyCompression() {
+   }
+
+   /**
+    * Compresses the body of {@code message} in place.
+    *
+    * @param minSize bodies smaller than this are left alone
+    * @return {@code true} if the body was replaced by its compressed form
+    */
+   public static boolean compressBody(ICoreMessage message, CompressionCodec codec, int minSize) throws IOException {
+      if (!isCompressible(message)) {
+         return false;
+      }
+      ActiveMQBuffer body = message.getReadOnlyBodyBuffer();
+      int bodySize = body.readableBytes();
+      if (bodySize < minSize) {
+         return false;
+      }
+      byte[] compressed = compress(body, codec);
+      if (compressed == null) {
+         return false;
+      }
+      setCompressedBody(message, compressed, bodySize, codec);
+      return true;
+   }
+
+   /**
+    * As {@link #compressBody(ICoreMessage, CompressionCodec, int)} but leaving {@code message} untouched.
+    *
+    * @return a copy of {@code message} with a compressed body, or {@code message} when it isn't worth compressing
+    */
+   public static ICoreMessage compressedCopy(ICoreMessage message, CompressionCodec codec, int minSize) throws IOException {
+      if (!isCompressible(message)) {
+         return message;
+      }
+      ActiveMQBuffer body = message.getReadOnlyBodyBuffer();
+      int bodySize = body.readableBytes();
+      if (bodySize < minSize) {
+         return message;
+      }
+      byte[] compressed = compress(body, codec);
+      if (compressed == null) {
+         return message;
+      }
+      ICoreMessage copy = (ICoreMessage) message.copy();
+      setCompressedBody(copy, compressed, bodySize, codec);
+      return copy;
+   }
+
+   /**
+    * @return whether the body of {@code message} was compressed by this class, or it is a compressed large message
+    * that turned out to be smaller than min-large-message-size
+    */
+   public static boolean isCompressed(ICoreMessage message) {
+      return !message.isLargeMessage() && message.containsProperty(Message.HDR_LARGE_COMPRESSED) &&
+         message.getBooleanProperty(Message.HDR_LARGE_COMPRESSED);
+   }
+
+   /**
+    * Only the core client decompresses message bodies, protocols converting core messages must convert this copy.
+    *
+    * @return a copy of {@code message} with its original body, or {@code message} when it isn't compressed
+    */
+   public static ICoreMessage decompressedCopy(ICoreMessage message) throws IOException {
+      if (!isCompressed(message)) {
+         return message;
+      }
+      CompressionCodec codec = CompressionCodecs.getCodec(message.getSimpleStringProperty(Message.HDR_COMPRESSION_CODEC));
+      byte[] body = new byte[message.getLongProperty(Message.HDR_LARGE_BODY_SIZE).intValue()];
+      try (DataInputStream input = new DataInputStream(codec.createDecompressingReader(new ActiveMQBufferInputStream(message.getReadOnlyBodyBuffer())))) {
+         input.readFully(body);
+      }
+      ICoreMessage copy = (ICoreMessage) message.copy();
+      ActiveMQBuffer buffer = copy.getBodyBuffer();
+      buffer.resetReaderIndex();
+      buffer.resetWriterIndex();
+      buffer.writeBytes(body);
+      copy.removeProperty(Message.HDR_LARGE_COMPRESSED);
+      copy.removeProperty(Message.HDR_LARGE_BODY_SIZE);
+      copy.removeProperty(Message.HDR_COMPRESSION_CODEC);
+      return copy;
+   }
+
+   private static boolean isCompressible(ICoreMessage message) {
+      return !message.isLargeMessage() && message.getBodyInputStream() == null && !message.containsProperty(Message.HDR_LARGE_COMPRESSED);
+   }
+
+   /**
+    * @return the compressed body, {@code null} if it wouldn't be smaller
+    */
+   private static byte[] compress(ActiveMQBuffer body, CompressionCodec codec) throws IOException {
+      final int bodySize = body.readableBytes();
+      byte[] compressed = new byte[bodySize];
+      int length = 0;
+      try (InputStream input = codec.createCompressingReader(new ActiveMQBufferInputStream(body), null)) {
+         int n;
+         while (length < bodySize && (n = input.read(compressed, length, bodySize - length)) != -1) {
+            length += n;
+         }
+         if (length == bodySize) {
+            return null;
+         }
+      }
+      byte[] exact = new byte[length];
+      System.arraycopy(compressed, 0, exact, 0, length);
+      return exact;
+   }
+
+   private static void setCompressedBody(ICoreMessage message, byte[] compressed, int bodySize, CompressionCodec codec) {
+      ActiveMQBuffer buffer = message.getBodyBuffer();
+      buffer.resetReaderIndex();
+      buffer.resetWriterIndex();
+      buffer.writeBytes(compressed);
+      message.putBooleanProperty(Message.HDR_LARGE_COMPRESSED, true);
+      message.putLongProperty(Message.HDR_LARGE_BODY_SIZE, bodySize);
+      if (codec != CompressionCodecs.DEFLATE) {
+         message.putStringProperty(Message.HDR_COMPRESSION_CODEC, SimpleString.toSimpleString(codec.getName()));
+      }
+   }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.api.core.client.loadbalance;
+
+import org.apache.activemq.artemis.api.core.client.TopologyMember;
+import org.apache.activemq.artemis.core.client.impl.TopologyMemberImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LoadAwareConnectionLoadBalancingPolicyTest extends Assert {
+
+   private static final int SELECTIONS = 10000;
+
+   private final LoadAwareConnectionLoadBalancingPolicy policy = new LoadAwareConnectionLoadBalancingPolicy();
+
+   @Test
+   public void testLessLoadedMemberGetsMoreConnections() {
+      TopologyMember[] members = {member("idle", 10, 10), member("busy", 10, 90)};
+
+      int[] selected = select(members);
+
+      // the idle member is weighted 91 against 11 for the busy one
+      assertTrue("idle=" + selected[0] + ", busy=" + selected[1], selected[0] > selected[1] * 5);
+      assertTrue("busy=" + selected[1], selected[1] > 0);
+   }
+
+   @Test
+   public void testMemberWithFewerConnectionsGetsMoreConnections() {
+      TopologyMember[] members = {member("few", 1, 50), member("many", 99, 50)};
+
+      int[] selected = select(members);
+
+      assertTrue("few=" + selected[0] + ", many=" + selected[1], selected[0] > selected[1] * 20);
+   }
+
+   @Test
+   public void testSelectsAtRandomUntilEveryMemberAdvertisedItsLoad() {
+      TopologyMember[] members = {member("idle", 0, 0), new TopologyMemberImpl("unknown", null, null, null, null)};
+
+      int[] selected = select(members);
+
+      assertEquals(SELECTIONS / 2, selected[0], SELECTIONS / 10);
+   }
+
+   @Test
+   public void testWeight() {
+      assertEquals(101, LoadAwareConnectionLoadBalancingPolicy.weight(0, 0), 0);
+      assertEquals(1, LoadAwareConnectionLoadBalancingPolicy.weight(0, 100), 0);
+      assertEquals(0.5, LoadAwareConnectionLoadBalancingPolicy.weight(1, 100), 0);
+   }
+
+   private int[] select(TopologyMember[] members) {
+      int[] selected = new int[members.length];
+      for (int i = 0; i < SELECTIONS; i++) {
+         selected[policy.select(members)]++;
+      }
+      return selected;
+   }
+
+   private static TopologyMember member(String nodeID, int connectionCount, int load) {
+      TopologyMemberImpl member = new TopologyMemberImpl(nodeID, null, null, null, null);
+      member.setLoadHints(connectionCount, load);
+      return member;
+   }
+}
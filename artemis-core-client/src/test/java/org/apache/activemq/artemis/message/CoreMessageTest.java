@@ -17,17 +17,20 @@
 
 package org.apache.activemq.artemis.message;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffers;
+import org.apache.activemq.artemis.api.core.ICoreMessage;
 import org.apache.activemq.artemis.api.core.Message;
 import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.core.client.impl.ClientMessageImpl;
 import org.apache.activemq.artemis.core.message.impl.CoreMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.SessionReceiveMessage;
+import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.SessionSendBulkMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.SessionSendMessage;
 import org.apache.activemq.artemis.reader.TextMessageUtil;
 import org.apache.activemq.artemis.utils.Base64;
@@ -139,6 +142,38 @@ public class CoreMessageTest {
       Assert.assertEquals(TEXT, TextMessageUtil.readBodyText(sendMessageReceivedSent.getMessage().getReadOnlyBodyBuffer()).toString());
    }
 
+   /** Several messages are sent in a single packet, with the duplicate ID prefix of the batch */
+   @Test
+   public void sendThroughBulkPackets() {
+      CoreMessage decodedMessage = decodeMessage();
+
+      int encodeSize = decodedMessage.getEncodeSize();
+
+      SessionSendBulkMessage sendMessage = new SessionSendBulkMessage(Arrays.asList(decodedMessage, decodeMessage()), uuid.asBytes(), false, null);
+      sendMessage.setChannelID(777);
+
+      ActiveMQBuffer buffer = sendMessage.encode(null);
+
+      Assert.assertEquals(sendMessage.expectedEncodeSize(), buffer.writerIndex());
+
+      buffer.readerIndex(5);
+
+      SessionSendBulkMessage sendMessageReceivedSent = new SessionSendBulkMessage();
+
+      sendMessageReceivedSent.decode(buffer);
+
+      Assert.assertFalse(sendMessageReceivedSent.isRequiresResponse());
+
+      Assert.assertArrayEquals(uuid.asBytes(), sendMessageReceivedSent.getDuplicateIDPrefix());
+
+      Assert.assertEquals(2, sendMessageReceivedSent.getMessages().size());
+
+      for (ICoreMessage message : sendMessageReceivedSent.getMessages()) {
+         Assert.assertEquals(encodeSize, message.getEncodeSize());
+         Assert.assertEquals(TEXT, TextMessageUtil.readBodyText(message.getReadOnlyBodyBuffer()).toString());
+      }
+   }
+
    private CoreMessage decodeMessage() {
 
       ByteBuf newBuffer = Unpooled.buffer(BYTE_ENCODE.capacity());
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.message;
+
+import java.io.DataInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import org.apache.activemq.artemis.api.core.ICoreMessage;
+import org.apache.activemq.artemis.api.core.Message;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.message.impl.CoreMessage;
+import org.apache.activemq.artemis.utils.ActiveMQBufferInputStream;
+import org.apache.activemq.artemis.utils.compression.CompressionCodec;
+import org.apache.activemq.artemis.utils.compression.CompressionCodecs;
+import org.apache.activemq.artemis.utils.compression.MessageBodyCompression;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MessageBodyCompressionTest extends Assert {
+
+   @Test
+   public void testCompressBodyDeflate() throws Exception {
+      testCompressBody(CompressionCodecs.DEFLATE);
+   }
+
+   @Test
+   public void testCompressBodyLZ4() throws Exception {
+      testCompressBody(CompressionCodecs.LZ4);
+   }
+
+   @Test
+   public void testCompressedCopyLeavesOriginal() throws Exception {
+      byte[] body = json(20 * 1024);
+      CoreMessage message = newMessage(body);
+
+      ICoreMessage copy = MessageBodyCompression.compressedCopy(message, CompressionCodecs.LZ4, 1024);
+
+      assertNotSame(message, copy);
+      assertFalse(message.containsProperty(Message.HDR_LARGE_COMPRESSED));
+      assertArrayEquals(body, readBody(message));
+      assertArrayEquals(body, decompress(copy, CompressionCodecs.LZ4));
+   }
+
+   @Test
+   public void testDecompressedCopy() throws Exception {
+      byte[] body = json(20 * 1024);
+      CoreMessage message = newMessage(body);
+      message.putStringProperty("color", "blue");
+      assertSame(message, MessageBodyCompression.decompressedCopy(message));
+
+      assertTrue(MessageBodyCompression.compressBody(message, CompressionCodecs.LZ4, 1024));
+      ICoreMessage copy = MessageBodyCompression.decompressedCopy(message);
+
+      assertNotSame(message, copy);
+      assertArrayEquals(body, readBody(copy));
+      assertFalse(copy.containsProperty(Message.HDR_LARGE_COMPRESSED));
+      assertFalse(copy.containsProperty(Message.HDR_LARGE_BODY_SIZE));
+      assertFalse(copy.containsProperty(Message.HDR_COMPRESSION_CODEC));
+      assertEquals("blue", copy.getStringProperty("color"));
+      assertTrue(MessageBodyCompression.isCompressed(message));
+   }
+
+   @Test
+   public void testNotCompressed() throws Exception {
+      // below the minimum size
+      CoreMessage message = newMessage(json(1000));
+      assertFalse(MessageBodyCompression.compressBody(message, CompressionCodecs.LZ4, 1024));
+      assertSame(message, MessageBodyCompression.compressedCopy(message, CompressionCodecs.LZ4, 1024));
+
+      // compression wouldn't make it smaller
+      byte[] random = new byte[4096];
+      new Random(0).nextBytes(random);
+      message = newMessage(random);
+      assertFalse(MessageBodyCompression.compressBody(message, CompressionCodecs.LZ4, 1024));
+      assertArrayEquals(random, readBody(message));
+
+      // already compressed
+      message = newMessage(json(4096));
+      assertTrue(MessageBodyCompression.compressBody(message, CompressionCodecs.LZ4, 1024));
+      int compressedSize = message.getReadOnlyBodyBuffer().readableBytes();
+      assertFalse(MessageBodyCompression.compressBody(message, CompressionCodecs.LZ4, 0));
+      assertEquals(compressedSize, message.getReadOnlyBodyBuffer().readableBytes());
+   }
+
+   private void testCompressBody(CompressionCodec codec) throws Exception {
+      byte[] body = json(50 * 1024);
+      CoreMessage message = newMessage(body);
+      message.putStringProperty("color", "blue");
+
+      assertTrue(MessageBodyCompression.compressBody(message, codec, 1024));
+
+      assertTrue(message.getBooleanProperty(Message.HDR_LARGE_COMPRESSED));
+      assertEquals(body.length, message.getLongProperty(Message.HDR_LARGE_BODY_SIZE).longValue());
+      assertSame(codec, CompressionCodecs.getCodec(message.getSimpleStringProperty(Message.HDR_COMPRESSION_CODEC)));
+      assertEquals("blue", message.getStringProperty("color"));
+      assertTrue(message.getReadOnlyBodyBuffer().readableBytes() < body.length / 2);
+      assertArrayEquals(body, decompress(message, codec));
+   }
+
+   private static CoreMessage newMessage(byte[] body) {
+      CoreMessage message = new CoreMessage(1, body.length + 100);
+      message.setAddress(SimpleString.toSimpleString("test"));
+      message.getBodyBuffer().writeBytes(body);
+      return message;
+   }
+
+   private static byte[] readBody(ICoreMessage message) {
+      byte[] body = new byte[message.getReadOnlyBodyBuffer().readableBytes()];
+      message.getReadOnlyBodyBuffer().readBytes(body);
+      return body;
+   }
+
+   private static byte[] decompress(ICoreMessage message, CompressionCodec codec) throws Exception {
+      // the message goes through the wire, as the server and the consumer get it
+      ByteBuf wire = Unpooled.buffer(message.getEncodeSize());
+      message.sendBuffer(wire, 0);
+      CoreMessage received = new CoreMessage();
+      received.receiveBuffer(wire);
+
+      byte[] body = new byte[received.getLongProperty(Message.HDR_LARGE_BODY_SIZE).intValue()];
+      try (DataInputStream input = new DataInputStream(codec.createDecompressingReader(new ActiveMQBufferInputStream(received.getReadOnlyBodyBuffer())))) {
+         input.readFully(body);
+         assertEquals(-1, input.read());
+      }
+      return body;
+   }
+
+   private static byte[] json(int size) {
+      StringBuilder builder = new StringBuilder(size);
+      for (int i = 0; builder.length() < size; i++) {
+         builder.append("{\"id\":").append(i).append(",\"customer\":\"customer-").append(i % 97).append("\"}\n");
+      }
+      return builder.substring(0, size).getBytes(StandardCharsets.US_ASCII);
+   }
+}
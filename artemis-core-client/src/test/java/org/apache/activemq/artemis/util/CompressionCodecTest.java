@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.activemq.artemis.utils.compression.CompressionCodec;
+import org.apache.activemq.artemis.utils.compression.CompressionCodecs;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CompressionCodecTest extends Assert {
+
+   private static final int[] SIZES = {0, 1, 12, 13, 100, 64 * 1024 - 1, 64 * 1024, 64 * 1024 + 1, 1024 * 1024 + 17};
+
+   @Test
+   public void testLookup() {
+      assertSame(CompressionCodecs.DEFLATE, CompressionCodecs.getCodec((String) null));
+      assertSame(CompressionCodecs.DEFLATE, CompressionCodecs.getCodec("deflate"));
+      assertSame(CompressionCodecs.LZ4, CompressionCodecs.getCodec("lz4"));
+      assertTrue(CompressionCodecs.getNames().contains("lz4"));
+      try {
+         CompressionCodecs.getCodec("nope");
+         fail("unknown codec");
+      } catch (IllegalArgumentException expected) {
+      }
+   }
+
+   @Test
+   public void testDeflateRoundTrip() throws Exception {
+      testRoundTrip(CompressionCodecs.DEFLATE);
+   }
+
+   @Test
+   public void testLZ4RoundTrip() throws Exception {
+      testRoundTrip(CompressionCodecs.LZ4);
+   }
+
+   @Test
+   public void testLZ4CompressesText() throws Exception {
+      byte[] input = text(1024 * 1024);
+      byte[] compressed = compress(CompressionCodecs.LZ4, input, new AtomicLong());
+      assertTrue("compressed to " + compressed.length, compressed.length < input.length / 2);
+   }
+
+   @Test
+   public void testLZ4StoresIncompressibleData() throws Exception {
+      byte[] input = random(200 * 1024);
+      byte[] compressed = compress(CompressionCodecs.LZ4, input, new AtomicLong());
+      // 8 bytes of header per 64K block
+      assertEquals(input.length + 4 * 8, compressed.length);
+   }
+
+   @Test
+   public void testLZ4CompressingReaderFillsBuffer() throws Exception {
+      byte[] input = text(300 * 1024);
+      InputStream reader = CompressionCodecs.LZ4.createCompressingReader(new ByteArrayInputStream(input), new AtomicLong());
+      byte[] buffer = new byte[10 * 1024];
+      int reads = 0;
+      int n;
+      int last = -1;
+      while ((n = reader.read(buffer, 0, buffer.length)) != -1) {
+         if (last != -1) {
+            assertEquals(buffer.length, last);
+         }
+         last = n;
+         reads++;
+      }
+      assertTrue(reads > 1);
+   }
+
+   @Test
+   public void testLZ4CorruptedData() throws Exception {
+      byte[] compressed = compress(CompressionCodecs.LZ4, text(100 * 1024), new AtomicLong());
+      // truncated
+      byte[] truncated = new byte[compressed.length - 3];
+      System.arraycopy(compressed, 0, truncated, 0, truncated.length);
+      try {
+         readFully(CompressionCodecs.LZ4.createDecompressingReader(new ByteArrayInputStream(truncated)));
+         fail("truncated data");
+      } catch (IOException expected) {
+      }
+      try {
+         OutputStream writer = CompressionCodecs.LZ4.createDecompressingWriter(new ByteArrayOutputStream());
+         writer.write(truncated);
+         writer.close();
+         fail("truncated data");
+      } catch (IOException expected) {
+      }
+
+      // the first match offset points before the start of the block
+      byte[] bad = compressed.clone();
+      bad[8] = (byte) 0x00;
+      bad[9] = (byte) 0xFF;
+      bad[10] = (byte) 0xFF;
+      try {
+         readFully(CompressionCodecs.LZ4.createDecompressingReader(new ByteArrayInputStream(bad)));
+         fail("corrupted data");
+      } catch (IOException expected) {
+      }
+   }
+
+   private void testRoundTrip(CompressionCodec codec) throws Exception {
+      for (int size : SIZES) {
+         for (byte[] input : new byte[][]{text(size), random(size), new byte[size]}) {
+            AtomicLong bytesRead = new AtomicLong();
+            byte[] compressed = compress(codec, input, bytesRead);
+            assertEquals(input.length, bytesRead.get());
+
+            assertArrayEquals(input, readFully(codec.createDecompressingReader(new ByteArrayInputStream(compressed))));
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (OutputStream writer = codec.createDecompressingWriter(output)) {
+               // odd chunks so the blocks are split everywhere
+               for (int i = 0; i < compressed.length; i += 1000) {
+                  writer.write(compressed, i, Math.min(1000, compressed.length - i));
+               }
+            }
+            assertArrayEquals(input, output.toByteArray());
+         }
+      }
+   }
+
+   private static byte[] compress(CompressionCodec codec, byte[] input, AtomicLong bytesRead) throws IOException {
+      return readFully(codec.createCompressingReader(new ByteArrayInputStream(input), bytesRead));
+   }
+
+   private static byte[] readFully(InputStream input) throws IOException {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      byte[] buffer = new byte[4096];
+      int n;
+      while ((n = input.read(buffer, 0, buffer.length)) != -1) {
+         output.write(buffer, 0, n);
+      }
+      input.close();
+      return output.toByteArray();
+   }
+
+   private static byte[] text(int size) {
+      byte[] words = "the quick brown fox jumps over the lazy dog, and then again over the lazy cat! ".getBytes(StandardCharsets.US_ASCII);
+      Random random = new Random(size);
+      byte[] text = new byte[size];
+      for (int i = 0; i < size; ) {
+         int start = random.nextInt(words.length);
+         int length = Math.min(Math.min(size - i, words.length - start), 1 + random.nextInt(20));
+         System.arraycopy(words, start, text, i, length);
+         i += length;
+      }
+      return text;
+   }
+
+   private static byte[] random(int size) {
+      byte[] bytes = new byte[size];
+      new Random(size).nextBytes(bytes);
+      return bytes;
+   }
+}
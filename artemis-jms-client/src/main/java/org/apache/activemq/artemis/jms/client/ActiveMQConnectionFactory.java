@@ -735,6 +735,22 @@ public class ActiveMQConnectionFactory implements ConnectionFactoryOptions, Exte
       serverLocator.setCompressLargeMessage(avoidLargeMessages);
    }
 
+   public String getCompressionCodec() {
+      return serverLocator.getCompressionCodec();
+   }
+
+   public void setCompressionCodec(String compressionCodec) {
+      serverLocator.setCompressionCodec(compressionCodec);
+   }
+
+   public int getCompressMessageBodyMinSize() {
+      return serverLocator.getCompressMessageBodyMinSize();
+   }
+
+   public void setCompressMessageBodyMinSize(int compressMessageBodyMinSize) {
+      serverLocator.setCompressMessageBodyMinSize(compressMessageBodyMinSize);
+   }
+
    @Override
    public void close() {
       ServerLocator locator0 = serverLocator;
@@ -2043,6 +2043,14 @@ public class JournalImpl extends JournalBase implements TestableJournal, Journal
       return false;
    }
 
+   /**
+    * @return whether the journal is due to be compacted by its own compact-min-files and compact-percentage,
+    * {@code false} if compacting is disabled
+    */
+   public boolean isCompactNeeded() throws Exception {
+      return compactMinFiles != 0 && needsCompact();
+   }
+
    private boolean needsCompact() throws Exception {
       JournalFile[] dataFiles = getDataFiles();
 
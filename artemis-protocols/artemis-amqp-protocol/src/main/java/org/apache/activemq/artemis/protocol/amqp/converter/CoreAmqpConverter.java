@@ -49,6 +49,7 @@ import org.apache.activemq.artemis.protocol.amqp.exceptions.ActiveMQAMQPIllegalS
 import org.apache.activemq.artemis.protocol.amqp.util.NettyWritable;
 import org.apache.activemq.artemis.protocol.amqp.util.TLSEncode;
 import org.apache.activemq.artemis.reader.MessageUtil;
+import org.apache.activemq.artemis.utils.compression.MessageBodyCompression;
 import org.apache.qpid.proton.amqp.Binary;
 import org.apache.qpid.proton.amqp.Symbol;
 import org.apache.qpid.proton.amqp.UnsignedByte;
@@ -110,6 +111,9 @@ public class CoreAmqpConverter {
          return null;
       }
 
+      // AMQP carries the original body of a message sent compressed by a core client
+      coreMessage = MessageBodyCompression.decompressedCopy(coreMessage);
+
       ServerJMSMessage message = ServerJMSMessage.wrapCoreMessage(coreMessage);
       message.decode();
 
@@ -33,6 +33,7 @@ import org.apache.activemq.artemis.core.message.impl.CoreMessage;
 import org.apache.activemq.artemis.core.server.Queue;
 import org.apache.activemq.artemis.core.server.ServerConsumer;
 import org.apache.activemq.artemis.core.transaction.Transaction;
+import org.apache.activemq.artemis.utils.compression.MessageBodyCompression;
 import org.jboss.logging.Logger;
 
 import static org.apache.activemq.artemis.core.protocol.mqtt.MQTTUtil.MQTT_MESSAGE_RETAIN_KEY;
@@ -117,13 +118,15 @@ public class MQTTPublishManager {
          sendPubRelMessage(message);
       } else {
          int qos = decideQoS(message, consumer);
+         // MQTT clients can't decompress the body of a message sent compressed by a core client
+         CoreMessage delivered = (CoreMessage) MessageBodyCompression.decompressedCopy(message);
          if (qos == 0) {
-            sendServerMessage((int) message.getMessageID(),  message, deliveryCount, qos);
+            sendServerMessage((int) message.getMessageID(),  delivered, deliveryCount, qos);
             session.getServerSession().individualAcknowledge(consumer.getID(), message.getMessageID());
          } else if (qos == 1 || qos == 2) {
             int mqttid = outboundStore.generateMqttId(message.getMessageID(), consumer.getID());
             outboundStore.publish(mqttid, message.getMessageID(), consumer.getID());
-            sendServerMessage(mqttid, message, deliveryCount, qos);
+            sendServerMessage(mqttid, delivered, deliveryCount, qos);
          } else {
             // Client must have disconnected and it's Subscription QoS cleared
             consumer.individualCancel(message.getMessageID(), false);
@@ -16,6 +16,7 @@
  */
 package org.apache.activemq.artemis.core.protocol.stomp;
 
+import java.io.DataInputStream;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -23,7 +24,6 @@ import java.util.Set;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingDeque;
-import java.util.zip.Inflater;
 
 import io.netty.buffer.UnpooledByteBufAllocator;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
@@ -47,10 +47,12 @@ import org.apache.activemq.artemis.core.server.impl.ServerSessionImpl;
 import org.apache.activemq.artemis.spi.core.protocol.RemotingConnection;
 import org.apache.activemq.artemis.spi.core.protocol.SessionCallback;
 import org.apache.activemq.artemis.spi.core.remoting.ReadyListener;
-import org.apache.activemq.artemis.utils.ByteUtil;
+import org.apache.activemq.artemis.utils.ActiveMQBufferInputStream;
 import org.apache.activemq.artemis.utils.ConfigurationHelper;
 import org.apache.activemq.artemis.utils.PendingTask;
 import org.apache.activemq.artemis.utils.UUIDGenerator;
+import org.apache.activemq.artemis.utils.compression.CompressionCodec;
+import org.apache.activemq.artemis.utils.compression.CompressionCodecs;
 
 import static org.apache.activemq.artemis.core.protocol.stomp.ActiveMQStompProtocolMessageBundle.BUNDLE;
 
@@ -154,22 +156,19 @@ public class StompSession implements SessionCallback {
             buffer = coreMessage.getReadOnlyBodyBuffer();
          }
 
+         CompressionCodec codec = null;
          if (serverMessage.getBooleanProperty(Message.HDR_LARGE_COMPRESSED)) {
-            ActiveMQBuffer qbuff = buffer;
-            int bytesToRead = qbuff.readerIndex();
-            Inflater inflater = new Inflater();
-            inflater.setInput(ByteUtil.getActiveArray(qbuff.readBytes(bytesToRead).toByteBuffer()));
-
-            //get the real size of large message
-            long sizeBody = newServerMessage.getLongProperty(Message.HDR_LARGE_BODY_SIZE);
-
-            byte[] data = new byte[(int) sizeBody];
-            inflater.inflate(data);
-            inflater.end();
-            qbuff.resetReaderIndex();
-            qbuff.resetWriterIndex();
-            qbuff.writeBytes(data);
-            buffer = qbuff;
+            codec = CompressionCodecs.getCodec(serverMessage.getSimpleStringProperty(Message.HDR_COMPRESSION_CODEC));
+         }
+
+         if (codec != null) {
+            // the body was compressed by a core client, or by the broker for a core client
+            byte[] data = new byte[(int) newServerMessage.getLongProperty(Message.HDR_LARGE_BODY_SIZE).longValue()];
+            try (DataInputStream input = new DataInputStream(codec.createDecompressingReader(new ActiveMQBufferInputStream(buffer)))) {
+               input.readFully(data);
+            }
+            buffer = new ChannelBufferWrapper(UnpooledByteBufAllocator.DEFAULT.heapBuffer(data.length));
+            buffer.writeBytes(data);
          }
 
          frame = connection.createStompMessage(newServerMessage, buffer, subscription, deliveryCount);
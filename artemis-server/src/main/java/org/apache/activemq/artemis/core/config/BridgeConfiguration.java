@@ -71,6 +71,8 @@ public final class BridgeConfiguration implements Serializable {
 
    private int minLargeMessageSize = ActiveMQClient.DEFAULT_MIN_LARGE_MESSAGE_SIZE;
 
+   private int concurrency = ActiveMQDefaultConfiguration.getDefaultBridgeConcurrency();
+
    // At this point this is only changed on testcases
    // The bridge shouldn't be sending blocking anyways
    private long callTimeout = ActiveMQClient.DEFAULT_CALL_TIMEOUT;
@@ -303,6 +305,23 @@ public final class BridgeConfiguration implements Serializable {
       return this;
    }
 
+   /**
+    * @return the number of parallel connections (lanes) the bridge forwards messages over
+    */
+   public int getConcurrency() {
+      return concurrency;
+   }
+
+   /**
+    * Messages sharing a group ID are always forwarded over the same lane, so their relative order is kept.
+    *
+    * @param concurrency the number of parallel connections (lanes) the bridge forwards messages over
+    */
+   public BridgeConfiguration setConcurrency(int concurrency) {
+      this.concurrency = concurrency;
+      return this;
+   }
+
    public String getUser() {
       return user;
    }
@@ -363,6 +382,7 @@ public final class BridgeConfiguration implements Serializable {
       result = prime * result + (ha ? 1231 : 1237);
       result = prime * result + (int) (maxRetryInterval ^ (maxRetryInterval >>> 32));
       result = prime * result + minLargeMessageSize;
+      result = prime * result + concurrency;
       result = prime * result + ((name == null) ? 0 : name.hashCode());
       result = prime * result + ((password == null) ? 0 : password.hashCode());
       result = prime * result + ((queueName == null) ? 0 : queueName.hashCode());
@@ -419,6 +439,8 @@ public final class BridgeConfiguration implements Serializable {
          return false;
       if (minLargeMessageSize != other.minLargeMessageSize)
          return false;
+      if (concurrency != other.concurrency)
+         return false;
       if (name == null) {
          if (other.name != null)
             return false;
@@ -83,6 +83,12 @@ public final class ClusterConnectionConfiguration implements Serializable {
 
    private int clusterNotificationAttempts = ActiveMQDefaultConfiguration.getDefaultClusterNotificationAttempts();
 
+   private long loadNotificationInterval = ActiveMQDefaultConfiguration.getDefaultClusterLoadNotificationInterval();
+
+   private long topologyLoadHintInterval = ActiveMQDefaultConfiguration.getDefaultClusterTopologyLoadHintInterval();
+
+   private int storeAndForwardBatchSize = ActiveMQDefaultConfiguration.getDefaultClusterStoreAndForwardBatchSize();
+
    public ClusterConnectionConfiguration() {
    }
 
@@ -368,6 +374,45 @@ public final class ClusterConnectionConfiguration implements Serializable {
       return this;
    }
 
+   /**
+    * how often the load of local queues is reported to the cluster when using
+    * {@link MessageLoadBalancingType#LOAD_AWARE}
+    */
+   public long getLoadNotificationInterval() {
+      return loadNotificationInterval;
+   }
+
+   public ClusterConnectionConfiguration setLoadNotificationInterval(long loadNotificationInterval) {
+      this.loadNotificationInterval = loadNotificationInterval;
+      return this;
+   }
+
+   /**
+    * how often the connection count and the load of the server are advertised to clients in the topology,
+    * -1 means never
+    */
+   public long getTopologyLoadHintInterval() {
+      return topologyLoadHintInterval;
+   }
+
+   public ClusterConnectionConfiguration setTopologyLoadHintInterval(long topologyLoadHintInterval) {
+      this.topologyLoadHintInterval = topologyLoadHintInterval;
+      return this;
+   }
+
+   /**
+    * how many messages the bridges of this cluster connection send at once, their targets routing each batch in a
+    * single transaction, 1 means one by one
+    */
+   public int getStoreAndForwardBatchSize() {
+      return storeAndForwardBatchSize;
+   }
+
+   public ClusterConnectionConfiguration setStoreAndForwardBatchSize(int storeAndForwardBatchSize) {
+      this.storeAndForwardBatchSize = storeAndForwardBatchSize;
+      return this;
+   }
+
    /**
     * This method will match the configuration and return the proper TransportConfiguration for the Configuration
     */
@@ -436,6 +481,9 @@ public final class ClusterConnectionConfiguration implements Serializable {
       result = prime * result + (int) (clusterNotificationInterval ^ (clusterNotificationInterval >>> 32));
       result = prime * result + confirmationWindowSize;
       result = prime * result + (int) (connectionTTL ^ (connectionTTL >>> 32));
+      result = prime * result + (int) (loadNotificationInterval ^ (loadNotificationInterval >>> 32));
+      result = prime * result + (int) (topologyLoadHintInterval ^ (topologyLoadHintInterval >>> 32));
+      result = prime * result + storeAndForwardBatchSize;
       result = prime * result + ((connectorName == null) ? 0 : connectorName.hashCode());
       result = prime * result + ((discoveryGroupName == null) ? 0 : discoveryGroupName.hashCode());
       result = prime * result + (duplicateDetection ? 1231 : 1237);
@@ -497,6 +545,15 @@ public final class ClusterConnectionConfiguration implements Serializable {
       if (connectionTTL != other.connectionTTL) {
          return false;
       }
+      if (loadNotificationInterval != other.loadNotificationInterval) {
+         return false;
+      }
+      if (topologyLoadHintInterval != other.topologyLoadHintInterval) {
+         return false;
+      }
+      if (storeAndForwardBatchSize != other.storeAndForwardBatchSize) {
+         return false;
+      }
       if (connectorName == null) {
          if (other.connectorName != null) {
             return false;
@@ -581,6 +638,9 @@ public final class ClusterConnectionConfiguration implements Serializable {
          ", minLargeMessageSize=" + minLargeMessageSize +
          ", clusterNotificationInterval=" + clusterNotificationInterval +
          ", clusterNotificationAttempts=" + clusterNotificationAttempts +
+         ", loadNotificationInterval=" + loadNotificationInterval +
+         ", topologyLoadHintInterval=" + topologyLoadHintInterval +
+         ", storeAndForwardBatchSize=" + storeAndForwardBatchSize +
          '}';
    }
 }
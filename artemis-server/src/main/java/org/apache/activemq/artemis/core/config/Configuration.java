@@ -572,6 +572,89 @@ public interface Configuration {
     */
    Configuration setPageMaxConcurrentIO(int maxIO);
 
+   /**
+    * How many page files are read ahead, on the IO executor, of a page subscription moving to a new page.
+    * <p>
+    * Default value is {@link org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration#DEFAULT_PAGE_READ_AHEAD}.
+    */
+   int getPageReadAhead();
+
+   /**
+    * How many page files are read ahead of a page subscription moving to a new page, 0 disables read-ahead.
+    * <p>
+    * Default = 0
+    */
+   Configuration setPageReadAhead(int pages);
+
+   /**
+    * The max number of bytes of page files read ahead and not consumed yet, shared by all addresses.
+    * <p>
+    * Default value is {@link org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration#DEFAULT_PAGE_READ_AHEAD_MAX_BYTES}.
+    */
+   long getPageReadAheadMaxBytes();
+
+   /**
+    * The max number of bytes of page files read ahead and not consumed yet, shared by all addresses.
+    */
+   Configuration setPageReadAheadMaxBytes(long maxBytes);
+
+   /**
+    * The percentage of a page file taken by messages acknowledged by every subscription before the page is
+    * rewritten without them.
+    * <p>
+    * Default value is {@link org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration#DEFAULT_PAGE_COMPACT_PERCENTAGE}.
+    */
+   int getPageCompactPercentage();
+
+   /**
+    * The percentage of a page file taken by messages acknowledged by every subscription before the page is
+    * rewritten without them, 0 disables page compaction.
+    * <p>
+    * Default = 0
+    */
+   Configuration setPageCompactPercentage(int percentage);
+
+   /**
+    * The size in bytes of the buffer batching the writes of the current page file of each address.
+    * <p>
+    * Default value is {@link org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration#DEFAULT_PAGE_WRITE_BUFFER_SIZE}.
+    */
+   int getPageWriteBufferSize();
+
+   /**
+    * The size in bytes of the buffer batching the writes of the current page file of each address, 0 writes every
+    * paged message directly to the page file.
+    * <p>
+    * Default = 0
+    */
+   Configuration setPageWriteBufferSize(int size);
+
+   /**
+    * Whether the batches written through the page write buffer are compressed.
+    * <p>
+    * Default value is {@link org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration#DEFAULT_PAGE_COMPRESSION_ENABLED}.
+    */
+   boolean isPageCompressionEnabled();
+
+   /**
+    * Sets whether the batches written through the page write buffer are compressed, it has no effect if
+    * {@link #getPageWriteBufferSize()} is 0.
+    */
+   Configuration setPageCompressionEnabled(boolean enabled);
+
+   /**
+    * Returns the max number of bytes of page files kept mapped to be read again, shared by all addresses.
+    * <p>
+    * Default value is {@link org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration#DEFAULT_PAGE_MAPPING_MAX_BYTES}.
+    */
+   long getPageMappingMaxBytes();
+
+   /**
+    * Sets the max number of bytes of page files kept mapped to be read again, 0 maps page files only while reading
+    * them.
+    */
+   Configuration setPageMappingMaxBytes(long bytes);
+
    /**
     * Returns the file system directory used to store journal log. <br>
     * Default value is {@link org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration#DEFAULT_JOURNAL_DIR}.
@@ -1072,6 +1155,16 @@ public interface Configuration {
 
    Configuration setGlobalMaxSize(long globalMaxSize);
 
+   /**
+    * The percentage of the global max size kept for the addresses consumed the fastest: the other addresses using
+    * the {@code PAGE} policy start paging once the global size goes over the rest of it.
+    * <p>
+    * Default value is {@link org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration#DEFAULT_GLOBAL_MAX_SIZE_HOT_PERCENTAGE}.
+    */
+   int getGlobalMaxSizeHotPercentage();
+
+   Configuration setGlobalMaxSizeHotPercentage(int percentage);
+
    int getMaxDiskUsage();
 
    Configuration setMaxDiskUsage(int maxDiskUsage);
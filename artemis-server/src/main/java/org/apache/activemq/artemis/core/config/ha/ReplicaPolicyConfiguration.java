@@ -43,6 +43,10 @@ public class ReplicaPolicyConfiguration implements HAPolicyConfiguration {
 
    private int quorumSize = ActiveMQDefaultConfiguration.getDefaultQuorumSize();
 
+   private long liveHeartbeatPeriod = ActiveMQDefaultConfiguration.getDefaultLiveHeartbeatPeriod();
+
+   private double liveHeartbeatPhiThreshold = ActiveMQDefaultConfiguration.getDefaultLiveHeartbeatPhiThreshold();
+
    public ReplicaPolicyConfiguration() {
    }
 
@@ -139,4 +143,22 @@ public class ReplicaPolicyConfiguration implements HAPolicyConfiguration {
    public void setQuorumSize(int quorumSize) {
       this.quorumSize = quorumSize;
    }
+
+   public long getLiveHeartbeatPeriod() {
+      return liveHeartbeatPeriod;
+   }
+
+   public ReplicaPolicyConfiguration setLiveHeartbeatPeriod(long liveHeartbeatPeriod) {
+      this.liveHeartbeatPeriod = liveHeartbeatPeriod;
+      return this;
+   }
+
+   public double getLiveHeartbeatPhiThreshold() {
+      return liveHeartbeatPhiThreshold;
+   }
+
+   public ReplicaPolicyConfiguration setLiveHeartbeatPhiThreshold(double liveHeartbeatPhiThreshold) {
+      this.liveHeartbeatPhiThreshold = liveHeartbeatPhiThreshold;
+      return this;
+   }
 }
@@ -33,6 +33,12 @@ public class ReplicatedPolicyConfiguration implements HAPolicyConfiguration {
 
    private int quorumSize = ActiveMQDefaultConfiguration.getDefaultQuorumSize();
 
+   private int replicationBatchSize = ActiveMQDefaultConfiguration.getDefaultReplicationBatchSize();
+
+   private String replicationCompressionCodec = null;
+
+   private int initialReplicationSyncParallelism = ActiveMQDefaultConfiguration.getDefaultInitialReplicationSyncParallelism();
+
    public ReplicatedPolicyConfiguration() {
    }
 
@@ -91,4 +97,31 @@ public class ReplicatedPolicyConfiguration implements HAPolicyConfiguration {
    public void setQuorumSize(int quorumSize) {
       this.quorumSize = quorumSize;
    }
+
+   public int getReplicationBatchSize() {
+      return replicationBatchSize;
+   }
+
+   public ReplicatedPolicyConfiguration setReplicationBatchSize(int replicationBatchSize) {
+      this.replicationBatchSize = replicationBatchSize;
+      return this;
+   }
+
+   public String getReplicationCompressionCodec() {
+      return replicationCompressionCodec;
+   }
+
+   public ReplicatedPolicyConfiguration setReplicationCompressionCodec(String replicationCompressionCodec) {
+      this.replicationCompressionCodec = replicationCompressionCodec;
+      return this;
+   }
+
+   public int getInitialReplicationSyncParallelism() {
+      return initialReplicationSyncParallelism;
+   }
+
+   public ReplicatedPolicyConfiguration setInitialReplicationSyncParallelism(int initialReplicationSyncParallelism) {
+      this.initialReplicationSyncParallelism = initialReplicationSyncParallelism;
+      return this;
+   }
 }
@@ -159,6 +159,18 @@ public class ConfigurationImpl implements Configuration, Serializable {
 
    private int maxConcurrentPageIO = ActiveMQDefaultConfiguration.getDefaultMaxConcurrentPageIo();
 
+   private int pageReadAhead = ActiveMQDefaultConfiguration.getDefaultPageReadAhead();
+
+   private long pageReadAheadMaxBytes = ActiveMQDefaultConfiguration.getDefaultPageReadAheadMaxBytes();
+
+   private int pageCompactPercentage = ActiveMQDefaultConfiguration.getDefaultPageCompactPercentage();
+
+   private int pageWriteBufferSize = ActiveMQDefaultConfiguration.getDefaultPageWriteBufferSize();
+
+   private boolean pageCompressionEnabled = ActiveMQDefaultConfiguration.isDefaultPageCompressionEnabled();
+
+   private long pageMappingMaxBytes = ActiveMQDefaultConfiguration.getDefaultPageMappingMaxBytes();
+
    protected String largeMessagesDirectory = ActiveMQDefaultConfiguration.getDefaultLargeMessagesDir();
 
    protected String bindingsDirectory = ActiveMQDefaultConfiguration.getDefaultBindingsDirectory();
@@ -270,6 +282,8 @@ public class ConfigurationImpl implements Configuration, Serializable {
 
    private Long globalMaxSize;
 
+   private int globalMaxSizeHotPercentage = ActiveMQDefaultConfiguration.getDefaultGlobalMaxSizeHotPercentage();
+
    private boolean amqpUseCoreSubscriptionNaming = ActiveMQDefaultConfiguration.getDefaultAmqpUseCoreSubscriptionNaming();
 
    private int maxDiskUsage = ActiveMQDefaultConfiguration.getDefaultMaxDiskUsage();
@@ -385,6 +399,17 @@ public class ConfigurationImpl implements Configuration, Serializable {
       return globalMaxSize;
    }
 
+   @Override
+   public int getGlobalMaxSizeHotPercentage() {
+      return globalMaxSizeHotPercentage;
+   }
+
+   @Override
+   public ConfigurationImpl setGlobalMaxSizeHotPercentage(int percentage) {
+      this.globalMaxSizeHotPercentage = percentage;
+      return this;
+   }
+
    @Override
    public ConfigurationImpl setPersistenceEnabled(final boolean enable) {
       persistenceEnabled = enable;
@@ -777,6 +802,72 @@ public class ConfigurationImpl implements Configuration, Serializable {
       return this;
    }
 
+   @Override
+   public int getPageReadAhead() {
+      return pageReadAhead;
+   }
+
+   @Override
+   public ConfigurationImpl setPageReadAhead(int pages) {
+      this.pageReadAhead = pages;
+      return this;
+   }
+
+   @Override
+   public long getPageReadAheadMaxBytes() {
+      return pageReadAheadMaxBytes;
+   }
+
+   @Override
+   public ConfigurationImpl setPageReadAheadMaxBytes(long maxBytes) {
+      this.pageReadAheadMaxBytes = maxBytes;
+      return this;
+   }
+
+   @Override
+   public int getPageCompactPercentage() {
+      return pageCompactPercentage;
+   }
+
+   @Override
+   public ConfigurationImpl setPageCompactPercentage(int percentage) {
+      this.pageCompactPercentage = percentage;
+      return this;
+   }
+
+   @Override
+   public int getPageWriteBufferSize() {
+      return pageWriteBufferSize;
+   }
+
+   @Override
+   public ConfigurationImpl setPageWriteBufferSize(int size) {
+      this.pageWriteBufferSize = size;
+      return this;
+   }
+
+   @Override
+   public boolean isPageCompressionEnabled() {
+      return pageCompressionEnabled;
+   }
+
+   @Override
+   public ConfigurationImpl setPageCompressionEnabled(boolean enabled) {
+      this.pageCompressionEnabled = enabled;
+      return this;
+   }
+
+   @Override
+   public long getPageMappingMaxBytes() {
+      return pageMappingMaxBytes;
+   }
+
+   @Override
+   public ConfigurationImpl setPageMappingMaxBytes(long bytes) {
+      this.pageMappingMaxBytes = bytes;
+      return this;
+   }
+
    @Override
    public File getJournalLocation() {
       return subFolder(getJournalDirectory());
@@ -1622,6 +1713,12 @@ public class ConfigurationImpl implements Configuration, Serializable {
       result = prime * result + ((managementNotificationAddress == null) ? 0 : managementNotificationAddress.hashCode());
       result = prime * result + (maskPassword ? 1231 : 1237);
       result = prime * result + maxConcurrentPageIO;
+      result = prime * result + pageReadAhead;
+      result = prime * result + (int) (pageReadAheadMaxBytes ^ (pageReadAheadMaxBytes >>> 32));
+      result = prime * result + pageCompactPercentage;
+      result = prime * result + pageWriteBufferSize;
+      result = prime * result + (pageCompressionEnabled ? 1231 : 1237);
+      result = prime * result + (int) (pageMappingMaxBytes ^ (pageMappingMaxBytes >>> 32));
       result = prime * result + (int) (memoryMeasureInterval ^ (memoryMeasureInterval >>> 32));
       result = prime * result + memoryWarningThreshold;
       result = prime * result + (messageCounterEnabled ? 1231 : 1237);
@@ -1805,6 +1902,18 @@ public class ConfigurationImpl implements Configuration, Serializable {
          return false;
       if (maxConcurrentPageIO != other.maxConcurrentPageIO)
          return false;
+      if (pageReadAhead != other.pageReadAhead)
+         return false;
+      if (pageReadAheadMaxBytes != other.pageReadAheadMaxBytes)
+         return false;
+      if (pageCompactPercentage != other.pageCompactPercentage)
+         return false;
+      if (pageWriteBufferSize != other.pageWriteBufferSize)
+         return false;
+      if (pageCompressionEnabled != other.pageCompressionEnabled)
+         return false;
+      if (pageMappingMaxBytes != other.pageMappingMaxBytes)
+         return false;
       if (memoryMeasureInterval != other.memoryMeasureInterval)
          return false;
       if (memoryWarningThreshold != other.memoryWarningThreshold)
@@ -1884,6 +1993,9 @@ public class ConfigurationImpl implements Configuration, Serializable {
       if (globalMaxSize != null && !globalMaxSize.equals(other.globalMaxSize)) {
          return false;
       }
+      if (globalMaxSizeHotPercentage != other.globalMaxSizeHotPercentage) {
+         return false;
+      }
       if (maxDiskUsage != other.maxDiskUsage) {
          return false;
       }
@@ -174,6 +174,8 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
 
    private static final String REDISTRIBUTION_DELAY_NODE_NAME = "redistribution-delay";
 
+   private static final String REDISTRIBUTION_BATCH_SIZE_NODE_NAME = "redistribution-batch-size";
+
    private static final String SEND_TO_DLA_ON_NO_ROUTE = "send-to-dla-on-no-route";
 
    private static final String SLOW_CONSUMER_THRESHOLD_NODE_NAME = "slow-consumer-threshold";
@@ -212,12 +214,18 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
 
    private static final String MANAGEMENT_BROWSE_PAGE_SIZE = "management-browse-page-size";
 
+   private static final String COMPRESS_MESSAGE_BODY_MIN_SIZE = "compress-message-body-min-size";
+
+   private static final String COMPRESSION_CODEC = "compression-codec";
+
    private static final String MAX_CONNECTIONS_NODE_NAME = "max-connections";
 
    private static final String MAX_QUEUES_NODE_NAME = "max-queues";
 
    private static final String GLOBAL_MAX_SIZE = "global-max-size";
 
+   private static final String GLOBAL_MAX_SIZE_HOT_PERCENTAGE = "global-max-size-hot-percentage";
+
    private static final String MAX_DISK_USAGE = "max-disk-usage";
 
    private static final String DISK_SCAN_PERIOD = "disk-scan-period";
@@ -344,6 +352,8 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
          config.setGlobalMaxSize(globalMaxSize);
       }
 
+      config.setGlobalMaxSizeHotPercentage(getInteger(e, GLOBAL_MAX_SIZE_HOT_PERCENTAGE, config.getGlobalMaxSizeHotPercentage(), Validators.PERCENTAGE));
+
       config.setMaxDiskUsage(getInteger(e, MAX_DISK_USAGE, config.getMaxDiskUsage(), Validators.PERCENTAGE));
 
       config.setDiskScanPeriod(getInteger(e, DISK_SCAN_PERIOD, config.getDiskScanPeriod(), Validators.MINUS_ONE_OR_GT_ZERO));
@@ -519,6 +529,18 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
 
       config.setPageMaxConcurrentIO(getInteger(e, "page-max-concurrent-io", config.getPageMaxConcurrentIO(), Validators.MINUS_ONE_OR_GT_ZERO));
 
+      config.setPageReadAhead(getInteger(e, "page-read-ahead", config.getPageReadAhead(), Validators.GE_ZERO));
+
+      config.setPageReadAheadMaxBytes(getTextBytesAsLongBytes(e, "page-read-ahead-max-bytes", config.getPageReadAheadMaxBytes(), Validators.GT_ZERO));
+
+      config.setPageCompactPercentage(getInteger(e, "page-compact-percentage", config.getPageCompactPercentage(), Validators.PERCENTAGE));
+
+      config.setPageWriteBufferSize(getTextBytesAsIntBytes(e, "page-write-buffer-size", config.getPageWriteBufferSize(), Validators.GE_ZERO));
+
+      config.setPageCompressionEnabled(getBoolean(e, "page-compression-enabled", config.isPageCompressionEnabled()));
+
+      config.setPageMappingMaxBytes(getTextBytesAsLongBytes(e, "page-mapping-max-bytes", config.getPageMappingMaxBytes(), Validators.GE_ZERO));
+
       config.setPagingDirectory(getString(e, "paging-directory", config.getPagingDirectory(), Validators.NOT_NULL_OR_EMPTY));
 
       config.setCreateJournalDir(getBoolean(e, "create-journal-dir", config.isCreateJournalDir()));
@@ -969,6 +991,10 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
             addressSettings.setMaxDeliveryAttempts(XMLUtil.parseInt(child));
          } else if (REDISTRIBUTION_DELAY_NODE_NAME.equalsIgnoreCase(name)) {
             addressSettings.setRedistributionDelay(XMLUtil.parseLong(child));
+         } else if (REDISTRIBUTION_BATCH_SIZE_NODE_NAME.equalsIgnoreCase(name)) {
+            int redistributionBatchSize = XMLUtil.parseInt(child);
+            Validators.GT_ZERO.validate(REDISTRIBUTION_BATCH_SIZE_NODE_NAME, redistributionBatchSize);
+            addressSettings.setRedistributionBatchSize(redistributionBatchSize);
          } else if (SEND_TO_DLA_ON_NO_ROUTE.equalsIgnoreCase(name)) {
             addressSettings.setSendToDLAOnNoRoute(XMLUtil.parseBoolean(child));
          } else if (SLOW_CONSUMER_THRESHOLD_NODE_NAME.equalsIgnoreCase(name)) {
@@ -1028,6 +1054,10 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
             Validators.ROUTING_TYPE.validate(DEFAULT_ADDRESS_ROUTING_TYPE, value);
             RoutingType routingType = RoutingType.valueOf(value);
             addressSettings.setDefaultAddressRoutingType(routingType);
+         } else if (COMPRESS_MESSAGE_BODY_MIN_SIZE.equalsIgnoreCase(name)) {
+            addressSettings.setCompressMessageBodyMinSize(XMLUtil.parseInt(child));
+         } else if (COMPRESSION_CODEC.equalsIgnoreCase(name)) {
+            addressSettings.setCompressionCodec(getTrimmedTextContent(child));
          }
       }
       return setting;
@@ -1273,6 +1303,12 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
 
       configuration.setQuorumSize(getInteger(policyNode, "quorum-size", configuration.getQuorumSize(), Validators.MINUS_ONE_OR_GT_ZERO));
 
+      configuration.setReplicationBatchSize(getInteger(policyNode, "replication-batch-size", configuration.getReplicationBatchSize(), Validators.GE_ZERO));
+
+      configuration.setReplicationCompressionCodec(getString(policyNode, "replication-compression-codec", configuration.getReplicationCompressionCodec(), Validators.NO_CHECK));
+
+      configuration.setInitialReplicationSyncParallelism(getInteger(policyNode, "initial-replication-sync-parallelism", configuration.getInitialReplicationSyncParallelism(), Validators.GT_ZERO));
+
       return configuration;
    }
 
@@ -1297,6 +1333,10 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
 
       configuration.setQuorumSize(getInteger(policyNode, "quorum-size", configuration.getQuorumSize(), Validators.MINUS_ONE_OR_GT_ZERO));
 
+      configuration.setLiveHeartbeatPeriod(getLong(policyNode, "live-heartbeat-period", configuration.getLiveHeartbeatPeriod(), Validators.MINUS_ONE_OR_GT_ZERO));
+
+      configuration.setLiveHeartbeatPhiThreshold(getDouble(policyNode, "live-heartbeat-phi-threshold", configuration.getLiveHeartbeatPhiThreshold(), Validators.GT_ZERO));
+
       return configuration;
    }
 
@@ -1578,6 +1618,12 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
 
       long clusterNotificationInterval = getLong(e, "notification-interval", ActiveMQDefaultConfiguration.getDefaultClusterNotificationInterval(), Validators.GT_ZERO);
 
+      long loadNotificationInterval = getLong(e, "load-notification-interval", ActiveMQDefaultConfiguration.getDefaultClusterLoadNotificationInterval(), Validators.GT_ZERO);
+
+      long topologyLoadHintInterval = getLong(e, "topology-load-hint-interval", ActiveMQDefaultConfiguration.getDefaultClusterTopologyLoadHintInterval(), Validators.MINUS_ONE_OR_GT_ZERO);
+
+      int storeAndForwardBatchSize = getInteger(e, "store-and-forward-batch-size", ActiveMQDefaultConfiguration.getDefaultClusterStoreAndForwardBatchSize(), Validators.GT_ZERO);
+
       int clusterNotificationAttempts = getInteger(e, "notification-attempts", ActiveMQDefaultConfiguration.getDefaultClusterNotificationAttempts(), Validators.GT_ZERO);
 
       String scaleDownConnector = e.getAttribute("scale-down-connector");
@@ -1604,7 +1650,7 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
          }
       }
 
-      ClusterConnectionConfiguration config = new ClusterConnectionConfiguration().setName(name).setAddress(address).setConnectorName(connectorName).setMinLargeMessageSize(minLargeMessageSize).setClientFailureCheckPeriod(clientFailureCheckPeriod).setConnectionTTL(connectionTTL).setRetryInterval(retryInterval).setRetryIntervalMultiplier(retryIntervalMultiplier).setMaxRetryInterval(maxRetryInterval).setInitialConnectAttempts(initialConnectAttempts).setReconnectAttempts(reconnectAttempts).setCallTimeout(callTimeout).setCallFailoverTimeout(callFailoverTimeout).setDuplicateDetection(duplicateDetection).setMessageLoadBalancingType(messageLoadBalancingType).setMaxHops(maxHops).setConfirmationWindowSize(confirmationWindowSize).setProducerWindowSize(producerWindowSize).setAllowDirectConnectionsOnly(allowDirectConnectionsOnly).setClusterNotificationInterval(clusterNotificationInterval).setClusterNotificationAttempts(clusterNotificationAttempts);
+      ClusterConnectionConfiguration config = new ClusterConnectionConfiguration().setName(name).setAddress(address).setConnectorName(connectorName).setMinLargeMessageSize(minLargeMessageSize).setClientFailureCheckPeriod(clientFailureCheckPeriod).setConnectionTTL(connectionTTL).setRetryInterval(retryInterval).setRetryIntervalMultiplier(retryIntervalMultiplier).setMaxRetryInterval(maxRetryInterval).setInitialConnectAttempts(initialConnectAttempts).setReconnectAttempts(reconnectAttempts).setCallTimeout(callTimeout).setCallFailoverTimeout(callFailoverTimeout).setDuplicateDetection(duplicateDetection).setMessageLoadBalancingType(messageLoadBalancingType).setMaxHops(maxHops).setConfirmationWindowSize(confirmationWindowSize).setProducerWindowSize(producerWindowSize).setAllowDirectConnectionsOnly(allowDirectConnectionsOnly).setClusterNotificationInterval(clusterNotificationInterval).setClusterNotificationAttempts(clusterNotificationAttempts).setLoadNotificationInterval(loadNotificationInterval).setTopologyLoadHintInterval(topologyLoadHintInterval).setStoreAndForwardBatchSize(storeAndForwardBatchSize);
 
       if (discoveryGroupName == null) {
          config.setStaticConnectors(staticConnectorNames);
@@ -1622,7 +1668,7 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
       Integer timeout = getInteger(node, "timeout", ActiveMQDefaultConfiguration.getDefaultGroupingHandlerTimeout(), Validators.GT_ZERO);
       Long groupTimeout = getLong(node, "group-timeout", ActiveMQDefaultConfiguration.getDefaultGroupingHandlerGroupTimeout(), Validators.MINUS_ONE_OR_GT_ZERO);
       Long reaperPeriod = getLong(node, "reaper-period", ActiveMQDefaultConfiguration.getDefaultGroupingHandlerReaperPeriod(), Validators.GT_ZERO);
-      mainConfiguration.setGroupingHandlerConfiguration(new GroupingHandlerConfiguration().setName(new SimpleString(name)).setType(type.equals(GroupingHandlerConfiguration.TYPE.LOCAL.getType()) ? GroupingHandlerConfiguration.TYPE.LOCAL : GroupingHandlerConfiguration.TYPE.REMOTE).setAddress(new SimpleString(address)).setTimeout(timeout).setGroupTimeout(groupTimeout).setReaperPeriod(reaperPeriod));
+      mainConfiguration.setGroupingHandlerConfiguration(new GroupingHandlerConfiguration().setName(new SimpleString(name)).setType(GroupingHandlerConfiguration.TYPE.valueOf(type)).setAddress(new SimpleString(address)).setTimeout(timeout).setGroupTimeout(groupTimeout).setReaperPeriod(reaperPeriod));
    }
 
    private void parseBridgeConfiguration(final Element brNode, final Configuration mainConfig) throws Exception {
@@ -1659,6 +1705,8 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
 
       boolean useDuplicateDetection = getBoolean(brNode, "use-duplicate-detection", ActiveMQDefaultConfiguration.isDefaultBridgeDuplicateDetection());
 
+      int concurrency = getInteger(brNode, "concurrency", ActiveMQDefaultConfiguration.getDefaultBridgeConcurrency(), Validators.GT_ZERO);
+
       String user = getString(brNode, "user", ActiveMQDefaultConfiguration.getDefaultClusterUser(), Validators.NO_CHECK);
 
       NodeList clusterPassNodes = brNode.getElementsByTagName("password");
@@ -1703,7 +1751,7 @@ public final class FileConfigurationParser extends XMLConfigurationUtil {
          }
       }
 
-      BridgeConfiguration config = new BridgeConfiguration().setName(name).setQueueName(queueName).setForwardingAddress(forwardingAddress).setFilterString(filterString).setTransformerClassName(transformerClassName).setMinLargeMessageSize(minLargeMessageSize).setClientFailureCheckPeriod(clientFailureCheckPeriod).setConnectionTTL(connectionTTL).setRetryInterval(retryInterval).setMaxRetryInterval(maxRetryInterval).setRetryIntervalMultiplier(retryIntervalMultiplier).setInitialConnectAttempts(initialConnectAttempts).setReconnectAttempts(reconnectAttempts).setReconnectAttemptsOnSameNode(reconnectAttemptsSameNode).setUseDuplicateDetection(useDuplicateDetection).setConfirmationWindowSize(confirmationWindowSize).setProducerWindowSize(producerWindowSize).setHA(ha).setUser(user).setPassword(password);
+      BridgeConfiguration config = new BridgeConfiguration().setName(name).setQueueName(queueName).setForwardingAddress(forwardingAddress).setFilterString(filterString).setTransformerClassName(transformerClassName).setMinLargeMessageSize(minLargeMessageSize).setClientFailureCheckPeriod(clientFailureCheckPeriod).setConnectionTTL(connectionTTL).setRetryInterval(retryInterval).setMaxRetryInterval(maxRetryInterval).setRetryIntervalMultiplier(retryIntervalMultiplier).setInitialConnectAttempts(initialConnectAttempts).setReconnectAttempts(reconnectAttempts).setReconnectAttemptsOnSameNode(reconnectAttemptsSameNode).setUseDuplicateDetection(useDuplicateDetection).setConfirmationWindowSize(confirmationWindowSize).setProducerWindowSize(producerWindowSize).setConcurrency(concurrency).setHA(ha).setUser(user).setPassword(password);
 
       if (!staticConnectorNames.isEmpty()) {
          config.setStaticConnectors(staticConnectorNames);
@@ -75,6 +75,8 @@ import org.apache.activemq.artemis.core.postoffice.DuplicateIDCache;
 import org.apache.activemq.artemis.core.postoffice.PostOffice;
 import org.apache.activemq.artemis.core.postoffice.impl.LocalQueueBinding;
 import org.apache.activemq.artemis.core.remoting.server.RemotingService;
+import org.apache.activemq.artemis.core.replication.ReplicationManager;
+import org.apache.activemq.artemis.core.replication.ReplicationSyncProgress;
 import org.apache.activemq.artemis.core.security.CheckType;
 import org.apache.activemq.artemis.core.security.Role;
 import org.apache.activemq.artemis.core.server.ActiveMQMessageBundle;
@@ -109,6 +111,7 @@ import org.apache.activemq.artemis.spi.core.protocol.RemotingConnection;
 import org.apache.activemq.artemis.utils.JsonLoader;
 import org.apache.activemq.artemis.utils.ListUtil;
 import org.apache.activemq.artemis.utils.SecurityFormatter;
+import org.apache.activemq.artemis.utils.SimpleStringPool;
 import org.apache.activemq.artemis.utils.collections.TypedProperties;
 
 public class ActiveMQServerControlImpl extends AbstractControl implements ActiveMQServerControl, NotificationEmitter, org.apache.activemq.artemis.core.server.management.NotificationListener {
@@ -569,6 +572,30 @@ public class ActiveMQServerControlImpl extends AbstractControl implements Active
       }
    }
 
+   @Override
+   public long getStringPoolHits() {
+      checkStarted();
+
+      clearIO();
+      try {
+         return SimpleStringPool.DEFAULT.getHits();
+      } finally {
+         blockOnIO();
+      }
+   }
+
+   @Override
+   public long getStringPoolMisses() {
+      checkStarted();
+
+      clearIO();
+      try {
+         return SimpleStringPool.DEFAULT.getMisses();
+      } finally {
+         blockOnIO();
+      }
+   }
+
    @Override
    public boolean freezeReplication() {
       Activation activation = server.getActivation();
@@ -858,6 +885,32 @@ public class ActiveMQServerControlImpl extends AbstractControl implements Active
       }
    }
 
+   @Override
+   public String getReplicaSyncProgress() {
+      checkStarted();
+
+      clearIO();
+      try {
+         JsonObjectBuilder obj = JsonLoader.createObjectBuilder();
+         ReplicationManager replicationManager = server.getReplicationManager();
+         if (replicationManager != null) {
+            ReplicationSyncProgress progress = replicationManager.getSyncProgress();
+            obj.add("finished", progress.isFinished())
+               .add("files", progress.getFiles())
+               .add("filesSynchronized", progress.getFilesSynchronized())
+               .add("filesReused", progress.getFilesReused())
+               .add("bytes", progress.getBytes())
+               .add("bytesSynchronized", progress.getBytesSynchronized())
+               .add("bytesSent", progress.getBytesSent())
+               .add("elapsedTime", progress.getElapsedTime())
+               .add("throughput", progress.getThroughput());
+         }
+         return obj.build().toString();
+      } finally {
+         blockOnIO();
+      }
+   }
+
    @Override
    public String[] getAddressNames() {
       checkStarted();
@@ -1858,6 +1911,7 @@ public class ActiveMQServerControlImpl extends AbstractControl implements Active
             .add("redeliveryMultiplier", addressSettings.getRedeliveryMultiplier())
             .add("maxRedeliveryDelay", addressSettings.getMaxRedeliveryDelay())
             .add("redistributionDelay", addressSettings.getRedistributionDelay())
+            .add("redistributionBatchSize", addressSettings.getRedistributionBatchSize())
             .add("lastValueQueue", addressSettings.isLastValueQueue())
             .add("sendToDLAOnNoRoute", addressSettings.isSendToDLAOnNoRoute())
             .add("addressFullMessagePolicy", policy)
@@ -16,6 +16,7 @@
  */
 package org.apache.activemq.artemis.core.management.impl;
 
+import javax.json.JsonArrayBuilder;
 import javax.management.MBeanAttributeInfo;
 import javax.management.MBeanOperationInfo;
 import java.util.List;
@@ -24,6 +25,8 @@ import org.apache.activemq.artemis.api.core.management.BridgeControl;
 import org.apache.activemq.artemis.core.config.BridgeConfiguration;
 import org.apache.activemq.artemis.core.persistence.StorageManager;
 import org.apache.activemq.artemis.core.server.cluster.Bridge;
+import org.apache.activemq.artemis.core.server.cluster.BridgeLaneStatistics;
+import org.apache.activemq.artemis.utils.JsonLoader;
 
 public class BridgeControlImpl extends AbstractControl implements BridgeControl {
 
@@ -180,6 +183,31 @@ public class BridgeControlImpl extends AbstractControl implements BridgeControl
       }
    }
 
+   @Override
+   public int getConcurrency() {
+      clearIO();
+      try {
+         return bridge.getConcurrency();
+      } finally {
+         blockOnIO();
+      }
+   }
+
+   @Override
+   public String listLaneStatisticsAsJSON() throws Exception {
+      clearIO();
+      try {
+         long now = System.currentTimeMillis();
+         JsonArrayBuilder array = JsonLoader.createArrayBuilder();
+         for (BridgeLaneStatistics lane : bridge.getLaneStatistics()) {
+            array.add(JsonLoader.createObjectBuilder().add("lane", lane.getLane()).add("connected", lane.isConnected()).add("connectedTime", lane.getConnectedTime()).add("messagesForwarded", lane.getMessagesForwarded()).add("messagesAcknowledged", lane.getMessagesAcknowledged()).add("messagesPending", lane.getMessagesPending()).add("throughput", lane.getThroughput(now)));
+         }
+         return array.build().toString();
+      } finally {
+         blockOnIO();
+      }
+   }
+
    @Override
    public void start() throws Exception {
       clearIO();
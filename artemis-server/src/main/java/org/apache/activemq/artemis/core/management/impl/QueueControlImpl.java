@@ -284,6 +284,30 @@ public class QueueControlImpl extends AbstractControl implements QueueControl {
       }
    }
 
+   @Override
+   public long getMessagesRedistributed() {
+      checkStarted();
+
+      clearIO();
+      try {
+         return queue.getRedistributionMetrics().getMessagesRedistributed();
+      } finally {
+         blockOnIO();
+      }
+   }
+
+   @Override
+   public double getRedistributionRate() {
+      checkStarted();
+
+      clearIO();
+      try {
+         return queue.getRedistributionMetrics().getRate(System.currentTimeMillis());
+      } finally {
+         blockOnIO();
+      }
+   }
+
    @Override
    public long getID() {
       checkStarted();
@@ -111,4 +111,11 @@ public interface PagingManager extends ActiveMQComponent, HierarchicalRepository
       return 0;
    }
 
+   /**
+    * Whether {@code store} should start paging because of the global size, before the global max size is reached.
+    */
+   default boolean isPagingPreferred(PagingStore store) {
+      return false;
+   }
+
 }
@@ -67,6 +67,13 @@ public interface PagingStore extends ActiveMQComponent, RefCountMessageListener
 
    long getMaxSize();
 
+   /**
+    * The number of message references removed from the queues of this address since it started, paged or not.
+    */
+   default long getConsumedReferences() {
+      return 0;
+   }
+
    void applySetting(AddressSettings addressSettings);
 
    boolean isPaging();
@@ -41,6 +41,14 @@ public interface PageCache extends SoftValueHashMap.ValueCache {
     */
    PagedMessage getMessage(int messageNumber);
 
+   /**
+    * @param queueID       The subscription looking for its next message
+    * @param messageNumber The first message number to consider
+    * @return the number of the first message at or after {@code messageNumber} routed to {@code queueID},
+    * or {@link #getNumberOfMessages()} if there's none on this page yet
+    */
+   int getNextMessageRoutedTo(long queueID, int messageNumber);
+
    void close();
 
 }
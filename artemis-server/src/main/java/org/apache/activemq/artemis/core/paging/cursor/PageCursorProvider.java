@@ -31,6 +31,12 @@ public interface PageCursorProvider {
 
    PageCache getPageCache(long pageNr);
 
+   /**
+    * A subscription moved to {@code pageNr}, the pages following it may be read in the background
+    * so they are already cached when the subscription gets to them.
+    */
+   void readAhead(long pageNr);
+
    PagedReference newReference(PagePosition pos, PagedMessage msg, PageSubscription sub);
 
    void addPageCache(PageCache cache);
@@ -16,6 +16,8 @@
  */
 package org.apache.activemq.artemis.core.paging.cursor;
 
+import java.util.BitSet;
+
 import org.apache.activemq.artemis.core.paging.PagedMessage;
 import org.apache.activemq.artemis.core.paging.PagingStore;
 import org.apache.activemq.artemis.core.paging.impl.Page;
@@ -95,6 +97,12 @@ public interface PageSubscription {
     */
    void reloadACK(PagePosition position);
 
+   /**
+    * @param recordID the record holding the bitmap
+    * @param acks     the message numbers acknowledged on the page
+    */
+   void reloadACKBitmap(long recordID, long pageNr, BitSet acks);
+
    boolean reloadPageCompletion(PagePosition position) throws Exception;
 
    void reloadPageInfo(long pageNr);
@@ -134,6 +142,12 @@ public interface PageSubscription {
     */
    boolean isComplete(long page);
 
+   /**
+    * @return true if this subscription acknowledged the message at {@code position} or is already done with its page.
+    * It will not load any page information, so a page this subscription never acknowledged anything on returns false.
+    */
+   boolean isAcked(PagePosition position);
+
    /**
     * wait all the scheduled runnables to finish their current execution
     */
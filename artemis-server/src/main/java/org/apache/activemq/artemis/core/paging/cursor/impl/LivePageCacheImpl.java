@@ -16,8 +16,7 @@
  */
 package org.apache.activemq.artemis.core.paging.cursor.impl;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Arrays;
 
 import org.apache.activemq.artemis.core.paging.PagedMessage;
 import org.apache.activemq.artemis.core.paging.cursor.LivePageCache;
@@ -27,16 +26,32 @@ import org.jboss.logging.Logger;
 
 /**
  * This is the same as PageCache, however this is for the page that's being currently written.
+ * <p>
+ * The messages are appended to fixed size chunks that are never copied, by a single writer at a time. The cursors
+ * reading the page don't lock: the number of messages is published after every message, and everything a reader
+ * finds below it is immutable.
  */
 public class LivePageCacheImpl implements LivePageCache {
 
    private static final Logger logger = Logger.getLogger(LivePageCacheImpl.class);
 
-   private final List<PagedMessage> messages = new LinkedList<>();
+   private static final int CHUNK_SHIFT = 8;
+
+   private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+   private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+   // only the chunk references are copied when it grows
+   private volatile PagedMessage[][] chunks = new PagedMessage[8][];
+
+   // published after the message and its routing, readers must read it first
+   private volatile int numberOfMessages;
+
+   private final PageRoutingIndex routingIndex = new PageRoutingIndex();
 
    private final Page page;
 
-   private boolean isLive = true;
+   private volatile boolean isLive = true;
 
    public LivePageCacheImpl(final Page page) {
       this.page = page;
@@ -48,12 +63,12 @@ public class LivePageCacheImpl implements LivePageCache {
    }
 
    @Override
-   public synchronized int getNumberOfMessages() {
-      return messages.size();
+   public int getNumberOfMessages() {
+      return numberOfMessages;
    }
 
    @Override
-   public synchronized void setMessages(PagedMessage[] messages) {
+   public void setMessages(PagedMessage[] messages) {
       // This method shouldn't be called on liveCache, but we will provide the implementation for it anyway
       for (PagedMessage msg : messages) {
          addLiveMessage(msg);
@@ -61,41 +76,69 @@ public class LivePageCacheImpl implements LivePageCache {
    }
 
    @Override
-   public synchronized PagedMessage getMessage(int messageNumber) {
-      if (messageNumber < messages.size()) {
-         return messages.get(messageNumber);
+   public PagedMessage getMessage(int messageNumber) {
+      if (messageNumber < numberOfMessages) {
+         return chunks[messageNumber >>> CHUNK_SHIFT][messageNumber & CHUNK_MASK];
       } else {
          return null;
       }
    }
 
    @Override
-   public synchronized boolean isLive() {
+   public boolean isLive() {
       return isLive;
    }
 
+   /**
+    * The writers are serialized on this cache, readers never wait for them.
+    */
    @Override
    public synchronized void addLiveMessage(PagedMessage message) {
       if (message.getMessage().isLargeMessage()) {
          ((LargeServerMessage) message.getMessage()).incrementDelayDeletionCount();
       }
-      this.messages.add(message);
+      final int messageNumber = numberOfMessages;
+      final int chunkIndex = messageNumber >>> CHUNK_SHIFT;
+      PagedMessage[][] chunks = this.chunks;
+      if (chunkIndex == chunks.length) {
+         chunks = Arrays.copyOf(chunks, chunks.length * 2);
+         this.chunks = chunks;
+      }
+      PagedMessage[] chunk = chunks[chunkIndex];
+      if (chunk == null) {
+         chunk = new PagedMessage[CHUNK_SIZE];
+         chunks[chunkIndex] = chunk;
+      }
+      chunk[messageNumber & CHUNK_MASK] = message;
+      routingIndex.add(messageNumber, message.getQueueIDs());
+      this.numberOfMessages = messageNumber + 1;
    }
 
    @Override
-   public synchronized void close() {
+   public int getNextMessageRoutedTo(long queueID, int messageNumber) {
+      return routingIndex.next(queueID, messageNumber, numberOfMessages);
+   }
+
+   @Override
+   public void close() {
       logger.tracef("Closing %s", this);
       this.isLive = false;
    }
 
    @Override
-   public synchronized PagedMessage[] getMessages() {
-      return messages.toArray(new PagedMessage[messages.size()]);
+   public PagedMessage[] getMessages() {
+      final int numberOfMessages = this.numberOfMessages;
+      final PagedMessage[][] chunks = this.chunks;
+      final PagedMessage[] messages = new PagedMessage[numberOfMessages];
+      for (int i = 0; i < numberOfMessages; i += CHUNK_SIZE) {
+         System.arraycopy(chunks[i >>> CHUNK_SHIFT], 0, messages, i, Math.min(CHUNK_SIZE, numberOfMessages - i));
+      }
+      return messages;
    }
 
    @Override
    public String toString() {
-      return "LivePacheCacheImpl::page=" + page.getPageId() + " number of messages=" + messages.size() + " isLive = " +
+      return "LivePacheCacheImpl::page=" + page.getPageId() + " number of messages=" + numberOfMessages + " isLive = " +
          isLive;
    }
 }
@@ -29,7 +29,11 @@ class PageCacheImpl implements PageCache {
 
    // Attributes ----------------------------------------------------
 
-   private PagedMessage[] messages;
+   // replaced as a whole when the page is compacted, so readers never take the lock
+   private volatile PagedMessage[] messages;
+
+   // built on the first lookup, guarded by this
+   private PageRoutingIndex routingIndex;
 
    private final Page page;
 
@@ -45,6 +49,7 @@ class PageCacheImpl implements PageCache {
 
    @Override
    public PagedMessage getMessage(final int messageNumber) {
+      final PagedMessage[] messages = this.messages;
       if (messageNumber < messages.length) {
          return messages[messageNumber];
       } else {
@@ -58,8 +63,18 @@ class PageCacheImpl implements PageCache {
    }
 
    @Override
-   public void setMessages(final PagedMessage[] messages) {
+   public synchronized void setMessages(final PagedMessage[] messages) {
       this.messages = messages;
+      this.routingIndex = null;
+   }
+
+   @Override
+   public synchronized int getNextMessageRoutedTo(final long queueID, final int messageNumber) {
+      final PagedMessage[] messages = this.messages;
+      if (routingIndex == null) {
+         routingIndex = PageRoutingIndex.of(messages);
+      }
+      return routingIndex.next(queueID, messageNumber, messages.length);
    }
 
    @Override
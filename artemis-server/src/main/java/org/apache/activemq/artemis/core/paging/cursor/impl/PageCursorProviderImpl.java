@@ -18,12 +18,18 @@ package org.apache.activemq.artemis.core.paging.cursor.impl;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.activemq.artemis.api.core.ICoreMessage;
 import org.apache.activemq.artemis.core.filter.Filter;
+import org.apache.activemq.artemis.core.message.impl.CoreMessage;
 import org.apache.activemq.artemis.core.paging.PagedMessage;
 import org.apache.activemq.artemis.core.paging.PagingStore;
 import org.apache.activemq.artemis.core.paging.cursor.NonExistentPage;
@@ -34,7 +40,9 @@ import org.apache.activemq.artemis.core.paging.cursor.PageSubscription;
 import org.apache.activemq.artemis.core.paging.cursor.PagedReference;
 import org.apache.activemq.artemis.core.paging.cursor.PagedReferenceImpl;
 import org.apache.activemq.artemis.core.paging.impl.Page;
+import org.apache.activemq.artemis.core.paging.impl.PagedMessageImpl;
 import org.apache.activemq.artemis.core.persistence.StorageManager;
+import org.apache.activemq.artemis.core.persistence.impl.journal.JournalStorageManager;
 import org.apache.activemq.artemis.core.server.ActiveMQServerLogger;
 import org.apache.activemq.artemis.core.transaction.Transaction;
 import org.apache.activemq.artemis.core.transaction.impl.TransactionImpl;
@@ -54,6 +62,9 @@ public class PageCursorProviderImpl implements PageCursorProvider {
 
    private static final Logger logger = Logger.getLogger(PageCursorProviderImpl.class);
 
+   // the pages depaged by a single cleanup, the next ones are left to another cleanup so the store isn't locked for long
+   private static final int MAX_CLEANUP_PAGES = 10;
+
    // Attributes ----------------------------------------------------
 
    /**
@@ -74,6 +85,24 @@ public class PageCursorProviderImpl implements PageCursorProvider {
 
    private final ConcurrentMap<Long, PageSubscription> activeCursors = new ConcurrentHashMap<>();
 
+   // null if read-ahead is disabled
+   private final PageReadAhead readAhead;
+
+   private final ArtemisExecutor readAheadExecutor;
+
+   // Pages being read ahead, or read ahead and not used yet. Guarded by softCache
+   private final Map<Long, ReadAheadPage> readAheadPages = new HashMap<>();
+
+   // Pages being read for a subscription, shared by every subscription getting to them meanwhile. Guarded by softCache
+   private final Map<Long, PageLoad> pageLoads = new HashMap<>();
+
+   // 0 if page compaction is disabled
+   private final int compactPercentage;
+
+   // Held while rewriting a page or deleting pages, so a rewritten page is never renamed over a deleted one.
+   // Readers never take it
+   private final Object compactionLock = new Object();
+
    // Static --------------------------------------------------------
 
    // Constructors --------------------------------------------------
@@ -82,10 +111,27 @@ public class PageCursorProviderImpl implements PageCursorProvider {
                                  final StorageManager storageManager,
                                  final ArtemisExecutor executor,
                                  final int maxCacheSize) {
+      this(pagingStore, storageManager, executor, maxCacheSize, null, 0);
+   }
+
+   public PageCursorProviderImpl(final PagingStore pagingStore,
+                                 final StorageManager storageManager,
+                                 final ArtemisExecutor executor,
+                                 final int maxCacheSize,
+                                 final PageReadAhead readAhead,
+                                 final int compactPercentage) {
       this.pagingStore = pagingStore;
       this.storageManager = storageManager;
       this.executor = executor;
       this.softCache = new SoftValueHashMap<>(maxCacheSize);
+      this.compactPercentage = compactPercentage;
+      if (readAhead != null && readAhead.getPages() > 0) {
+         this.readAhead = readAhead;
+         this.readAheadExecutor = readAhead.newExecutor();
+      } else {
+         this.readAhead = null;
+         this.readAheadExecutor = null;
+      }
    }
 
    // Public --------------------------------------------------------
@@ -106,7 +152,7 @@ public class PageCursorProviderImpl implements PageCursorProvider {
    }
 
    @Override
-   public synchronized PageSubscription getSubscription(long cursorID) {
+   public PageSubscription getSubscription(long cursorID) {
       return activeCursors.get(cursorID);
    }
 
@@ -129,36 +175,73 @@ public class PageCursorProviderImpl implements PageCursorProvider {
       return new PagedReferenceImpl(pos, msg, subscription);
    }
 
+   /**
+    * The page files are read outside of the cache lock, so the subscriptions reading different pages don't wait for
+    * each other. Only one of the subscriptions getting to a page that is not cached reads it, the others wait for
+    * that read.
+    */
    @Override
    public PageCache getPageCache(final long pageId) {
       try {
-         PageCache cache;
+         PageLoad load;
+         boolean reading = false;
          synchronized (softCache) {
             if (pageId > pagingStore.getCurrentWritingPage()) {
                return null;
             }
 
-            cache = softCache.get(pageId);
-            if (cache == null) {
-               if (!pagingStore.checkPageFileExists((int) pageId)) {
-                  return null;
-               }
+            PageCache cache = softCache.get(pageId);
+            if (cache != null) {
+               return cache;
+            }
 
-               cache = createPageCache(pageId);
-               // anyone reading from this cache will have to wait reading to finish first
-               // we also want only one thread reading this cache
-               logger.tracef("adding pageCache pageNr=%d into cursor = %s", pageId, this.pagingStore.getAddress());
-               readPage((int) pageId, cache);
+            cache = takeReadAheadPage(pageId);
+            if (cache != null) {
                softCache.put(pageId, cache);
+               return cache;
+            }
+
+            load = pageLoads.get(pageId);
+            if (load == null) {
+               load = new PageLoad();
+               pageLoads.put(pageId, load);
+               reading = true;
             }
          }
 
-         return cache;
+         return reading ? loadPage(pageId, load) : load.await();
       } catch (Exception e) {
          throw new RuntimeException(e.getMessage(), e);
       }
    }
 
+   private PageCache loadPage(final long pageId, final PageLoad load) throws Exception {
+      PageCache cache = null;
+      try {
+         if (pagingStore.checkPageFileExists((int) pageId)) {
+            cache = createPageCache(pageId);
+            logger.tracef("adding pageCache pageNr=%d into cursor = %s", pageId, this.pagingStore.getAddress());
+            readPage((int) pageId, cache);
+         }
+      } catch (Throwable e) {
+         synchronized (softCache) {
+            pageLoads.remove(pageId);
+         }
+         load.completeExceptionally(e);
+         throw e;
+      }
+
+      synchronized (softCache) {
+         pageLoads.remove(pageId);
+         // the page may have been deleted while it was read
+         if (cache != null && !load.discarded) {
+            softCache.put(pageId, cache);
+         }
+      }
+      load.complete(cache);
+      return cache;
+   }
+
    private void readPage(int pageId, PageCache cache) throws Exception {
       Page page = null;
       try {
@@ -180,6 +263,106 @@ public class PageCursorProviderImpl implements PageCursorProvider {
       }
    }
 
+   @Override
+   public void readAhead(final long pageNr) {
+      if (readAhead == null) {
+         return;
+      }
+
+      // the current writing page is live, there's nothing to read from it
+      long lastPage = Math.min(pageNr + readAhead.getPages(), pagingStore.getCurrentWritingPage() - 1);
+
+      for (long pageId = pageNr + 1; pageId <= lastPage; pageId++) {
+         synchronized (softCache) {
+            if (readAheadPages.containsKey(pageId) || pageLoads.containsKey(pageId) || softCache.get(pageId) != null) {
+               continue;
+            }
+            readAheadPages.put(pageId, new ReadAheadPage());
+         }
+
+         final long readPageId = pageId;
+         readAheadExecutor.execute(() -> readAheadPage(readPageId));
+      }
+   }
+
+   private void readAheadPage(final long pageId) {
+      PageCacheImpl cache = null;
+      long reserved = 0;
+      try {
+         if (pagingStore.isStarted() && pagingStore.checkPageFileExists((int) pageId)) {
+            Page page = null;
+            storageManager.beforePageRead();
+            try {
+               page = pagingStore.createPage((int) pageId);
+               page.open();
+               // compressed pages take more memory once read than on disk
+               final long decodedSize = page.getDecodedSize();
+               if (readAhead.reserve(decodedSize)) {
+                  reserved = decodedSize;
+                  List<PagedMessage> pgdMessages = page.read(storageManager);
+                  cache = createPageCache(pageId);
+                  cache.setMessages(pgdMessages.toArray(new PagedMessage[pgdMessages.size()]));
+               } else {
+                  logger.tracef("Not reading ahead pageNr=%d on %s, the read-ahead memory budget is in use", pageId, pagingStore.getAddress());
+               }
+            } finally {
+               try {
+                  if (page != null) {
+                     page.close(false);
+                  }
+               } catch (Throwable ignored) {
+               }
+               storageManager.afterPageRead();
+            }
+         }
+      } catch (Exception e) {
+         // the page will be read when a subscription gets to it
+         logger.debug("Could not read ahead pageNr=" + pageId + " on " + pagingStore.getAddress(), e);
+         cache = null;
+      } finally {
+         synchronized (softCache) {
+            ReadAheadPage readAheadPage = readAheadPages.get(pageId);
+            if (cache != null && readAheadPage != null && readAheadPage.cache == null && softCache.get(pageId) == null) {
+               readAheadPage.cache = cache;
+               readAheadPage.bytes = reserved;
+               reserved = 0;
+            } else if (readAheadPage != null && readAheadPage.cache == null) {
+               readAheadPages.remove(pageId);
+            }
+         }
+         if (reserved > 0) {
+            readAhead.release(reserved);
+         }
+      }
+   }
+
+   /**
+    * To be called while holding the softCache lock.
+    *
+    * @return the page if it was read ahead, or null if it was not or if it is still being read
+    */
+   private PageCache takeReadAheadPage(final long pageId) {
+      ReadAheadPage readAheadPage = readAheadPages.get(pageId);
+      if (readAheadPage == null || readAheadPage.cache == null) {
+         return null;
+      }
+      readAheadPages.remove(pageId);
+      readAhead.release(readAheadPage.bytes);
+      return readAheadPage.cache;
+   }
+
+   /**
+    * To be called while holding the softCache lock.
+    */
+   private void dropReadAheadPages() {
+      for (ReadAheadPage readAheadPage : readAheadPages.values()) {
+         if (readAheadPage.cache != null) {
+            readAhead.release(readAheadPage.bytes);
+         }
+      }
+      readAheadPages.clear();
+   }
+
    @Override
    public void addPageCache(PageCache cache) {
       logger.tracef("Add page cache %s", cache);
@@ -204,6 +387,7 @@ public class PageCursorProviderImpl implements PageCursorProvider {
    public void clearCache() {
       synchronized (softCache) {
          softCache.clear();
+         dropReadAheadPages();
       }
    }
 
@@ -241,6 +425,17 @@ public class PageCursorProviderImpl implements PageCursorProvider {
       }
 
       waitForFuture();
+
+      if (readAhead != null) {
+         FutureLatch future = new FutureLatch();
+         readAheadExecutor.execute(future);
+         while (!future.await(10000)) {
+            ActiveMQServerLogger.LOGGER.timedOutStoppingPagingCursor(future, readAheadExecutor);
+         }
+         synchronized (softCache) {
+            dropReadAheadPages();
+         }
+      }
    }
 
    private void waitForFuture() {
@@ -352,6 +547,8 @@ public class PageCursorProviderImpl implements PageCursorProvider {
 
       logger.tracef("%s locked", this);
 
+      boolean moreCleanup = false;
+
       synchronized (this) {
          try {
             if (!pagingStore.isStarted()) {
@@ -385,6 +582,10 @@ public class PageCursorProviderImpl implements PageCursorProvider {
             }
 
             for (long i = pagingStore.getFirstPage(); i < minPage; i++) {
+               if (depagedPages.size() == MAX_CLEANUP_PAGES) {
+                  moreCleanup = true;
+                  break;
+               }
                if (!checkPageCompletion(cursorList, i)) {
                   break;
                }
@@ -415,6 +616,145 @@ public class PageCursorProviderImpl implements PageCursorProvider {
       }
       finishCleanup(depagedPages);
 
+      if (moreCleanup) {
+         // the store is unlocked until the next pages are depaged
+         scheduleCleanup();
+      } else if (compactPercentage > 0) {
+         compactPages();
+      }
+
+   }
+
+   /**
+    * Rewrites the cached pages where enough of the file is taken by messages every subscription acknowledged,
+    * replacing those messages by a placeholder so the positions of the others don't change.
+    * <p>
+    * Only pages on the cache are considered, these are the pages the subscriptions are consuming or just
+    * consumed, so this never reads a page file just to find out whether it could be compacted.
+    */
+   private void compactPages() {
+      if (storageManager instanceof JournalStorageManager && ((JournalStorageManager) storageManager).isReplicated()) {
+         // the backup would keep the old page files
+         return;
+      }
+
+      ArrayList<PageSubscription> cursorList = cloneSubscriptions();
+      if (cursorList.isEmpty()) {
+         return;
+      }
+
+      ArrayList<PageCache> caches;
+      synchronized (softCache) {
+         caches = new ArrayList<>(softCache.values());
+      }
+
+      long currentWritingPage = pagingStore.getCurrentWritingPage();
+
+      synchronized (compactionLock) {
+         for (PageCache cache : caches) {
+            if (!pagingStore.isStarted()) {
+               return;
+            }
+            if (cache.isLive() || cache.getPageId() >= currentWritingPage) {
+               continue;
+            }
+            try {
+               compactPage(cache, cursorList);
+            } catch (Exception e) {
+               ActiveMQServerLogger.LOGGER.pageCompactionError(e, cache.getPageId(), pagingStore.getAddress());
+            }
+         }
+      }
+   }
+
+   /**
+    * The page is rewritten without holding the softCache lock, so subscriptions keep reading the cache meanwhile.
+    * A page read from the file during the rewrite gets either the old or the new content, which only differ on
+    * messages every subscription acknowledged. To be called while holding the compactionLock.
+    */
+
+   private void compactPage(final PageCache cache, final ArrayList<PageSubscription> cursorList) throws Exception {
+      final long pageId = cache.getPageId();
+      final PagedMessage[] messages = cache.getMessages();
+      final PagedMessage[] compacted = new PagedMessage[messages.length];
+
+      long pageBytes = 0;
+      long reclaimedBytes = 0;
+
+      for (int i = 0; i < messages.length; i++) {
+         PagedMessage message = messages[i];
+         int encodeSize = message.getEncodeSize();
+         pageBytes += encodeSize;
+         if (isCompactable(message, new PagePositionImpl(pageId, i), cursorList)) {
+            compacted[i] = newPlaceholder(message);
+            reclaimedBytes += encodeSize - compacted[i].getEncodeSize();
+         } else {
+            compacted[i] = message;
+         }
+      }
+
+      if (reclaimedBytes <= 0 || reclaimedBytes * 100 < pageBytes * compactPercentage) {
+         return;
+      }
+
+      synchronized (softCache) {
+         if (readAheadPages.containsKey(pageId) || pageLoads.containsKey(pageId) || softCache.get(pageId) != cache) {
+            return;
+         }
+      }
+
+      if (!pagingStore.checkPageFileExists((int) pageId)) {
+         return;
+      }
+
+      Page page = pagingStore.createPage((int) pageId);
+      if (!page.isRewritable()) {
+         return;
+      }
+      page.rewrite(compacted);
+
+      synchronized (softCache) {
+         // the same messages are on the file either way, this only lets the acknowledged ones be collected
+         if (softCache.get(pageId) == cache) {
+            cache.setMessages(compacted);
+         }
+      }
+
+      if (logger.isDebugEnabled()) {
+         logger.debug("Compacted pageNr=" + pageId + " on " + pagingStore.getAddress() + ", " + reclaimedBytes + " of " + pageBytes + " bytes were reclaimed");
+      }
+   }
+
+   /**
+    * @return true if the message was acknowledged by every subscription it was routed to and it can be replaced by a placeholder
+    */
+   private boolean isCompactable(final PagedMessage message, final PagePosition position, final ArrayList<PageSubscription> cursorList) {
+      if (message.getQueueIDs().length == 0) {
+         // it's a placeholder already
+         return false;
+      }
+
+      if (message.getMessage() instanceof ICoreMessage && message.getMessage().isLargeMessage()) {
+         // the large message file is released when the page is deleted
+         return false;
+      }
+
+      for (long queueID : message.getQueueIDs()) {
+         PageSubscription subscription = activeCursors.get(queueID);
+         if (subscription == null || !subscription.isAcked(position)) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * A placeholder is routed to no queue, so every subscription ignores it
+    */
+   private PagedMessage newPlaceholder(final PagedMessage message) {
+      CoreMessage placeholder = new CoreMessage(message.getMessage().getMessageID(), 0);
+      placeholder.setAddress(pagingStore.getAddress());
+      return new PagedMessageImpl(placeholder, new long[0], -1);
    }
 
    // Protected as a way to inject testing
@@ -436,12 +776,21 @@ public class PageCursorProviderImpl implements PageCursorProvider {
    // Protected as a way to inject testing
    protected void finishCleanup(ArrayList<Page> depagedPages) {
       logger.tracef("this(%s) finishing cleanup on %s", this, depagedPages);
+      synchronized (compactionLock) {
+         finishCleanupPages(depagedPages);
+      }
+   }
+
+   private void finishCleanupPages(ArrayList<Page> depagedPages) {
       try {
          for (Page depagedPage : depagedPages) {
             PageCache cache;
             PagedMessage[] pgdMessages;
             synchronized (softCache) {
                cache = softCache.get((long) depagedPage.getPageId());
+               if (cache == null) {
+                  cache = takeReadAheadPage(depagedPage.getPageId());
+               }
             }
 
             if (logger.isTraceEnabled()) {
@@ -477,6 +826,10 @@ public class PageCursorProviderImpl implements PageCursorProvider {
 
             synchronized (softCache) {
                softCache.remove((long) depagedPage.getPageId());
+               PageLoad load = pageLoads.get((long) depagedPage.getPageId());
+               if (load != null) {
+                  load.discarded = true;
+               }
             }
          }
       } catch (Exception ex) {
@@ -512,7 +865,7 @@ public class PageCursorProviderImpl implements PageCursorProvider {
    /**
     * @return
     */
-   private synchronized ArrayList<PageSubscription> cloneSubscriptions() {
+   private ArrayList<PageSubscription> cloneSubscriptions() {
       ArrayList<PageSubscription> cursorList = new ArrayList<>(activeCursors.values());
       return cursorList;
    }
@@ -600,4 +953,29 @@ public class PageCursorProviderImpl implements PageCursorProvider {
 
    // Inner classes -------------------------------------------------
 
+   /**
+    * A page being read for a subscription, completed with null if the page file doesn't exist.
+    */
+   private static final class PageLoad extends CompletableFuture<PageCache> {
+
+      // true if the page was deleted while being read, guarded by softCache
+      private boolean discarded;
+
+      private PageCache await() throws Exception {
+         try {
+            return get();
+         } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+         }
+      }
+   }
+
+   private static final class ReadAheadPage {
+
+      // null while the page is being read
+      private PageCache cache;
+
+      // what this page holds of the read-ahead memory budget
+      private long bytes;
+   }
 }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.paging.cursor.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.activemq.artemis.utils.ExecutorFactory;
+import org.apache.activemq.artemis.utils.actors.ArtemisExecutor;
+
+/**
+ * The read-ahead settings shared by the page cursor providers of a server.
+ * <p>
+ * Each provider reads ahead on its own ordered executor taken from the IO executor factory, so a slow disk
+ * never delays the address executor, and the pages read ahead by all of them are accounted against a single
+ * memory budget.
+ */
+public final class PageReadAhead {
+
+   private final ExecutorFactory ioExecutorFactory;
+
+   private final int pages;
+
+   private final long maxBytes;
+
+   private final AtomicLong usedBytes = new AtomicLong(0);
+
+   public PageReadAhead(final ExecutorFactory ioExecutorFactory, final int pages, final long maxBytes) {
+      this.ioExecutorFactory = ioExecutorFactory;
+      this.pages = pages;
+      this.maxBytes = maxBytes;
+   }
+
+   /**
+    * @return how many pages are read ahead of a subscription moving to a new page
+    */
+   public int getPages() {
+      return pages;
+   }
+
+   public long getUsedBytes() {
+      return usedBytes.get();
+   }
+
+   ArtemisExecutor newExecutor() {
+      return ioExecutorFactory.getExecutor();
+   }
+
+   /**
+    * @return false if holding another {@code bytes} would go over the budget, in which case nothing is reserved
+    */
+   boolean reserve(final long bytes) {
+      while (true) {
+         long used = usedBytes.get();
+         if (used + bytes > maxBytes) {
+            return false;
+         }
+         if (usedBytes.compareAndSet(used, used + bytes)) {
+            return true;
+         }
+      }
+   }
+
+   void release(final long bytes) {
+      usedBytes.addAndGet(-bytes);
+   }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.paging.cursor.impl;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.activemq.artemis.core.paging.PagedMessage;
+
+/**
+ * The message numbers on a page routed to each queue, taken from the queue IDs every paged message is stored with.
+ * <p>
+ * Messages are added by a single writer at a time, while any number of readers can look it up without locking: a
+ * reader is only guaranteed to see the messages added before the number of messages it passes to
+ * {@link #next(long, int, int)} was published.
+ */
+final class PageRoutingIndex {
+
+   private final Map<Long, Routed> routed = new ConcurrentHashMap<>();
+
+   static PageRoutingIndex of(final PagedMessage[] messages) {
+      PageRoutingIndex index = new PageRoutingIndex();
+      for (int i = 0; i < messages.length; i++) {
+         index.add(i, messages[i].getQueueIDs());
+      }
+      return index;
+   }
+
+   /**
+    * Message numbers must be added in order.
+    */
+   void add(final int messageNr, final long[] queueIDs) {
+      for (long queueID : queueIDs) {
+         Routed messages = routed.get(queueID);
+         if (messages == null) {
+            messages = new Routed();
+            routed.put(queueID, messages);
+         }
+         messages.add(messageNr);
+      }
+   }
+
+   /**
+    * @return the first message at or after {@code messageNr} routed to {@code queueID}, or {@code numberOfMessages}
+    */
+   int next(final long queueID, final int messageNr, final int numberOfMessages) {
+      Routed messages = routed.get(queueID);
+      if (messages == null) {
+         return numberOfMessages;
+      }
+      // size must be read before the array: a grown array always holds the numbers already published
+      final int size = messages.size;
+      final int[] messageNrs = messages.messageNrs;
+      int index = Arrays.binarySearch(messageNrs, 0, size, messageNr);
+      if (index < 0) {
+         index = -index - 1;
+      }
+      // messages added after numberOfMessages was read are not visible to the caller yet
+      return index < size ? Math.min(messageNrs[index], numberOfMessages) : numberOfMessages;
+   }
+
+   private static final class Routed {
+
+      private volatile int[] messageNrs = new int[8];
+
+      private volatile int size;
+
+      private void add(final int messageNr) {
+         int[] messageNrs = this.messageNrs;
+         final int size = this.size;
+         if (size == messageNrs.length) {
+            messageNrs = Arrays.copyOf(messageNrs, size * 2);
+            this.messageNrs = messageNrs;
+         }
+         messageNrs[size] = messageNr;
+         this.size = size + 1;
+      }
+   }
+}
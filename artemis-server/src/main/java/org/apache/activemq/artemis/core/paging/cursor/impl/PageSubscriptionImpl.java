@@ -18,14 +18,14 @@ package org.apache.activemq.artemis.core.paging.cursor.impl;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -56,13 +56,15 @@ import org.apache.activemq.artemis.core.transaction.TransactionPropertyIndexes;
 import org.apache.activemq.artemis.core.transaction.impl.TransactionImpl;
 import org.apache.activemq.artemis.utils.FutureLatch;
 import org.apache.activemq.artemis.utils.actors.ArtemisExecutor;
-import org.apache.activemq.artemis.utils.collections.ConcurrentHashSet;
 import org.jboss.logging.Logger;
 
 final class PageSubscriptionImpl implements PageSubscription {
 
    private static final Logger logger = Logger.getLogger(PageSubscriptionImpl.class);
 
+   // Number of ACKs stored as updates on the bitmap record of a page before a new bitmap replaces it
+   private static final int ACK_BITMAP_THRESHOLD = 64;
+
    private boolean empty = true;
 
    // Number of scheduled cleanups, to avoid too many schedules
@@ -88,6 +90,8 @@ final class PageSubscriptionImpl implements PageSubscription {
 
    private List<PagePosition> recoveredACK;
 
+   private List<RecoveredACKBitmap> recoveredACKBitmaps;
+
    private final SortedMap<Long, PageCursorInfo> consumedPages = new TreeMap<>();
 
    private final PageSubscriptionCounter counter;
@@ -308,19 +312,14 @@ final class PageSubscriptionImpl implements PageSubscription {
          }
 
          // it will delete the page ack records
-         for (PagePosition pos : infoPG.acks) {
-            if (pos.getRecordID() >= 0) {
-               store.deleteCursorAcknowledgeTransactional(tx.getID(), pos.getRecordID());
-               if (!persist) {
-                  // only need to set it once
-                  tx.setContainsPersistent();
-                  persist = true;
-               }
+         for (long recordID : infoPG.clearACKs()) {
+            store.deleteCursorAcknowledgeTransactional(tx.getID(), recordID);
+            if (!persist) {
+               // only need to set it once
+               tx.setContainsPersistent();
+               persist = true;
             }
          }
-
-         infoPG.acks.clear();
-         infoPG.removedReferences.clear();
       }
 
       tx.addOperation(new TransactionOperationAbstract() {
@@ -362,34 +361,48 @@ final class PageSubscriptionImpl implements PageSubscription {
       return new CursorIterator(browsing);
    }
 
-   private PagedReference internalGetNext(final PagePosition pos) {
+   private PagedReference internalGetNext(final PagePosition pos, final boolean browsing) {
       PagePosition retPos = pos.nextMessage();
 
       PageCache cache = cursorProvider.getPageCache(pos.getPageNr());
 
-      if (cache != null && !cache.isLive() && retPos.getMessageNr() >= cache.getNumberOfMessages()) {
-         // The next message is beyond what's available at the current page, so we need to move to the next page
-         cache = null;
-      }
+      while (true) {
+         if (cache != null && !cache.isLive() && retPos.getMessageNr() >= cache.getNumberOfMessages()) {
+            // The next message is beyond what's available at the current page, so we need to move to the next page
+            cache = null;
+         }
 
-      // it will scan for the next available page
-      while ((cache == null && retPos.getPageNr() <= pageStore.getCurrentWritingPage()) || (cache != null && retPos.getPageNr() <= pageStore.getCurrentWritingPage() && cache.getNumberOfMessages() == 0)) {
-         retPos = moveNextPage(retPos);
+         // it will scan for the next available page
+         while ((cache == null && retPos.getPageNr() <= pageStore.getCurrentWritingPage()) || (cache != null && retPos.getPageNr() <= pageStore.getCurrentWritingPage() && cache.getNumberOfMessages() == 0)) {
+            retPos = moveNextPage(retPos);
 
-         cache = cursorProvider.getPageCache(retPos.getPageNr());
-      }
+            cache = cursorProvider.getPageCache(retPos.getPageNr());
 
-      if (cache == null) {
-         // it will be null in the case of the current writing page
-         return null;
-      } else {
-         PagedMessage serverMessage = cache.getMessage(retPos.getMessageNr());
+            cursorProvider.readAhead(retPos.getPageNr());
+         }
 
-         if (serverMessage != null) {
-            return cursorProvider.newReference(retPos, serverMessage, this);
-         } else {
+         if (cache == null) {
+            // it will be null in the case of the current writing page
             return null;
          }
+
+         // the messages not routed to this subscription are skipped straight from the page routing index
+         int routedNr = cache.getNextMessageRoutedTo(cursorId, retPos.getMessageNr());
+         if (routedNr <= retPos.getMessageNr()) {
+            break;
+         }
+         if (!browsing) {
+            positionsIgnored(retPos.getPageNr(), retPos.getMessageNr(), routedNr);
+         }
+         retPos = new PagePositionImpl(retPos.getPageNr(), routedNr);
+      }
+
+      PagedMessage serverMessage = cache.getMessage(retPos.getMessageNr());
+
+      if (serverMessage != null) {
+         return cursorProvider.newReference(retPos, serverMessage, this);
+      } else {
+         return null;
       }
    }
 
@@ -429,7 +442,7 @@ final class PageSubscriptionImpl implements PageSubscription {
    public void confirmPosition(final Transaction tx, final PagePosition position) throws Exception {
       // if the cursor is persistent
       if (persistent) {
-         store.storeCursorAcknowledgeTransactional(tx.getID(), cursorId, position);
+         storeACK(tx, position);
       }
       installTXCallback(tx, position);
 
@@ -478,7 +491,7 @@ final class PageSubscriptionImpl implements PageSubscription {
    public void confirmPosition(final PagePosition position) throws Exception {
       // if we are dealing with a persistent cursor
       if (persistent) {
-         store.storeCursorAcknowledge(cursorId, position);
+         storeACK(null, position);
       }
 
       store.afterCompleteOperations(new IOCallback() {
@@ -488,11 +501,13 @@ final class PageSubscriptionImpl implements PageSubscription {
          public void onError(final int errorCode, final String errorMessage) {
             error = " errorCode=" + errorCode + ", msg=" + errorMessage;
             ActiveMQServerLogger.LOGGER.pageSubscriptionError(this, error);
+            releaseACK(position);
          }
 
          @Override
          public void done() {
             processACK(position);
+            releaseACK(position);
          }
 
          @Override
@@ -560,9 +575,27 @@ final class PageSubscriptionImpl implements PageSubscription {
       recoveredACK.add(position);
    }
 
+   /**
+    * Theres no need to synchronize this method as it's only called from journal load on startup
+    */
+   @Override
+   public void reloadACKBitmap(final long recordID, final long pageNr, final BitSet acks) {
+      if (recoveredACKBitmaps == null) {
+         recoveredACKBitmaps = new LinkedList<>();
+      }
+
+      recoveredACKBitmaps.add(new RecoveredACKBitmap(recordID, pageNr, acks));
+   }
+
    @Override
    public void reloadPreparedACK(final Transaction tx, final PagePosition position) {
       deliveredCount.incrementAndGet();
+      if (position.getRecordID() >= 0) {
+         PageCursorInfo info = getPageInfo(position);
+         if (info != null) {
+            info.holdACK();
+         }
+      }
       installTXCallback(tx, position);
    }
 
@@ -577,6 +610,15 @@ final class PageSubscriptionImpl implements PageSubscription {
       cursorInfo.decrementPendingTX();
    }
 
+   @Override
+   public boolean isAcked(final PagePosition position) {
+      PageCursorInfo info;
+      synchronized (consumedPages) {
+         info = consumedPages.get(position.getPageNr());
+      }
+      return info != null && (info.isPendingDelete() || info.isAck(position));
+   }
+
    @Override
    public boolean isComplete(long page) {
       logger.tracef("%s isComplete %d", this, page);
@@ -615,11 +657,9 @@ final class PageSubscriptionImpl implements PageSubscription {
 
          synchronized (consumedPages) {
             for (PageCursorInfo cursor : consumedPages.values()) {
-               for (PagePosition info : cursor.acks) {
-                  if (info.getRecordID() >= 0) {
-                     isPersistent = true;
-                     store.deleteCursorAcknowledgeTransactional(tx, info.getRecordID());
-                  }
+               for (long recordID : cursor.clearACKs()) {
+                  isPersistent = true;
+                  store.deleteCursorAcknowledgeTransactional(tx, recordID);
                }
                PagePosition completeInfo = cursor.getCompleteInfo();
                if (completeInfo != null && completeInfo.getRecordID() >= 0) {
@@ -655,6 +695,35 @@ final class PageSubscriptionImpl implements PageSubscription {
 
    @Override
    public void processReload() throws Exception {
+      if (recoveredACKBitmaps != null) {
+         long txDeleteBitmapOnReload = -1;
+
+         for (RecoveredACKBitmap bitmap : recoveredACKBitmaps) {
+            PagePosition lastPosition = new PagePositionImpl(bitmap.pageNr, bitmap.acks.length() - 1);
+            PageCursorInfo pageInfo = getPageInfo(bitmap.pageNr);
+
+            if (pageInfo == null) {
+               ActiveMQServerLogger.LOGGER.pageNotFound(lastPosition);
+               if (txDeleteBitmapOnReload == -1) {
+                  txDeleteBitmapOnReload = store.generateID();
+               }
+               store.deleteCursorAcknowledgeTransactional(txDeleteBitmapOnReload, bitmap.recordID);
+            } else {
+               if (lastAckedPosition == null || lastPosition.compareTo(lastAckedPosition) > 0) {
+                  lastAckedPosition = lastPosition;
+               }
+               pageInfo.loadACKBitmap(bitmap.recordID, bitmap.acks);
+            }
+         }
+
+         if (txDeleteBitmapOnReload >= 0) {
+            store.commit(txDeleteBitmapOnReload);
+         }
+
+         recoveredACKBitmaps.clear();
+         recoveredACKBitmaps = null;
+      }
+
       if (recoveredACK != null) {
          if (logger.isTraceEnabled()) {
             logger.trace("********** processing reload!!!!!!!");
@@ -664,15 +733,19 @@ final class PageSubscriptionImpl implements PageSubscription {
          long txDeleteCursorOnReload = -1;
 
          for (PagePosition pos : recoveredACK) {
-            lastAckedPosition = pos;
+            if (lastAckedPosition == null || pos.compareTo(lastAckedPosition) > 0) {
+               lastAckedPosition = pos;
+            }
             PageCursorInfo pageInfo = getPageInfo(pos);
 
             if (pageInfo == null) {
                ActiveMQServerLogger.LOGGER.pageNotFound(pos);
-               if (txDeleteCursorOnReload == -1) {
-                  txDeleteCursorOnReload = store.generateID();
+               if (pos.getRecordID() >= 0) {
+                  if (txDeleteCursorOnReload == -1) {
+                     txDeleteCursorOnReload = store.generateID();
+                  }
+                  store.deleteCursorAcknowledgeTransactional(txDeleteCursorOnReload, pos.getRecordID());
                }
-               store.deleteCursorAcknowledgeTransactional(txDeleteCursorOnReload, pos.getRecordID());
             } else {
                pageInfo.loadACK(pos);
             }
@@ -729,16 +802,13 @@ final class PageSubscriptionImpl implements PageSubscription {
             }
             info.setCompleteInfo(null);
          }
-         for (PagePosition deleteInfo : info.acks) {
-            if (deleteInfo.getRecordID() >= 0) {
-               try {
-                  store.deleteCursorAcknowledge(deleteInfo.getRecordID());
-               } catch (Exception e) {
-                  ActiveMQServerLogger.LOGGER.warn("Error while deleting page-complete-record", e);
-               }
+         for (long recordID : info.clearACKs()) {
+            try {
+               store.deleteCursorAcknowledge(recordID);
+            } catch (Exception e) {
+               ActiveMQServerLogger.LOGGER.warn("Error while deleting page-complete-record", e);
             }
          }
-         info.acks.clear();
       }
    }
 
@@ -790,6 +860,38 @@ final class PageSubscriptionImpl implements PageSubscription {
    // To be called only after the ACK has been processed and guaranteed to be on storage
    // The only exception is on non storage events such as not matching messages
    private PageCursorInfo processACK(final PagePosition pos) {
+      updateLastAckedPosition(pos);
+      PageCursorInfo info = getPageInfo(pos);
+
+      // This could be null if the page file was removed
+      if (info == null) {
+         // This could become null if the page file was deleted, or if the queue was removed maybe?
+         // it's better to diagnose it (based on support tickets) instead of NPE
+         ActiveMQServerLogger.LOGGER.nullPageCursorInfo(this.getPagingStore().getAddress().toString(), pos.toString(), cursorId);
+      } else {
+         info.addACK(pos);
+      }
+
+      return info;
+   }
+
+   /**
+    * The same as {@link #positionIgnored(PagePosition)} for every message from {@code fromMessageNr} (inclusive)
+    * to {@code toMessageNr} (exclusive) on a page, these were not routed to this subscription.
+    */
+   private void positionsIgnored(final long pageNr, final int fromMessageNr, final int toMessageNr) {
+      PagePosition last = new PagePositionImpl(pageNr, toMessageNr - 1);
+      updateLastAckedPosition(last);
+      PageCursorInfo info = getPageInfo(pageNr);
+
+      if (info == null) {
+         ActiveMQServerLogger.LOGGER.nullPageCursorInfo(this.getPagingStore().getAddress().toString(), last.toString(), cursorId);
+      } else {
+         info.addACKs(fromMessageNr, toMessageNr);
+      }
+   }
+
+   private void updateLastAckedPosition(final PagePosition pos) {
       if (lastAckedPosition == null || pos.compareTo(lastAckedPosition) > 0) {
          if (logger.isTraceEnabled()) {
             logger.trace("a new position is being processed as ACK");
@@ -806,18 +908,6 @@ final class PageSubscriptionImpl implements PageSubscription {
          }
          lastAckedPosition = pos;
       }
-      PageCursorInfo info = getPageInfo(pos);
-
-      // This could be null if the page file was removed
-      if (info == null) {
-         // This could become null if the page file was deleted, or if the queue was removed maybe?
-         // it's better to diagnose it (based on support tickets) instead of NPE
-         ActiveMQServerLogger.LOGGER.nullPageCursorInfo(this.getPagingStore().getAddress().toString(), pos.toString(), cursorId);
-      } else {
-         info.addACK(pos);
-      }
-
-      return info;
    }
 
    /**
@@ -867,8 +957,107 @@ final class PageSubscriptionImpl implements PageSubscription {
       }
    }
 
+   /**
+    * Stores an ACK as an update on the bitmap record of its page, adding that record first if the page has none yet.
+    * The position keeps the ID of the record it was stored on, or -1 if it wasn't stored.
+    */
+   private void storeACK(final Transaction tx, final PagePosition position) throws Exception {
+      PageCursorInfo info = getPageInfo(position);
+
+      if (info == null) {
+         // processACK will report the missing page
+         position.setRecordID(-1);
+         return;
+      }
+
+      synchronized (info) {
+         if (info.isPendingDelete()) {
+            // the page is complete and its records are being deleted
+            position.setRecordID(-1);
+            return;
+         }
+
+         if (info.bitmapRecordID < 0) {
+            info.bitmapRecordID = store.storeCursorAckBitmap(cursorId, info.getPageId(), info.acks);
+         }
+
+         if (tx == null) {
+            store.storeCursorAcknowledge(cursorId, info.bitmapRecordID, position);
+         } else {
+            store.storeCursorAcknowledgeTransactional(tx.getID(), cursorId, info.bitmapRecordID, position);
+         }
+
+         info.storedACKs++;
+         info.holdACK();
+      }
+   }
+
+   /**
+    * To be called once a stored ACK was processed or will never be (an error or a rollback).
+    */
+   private void releaseACK(final PagePosition position) {
+      if (position.getRecordID() < 0) {
+         return;
+      }
+
+      PageCursorInfo info;
+      synchronized (consumedPages) {
+         info = consumedPages.get(position.getPageNr());
+      }
+
+      if (info != null) {
+         info.releaseACK();
+      }
+   }
+
+   /**
+    * Stores the ACKs of a page as a new bitmap record and deletes the previous one, which also drops every ACK
+    * stored as an update on it. The bitmap only holds processed ACKs, so this waits for the page to have no
+    * stored ACK pending. The new record is appended before the delete, a crash in between leaves both to be
+    * reloaded.
+    */
+   private void storeACKBitmap(final PageCursorInfo info) {
+      synchronized (info) {
+         info.bitmapScheduled = false;
+         if (info.isPendingDelete() || info.pendingACKs > 0 || info.storedACKs < ACK_BITMAP_THRESHOLD) {
+            return;
+         }
+
+         try {
+            if (info.bitmapRecordID >= 0) {
+               info.staleRecordIDs.add(info.bitmapRecordID);
+            }
+            info.bitmapRecordID = store.storeCursorAckBitmap(cursorId, info.getPageId(), info.acks);
+            info.storedACKs = 0;
+
+            Iterator<Long> iterator = info.staleRecordIDs.iterator();
+            while (iterator.hasNext()) {
+               store.deleteCursorAcknowledge(iterator.next());
+               iterator.remove();
+            }
+         } catch (Exception e) {
+            ActiveMQServerLogger.LOGGER.pageAckBitmapError(e, info.getPageId(), cursorId);
+         }
+      }
+   }
+
    // Inner classes -------------------------------------------------
 
+   private static final class RecoveredACKBitmap {
+
+      private final long recordID;
+
+      private final long pageNr;
+
+      private final BitSet acks;
+
+      private RecoveredACKBitmap(final long recordID, final long pageNr, final BitSet acks) {
+         this.recordID = recordID;
+         this.pageNr = pageNr;
+         this.acks = acks;
+      }
+   }
+
    /**
     * This will hold information about the pending ACKs towards a page.
     * <p>
@@ -882,12 +1071,29 @@ final class PageSubscriptionImpl implements PageSubscription {
 
       private final long pageId;
 
-      // Confirmed ACKs on this page
-      private final Set<PagePosition> acks = Collections.synchronizedSet(new LinkedHashSet<PagePosition>());
+      // Confirmed ACKs on this page, one bit per message number. Guarded by this
+      private final BitSet acks = new BitSet();
+
+      // The bitmap record the ACKs on this page are stored as updates on, or -1. Guarded by this
+      private long bitmapRecordID = -1;
+
+      // Number of ACKs stored as updates on the bitmap record. Guarded by this
+      private int storedACKs;
+
+      // Number of stored ACKs not yet processed, as in an open transaction. Guarded by this
+      private int pendingACKs;
+
+      // Records to delete with the next bitmap: a bitmap left behind by a crash, or the single ACK
+      // records of older journals. Guarded by this
+      private final List<Long> staleRecordIDs = new ArrayList<>();
+
+      // A new bitmap is already waiting on the executor. Guarded by this
+      private boolean bitmapScheduled;
 
       private WeakReference<PageCache> cache;
 
-      private final Set<PagePosition> removedReferences = new ConcurrentHashSet<>();
+      // Guarded by this
+      private final BitSet removedReferences = new BitSet();
 
       // The page was live at the time of the creation
       private final boolean wasLive;
@@ -910,7 +1116,12 @@ final class PageSubscriptionImpl implements PageSubscription {
       private final AtomicInteger confirmed = new AtomicInteger(0);
 
       public boolean isAck(PagePosition position) {
-         return completePage != null || acks.contains(position);
+         if (completePage != null) {
+            return true;
+         }
+         synchronized (this) {
+            return position.getMessageNr() >= 0 && acks.get(position.getMessageNr());
+         }
       }
 
       @Override
@@ -991,12 +1202,14 @@ final class PageSubscriptionImpl implements PageSubscription {
          checkDone();
       }
 
-      public boolean isRemoved(final PagePosition pos) {
-         return removedReferences.contains(pos);
+      public synchronized boolean isRemoved(final PagePosition pos) {
+         return pos.getMessageNr() >= 0 && removedReferences.get(pos.getMessageNr());
       }
 
-      public void remove(final PagePosition position) {
-         removedReferences.add(position);
+      public synchronized void remove(final PagePosition position) {
+         if (position.getMessageNr() >= 0) {
+            removedReferences.set(position.getMessageNr());
+         }
       }
 
       public void addACK(final PagePosition posACK) {
@@ -1014,25 +1227,117 @@ final class PageSubscriptionImpl implements PageSubscription {
             }
          }
 
-         boolean added = internalAddACK(posACK);
+         final boolean added;
+         synchronized (this) {
+            added = internalAddACK(posACK);
+         }
 
-         // Negative could mean a bookmark on the first element for the page (example -1)
-         if (added && posACK.getMessageNr() >= 0) {
+         if (added) {
             confirmed.incrementAndGet();
             checkDone();
          }
       }
 
+      public synchronized void holdACK() {
+         pendingACKs++;
+      }
+
+      public void releaseACK() {
+         final boolean snapshot;
+         synchronized (this) {
+            if (pendingACKs > 0) {
+               pendingACKs--;
+            }
+            snapshot = !bitmapScheduled && pendingACKs == 0 && storedACKs >= ACK_BITMAP_THRESHOLD && !isPendingDelete();
+            if (snapshot) {
+               bitmapScheduled = true;
+            }
+         }
+
+         if (snapshot) {
+            executor.execute(() -> storeACKBitmap(this));
+         }
+      }
+
+      /**
+       * Acknowledges a range of messages at once, these are never stored so they don't take a journal record.
+       */
+      public void addACKs(final int fromMessageNr, final int toMessageNr) {
+         int added;
+         synchronized (this) {
+            added = (toMessageNr - fromMessageNr) - acks.get(fromMessageNr, toMessageNr).cardinality();
+            acks.set(fromMessageNr, toMessageNr);
+            removedReferences.set(fromMessageNr, toMessageNr);
+         }
+
+         if (added > 0) {
+            confirmed.addAndGet(added);
+            checkDone();
+         }
+      }
+
       // To be called during reload
       public void loadACK(final PagePosition posACK) {
-         if (internalAddACK(posACK) && posACK.getMessageNr() >= 0) {
-            confirmed.incrementAndGet();
+         synchronized (this) {
+            if (posACK.getRecordID() >= 0) {
+               staleRecordIDs.add(posACK.getRecordID());
+            }
+            storedACKs++;
+            if (!internalAddACK(posACK)) {
+               return;
+            }
          }
+         confirmed.incrementAndGet();
       }
 
+      // To be called during reload
+      public void loadACKBitmap(final long recordID, final BitSet loaded) {
+         int added;
+         synchronized (this) {
+            BitSet newAcks = (BitSet) loaded.clone();
+            newAcks.andNot(acks);
+            added = newAcks.cardinality();
+            acks.or(loaded);
+            removedReferences.or(loaded);
+            if (bitmapRecordID >= 0) {
+               // a previous bitmap was left behind, it will be removed with the next one
+               staleRecordIDs.add(bitmapRecordID);
+            }
+            bitmapRecordID = recordID;
+         }
+         confirmed.addAndGet(added);
+      }
+
+      /**
+       * @return true if this is a new ACK on a message (negative positions are bookmarks and never counted)
+       */
       private boolean internalAddACK(final PagePosition posACK) {
-         removedReferences.add(posACK);
-         return acks.add(posACK);
+         // Negative could mean a bookmark on the first element for the page (example -1)
+         if (posACK.getMessageNr() < 0) {
+            return false;
+         }
+         removedReferences.set(posACK.getMessageNr());
+         if (acks.get(posACK.getMessageNr())) {
+            return false;
+         }
+         acks.set(posACK.getMessageNr());
+         return true;
+      }
+
+      /**
+       * Forgets every ACK on this page and returns the journal records that were holding them.
+       */
+      public synchronized List<Long> clearACKs() {
+         List<Long> recordIDs = new ArrayList<>(staleRecordIDs);
+         if (bitmapRecordID >= 0) {
+            recordIDs.add(bitmapRecordID);
+         }
+         staleRecordIDs.clear();
+         bitmapRecordID = -1;
+         storedACKs = 0;
+         acks.clear();
+         removedReferences.clear();
+         return recordIDs;
       }
 
       /**
@@ -1087,11 +1392,23 @@ final class PageSubscriptionImpl implements PageSubscription {
             for (PagePosition confirmed : positions) {
                cursor.processACK(confirmed);
                cursor.deliveredCount.decrementAndGet();
+               cursor.releaseACK(confirmed);
             }
 
          }
       }
 
+      @Override
+      public void afterRollback(final Transaction tx) {
+         for (Entry<PageSubscriptionImpl, List<PagePosition>> entry : pendingPositions.entrySet()) {
+            PageSubscriptionImpl cursor = entry.getKey();
+
+            for (PagePosition position : entry.getValue()) {
+               cursor.releaseACK(position);
+            }
+         }
+      }
+
       @Override
       public List<MessageReference> getRelatedMessageReferences() {
          return Collections.emptyList();
@@ -1195,7 +1512,7 @@ final class PageSubscriptionImpl implements PageSubscription {
                      isredelivery = false;
                   }
 
-                  message = internalGetNext(tmpPosition);
+                  message = internalGetNext(tmpPosition, browsing);
                }
 
                if (message == null) {
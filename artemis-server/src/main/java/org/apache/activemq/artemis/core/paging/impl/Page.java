@@ -26,10 +26,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 import io.netty.buffer.UnpooledUnsafeDirectByteBufWrapper;
 import io.netty.util.internal.PlatformDependent;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.api.core.ActiveMQBuffers;
 import org.apache.activemq.artemis.api.core.ICoreMessage;
 import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.core.buffers.impl.ChannelBufferWrapper;
@@ -59,6 +63,17 @@ public final class Page implements Comparable<Page> {
 
    private static final byte END_BYTE = (byte) '}';
 
+   /**
+    * A compressed block holds a batch of records, deflated as a whole and decoded on its own
+    */
+   private static final int SIZE_COMPRESSED_RECORD = DataConstants.SIZE_BYTE + DataConstants.SIZE_INT + DataConstants.SIZE_INT + DataConstants.SIZE_BYTE;
+
+   private static final byte COMPRESSED_START_BYTE = (byte) '[';
+
+   private static final byte COMPRESSED_END_BYTE = (byte) ']';
+
+   private static final String REWRITE_SUFFIX = ".rewrite";
+
    // Attributes ----------------------------------------------------
 
    private final int pageId;
@@ -92,6 +107,23 @@ public final class Page implements Comparable<Page> {
    private final ActiveMQBuffer activeMQBuffer;
    private final UnpooledUnsafeDirectByteBufWrapper unsafeByteBufWrapper;
 
+   private int writeBufferSize;
+
+   /**
+    * The records written and not flushed to the file yet, if batching writes
+    */
+   private ByteBuffer writeBuffer;
+
+   private boolean compressWrites;
+
+   private Deflater deflater;
+
+   private byte[] compressionInput;
+
+   private byte[] compressionOutput;
+
+   private PageMappings mappings;
+
    public Page(final SimpleString storeName,
                final StorageManager storageManager,
                final SequentialFileFactory factory,
@@ -116,6 +148,29 @@ public final class Page implements Comparable<Page> {
       this.pageCache = pageCache;
    }
 
+   /**
+    * With a positive {@code writeBufferSize} the messages written to this page are batched in a single buffer, that is
+    * written to the file when full, on {@link #sync()}, on {@link #flushWriteBuffer()} or when the page is closed.
+    */
+   public void setWriteBufferSize(int writeBufferSize) {
+      this.writeBufferSize = writeBufferSize;
+   }
+
+   /**
+    * Each batch of records written through the write buffer, or by {@link #rewrite(PagedMessage[])}, is written as a
+    * compressed block. It has no effect without a write buffer.
+    */
+   public void setCompressWrites(boolean compressWrites) {
+      this.compressWrites = compressWrites;
+   }
+
+   /**
+    * Pages read through their mapping will reuse the mappings kept by {@code mappings}.
+    */
+   public void setMappings(PageMappings mappings) {
+      this.mappings = mappings;
+   }
+
    public synchronized List<PagedMessage> read(StorageManager storage) throws Exception {
       if (logger.isDebugEnabled()) {
          logger.debug("reading page " + this.pageId + " on address = " + storeName);
@@ -143,6 +198,66 @@ public final class Page implements Comparable<Page> {
       return messages;
    }
 
+   /**
+    * Returns how many bytes the records of this page take once read, that is with its compressed blocks inflated.
+    * Only the headers of the records are read, using the uncompressed size held by each compressed block.
+    */
+   public synchronized long getDecodedSize() throws Exception {
+      if (!file.isOpen()) {
+         throw ActiveMQMessageBundle.BUNDLE.invalidPageIO();
+      }
+
+      final int fileSize = (int) file.size();
+
+      if (!this.canBeMapped) {
+         // only mappable files are ever compressed by the paging store factory
+         return fileSize;
+      }
+
+      if (mappings != null) {
+         final PageMappings.Mapping mapping = mappings.acquire(this.file.getJavaFile(), fileSize);
+         try {
+            return decodedSize(mapping.getBuffer(), fileSize);
+         } finally {
+            mappings.release(mapping);
+         }
+      }
+      final MappedByteBuffer mappedByteBuffer = mapFileForRead(this.file.getJavaFile(), fileSize);
+      try {
+         return decodedSize(mappedByteBuffer, fileSize);
+      } finally {
+         PlatformDependent.freeDirectBuffer(mappedByteBuffer);
+      }
+   }
+
+   private static long decodedSize(final ByteBuffer fileBuffer, final int fileSize) {
+      long decodedSize = 0;
+      long position = 0;
+      while (position < fileSize) {
+         final byte byteRead = fileBuffer.get((int) position);
+         if (byteRead == Page.START_BYTE && position + Page.SIZE_RECORD <= fileSize) {
+            final int messageSize = fileBuffer.getInt((int) position + DataConstants.SIZE_BYTE);
+            if (messageSize < 0) {
+               break;
+            }
+            decodedSize += messageSize + Page.SIZE_RECORD;
+            position += messageSize + Page.SIZE_RECORD;
+         } else if (byteRead == Page.COMPRESSED_START_BYTE && position + Page.SIZE_COMPRESSED_RECORD <= fileSize) {
+            final int compressedSize = fileBuffer.getInt((int) position + DataConstants.SIZE_BYTE);
+            final int uncompressedSize = fileBuffer.getInt((int) position + DataConstants.SIZE_BYTE + DataConstants.SIZE_INT);
+            if (compressedSize <= 0 || uncompressedSize <= 0) {
+               break;
+            }
+            decodedSize += uncompressedSize;
+            position += compressedSize + Page.SIZE_COMPRESSED_RECORD;
+         } else {
+            // a damaged record: read stops there too
+            break;
+         }
+      }
+      return decodedSize;
+   }
+
    private void readFromSequentialFile(StorageManager storage, List<PagedMessage> messages) throws Exception {
       final int fileSize = (int) file.size();
       //doesn't need to be a direct buffer: that case is covered using the MMAP read
@@ -165,7 +280,7 @@ public final class Page implements Comparable<Page> {
       }
    }
 
-   private static MappedByteBuffer mapFileForRead(File file, int fileSize) {
+   static MappedByteBuffer mapFileForRead(File file, int fileSize) {
       try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
            FileChannel channel = raf.getChannel()) {
          return channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
@@ -178,7 +293,24 @@ public final class Page implements Comparable<Page> {
       file.position(0);
       //use a readonly mapped view of the file
       final int mappedSize = size.get();
+      if (mappings != null) {
+         final PageMappings.Mapping mapping = mappings.acquire(this.file.getJavaFile(), mappedSize);
+         try {
+            return readMapped(storage, mapping.getBuffer(), mappedSize, messages);
+         } finally {
+            mappings.release(mapping);
+         }
+      }
       final MappedByteBuffer mappedByteBuffer = mapFileForRead(this.file.getJavaFile(), mappedSize);
+      try {
+         return readMapped(storage, mappedByteBuffer, mappedSize, messages);
+      } finally {
+         //unmap the file after read it to avoid GC to take care of it
+         PlatformDependent.freeDirectBuffer(mappedByteBuffer);
+      }
+   }
+
+   private int readMapped(StorageManager storage, MappedByteBuffer mappedByteBuffer, int mappedSize, List<PagedMessage> messages) {
       this.unsafeByteBufWrapper.wrap(mappedByteBuffer, 0, mappedSize);
       try {
          this.activeMQBuffer.clear();
@@ -186,8 +318,6 @@ public final class Page implements Comparable<Page> {
          return read(storage, this.activeMQBuffer, messages);
       } finally {
          this.unsafeByteBufWrapper.reset();
-         //unmap the file after read it to avoid GC to take care of it
-         PlatformDependent.freeDirectBuffer(mappedByteBuffer);
       }
    }
 
@@ -223,6 +353,13 @@ public final class Page implements Comparable<Page> {
                   break;
                }
             }
+         } else if (byteRead == Page.COMPRESSED_START_BYTE) {
+            final int blockMessages = readCompressedBlock(storage, fileBuffer, messages);
+            if (blockMessages < 0) {
+               markFileAsSuspect(file.getFileName(), position, messages.size());
+               break;
+            }
+            readMessages += blockMessages;
          } else {
             markFileAsSuspect(file.getFileName(), position, messages.size());
             break;
@@ -231,14 +368,136 @@ public final class Page implements Comparable<Page> {
       return readMessages;
    }
 
+   /**
+    * @return the number of messages read from the block, or -1 if the block is incomplete or can't be inflated
+    */
+   private int readCompressedBlock(StorageManager storage, ActiveMQBuffer fileBuffer, List<PagedMessage> messages) {
+      if (fileBuffer.readerIndex() + DataConstants.SIZE_INT + DataConstants.SIZE_INT >= fileBuffer.capacity()) {
+         return -1;
+      }
+      final int compressedSize = fileBuffer.readInt();
+      final int uncompressedSize = fileBuffer.readInt();
+      final int compressedPosition = fileBuffer.readerIndex();
+      if (compressedSize <= 0 || uncompressedSize <= 0 || compressedPosition + compressedSize >= fileBuffer.capacity() || fileBuffer.getByte(compressedPosition + compressedSize) != Page.COMPRESSED_END_BYTE) {
+         return -1;
+      }
+      final byte[] compressed = new byte[compressedSize];
+      fileBuffer.readBytes(compressed);
+      fileBuffer.readByte();
+      final byte[] uncompressed = new byte[uncompressedSize];
+      final Inflater inflater = new Inflater();
+      try {
+         inflater.setInput(compressed);
+         if (inflater.inflate(uncompressed) != uncompressedSize || !inflater.finished()) {
+            return -1;
+         }
+      } catch (DataFormatException e) {
+         return -1;
+      } finally {
+         inflater.end();
+      }
+      return read(storage, ActiveMQBuffers.wrappedBuffer(uncompressed), messages);
+   }
+
    public synchronized void write(final PagedMessage message) throws Exception {
       if (!file.isOpen()) {
          return;
       }
+      final int bufferSize = writeBufferSize > 0 ? bufferRecord(file, message) : writeRecord(file, message);
+      if (pageCache != null) {
+         pageCache.addLiveMessage(message);
+      }
+      //lighter than addAndGet when single writer
+      numberOfMessages.lazySet(numberOfMessages.get() + 1);
+      size.lazySet(size.get() + bufferSize);
+      storageManager.pageWrite(message, pageId);
+   }
+
+   /**
+    * @return whether {@link #rewrite(PagedMessage[])} is supported by the file factory of this page
+    */
+   public boolean isRewritable() {
+      return canBeMapped;
+   }
+
+   /**
+    * Replaces the content of this page by {@code messages}, which must keep the number and order of the messages
+    * already on the page so every {@link org.apache.activemq.artemis.core.paging.cursor.PagePosition} stays valid.
+    * <p>
+    * The messages are written to a new file that is then renamed over this page, so a crash leaves either the old
+    * or the new content. The page must not be open for writing.
+    */
+   public synchronized void rewrite(final PagedMessage[] messages) throws Exception {
+      if (!isRewritable()) {
+         throw new IllegalStateException("Page " + pageId + " on " + storeName + " can't be rewritten");
+      }
+      final String fileName = file.getFileName();
+      SequentialFile rewritten = fileFactory.createSequentialFile(fileName + REWRITE_SUFFIX);
+      if (rewritten.exists()) {
+         // left over by a previous rewrite that didn't complete
+         rewritten.delete();
+         rewritten = fileFactory.createSequentialFile(fileName + REWRITE_SUFFIX);
+      }
+      final boolean compress = compressWrites && writeBufferSize > 0;
+      int newSize = 0;
+      rewritten.open();
+      try {
+         for (PagedMessage message : messages) {
+            newSize += compress ? bufferRecord(rewritten, message) : writeRecord(rewritten, message);
+         }
+         flushWriteBuffer(rewritten);
+         rewritten.sync();
+         rewritten.renameTo(fileName);
+         if (mappings != null) {
+            mappings.invalidate(file.getJavaFile());
+         }
+      } catch (Exception e) {
+         flushWriteBuffer(null);
+         try {
+            rewritten.delete();
+         } catch (Exception ignored) {
+         }
+         throw e;
+      } finally {
+         releaseCompression();
+      }
+      size.set(newSize);
+      numberOfMessages.set(messages.length);
+   }
+
+   private int writeRecord(final SequentialFile target, final PagedMessage message) throws Exception {
       final int messageEncodedSize = message.getEncodeSize();
       final int bufferSize = messageEncodedSize + Page.SIZE_RECORD;
       final ByteBuffer buffer = fileFactory.newBuffer(bufferSize);
-      this.unsafeByteBufWrapper.wrap(buffer, 0, bufferSize);
+      encodeRecord(buffer, 0, messageEncodedSize, message);
+      //buffer limit and position are the same
+      assert (buffer.remaining() == bufferSize) : "buffer position or limit are changed";
+      target.writeDirect(buffer, false);
+      return bufferSize;
+   }
+
+   private int bufferRecord(final SequentialFile target, final PagedMessage message) throws Exception {
+      final int messageEncodedSize = message.getEncodeSize();
+      final int bufferSize = messageEncodedSize + Page.SIZE_RECORD;
+      if (writeBuffer != null && writeBuffer.remaining() < bufferSize) {
+         flushWriteBuffer(target);
+      }
+      if (bufferSize > writeBufferSize) {
+         // it would never fit: the pending records were flushed already, so the order is kept
+         return writeRecord(target, message);
+      }
+      if (writeBuffer == null) {
+         writeBuffer = fileFactory.newBuffer(writeBufferSize);
+      }
+      final int position = writeBuffer.position();
+      encodeRecord(writeBuffer, position, messageEncodedSize, message);
+      writeBuffer.position(position + bufferSize);
+      return bufferSize;
+   }
+
+   private void encodeRecord(final ByteBuffer buffer, final int offset, final int messageEncodedSize, final PagedMessage message) {
+      final int bufferSize = messageEncodedSize + Page.SIZE_RECORD;
+      this.unsafeByteBufWrapper.wrap(buffer, offset, bufferSize);
       try {
          this.activeMQBuffer.clear();
          this.activeMQBuffer.writeByte(Page.START_BYTE);
@@ -246,22 +505,88 @@ public final class Page implements Comparable<Page> {
          message.encode(this.activeMQBuffer);
          this.activeMQBuffer.writeByte(Page.END_BYTE);
          assert (this.activeMQBuffer.readableBytes() == bufferSize) : "messageEncodedSize is different from expected";
-         //buffer limit and position are the same
-         assert (buffer.remaining() == bufferSize) : "buffer position or limit are changed";
-         file.writeDirect(buffer, false);
-         if (pageCache != null) {
-            pageCache.addLiveMessage(message);
-         }
-         //lighter than addAndGet when single writer
-         numberOfMessages.lazySet(numberOfMessages.get() + 1);
-         size.lazySet(size.get() + bufferSize);
-         storageManager.pageWrite(message, pageId);
       } finally {
          this.unsafeByteBufWrapper.reset();
       }
    }
 
+   /**
+    * Writes the records batched on the write buffer, if any, to the page file.
+    */
+   public synchronized void flushWriteBuffer() throws Exception {
+      flushWriteBuffer(file);
+   }
+
+   /**
+    * A {@code null} target drops the records.
+    */
+   private void flushWriteBuffer(final SequentialFile target) throws Exception {
+      final ByteBuffer buffer = writeBuffer;
+      if (buffer == null) {
+         return;
+      }
+      writeBuffer = null;
+      buffer.flip();
+      if (buffer.remaining() == 0 || target == null || !target.isOpen()) {
+         fileFactory.releaseBuffer(buffer);
+         return;
+      }
+      if (compressWrites && writeCompressed(target, buffer)) {
+         return;
+      }
+      // the file factory takes back the buffer once written
+      target.writeDirect(buffer, false);
+   }
+
+   /**
+    * @return {@code false} if the batch doesn't get smaller compressed and it needs to be written as it is
+    */
+   private boolean writeCompressed(final SequentialFile target, final ByteBuffer batch) throws Exception {
+      final int length = batch.remaining();
+      final int maxCompressedSize = length - Page.SIZE_COMPRESSED_RECORD;
+      if (maxCompressedSize <= 0) {
+         return false;
+      }
+      if (compressionInput == null || compressionInput.length < length) {
+         compressionInput = new byte[Math.max(length, writeBufferSize)];
+         compressionOutput = new byte[compressionInput.length];
+      }
+      batch.get(compressionInput, 0, length);
+      batch.position(0);
+      if (deflater == null) {
+         deflater = new Deflater(Deflater.BEST_SPEED);
+      } else {
+         deflater.reset();
+      }
+      deflater.setInput(compressionInput, 0, length);
+      deflater.finish();
+      final int compressedSize = deflater.deflate(compressionOutput, 0, maxCompressedSize);
+      if (!deflater.finished()) {
+         return false;
+      }
+      fileFactory.releaseBuffer(batch);
+      final ByteBuffer block = fileFactory.newBuffer(compressedSize + Page.SIZE_COMPRESSED_RECORD);
+      block.put(Page.COMPRESSED_START_BYTE);
+      block.putInt(compressedSize);
+      block.putInt(length);
+      block.put(compressionOutput, 0, compressedSize);
+      block.put(Page.COMPRESSED_END_BYTE);
+      block.flip();
+      target.writeDirect(block, false);
+      return true;
+   }
+
+   private void releaseCompression() {
+      if (deflater != null) {
+         deflater.end();
+         deflater = null;
+      }
+      compressionInput = null;
+      compressionOutput = null;
+   }
+
    public void sync() throws Exception {
+      flushWriteBuffer();
       file.sync();
    }
 
@@ -290,6 +615,8 @@ public final class Page implements Comparable<Page> {
          // leave it to the soft cache to decide when to release it now
          pageCache = null;
       }
+      flushWriteBuffer();
+      releaseCompression();
       file.close();
 
       Set<PageSubscriptionCounter> counters = getPendingCounters();
@@ -326,6 +653,10 @@ public final class Page implements Comparable<Page> {
          }
       }
 
+      if (mappings != null) {
+         mappings.invalidate(file.getJavaFile());
+      }
+
       try {
          if (suspiciousRecords) {
             ActiveMQServerLogger.LOGGER.pageInvalid(file.getFileName(), file.getFileName());
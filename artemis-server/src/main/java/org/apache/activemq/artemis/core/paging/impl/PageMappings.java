@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.paging.impl;
+
+import java.io.File;
+import java.nio.MappedByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * The read-only mappings of the page files read last, shared by the paging stores of a server.
+ * <p>
+ * Reading a page again, after its page cache was released or from another address sharing the server, reuses the
+ * mapping instead of mapping the file again. The mapped bytes are bounded by a budget: the least recently used
+ * mappings are dropped over it, and unmapped as soon as no page is reading them.
+ */
+public final class PageMappings {
+
+   private final long maxBytes;
+
+   // access ordered, guarded by this
+   private final LinkedHashMap<File, Mapping> mappings = new LinkedHashMap<>(16, 0.75f, true);
+
+   private long mappedBytes;
+
+   public PageMappings(final long maxBytes) {
+      this.maxBytes = maxBytes;
+   }
+
+   public synchronized long getMappedBytes() {
+      return mappedBytes;
+   }
+
+   /**
+    * @return a read-only mapping of the first {@code size} bytes of {@code file}, to be given back with
+    * {@link #release(Mapping)} once read
+    */
+   public Mapping acquire(final File file, final int size) {
+      synchronized (this) {
+         Mapping mapping = mappings.get(file);
+         if (mapping != null) {
+            if (mapping.size == size) {
+               mapping.users++;
+               return mapping;
+            }
+            // the file was written since it was mapped
+            remove(file, mapping);
+         }
+      }
+
+      final Mapping mapping = new Mapping(Page.mapFileForRead(file, size), size);
+
+      synchronized (this) {
+         mapping.users = 1;
+         if (size <= maxBytes && !mappings.containsKey(file)) {
+            mapping.cached = true;
+            mappings.put(file, mapping);
+            mappedBytes += size;
+            evict();
+         }
+      }
+
+      return mapping;
+   }
+
+   public synchronized void release(final Mapping mapping) {
+      mapping.users--;
+      if (mapping.users == 0 && !mapping.cached) {
+         mapping.unmap();
+      }
+   }
+
+   /**
+    * Drops the mapping of a file that was deleted or replaced.
+    */
+   public synchronized void invalidate(final File file) {
+      Mapping mapping = mappings.get(file);
+      if (mapping != null) {
+         remove(file, mapping);
+      }
+   }
+
+   public synchronized void clear() {
+      Iterator<Map.Entry<File, Mapping>> iterator = mappings.entrySet().iterator();
+      while (iterator.hasNext()) {
+         Mapping mapping = iterator.next().getValue();
+         iterator.remove();
+         dropped(mapping);
+      }
+   }
+
+   private void remove(final File file, final Mapping mapping) {
+      mappings.remove(file);
+      dropped(mapping);
+   }
+
+   private void evict() {
+      Iterator<Map.Entry<File, Mapping>> iterator = mappings.entrySet().iterator();
+      while (mappedBytes > maxBytes && iterator.hasNext()) {
+         Mapping mapping = iterator.next().getValue();
+         iterator.remove();
+         dropped(mapping);
+      }
+   }
+
+   private void dropped(final Mapping mapping) {
+      mapping.cached = false;
+      mappedBytes -= mapping.size;
+      if (mapping.users == 0) {
+         mapping.unmap();
+      }
+   }
+
+   public static final class Mapping {
+
+      private final MappedByteBuffer buffer;
+
+      private final int size;
+
+      // guarded by the PageMappings
+      private int users;
+
+      private boolean cached;
+
+      private Mapping(final MappedByteBuffer buffer, final int size) {
+         this.buffer = buffer;
+         this.size = size;
+      }
+
+      public MappedByteBuffer getBuffer() {
+         return buffer;
+      }
+
+      public int getSize() {
+         return size;
+      }
+
+      private void unmap() {
+         PlatformDependent.freeDirectBuffer(buffer);
+      }
+   }
+}
@@ -17,6 +17,10 @@
 package org.apache.activemq.artemis.core.paging.impl;
 
 import java.nio.file.FileStore;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +50,8 @@ public final class PagingManagerImpl implements PagingManager {
 
    private static final Logger logger = Logger.getLogger(PagingManagerImpl.class);
 
+   private static final long HOT_STORES_PERIOD_MILLIS = 1000;
+
    private volatile boolean started = false;
 
    /**
@@ -70,6 +76,21 @@ public final class PagingManagerImpl implements PagingManager {
 
    private final long maxSize;
 
+   /**
+    * The global size over which only the hot stores stay out of paging, or -1 if every store pages on {@link #maxSize}
+    */
+   private final long pressureSize;
+
+   /**
+    * The stores consumed the fastest, whose memory fits within {@link #maxSize} - {@link #pressureSize}
+    */
+   private volatile Set<PagingStore> hotStores = Collections.emptySet();
+
+   // only used by the hot stores component
+   private final Map<PagingStore, ConsumptionRate> consumptionRates = new HashMap<>();
+
+   private ActiveMQScheduledComponent hotStoresComponent = null;
+
    private volatile boolean cleanupEnabled = true;
 
    private volatile boolean diskFull = false;
@@ -87,10 +108,22 @@ public final class PagingManagerImpl implements PagingManager {
    public PagingManagerImpl(final PagingStoreFactory pagingSPI,
                             final HierarchicalRepository<AddressSettings> addressSettingsRepository,
                             final long maxSize) {
+      this(pagingSPI, addressSettingsRepository, maxSize, 0);
+   }
+
+   /**
+    * @param hotPercentage the percentage of {@code maxSize} kept for the stores consumed the fastest, the other
+    *                      stores start paging once the global size goes over the rest of {@code maxSize}
+    */
+   public PagingManagerImpl(final PagingStoreFactory pagingSPI,
+                            final HierarchicalRepository<AddressSettings> addressSettingsRepository,
+                            final long maxSize,
+                            final int hotPercentage) {
       pagingStoreFactory = pagingSPI;
       this.addressSettingsRepository = addressSettingsRepository;
       addressSettingsRepository.registerListener(this);
       this.maxSize = maxSize;
+      this.pressureSize = maxSize > 0 && hotPercentage > 0 ? maxSize - maxSize * hotPercentage / 100 : -1;
    }
 
    public PagingManagerImpl(final PagingStoreFactory pagingSPI,
@@ -199,6 +232,62 @@ public final class PagingManagerImpl implements PagingManager {
       return diskFull || maxSize > 0 && globalSizeBytes.get() > maxSize;
    }
 
+   @Override
+   public boolean isPagingPreferred(PagingStore store) {
+      return pressureSize >= 0 && globalSizeBytes.get() > pressureSize && !hotStores.contains(store);
+   }
+
+   /**
+    * Ranks the stores by how fast their queues are consumed, and keeps as hot the fastest ones whose memory fits
+    * within the part of the global max size kept for them.
+    */
+   public void updateHotStores() {
+      final List<PagingStore> ranked = new ArrayList<>(stores.size());
+      consumptionRates.keySet().retainAll(stores.values());
+      for (PagingStore store : stores.values()) {
+         ConsumptionRate rate = consumptionRates.computeIfAbsent(store, s -> new ConsumptionRate(s.getConsumedReferences()));
+         rate.update(store.getConsumedReferences());
+         if (rate.consumedPerPeriod > 0) {
+            ranked.add(store);
+         }
+      }
+      ranked.sort((a, b) -> Double.compare(consumptionRates.get(b).consumedPerPeriod, consumptionRates.get(a).consumedPerPeriod));
+
+      final long hotSize = maxSize - pressureSize;
+      final Set<PagingStore> newHotStores = new HashSet<>();
+      long usedSize = 0;
+      for (PagingStore store : ranked) {
+         final long storeSize = store.getAddressSize();
+         if (usedSize + storeSize <= hotSize) {
+            usedSize += storeSize;
+            newHotStores.add(store);
+         }
+      }
+
+      if (logger.isDebugEnabled() && !newHotStores.equals(hotStores)) {
+         logger.debug("Hot paging stores: " + newHotStores);
+      }
+      hotStores = newHotStores;
+   }
+
+   private static final class ConsumptionRate {
+
+      private long lastConsumed;
+
+      private double consumedPerPeriod;
+
+      ConsumptionRate(long consumed) {
+         this.lastConsumed = consumed;
+      }
+
+      void update(long consumed) {
+         final long current = consumed - lastConsumed;
+         lastConsumed = consumed;
+         // smoothed so a single idle period doesn't turn a hot store cold
+         consumedPerPeriod = consumedPerPeriod / 2 + current / 2.0;
+      }
+   }
+
    @Override
    public void disableCleanup() {
       if (!cleanupEnabled) {
@@ -346,6 +435,17 @@ public final class PagingManagerImpl implements PagingManager {
 
          }
 
+         if (pressureSize >= 0) {
+            this.hotStoresComponent = new ActiveMQScheduledComponent(pagingStoreFactory.getScheduledExecutor(), pagingStoreFactory.newExecutor(), HOT_STORES_PERIOD_MILLIS, TimeUnit.MILLISECONDS, false) {
+               @Override
+               public void run() {
+                  updateHotStores();
+               }
+            };
+
+            this.hotStoresComponent.start();
+         }
+
          started = true;
       } finally {
          unlock();
@@ -368,6 +468,11 @@ public final class PagingManagerImpl implements PagingManager {
          this.scheduledComponent = null;
       }
 
+      if (hotStoresComponent != null) {
+         this.hotStoresComponent.stop();
+         this.hotStoresComponent = null;
+      }
+
       lock();
       try {
 
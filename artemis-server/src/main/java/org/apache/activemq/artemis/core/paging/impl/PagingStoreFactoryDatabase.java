@@ -34,6 +34,7 @@ import org.apache.activemq.artemis.core.paging.PagingStore;
 import org.apache.activemq.artemis.core.paging.PagingStoreFactory;
 import org.apache.activemq.artemis.core.paging.cursor.PageCursorProvider;
 import org.apache.activemq.artemis.core.paging.cursor.impl.PageCursorProviderImpl;
+import org.apache.activemq.artemis.core.paging.cursor.impl.PageReadAhead;
 import org.apache.activemq.artemis.core.persistence.StorageManager;
 import org.apache.activemq.artemis.core.server.files.FileStoreMonitor;
 import org.apache.activemq.artemis.core.settings.HierarchicalRepository;
@@ -94,6 +95,10 @@ public class PagingStoreFactoryDatabase implements PagingStoreFactory {
 
    private final IOCriticalErrorListener criticalErrorListener;
 
+   private PageReadAhead pageReadAhead;
+
+   private int pageCompactPercentage;
+
    public PagingStoreFactoryDatabase(final DatabaseStorageConfiguration dbConf,
                                      final StorageManager storageManager,
                                      final long syncTimeout,
@@ -155,7 +160,7 @@ public class PagingStoreFactoryDatabase implements PagingStoreFactory {
                                                StorageManager storageManager,
                                                AddressSettings addressSettings,
                                                ArtemisExecutor executor) {
-      return new PageCursorProviderImpl(store, storageManager, executor, addressSettings.getPageCacheMaxSize());
+      return new PageCursorProviderImpl(store, storageManager, executor, addressSettings.getPageCacheMaxSize(), pageReadAhead, pageCompactPercentage);
    }
 
    @Override
@@ -180,6 +185,20 @@ public class PagingStoreFactoryDatabase implements PagingStoreFactory {
       return factory;
    }
 
+   /**
+    * The page cursor providers created after this call will read pages ahead with these settings.
+    */
+   public void setPageReadAhead(final PageReadAhead pageReadAhead) {
+      this.pageReadAhead = pageReadAhead;
+   }
+
+   /**
+    * The page cursor providers created after this call will compact pages with this percentage.
+    */
+   public void setPageCompactPercentage(final int pageCompactPercentage) {
+      this.pageCompactPercentage = pageCompactPercentage;
+   }
+
    @Override
    public void setPagingManager(final PagingManager pagingManager) {
       this.pagingManager = pagingManager;
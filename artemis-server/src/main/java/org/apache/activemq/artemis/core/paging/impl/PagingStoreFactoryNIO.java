@@ -38,6 +38,7 @@ import org.apache.activemq.artemis.core.paging.PagingStore;
 import org.apache.activemq.artemis.core.paging.PagingStoreFactory;
 import org.apache.activemq.artemis.core.paging.cursor.PageCursorProvider;
 import org.apache.activemq.artemis.core.paging.cursor.impl.PageCursorProviderImpl;
+import org.apache.activemq.artemis.core.paging.cursor.impl.PageReadAhead;
 import org.apache.activemq.artemis.core.persistence.StorageManager;
 import org.apache.activemq.artemis.core.server.ActiveMQServerLogger;
 import org.apache.activemq.artemis.core.server.files.FileMoveManager;
@@ -75,6 +76,16 @@ public class PagingStoreFactoryNIO implements PagingStoreFactory {
 
    private final IOCriticalErrorListener critialErrorListener;
 
+   private PageReadAhead pageReadAhead;
+
+   private int pageCompactPercentage;
+
+   private int pageWriteBufferSize;
+
+   private boolean pageCompression;
+
+   private PageMappings pageMappings;
+
    public PagingStoreFactoryNIO(final StorageManager storageManager,
                                 final File directory,
                                 final long syncTimeout,
@@ -105,6 +116,9 @@ public class PagingStoreFactoryNIO implements PagingStoreFactory {
 
    @Override
    public void stop() {
+      if (pageMappings != null) {
+         pageMappings.clear();
+      }
    }
 
    @Override
@@ -117,13 +131,17 @@ public class PagingStoreFactoryNIO implements PagingStoreFactory {
                                                StorageManager storageManager,
                                                AddressSettings addressSettings,
                                                ArtemisExecutor executor) {
-      return new PageCursorProviderImpl(store, storageManager, executor, addressSettings.getPageCacheMaxSize());
+      return new PageCursorProviderImpl(store, storageManager, executor, addressSettings.getPageCacheMaxSize(), pageReadAhead, pageCompactPercentage);
    }
 
    @Override
    public synchronized PagingStore newStore(final SimpleString address, final AddressSettings settings) {
 
-      return new PagingStoreImpl(address, scheduledExecutor, syncTimeout, pagingManager, storageManager, null, this, address, settings, executorFactory.getExecutor(), syncNonTransactional);
+      PagingStoreImpl store = new PagingStoreImpl(address, scheduledExecutor, syncTimeout, pagingManager, storageManager, null, this, address, settings, executorFactory.getExecutor(), syncNonTransactional);
+      store.setPageWriteBufferSize(pageWriteBufferSize);
+      store.setPageCompression(pageCompression);
+      store.setPageMappings(pageMappings);
+      return store;
    }
 
    @Override
@@ -147,6 +165,42 @@ public class PagingStoreFactoryNIO implements PagingStoreFactory {
       return factory;
    }
 
+   /**
+    * The page cursor providers created after this call will read pages ahead with these settings.
+    */
+   public void setPageReadAhead(final PageReadAhead pageReadAhead) {
+      this.pageReadAhead = pageReadAhead;
+   }
+
+   /**
+    * The page cursor providers created after this call will compact pages with this percentage.
+    */
+   public void setPageCompactPercentage(final int pageCompactPercentage) {
+      this.pageCompactPercentage = pageCompactPercentage;
+   }
+
+   /**
+    * The paging stores created after this call will batch the writes of their current page with a buffer of this size.
+    */
+   public void setPageWriteBufferSize(final int pageWriteBufferSize) {
+      this.pageWriteBufferSize = pageWriteBufferSize;
+   }
+
+   /**
+    * The paging stores created after this call will compress the batches written through their write buffer.
+    */
+   public void setPageCompression(final boolean pageCompression) {
+      this.pageCompression = pageCompression;
+   }
+
+   /**
+    * The paging stores created after this call will read their pages through the mappings kept by
+    * {@code pageMappings}, shared by all of them.
+    */
+   public void setPageMappings(final PageMappings pageMappings) {
+      this.pageMappings = pageMappings;
+   }
+
    @Override
    public void setPagingManager(final PagingManager pagingManager) {
       this.pagingManager = pagingManager;
@@ -188,7 +242,13 @@ public class PagingStoreFactoryNIO implements PagingStoreFactory {
 
             AddressSettings settings = addressSettingsRepository.getMatch(address.toString());
 
-            PagingStore store = new PagingStoreImpl(address, scheduledExecutor, syncTimeout, pagingManager, storageManager, factory, this, address, settings, executorFactory.getExecutor(), syncNonTransactional);
+            PagingStoreImpl store = new PagingStoreImpl(address, scheduledExecutor, syncTimeout, pagingManager, storageManager, factory, this, address, settings, executorFactory.getExecutor(), syncNonTransactional);
+
+            store.setPageWriteBufferSize(pageWriteBufferSize);
+
+            store.setPageCompression(pageCompression);
+
+            store.setPageMappings(pageMappings);
 
             storesReturn.add(store);
          }
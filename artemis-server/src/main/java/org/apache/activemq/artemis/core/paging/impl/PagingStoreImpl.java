@@ -31,6 +31,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
@@ -89,6 +90,19 @@ public class PagingStoreImpl implements PagingStore {
    // Used to schedule sync threads
    private final PageSyncTimer syncTimer;
 
+   private final ScheduledExecutorService scheduledExecutor;
+
+   private final long syncTimeout;
+
+   // 0 if the current page writes every message directly
+   private int pageWriteBufferSize;
+
+   private boolean pageCompression;
+
+   private PageMappings pageMappings;
+
+   private final AtomicBoolean writeBufferFlushScheduled = new AtomicBoolean(false);
+
    private long maxSize;
 
    private long pageSize;
@@ -106,6 +120,8 @@ public class PagingStoreImpl implements PagingStore {
    // Bytes consumed by the queue on the memory
    private final AtomicLong sizeInBytes = new AtomicLong();
 
+   private final LongAdder consumedReferences = new LongAdder();
+
    private int numberOfPages;
 
    private int firstPageId;
@@ -170,6 +186,10 @@ public class PagingStoreImpl implements PagingStore {
 
       this.syncNonTransactional = syncNonTransactional;
 
+      this.scheduledExecutor = scheduledExecutor;
+
+      this.syncTimeout = syncTimeout;
+
       if (scheduledExecutor != null && syncTimeout > 0) {
          this.syncTimer = new PageSyncTimer(this, scheduledExecutor, executor, syncTimeout);
       } else {
@@ -181,6 +201,29 @@ public class PagingStoreImpl implements PagingStore {
       this.usingGlobalMaxSize = pagingManager.isUsingGlobalSize();
    }
 
+   /**
+    * The current page will batch its writes on a buffer of {@code pageWriteBufferSize} bytes, written to the page
+    * file when full, on sync, when the page is closed or at most {@code syncTimeout} after the first buffered write.
+    * It's ignored without a sync timeout.
+    */
+   public void setPageWriteBufferSize(final int pageWriteBufferSize) {
+      this.pageWriteBufferSize = syncTimer != null ? pageWriteBufferSize : 0;
+   }
+
+   /**
+    * The batches written through the page write buffer will be compressed, see {@link #setPageWriteBufferSize(int)}.
+    */
+   public void setPageCompression(final boolean pageCompression) {
+      this.pageCompression = pageCompression;
+   }
+
+   /**
+    * The pages of this store will be read through the mappings kept by {@code pageMappings}.
+    */
+   public void setPageMappings(final PageMappings pageMappings) {
+      this.pageMappings = pageMappings;
+   }
+
    /**
     * @param addressSettings
     */
@@ -242,6 +285,11 @@ public class PagingStoreImpl implements PagingStore {
       return sizeInBytes.get();
    }
 
+   @Override
+   public long getConsumedReferences() {
+      return consumedReferences.sum();
+   }
+
    @Override
    public long getMaxSize() {
       if (maxSize < 0) {
@@ -330,6 +378,28 @@ public class PagingStoreImpl implements PagingStore {
       }
    }
 
+   private void scheduleWriteBufferFlush() {
+      if (writeBufferFlushScheduled.compareAndSet(false, true)) {
+         scheduledExecutor.schedule(() -> executor.execute(this::flushWriteBuffer), syncTimeout, TimeUnit.NANOSECONDS);
+      }
+   }
+
+   private void flushWriteBuffer() {
+      writeBufferFlushScheduled.set(false);
+
+      lock.readLock().lock();
+
+      try {
+         if (currentPage != null) {
+            currentPage.flushWriteBuffer();
+         }
+      } catch (Exception e) {
+         ActiveMQServerLogger.LOGGER.pageWriteBufferFlushError(e, address);
+      } finally {
+         lock.readLock().unlock();
+      }
+   }
+
    @Override
    public void processReload() throws Exception {
       cursorProvider.processReload();
@@ -540,6 +610,12 @@ public class PagingStoreImpl implements PagingStore {
 
       Page page = new Page(storeName, storageManager, fileFactory, file, pageNumber);
 
+      page.setWriteBufferSize(pageWriteBufferSize);
+
+      page.setCompressWrites(pageCompression);
+
+      page.setMappings(pageMappings);
+
       // To create the file
       file.open();
 
@@ -725,7 +801,7 @@ public class PagingStoreImpl implements PagingStore {
          return;
       } else if (addressFullMessagePolicy == AddressFullMessagePolicy.PAGE) {
          if (size > 0) {
-            if (maxSize != -1 && newSize > maxSize || globalFull) {
+            if (maxSize != -1 && newSize > maxSize || globalFull || pagingManager.isPagingPreferred(this)) {
                if (startPaging()) {
                   ActiveMQServerLogger.LOGGER.pageStoreStart(storeName, newSize, maxSize);
                }
@@ -846,6 +922,8 @@ public class PagingStoreImpl implements PagingStore {
 
             if (tx == null && syncNonTransactional && message.isDurable()) {
                sync();
+            } else if (pageWriteBufferSize > 0) {
+               scheduleWriteBufferFlush();
             }
 
             if (logger.isTraceEnabled()) {
@@ -945,6 +1023,8 @@ public class PagingStoreImpl implements PagingStore {
 
    @Override
    public void nonDurableDown(Message message, int count) {
+      consumedReferences.increment();
+
       if (count < 0) {
          // this could happen on paged messages since they are not routed and incrementRefCount is never called
          return;
@@ -18,6 +18,7 @@ package org.apache.activemq.artemis.core.persistence;
 
 import javax.transaction.xa.Xid;
 import java.nio.ByteBuffer;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -179,7 +180,11 @@ public interface StorageManager extends IDGenerator, ActiveMQComponent {
 
    void storeAcknowledge(long queueID, long messageID) throws Exception;
 
-   void storeCursorAcknowledge(long queueID, PagePosition position) throws Exception;
+   /**
+    * Stores the acknowledgement of a paged message as an update on the bitmap record of its page,
+    * see {@link #storeCursorAckBitmap(long, long, BitSet)}.
+    */
+   void storeCursorAcknowledge(long queueID, long bitmapRecordID, PagePosition position) throws Exception;
 
    void updateDeliveryCount(MessageReference ref) throws Exception;
 
@@ -195,12 +200,21 @@ public interface StorageManager extends IDGenerator, ActiveMQComponent {
 
    void storeAcknowledgeTransactional(long txID, long queueID, long messageID) throws Exception;
 
-   void storeCursorAcknowledgeTransactional(long txID, long queueID, PagePosition position) throws Exception;
+   void storeCursorAcknowledgeTransactional(long txID, long queueID, long bitmapRecordID, PagePosition position) throws Exception;
 
    void deleteCursorAcknowledgeTransactional(long txID, long ackID) throws Exception;
 
    void deleteCursorAcknowledge(long ackID) throws Exception;
 
+   /**
+    * Stores the acknowledgements of a subscription on a page as a single record. The following
+    * acknowledgements on the page are stored as updates on it, until a newer bitmap replaces it and
+    * deleting it with {@link #deleteCursorAcknowledge(long)} removes all of them at once.
+    *
+    * @return the ID of the record
+    */
+   long storeCursorAckBitmap(long queueID, long pageNr, BitSet acks) throws Exception;
+
    void storePageCompleteTransactional(long txID, long queueID, PagePosition position) throws Exception;
 
    void deletePageComplete(long ackID) throws Exception;
@@ -23,6 +23,7 @@ import java.security.DigestInputStream;
 import java.security.InvalidParameterException;
 import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -66,6 +67,7 @@ import org.apache.activemq.artemis.core.persistence.StorageManager;
 import org.apache.activemq.artemis.core.persistence.config.PersistedAddressSetting;
 import org.apache.activemq.artemis.core.persistence.config.PersistedRoles;
 import org.apache.activemq.artemis.core.persistence.impl.PageCountPending;
+import org.apache.activemq.artemis.core.persistence.impl.journal.codec.CursorAckBitmapEncoding;
 import org.apache.activemq.artemis.core.persistence.impl.journal.codec.CursorAckRecordEncoding;
 import org.apache.activemq.artemis.core.persistence.impl.journal.codec.DeleteEncoding;
 import org.apache.activemq.artemis.core.persistence.impl.journal.codec.DeliveryCountUpdateEncoding;
@@ -408,12 +410,11 @@ public abstract class AbstractJournalStorageManager extends CriticalComponentImp
    }
 
    @Override
-   public void storeCursorAcknowledge(long queueID, PagePosition position) throws Exception {
+   public void storeCursorAcknowledge(long queueID, long bitmapRecordID, PagePosition position) throws Exception {
       readLock();
       try {
-         long ackID = idGenerator.generateID();
-         position.setRecordID(ackID);
-         messageJournal.appendAddRecord(ackID, JournalRecordIds.ACKNOWLEDGE_CURSOR, new CursorAckRecordEncoding(queueID, position), syncNonTransactional, getContext(syncNonTransactional));
+         position.setRecordID(bitmapRecordID);
+         messageJournal.appendUpdateRecord(bitmapRecordID, JournalRecordIds.ACKNOWLEDGE_CURSOR, new CursorAckRecordEncoding(queueID, position), syncNonTransactional, getContext(syncNonTransactional));
       } finally {
          readUnLock();
       }
@@ -533,12 +534,23 @@ public abstract class AbstractJournalStorageManager extends CriticalComponentImp
    }
 
    @Override
-   public void storeCursorAcknowledgeTransactional(long txID, long queueID, PagePosition position) throws Exception {
+   public void storeCursorAcknowledgeTransactional(long txID, long queueID, long bitmapRecordID, PagePosition position) throws Exception {
       readLock();
       try {
-         long ackID = idGenerator.generateID();
-         position.setRecordID(ackID);
-         messageJournal.appendAddRecordTransactional(txID, ackID, JournalRecordIds.ACKNOWLEDGE_CURSOR, new CursorAckRecordEncoding(queueID, position));
+         position.setRecordID(bitmapRecordID);
+         messageJournal.appendUpdateRecordTransactional(txID, bitmapRecordID, JournalRecordIds.ACKNOWLEDGE_CURSOR, new CursorAckRecordEncoding(queueID, position));
+      } finally {
+         readUnLock();
+      }
+   }
+
+   @Override
+   public long storeCursorAckBitmap(long queueID, long pageNr, BitSet acks) throws Exception {
+      readLock();
+      try {
+         long recordID = idGenerator.generateID();
+         messageJournal.appendAddRecord(recordID, JournalRecordIds.PAGE_CURSOR_ACK_BITMAP, new CursorAckBitmapEncoding(queueID, pageNr, acks), false);
+         return recordID;
       } finally {
          readUnLock();
       }
@@ -1039,7 +1051,11 @@ public abstract class AbstractJournalStorageManager extends CriticalComponentImp
                   CursorAckRecordEncoding encoding = new CursorAckRecordEncoding();
                   encoding.decode(buff);
 
-                  encoding.position.setRecordID(record.id);
+                  // acknowledgements are updates on the bitmap record of their page,
+                  // older journals stored every acknowledgement as a record of its own
+                  if (!record.isUpdate) {
+                     encoding.position.setRecordID(record.id);
+                  }
 
                   PageSubscription sub = locateSubscription(encoding.queueID, pageSubscriptions, queueInfos, pagingManager);
 
@@ -1047,8 +1063,24 @@ public abstract class AbstractJournalStorageManager extends CriticalComponentImp
                      sub.reloadACK(encoding.position);
                   } else {
                      ActiveMQServerLogger.LOGGER.journalCannotFindQueueReloading(encoding.queueID);
-                     messageJournal.appendDeleteRecord(record.id, false);
+                     if (!record.isUpdate) {
+                        messageJournal.appendDeleteRecord(record.id, false);
+                     }
+                  }
+
+                  break;
+               }
+               case JournalRecordIds.PAGE_CURSOR_ACK_BITMAP: {
+                  CursorAckBitmapEncoding encoding = new CursorAckBitmapEncoding();
+                  encoding.decode(buff);
 
+                  PageSubscription sub = locateSubscription(encoding.queueID, pageSubscriptions, queueInfos, pagingManager);
+
+                  if (sub != null) {
+                     sub.reloadACKBitmap(record.id, encoding.pageNr, encoding.acks);
+                  } else {
+                     ActiveMQServerLogger.LOGGER.journalCannotFindQueueReloading(encoding.queueID);
+                     messageJournal.appendDeleteRecord(record.id, false);
                   }
 
                   break;
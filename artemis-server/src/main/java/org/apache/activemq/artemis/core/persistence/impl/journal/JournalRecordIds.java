@@ -88,4 +88,6 @@ public final class JournalRecordIds {
 
    public static final byte ADD_MESSAGE_PROTOCOL = 45;
 
+   public static final byte PAGE_CURSOR_ACK_BITMAP = 46;
+
 }
@@ -522,6 +522,17 @@ public class JournalStorageManager extends AbstractJournalStorageManager {
       return datafiles;
    }
 
+   /**
+    * Compacting rewrites every journal file under a new file ID, so none of the journal files the backup kept
+    * could be reused. When it kept some, the journal is only compacted if it's due anyway: it would otherwise
+    * be compacted, and the whole journal replicated again, right after the synchronization.
+    */
+   private static void compactBeforeSync(JournalImpl journal, boolean backupFiles) throws Exception {
+      if (!backupFiles || journal.isCompactNeeded()) {
+         journal.scheduleCompactAndBlock(-1);
+      }
+   }
+
    @Override
    public void startReplication(ReplicationManager replicationManager,
                                 PagingManager pagingManager,
@@ -539,8 +550,9 @@ public class JournalStorageManager extends AbstractJournalStorageManager {
 
       // We first do a compact without any locks, to avoid copying unnecessary data over the network.
       // We do this without holding the storageManager lock, so the journal stays open while compact is being done
-      originalMessageJournal.scheduleCompactAndBlock(-1);
-      originalBindingsJournal.scheduleCompactAndBlock(-1);
+      final boolean backupFiles = replicationManager.hasBackupFiles();
+      compactBeforeSync((JournalImpl) originalMessageJournal, backupFiles);
+      compactBeforeSync((JournalImpl) originalBindingsJournal, backupFiles);
 
       JournalFile[] messageFiles = null;
       JournalFile[] bindingsFiles = null;
@@ -593,6 +605,8 @@ public class JournalStorageManager extends AbstractJournalStorageManager {
          sendJournalFile(bindingsFiles, JournalContent.BINDINGS);
          sendLargeMessageFiles(pendingLargeMessages);
          sendPagesToBackup(pageFilesToSync, pagingManager);
+         // the files may still be streaming to the backup, which must not block the journal
+         replicationManager.waitForSyncFiles();
 
          storageManagerLock.writeLock().lock();
          try {
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.persistence.impl.journal.codec;
+
+import java.util.BitSet;
+
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.core.journal.EncodingSupport;
+import org.apache.activemq.artemis.utils.DataConstants;
+
+/**
+ * The messages of a page a subscription has acknowledged, as a bitmap indexed by message number.
+ * <p>
+ * Messages are mostly acknowledged in order, so the leading acknowledged messages are only encoded as their count
+ * and the bitmap starts at the first message not acknowledged yet.
+ */
+public class CursorAckBitmapEncoding implements EncodingSupport {
+
+   public long queueID;
+
+   public long pageNr;
+
+   public BitSet acks;
+
+   // the number of leading acknowledged messages, and the bitmap of the following ones
+   private int firstUnacked;
+
+   private byte[] bitmap;
+
+   public CursorAckBitmapEncoding(final long queueID, final long pageNr, final BitSet acks) {
+      this.queueID = queueID;
+      this.pageNr = pageNr;
+      this.acks = acks;
+      this.firstUnacked = acks.nextClearBit(0);
+      this.bitmap = acks.get(firstUnacked, Math.max(firstUnacked, acks.length())).toByteArray();
+   }
+
+   public CursorAckBitmapEncoding() {
+   }
+
+   @Override
+   public String toString() {
+      return "CursorAckBitmapEncoding [queueID=" + queueID + ", pageNr=" + pageNr + ", acks=" + (acks == null ? 0 : acks.cardinality()) + "]";
+   }
+
+   @Override
+   public int getEncodeSize() {
+      return DataConstants.SIZE_LONG + DataConstants.SIZE_LONG + DataConstants.SIZE_INT + DataConstants.SIZE_INT + bitmap.length;
+   }
+
+   @Override
+   public void encode(ActiveMQBuffer buffer) {
+      buffer.writeLong(queueID);
+      buffer.writeLong(pageNr);
+      buffer.writeInt(firstUnacked);
+      buffer.writeInt(bitmap.length);
+      buffer.writeBytes(bitmap);
+   }
+
+   @Override
+   public void decode(ActiveMQBuffer buffer) {
+      queueID = buffer.readLong();
+      pageNr = buffer.readLong();
+      firstUnacked = buffer.readInt();
+      bitmap = new byte[buffer.readInt()];
+      buffer.readBytes(bitmap);
+
+      acks = new BitSet();
+      acks.set(0, firstUnacked);
+      BitSet following = BitSet.valueOf(bitmap);
+      for (int i = following.nextSetBit(0); i >= 0; i = following.nextSetBit(i + 1)) {
+         acks.set(firstUnacked + i);
+      }
+   }
+}
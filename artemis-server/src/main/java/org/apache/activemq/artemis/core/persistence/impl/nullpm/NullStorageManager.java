@@ -18,6 +18,7 @@ package org.apache.activemq.artemis.core.persistence.impl.nullpm;
 
 import javax.transaction.xa.Xid;
 import java.nio.ByteBuffer;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -439,11 +440,11 @@ public class NullStorageManager implements StorageManager {
    }
 
    @Override
-   public void storeCursorAcknowledge(final long queueID, final PagePosition position) {
+   public void storeCursorAcknowledge(final long queueID, final long bitmapRecordID, final PagePosition position) {
    }
 
    @Override
-   public void storeCursorAcknowledgeTransactional(final long txID, final long queueID, final PagePosition position) {
+   public void storeCursorAcknowledgeTransactional(final long txID, final long queueID, final long bitmapRecordID, final PagePosition position) {
    }
 
    @Override
@@ -458,6 +459,11 @@ public class NullStorageManager implements StorageManager {
    public void storePageCompleteTransactional(long txID, long queueID, PagePosition position) throws Exception {
    }
 
+   @Override
+   public long storeCursorAckBitmap(long queueID, long pageNr, BitSet acks) throws Exception {
+      return generateID();
+   }
+
    @Override
    public void deletePageComplete(long ackID) throws Exception {
    }
@@ -23,4 +23,15 @@ public interface QueueBinding extends Binding {
    int consumerCount();
 
    Queue getQueue();
+
+   /**
+    * @return the number of messages on the bound queue, as last known by this node
+    */
+   long getMessageCount();
+
+   /**
+    * @return the number of messages per second being acknowledged on the bound queue, or a negative value if
+    * this hasn't been measured yet
+    */
+   double getConsumeRate();
 }
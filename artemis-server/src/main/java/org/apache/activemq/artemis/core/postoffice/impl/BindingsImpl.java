@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.apache.activemq.artemis.api.core.Message;
 import org.apache.activemq.artemis.api.core.SimpleString;
@@ -33,6 +34,7 @@ import org.apache.activemq.artemis.core.filter.Filter;
 import org.apache.activemq.artemis.core.paging.PagingStore;
 import org.apache.activemq.artemis.core.postoffice.Binding;
 import org.apache.activemq.artemis.core.postoffice.Bindings;
+import org.apache.activemq.artemis.core.postoffice.QueueBinding;
 import org.apache.activemq.artemis.core.server.ActiveMQServerLogger;
 import org.apache.activemq.artemis.core.server.Queue;
 import org.apache.activemq.artemis.core.server.RoutingContext;
@@ -318,6 +320,14 @@ public final class BindingsImpl implements Bindings {
    private Binding getNextBinding(final Message message,
                                   final SimpleString routingName,
                                   final List<Binding> bindings) {
+      if (messageLoadBalancingType.equals(MessageLoadBalancingType.LOAD_AWARE) && bindings.size() > 1) {
+         Binding theBinding = getLoadAwareBinding(message, bindings);
+
+         if (theBinding != null) {
+            return theBinding;
+         }
+      }
+
       Integer ipos = routingNamePositions.get(routingName);
 
       int pos = ipos != null ? ipos : 0;
@@ -361,7 +371,7 @@ public final class BindingsImpl implements Bindings {
             } else {
                //https://issues.jboss.org/browse/HORNETQ-1254 When !routeWhenNoConsumers,
                // the localQueue should always have the priority over the secondary bindings
-               if (lastLowPriorityBinding == -1 || messageLoadBalancingType.equals(MessageLoadBalancingType.ON_DEMAND) && binding instanceof LocalQueueBinding) {
+               if (lastLowPriorityBinding == -1 || (messageLoadBalancingType.equals(MessageLoadBalancingType.ON_DEMAND) || messageLoadBalancingType.equals(MessageLoadBalancingType.LOAD_AWARE)) && binding instanceof LocalQueueBinding) {
                   lastLowPriorityBinding = pos;
                }
             }
@@ -403,6 +413,62 @@ public final class BindingsImpl implements Bindings {
       return theBinding;
    }
 
+   /**
+    * Picks one of the bindings with matching consumers at random, weighted by {@link #loadWeight(long, double)}, so
+    * queues that consume faster and have less of a backlog get a bigger share of the messages.
+    *
+    * @return null when there is no candidate or the load of one of the candidates is not known yet, in which case
+    * the regular round robin applies
+    */
+   private Binding getLoadAwareBinding(final Message message, final List<Binding> bindings) {
+      Binding theBinding = null;
+
+      double totalWeight = 0;
+
+      for (Binding binding : bindings) {
+         if (!(binding instanceof QueueBinding)) {
+            return null;
+         }
+
+         Filter filter = binding.getFilter();
+
+         if ((filter == null || filter.match(message)) && binding.isConnected() && binding.isHighAcceptPriority(message)) {
+            QueueBinding queueBinding = (QueueBinding) binding;
+
+            double weight = loadWeight(queueBinding.getMessageCount(), queueBinding.getConsumeRate());
+
+            if (weight < 0) {
+               return null;
+            }
+
+            totalWeight += weight;
+
+            // weighted reservoir sampling, so a single pass is enough and nothing is allocated per message
+            if (ThreadLocalRandom.current().nextDouble() * totalWeight < weight) {
+               theBinding = binding;
+            }
+         }
+      }
+
+      return theBinding;
+   }
+
+   /**
+    * The share of the traffic a queue should get: its consume rate, discounted by the number of seconds its current
+    * backlog would take to drain at that rate.
+    *
+    * @return a negative value if the consume rate is not known
+    */
+   static double loadWeight(final long messageCount, final double consumeRate) {
+      if (consumeRate < 0) {
+         return -1;
+      }
+
+      double rate = consumeRate + 1;
+
+      return rate / (1 + Math.max(0, messageCount) / rate);
+   }
+
    private void routeUsingStrictOrdering(final Message message,
                                          final RoutingContext context,
                                          final GroupingHandler groupingGroupingHandler,
@@ -424,6 +490,13 @@ public final class BindingsImpl implements Bindings {
          //       the binding belongs to its Queue before removing it
          SimpleString fullID = groupId.concat(".").concat(routingName);
 
+         Binding owner = groupingGroupingHandler.chooseBinding(message, fullID, bindings);
+
+         if (owner != null) {
+            owner.route(message, context);
+            continue;
+         }
+
          // see if there is already a response
          Response resp = groupingGroupingHandler.getProposal(fullID, true);
 
@@ -38,6 +38,8 @@ public class LocalQueueBinding implements QueueBinding {
 
    private SimpleString name;
 
+   private volatile double consumeRate = -1;
+
    public LocalQueueBinding(final SimpleString address, final Queue queue, final SimpleString nodeID) {
       this.address = address;
 
@@ -103,6 +105,20 @@ public class LocalQueueBinding implements QueueBinding {
       return 0;
    }
 
+   @Override
+   public long getMessageCount() {
+      return queue.getMessageCount();
+   }
+
+   @Override
+   public double getConsumeRate() {
+      return consumeRate;
+   }
+
+   public void setConsumeRate(final double consumeRate) {
+      this.consumeRate = consumeRate;
+   }
+
    @Override
    public boolean isHighAcceptPriority(final Message message) {
       // It's a high accept priority if the queue has at least one matching consumer
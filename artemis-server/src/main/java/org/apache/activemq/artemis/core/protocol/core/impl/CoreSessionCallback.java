@@ -34,6 +34,7 @@ import org.apache.activemq.artemis.spi.core.protocol.ProtocolManager;
 import org.apache.activemq.artemis.spi.core.protocol.RemotingConnection;
 import org.apache.activemq.artemis.spi.core.protocol.SessionCallback;
 import org.apache.activemq.artemis.spi.core.remoting.ReadyListener;
+import org.apache.activemq.artemis.spi.core.remoting.SharedFileChannel;
 
 public final class CoreSessionCallback implements SessionCallback {
 
@@ -109,6 +110,26 @@ public final class CoreSessionCallback implements SessionCallback {
       return packet.getPacketSize();
    }
 
+   @Override
+   public boolean supportsFileRegions() {
+      return connection.getTransportConnection().isFileRegionSupported();
+   }
+
+   @Override
+   public int sendLargeMessageContinuation(ServerConsumer consumer,
+                                           SharedFileChannel file,
+                                           long position,
+                                           int length,
+                                           boolean continues) throws Exception {
+      SessionReceiveContinuationMessage packet = new SessionReceiveContinuationMessage(consumer.getID(), null, continues, false);
+
+      if (!channel.sendFileRegion(packet, file, position, length)) {
+         return -1;
+      }
+
+      return packet.getPacketSize();
+   }
+
    @Override
    public int sendMessage(MessageReference ref, Message message, ServerConsumer consumer, int deliveryCount)  {
 
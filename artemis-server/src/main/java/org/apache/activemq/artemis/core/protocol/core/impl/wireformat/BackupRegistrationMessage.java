@@ -19,6 +19,7 @@ package org.apache.activemq.artemis.core.protocol.core.impl.wireformat;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.TransportConfiguration;
 import org.apache.activemq.artemis.core.protocol.core.impl.PacketImpl;
+import org.apache.activemq.artemis.core.replication.SyncFileManifest;
 
 /**
  * Registers a given backup-server as the replicating backup of a live server (i.e. a regular
@@ -36,16 +37,29 @@ public final class BackupRegistrationMessage extends PacketImpl {
    private String clusterUser;
    private String clusterPassword;
    private boolean backupWantsFailBack;
+   private SyncFileManifest backupFiles;
 
    public BackupRegistrationMessage(TransportConfiguration tc,
                                     String user,
                                     String password,
                                     boolean backupWantsFailBack) {
+      this(tc, user, password, backupWantsFailBack, null);
+   }
+
+   /**
+    * @param backupFiles the files the backup kept from its last synchronization, {@code null} if none
+    */
+   public BackupRegistrationMessage(TransportConfiguration tc,
+                                    String user,
+                                    String password,
+                                    boolean backupWantsFailBack,
+                                    SyncFileManifest backupFiles) {
       this();
       connector = tc;
       clusterUser = user;
       clusterPassword = password;
       this.backupWantsFailBack = backupWantsFailBack;
+      this.backupFiles = backupFiles;
    }
 
    public BackupRegistrationMessage() {
@@ -62,6 +76,10 @@ public final class BackupRegistrationMessage extends PacketImpl {
       buffer.writeString(clusterPassword);
       buffer.writeBoolean(backupWantsFailBack);
       connector.encode(buffer);
+      // appended last, so that older live servers just ignore it
+      if (backupFiles != null) {
+         backupFiles.encode(buffer);
+      }
    }
 
    @Override
@@ -71,6 +89,10 @@ public final class BackupRegistrationMessage extends PacketImpl {
       backupWantsFailBack = buffer.readBoolean();
       connector = new TransportConfiguration();
       connector.decode(buffer);
+      if (buffer.readable()) {
+         backupFiles = new SyncFileManifest();
+         backupFiles.decode(buffer);
+      }
    }
 
    public String getClusterUser() {
@@ -85,6 +107,13 @@ public final class BackupRegistrationMessage extends PacketImpl {
       return backupWantsFailBack;
    }
 
+   /**
+    * @return the files the backup kept from its last synchronization, {@code null} if it did not send any
+    */
+   public SyncFileManifest getBackupFiles() {
+      return backupFiles;
+   }
+
    @Override
    public int hashCode() {
       final int prime = 31;
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.protocol.core.impl.wireformat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.api.core.ActiveMQBuffers;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.protocol.core.Packet;
+import org.apache.activemq.artemis.core.protocol.core.impl.PacketImpl;
+import org.apache.activemq.artemis.core.server.ActiveMQMessageBundle;
+import org.apache.activemq.artemis.utils.DataConstants;
+import org.apache.activemq.artemis.utils.compression.CompressionCodec;
+import org.apache.activemq.artemis.utils.compression.CompressionCodecs;
+
+/**
+ * Several replication packets sent, and acknowledged by a single {@link ReplicationBatchResponseMessage}, as one.
+ * <p>
+ * Only the journal, page and large message packets of the replication stream are batched, see
+ * {@link #isBatchable(Packet)}. The batched packets can be compressed as a whole.
+ */
+public final class ReplicationBatchMessage extends PacketImpl {
+
+   private final List<PacketImpl> packets = new ArrayList<>();
+
+   private CompressionCodec codec;
+
+   // the encoded packets compressed with the codec, null when sent as they are
+   private byte[] compressed;
+
+   private int batchedSize;
+
+   public ReplicationBatchMessage() {
+      super(PacketImpl.REPLICATION_BATCH);
+   }
+
+   /**
+    * @param codec used by {@link #compress()}, {@code null} to never compress
+    */
+   public ReplicationBatchMessage(final CompressionCodec codec) {
+      this();
+      this.codec = codec;
+   }
+
+   public static boolean isBatchable(final Packet packet) {
+      switch (packet.getType()) {
+         case REPLICATION_APPEND:
+         case REPLICATION_APPEND_TX:
+         case REPLICATION_DELETE:
+         case REPLICATION_DELETE_TX:
+         case REPLICATION_PREPARE:
+         case REPLICATION_COMMIT_ROLLBACK:
+         case REPLICATION_PAGE_WRITE:
+         case REPLICATION_PAGE_EVENT:
+         case REPLICATION_LARGE_MESSAGE_BEGIN:
+         case REPLICATION_LARGE_MESSAGE_END:
+         case REPLICATION_LARGE_MESSAGE_WRITE:
+            return true;
+         default:
+            return false;
+      }
+   }
+
+   private static PacketImpl createPacket(final byte type) {
+      switch (type) {
+         case REPLICATION_APPEND:
+            return new ReplicationAddMessage();
+         case REPLICATION_APPEND_TX:
+            return new ReplicationAddTXMessage();
+         case REPLICATION_DELETE:
+            return new ReplicationDeleteMessage();
+         case REPLICATION_DELETE_TX:
+            return new ReplicationDeleteTXMessage();
+         case REPLICATION_PREPARE:
+            return new ReplicationPrepareMessage();
+         case REPLICATION_COMMIT_ROLLBACK:
+            return new ReplicationCommitMessage();
+         case REPLICATION_PAGE_WRITE:
+            return new ReplicationPageWriteMessage();
+         case REPLICATION_PAGE_EVENT:
+            return new ReplicationPageEventMessage();
+         case REPLICATION_LARGE_MESSAGE_BEGIN:
+            return new ReplicationLargeMessageBeginMessage();
+         case REPLICATION_LARGE_MESSAGE_END:
+            return new ReplicationLargeMessageEndMessage();
+         case REPLICATION_LARGE_MESSAGE_WRITE:
+            return new ReplicationLargeMessageWriteMessage();
+         default:
+            throw ActiveMQMessageBundle.BUNDLE.invalidType(type);
+      }
+   }
+
+   public void addPacket(final PacketImpl packet) {
+      packets.add(packet);
+      batchedSize += DataConstants.SIZE_BYTE + DataConstants.SIZE_INT + packet.expectedEncodeSize() - PACKET_HEADERS_SIZE;
+   }
+
+   public List<PacketImpl> getPackets() {
+      return packets;
+   }
+
+   /**
+    * @return the size of the batched packets once encoded, before any compression
+    */
+   public int getBatchedSize() {
+      return batchedSize;
+   }
+
+   public boolean isCompressed() {
+      return compressed != null;
+   }
+
+   /**
+    * Compresses the batched packets with the codec of this batch, if there is one and that makes them smaller.
+    */
+   public void compress() throws IOException {
+      if (codec == null) {
+         return;
+      }
+      ActiveMQBuffer encoded = ActiveMQBuffers.dynamicBuffer(batchedSize);
+      encodePackets(encoded);
+      byte[] bytes = new byte[encoded.readableBytes()];
+      encoded.readBytes(bytes);
+      batchedSize = bytes.length;
+
+      ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length);
+      try (InputStream input = codec.createCompressingReader(new ByteArrayInputStream(bytes), null)) {
+         byte[] chunk = new byte[4096];
+         int n;
+         while ((n = input.read(chunk)) != -1) {
+            output.write(chunk, 0, n);
+         }
+      }
+      if (output.size() < bytes.length) {
+         compressed = output.toByteArray();
+      }
+   }
+
+   @Override
+   public int expectedEncodeSize() {
+      int size = PACKET_HEADERS_SIZE +
+         DataConstants.SIZE_INT; // buffer.writeInt(packets.size());
+      if (compressed == null) {
+         return size +
+            SimpleString.sizeofNullableString(null) + // buffer.writeNullableSimpleString(null);
+            batchedSize;
+      }
+      return size +
+         SimpleString.sizeofNullableString(SimpleString.toSimpleString(codec.getName())) + // buffer.writeNullableSimpleString(codecName);
+         DataConstants.SIZE_INT + // buffer.writeInt(batchedSize);
+         DataConstants.SIZE_INT + // buffer.writeInt(compressed.length);
+         compressed.length;
+   }
+
+   @Override
+   public void encodeRest(final ActiveMQBuffer buffer) {
+      buffer.writeInt(packets.size());
+      if (compressed == null) {
+         buffer.writeNullableSimpleString(null);
+         encodePackets(buffer);
+      } else {
+         buffer.writeNullableSimpleString(SimpleString.toSimpleString(codec.getName()));
+         buffer.writeInt(batchedSize);
+         buffer.writeInt(compressed.length);
+         buffer.writeBytes(compressed);
+      }
+   }
+
+   private void encodePackets(final ActiveMQBuffer buffer) {
+      for (PacketImpl packet : packets) {
+         buffer.writeByte(packet.getType());
+         int sizeIndex = buffer.writerIndex();
+         buffer.writeInt(0); // filled in once the packet is encoded
+         packet.encodeRest(buffer);
+         buffer.setInt(sizeIndex, buffer.writerIndex() - sizeIndex - DataConstants.SIZE_INT);
+      }
+   }
+
+   @Override
+   public void decodeRest(final ActiveMQBuffer buffer) {
+      final int count = buffer.readInt();
+      final SimpleString codecName = buffer.readNullableSimpleString();
+      ActiveMQBuffer data = buffer;
+      if (codecName != null) {
+         codec = CompressionCodecs.getCodec(codecName);
+         batchedSize = buffer.readInt();
+         compressed = new byte[buffer.readInt()];
+         buffer.readBytes(compressed);
+         data = ActiveMQBuffers.wrappedBuffer(decompress(codec, compressed, batchedSize));
+      }
+      for (int i = 0; i < count; i++) {
+         final PacketImpl packet = createPacket(data.readByte());
+         final int size = data.readInt();
+         final int end = data.readerIndex() + size;
+         packet.decodeRest(data);
+         data.readerIndex(end);
+         packets.add(packet);
+      }
+   }
+
+   private static byte[] decompress(final CompressionCodec codec, final byte[] compressed, final int size) {
+      byte[] bytes = new byte[size];
+      int length = 0;
+      try (InputStream input = codec.createDecompressingReader(new ByteArrayInputStream(compressed))) {
+         int n;
+         while (length < size && (n = input.read(bytes, length, size - length)) != -1) {
+            length += n;
+         }
+      } catch (IOException e) {
+         throw new IllegalStateException(e);
+      }
+      if (length != size) {
+         throw new IllegalStateException("Replication batch decompressed to " + length + " bytes instead of " + size);
+      }
+      return bytes;
+   }
+
+   @Override
+   public String toString() {
+      StringBuffer buf = new StringBuffer(getParentString());
+      buf.append(", packets=" + packets.size());
+      buf.append(", batchedSize=" + batchedSize);
+      buf.append(", compressed=" + (compressed == null ? "none" : codec.getName() + "/" + compressed.length));
+      buf.append("]");
+      return buf.toString();
+   }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.protocol.core.impl.wireformat;
+
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.persistence.impl.journal.AbstractJournalStorageManager.JournalContent;
+import org.apache.activemq.artemis.core.protocol.core.impl.PacketImpl;
+import org.apache.activemq.artemis.core.replication.SyncFileManifest;
+import org.apache.activemq.artemis.utils.DataConstants;
+
+/**
+ * Tells the backup to synchronize a file with the copy it kept from its last synchronization, instead of receiving
+ * its content through {@link ReplicationSyncFileMessage}s.
+ * <p>
+ * Only sent to backups that registered with a {@link SyncFileManifest} listing that file.
+ */
+public final class ReplicationReuseFileMessage extends PacketImpl {
+
+   private JournalContent journalType;
+
+   private SimpleString pageStoreName;
+
+   private long fileId;
+
+   public ReplicationReuseFileMessage() {
+      super(REPLICATION_REUSE_FILE);
+   }
+
+   public ReplicationReuseFileMessage(JournalContent content, SimpleString storeName, long id) {
+      this();
+      this.journalType = content;
+      this.pageStoreName = storeName;
+      this.fileId = id;
+   }
+
+   @Override
+   public int expectedEncodeSize() {
+      return PACKET_HEADERS_SIZE +
+         DataConstants.SIZE_BYTE + // buffer.writeByte(journalType.typeByte or -1);
+         SimpleString.sizeofNullableString(pageStoreName) + // buffer.writeNullableSimpleString(pageStoreName);
+         DataConstants.SIZE_LONG; // buffer.writeLong(fileId);
+   }
+
+   @Override
+   public void encodeRest(final ActiveMQBuffer buffer) {
+      buffer.writeByte(journalType == null ? -1 : journalType.typeByte);
+      buffer.writeNullableSimpleString(pageStoreName);
+      buffer.writeLong(fileId);
+   }
+
+   @Override
+   public void decodeRest(final ActiveMQBuffer buffer) {
+      byte type = buffer.readByte();
+      journalType = type == -1 ? null : JournalContent.getType(type);
+      pageStoreName = buffer.readNullableSimpleString();
+      fileId = buffer.readLong();
+   }
+
+   /**
+    * @return the journal of a journal file, {@code null} for page and large message files
+    */
+   public JournalContent getJournalContent() {
+      return journalType;
+   }
+
+   /**
+    * @return the address of a page file, {@code null} for journal and large message files
+    */
+   public SimpleString getPageStore() {
+      return pageStoreName;
+   }
+
+   public long getId() {
+      return fileId;
+   }
+
+   /**
+    * @return the key of the file in the {@link SyncFileManifest} of the backup
+    */
+   public String getKey() {
+      return SyncFileManifest.key(journalType, pageStoreName, fileId);
+   }
+
+   @Override
+   public String toString() {
+      return getParentString() + ", file=" + getKey() + "]";
+   }
+}
@@ -72,7 +72,15 @@ public final class ReplicationSyncFileMessage extends PacketImpl {
    }
 
    public ReplicationSyncFileMessage() {
-      super(REPLICATION_SYNC_FILE);
+      this(REPLICATION_SYNC_FILE);
+   }
+
+   /**
+    * @param type {@link #REPLICATION_SYNC_FILE}, or {@link #REPLICATION_SYNC_FILE_V2} for a chunk the backup writes
+    *             asynchronously without responding to it
+    */
+   public ReplicationSyncFileMessage(byte type) {
+      super(type);
    }
 
    public ReplicationSyncFileMessage(AbstractJournalStorageManager.JournalContent content,
@@ -80,7 +88,16 @@ public final class ReplicationSyncFileMessage extends PacketImpl {
                                      long id,
                                      int size,
                                      ByteBuf buffer) {
-      this();
+      this(REPLICATION_SYNC_FILE, content, storeName, id, size, buffer);
+   }
+
+   public ReplicationSyncFileMessage(byte type,
+                                     AbstractJournalStorageManager.JournalContent content,
+                                     SimpleString storeName,
+                                     long id,
+                                     int size,
+                                     ByteBuf buffer) {
+      this(type);
       this.byteBuffer = buffer;
       this.pageStoreName = storeName;
       this.dataSize = size;
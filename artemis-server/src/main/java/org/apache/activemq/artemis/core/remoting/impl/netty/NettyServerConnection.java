@@ -31,4 +31,13 @@ public class NettyServerConnection extends NettyConnection {
       super(configuration, channel, listener, batchingEnabled, directDeliver);
    }
 
+   public NettyServerConnection(Map<String, Object> configuration,
+                                Channel channel,
+                                ServerConnectionLifeCycleListener listener,
+                                boolean batchingEnabled,
+                                boolean directDeliver,
+                                boolean zeroCopyLargeMessages) {
+      super(configuration, channel, listener, batchingEnabled, directDeliver, zeroCopyLargeMessages);
+   }
+
 }
@@ -17,6 +17,7 @@
 package org.apache.activemq.artemis.core.replication;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -28,6 +29,7 @@ import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.activemq.artemis.api.core.ActiveMQException;
 import org.apache.activemq.artemis.api.core.Message;
@@ -56,6 +58,8 @@ import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ActiveMQEx
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.BackupReplicationStartFailedMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationAddMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationAddTXMessage;
+import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationBatchMessage;
+import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationBatchResponseMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationCommitMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationDeleteMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationDeleteTXMessage;
@@ -68,6 +72,7 @@ import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.Replicatio
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationPrepareMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationResponseMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationResponseMessageV2;
+import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationReuseFileMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationStartSyncMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationStartSyncMessage.SyncDataType;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationSyncFileMessage;
@@ -90,6 +95,11 @@ public final class ReplicationEndpoint implements ChannelHandler, ActiveMQCompon
 
    private static final Logger logger = Logger.getLogger(ReplicationEndpoint.class);
 
+   /**
+    * The maximum number of bytes of streamed file chunks waiting to be written.
+    */
+   private static final int MAX_PENDING_SYNC_BYTES = 16 * 1024 * 1024;
+
    private final IOCriticalErrorListener criticalErrorListener;
    private final ActiveMQServerImpl server;
    private final boolean wantedFailBack;
@@ -126,6 +136,35 @@ public final class ReplicationEndpoint implements ChannelHandler, ActiveMQCompon
 
    private Executor executor;
 
+   /**
+    * The files kept from the last synchronization, which the live may tell us to reuse.
+    */
+   private SyncFileManifest backupFiles;
+
+   /**
+    * Write the file chunks streamed by the live during the initial synchronization. Each file has its own ordered
+    * writer, so a file is written in order and as many files are written at once as the live streams.
+    */
+   private final ConcurrentMap<String, Executor> syncFileWriters = new ConcurrentHashMap<>();
+
+   /**
+    * Guards {@link #pendingSyncBytes} and {@link #syncReadPaused}.
+    */
+   private final Object syncReadLock = new Object();
+
+   /**
+    * The bytes streamed by the live and not written yet.
+    */
+   private long pendingSyncBytes;
+
+   /**
+    * Whether reading the replication connection, and so the live streaming files, is paused until the writers
+    * catch up.
+    */
+   private boolean syncReadPaused;
+
+   private final AtomicReference<Exception> syncWriteFailure = new AtomicReference<>();
+
    // Constructors --------------------------------------------------
    public ReplicationEndpoint(final ActiveMQServerImpl server,
                               IOCriticalErrorListener criticalErrorListener,
@@ -169,32 +208,19 @@ public final class ReplicationEndpoint implements ChannelHandler, ActiveMQCompon
             return;
          }
 
-         if (type == PacketImpl.REPLICATION_APPEND) {
-            handleAppendAddRecord((ReplicationAddMessage) packet);
-         } else if (type == PacketImpl.REPLICATION_APPEND_TX) {
-            handleAppendAddTXRecord((ReplicationAddTXMessage) packet);
-         } else if (type == PacketImpl.REPLICATION_DELETE) {
-            handleAppendDelete((ReplicationDeleteMessage) packet);
-         } else if (type == PacketImpl.REPLICATION_DELETE_TX) {
-            handleAppendDeleteTX((ReplicationDeleteTXMessage) packet);
-         } else if (type == PacketImpl.REPLICATION_PREPARE) {
-            handlePrepare((ReplicationPrepareMessage) packet);
-         } else if (type == PacketImpl.REPLICATION_COMMIT_ROLLBACK) {
-            handleCommitRollback((ReplicationCommitMessage) packet);
-         } else if (type == PacketImpl.REPLICATION_PAGE_WRITE) {
-            handlePageWrite((ReplicationPageWriteMessage) packet);
-         } else if (type == PacketImpl.REPLICATION_PAGE_EVENT) {
-            handlePageEvent((ReplicationPageEventMessage) packet);
-         } else if (type == PacketImpl.REPLICATION_LARGE_MESSAGE_BEGIN) {
-            handleLargeMessageBegin((ReplicationLargeMessageBeginMessage) packet);
-         } else if (type == PacketImpl.REPLICATION_LARGE_MESSAGE_WRITE) {
-            handleLargeMessageWrite((ReplicationLargeMessageWriteMessage) packet);
-         } else if (type == PacketImpl.REPLICATION_LARGE_MESSAGE_END) {
-            handleLargeMessageEnd((ReplicationLargeMessageEndMessage) packet);
+         if (type == PacketImpl.REPLICATION_BATCH) {
+            response = handleBatch((ReplicationBatchMessage) packet);
+         } else if (ReplicationBatchMessage.isBatchable(packet)) {
+            handleRecordPacket(packet);
          } else if (type == PacketImpl.REPLICATION_START_FINISH_SYNC) {
             response = handleStartReplicationSynchronization((ReplicationStartSyncMessage) packet);
          } else if (type == PacketImpl.REPLICATION_SYNC_FILE) {
             handleReplicationSynchronization((ReplicationSyncFileMessage) packet);
+         } else if (type == PacketImpl.REPLICATION_SYNC_FILE_V2) {
+            handleStreamedSynchronization((ReplicationSyncFileMessage) packet);
+            response = null;
+         } else if (type == PacketImpl.REPLICATION_REUSE_FILE) {
+            handleReuseFile((ReplicationReuseFileMessage) packet);
          } else if (type == PacketImpl.REPLICATION_SCHEDULED_FAILOVER) {
             handleLiveStopping((ReplicationLiveIsStoppingMessage) packet);
          } else if (type == PacketImpl.BACKUP_REGISTRATION_FAILED) {
@@ -223,6 +249,47 @@ public final class ReplicationEndpoint implements ChannelHandler, ActiveMQCompon
       }
    }
 
+   /**
+    * Handles the packets that can be batched, see {@link ReplicationBatchMessage#isBatchable(Packet)}.
+    */
+   private void handleRecordPacket(final Packet packet) throws Exception {
+      final byte type = packet.getType();
+
+      if (type == PacketImpl.REPLICATION_APPEND) {
+         handleAppendAddRecord((ReplicationAddMessage) packet);
+      } else if (type == PacketImpl.REPLICATION_APPEND_TX) {
+         handleAppendAddTXRecord((ReplicationAddTXMessage) packet);
+      } else if (type == PacketImpl.REPLICATION_DELETE) {
+         handleAppendDelete((ReplicationDeleteMessage) packet);
+      } else if (type == PacketImpl.REPLICATION_DELETE_TX) {
+         handleAppendDeleteTX((ReplicationDeleteTXMessage) packet);
+      } else if (type == PacketImpl.REPLICATION_PREPARE) {
+         handlePrepare((ReplicationPrepareMessage) packet);
+      } else if (type == PacketImpl.REPLICATION_COMMIT_ROLLBACK) {
+         handleCommitRollback((ReplicationCommitMessage) packet);
+      } else if (type == PacketImpl.REPLICATION_PAGE_WRITE) {
+         handlePageWrite((ReplicationPageWriteMessage) packet);
+      } else if (type == PacketImpl.REPLICATION_PAGE_EVENT) {
+         handlePageEvent((ReplicationPageEventMessage) packet);
+      } else if (type == PacketImpl.REPLICATION_LARGE_MESSAGE_BEGIN) {
+         handleLargeMessageBegin((ReplicationLargeMessageBeginMessage) packet);
+      } else if (type == PacketImpl.REPLICATION_LARGE_MESSAGE_WRITE) {
+         handleLargeMessageWrite((ReplicationLargeMessageWriteMessage) packet);
+      } else if (type == PacketImpl.REPLICATION_LARGE_MESSAGE_END) {
+         handleLargeMessageEnd((ReplicationLargeMessageEndMessage) packet);
+      }
+   }
+
+   /**
+    * Applies every packet of the batch in order and acknowledges them all with a single response.
+    */
+   private PacketImpl handleBatch(final ReplicationBatchMessage batch) throws Exception {
+      for (Packet packet : batch.getPackets()) {
+         handleRecordPacket(packet);
+      }
+      return new ReplicationBatchResponseMessage(batch.getPackets().size());
+   }
+
    /**
     * @param packet
     */
@@ -257,7 +324,7 @@ public final class ReplicationEndpoint implements ChannelHandler, ActiveMQCompon
          journalsHolder.put(JournalContent.MESSAGES, storageManager.getMessageJournal());
 
          for (JournalContent jc : EnumSet.allOf(JournalContent.class)) {
-            filesReservedForSync.put(jc, new HashMap<Long, JournalSyncFile>());
+            filesReservedForSync.put(jc, new ConcurrentHashMap<Long, JournalSyncFile>());
             // We only need to load internal structures on the backup...
             journalLoadInformation[jc.typeByte] = journalsHolder.get(jc).loadSyncOnly(JournalState.SYNCING);
          }
@@ -284,6 +351,10 @@ public final class ReplicationEndpoint implements ChannelHandler, ActiveMQCompon
       started = false;
 
       OrderedExecutorFactory.flushExecutor(executor);
+      for (Executor writer : syncFileWriters.values()) {
+         OrderedExecutorFactory.flushExecutor(writer);
+      }
+      syncFileWriters.clear();
 
       // Channel may be null if there isn't a connection to a live server
       if (channel != null) {
@@ -337,10 +408,28 @@ public final class ReplicationEndpoint implements ChannelHandler, ActiveMQCompon
       this.channel = channel;
    }
 
-   private synchronized void finishSynchronization(String liveID) throws Exception {
+   private void finishSynchronization(String liveID) throws Exception {
       if (logger.isTraceEnabled()) {
          logger.trace("BACKUP-SYNC-START: finishSynchronization::" + liveID);
       }
+      // every streamed chunk must be written before the journals are reloaded, without holding the monitor of the
+      // endpoint as stop needs it to stop the flush
+      for (Executor writer : syncFileWriters.values()) {
+         while (!OrderedExecutorFactory.flushExecutor(writer)) {
+            if (!started) {
+               return;
+            }
+         }
+      }
+      syncFileWriters.clear();
+      Exception failure = syncWriteFailure.getAndSet(null);
+      if (failure != null) {
+         throw failure;
+      }
+      reloadSynchronizedJournals(liveID);
+   }
+
+   private synchronized void reloadSynchronizedJournals(String liveID) throws Exception {
       for (JournalContent jc : EnumSet.allOf(JournalContent.class)) {
          Journal journal = journalsHolder.remove(jc);
          if (logger.isTraceEnabled()) {
@@ -405,6 +494,64 @@ public final class ReplicationEndpoint implements ChannelHandler, ActiveMQCompon
       return;
    }
 
+   /**
+    * Hands a chunk of a file streamed by the live over to the writer of that file, the live doesn't wait
+    * for it to be written.
+    */
+   private void handleStreamedSynchronization(final ReplicationSyncFileMessage msg) throws Exception {
+      if (syncWriteFailure.get() != null) {
+         // the synchronization failed already, see syncWriteFailed
+         return;
+      }
+      final byte[] data = msg.getData();
+      final int size = data == null ? 0 : data.length;
+      addPendingSyncBytes(size);
+      final String key = SyncFileManifest.key(msg.getJournalContent(), msg.getPageStore(), msg.getId());
+      syncFileWriters.computeIfAbsent(key, k -> server.getExecutorFactory().getExecutor()).execute(() -> {
+         try {
+            if (started && syncWriteFailure.get() == null) {
+               handleReplicationSynchronization(msg);
+            }
+         } catch (Exception e) {
+            if (started) {
+               syncWriteFailed(msg, e);
+            }
+         } finally {
+            addPendingSyncBytes(-size);
+         }
+      });
+   }
+
+   /**
+    * Stops reading the replication connection while more than {@link #MAX_PENDING_SYNC_BYTES} streamed bytes wait
+    * to be written, until half of them are. The live is held back by the flow control of the connection, and no
+    * thread is blocked on either side.
+    */
+   private void addPendingSyncBytes(final long bytes) {
+      synchronized (syncReadLock) {
+         pendingSyncBytes += bytes;
+         final boolean pause = pendingSyncBytes > (syncReadPaused ? MAX_PENDING_SYNC_BYTES / 2 : MAX_PENDING_SYNC_BYTES);
+         if (pause != syncReadPaused) {
+            syncReadPaused = pause;
+            if (logger.isDebugEnabled()) {
+               logger.debug((pause ? "Pausing" : "Resuming") + " the replication connection, " + pendingSyncBytes + " synchronization bytes to write");
+            }
+            channel.getConnection().getTransportConnection().setAutoRead(!pause);
+         }
+      }
+   }
+
+   /**
+    * Fails the replication connection rather than waiting for the live to finish the synchronization, as the
+    * backup can't be synchronized without the file. The live goes on without the backup, which restarts.
+    */
+   private void syncWriteFailed(final ReplicationSyncFileMessage msg, final Exception e) {
+      ActiveMQServerLogger.LOGGER.errorHandlingReplicationPacket(e, msg);
+      if (syncWriteFailure.compareAndSet(null, e)) {
+         channel.getConnection().fail(ActiveMQMessageBundle.BUNDLE.replicationUnhandledError(e));
+      }
+   }
+
    /**
     * Receives 'raw' journal/page/large-message data from live server for synchronization of logs.
     *
@@ -455,6 +602,56 @@ public final class ReplicationEndpoint implements ChannelHandler, ActiveMQCompon
       channel1.writeDirect(ByteBuffer.wrap(data), false);
    }
 
+   /**
+    * Synchronizes a file with the copy kept from the last synchronization, as if its content had been received
+    * through {@link #handleReplicationSynchronization(ReplicationSyncFileMessage)}.
+    */
+   private void handleReuseFile(ReplicationReuseFileMessage msg) throws Exception {
+      File file = backupFiles == null ? null : backupFiles.getFile(msg.getKey());
+      if (file == null || !file.exists()) {
+         throw ActiveMQMessageBundle.BUNDLE.replicationReuseFileMissing(msg.getKey());
+      }
+      if (logger.isTraceEnabled()) {
+         logger.trace("Reusing " + file + " for " + msg.getKey());
+      }
+
+      SequentialFile target;
+      if (msg.getJournalContent() != null) {
+         JournalSyncFile journalSyncFile = filesReservedForSync.get(msg.getJournalContent()).get(msg.getId());
+         FileChannel channel2 = journalSyncFile.getChannel();
+         try (FileInputStream fis = new FileInputStream(file);
+              FileChannel source = fis.getChannel()) {
+            long position = 0;
+            long size = source.size();
+            while (position < size) {
+               position += channel2.transferFrom(source, position, size - position);
+            }
+         }
+         channel2.close();
+         return;
+      } else if (msg.getPageStore() != null) {
+         target = getPage(msg.getPageStore(), (int) msg.getId()).getFile();
+      } else {
+         ReplicatedLargeMessage largeMessage = lookupLargeMessage(msg.getId(), false, false);
+         if (!(largeMessage instanceof LargeServerMessageInSync)) {
+            ActiveMQServerLogger.LOGGER.largeMessageIncompatible();
+            return;
+         }
+         target = ((LargeServerMessageInSync) largeMessage).getSyncFile();
+      }
+
+      if (!target.isOpen()) {
+         target.open();
+      }
+      byte[] data = new byte[32 * 1024];
+      try (FileInputStream fis = new FileInputStream(file)) {
+         int read;
+         while ((read = fis.read(data)) != -1) {
+            target.writeDirect(ByteBuffer.wrap(data, 0, read), false);
+         }
+      }
+   }
+
    /**
     * Reserves files (with the given fileID) in the specified journal, and places a
     * {@link FileWrapperJournal} in place to store messages while synchronization is going on.
@@ -730,18 +927,21 @@ public final class ReplicationEndpoint implements ChannelHandler, ActiveMQCompon
     * @param map
     * @return
     */
-   private synchronized Page newPage(final int pageId,
-                                     final SimpleString storeName,
-                                     final ConcurrentMap<Integer, Page> map) throws Exception {
-      Page page = map.get(pageId);
+   private Page newPage(final int pageId,
+                        final SimpleString storeName,
+                        final ConcurrentMap<Integer, Page> map) throws Exception {
+      // not the monitor of the endpoint: the sync file writers create pages while stop waits for them
+      synchronized (map) {
+         Page page = map.get(pageId);
+
+         if (page == null) {
+            page = pageManager.getPageStore(storeName).createPage(pageId);
+            page.open();
+            map.put(pageId, page);
+         }
 
-      if (page == null) {
-         page = pageManager.getPageStore(storeName).createPage(pageId);
-         page.open();
-         map.put(pageId, page);
+         return page;
       }
-
-      return page;
    }
 
    /**
@@ -785,6 +985,13 @@ public final class ReplicationEndpoint implements ChannelHandler, ActiveMQCompon
       }
    }
 
+   /**
+    * @param backupFiles the files kept from the last synchronization, {@code null} if none
+    */
+   public void setBackupFiles(SyncFileManifest backupFiles) {
+      this.backupFiles = backupFiles;
+   }
+
    /**
     * Sets the quorumManager used by the server in the replicationEndpoint. It is used to inform the
     * backup server of the live's nodeID.
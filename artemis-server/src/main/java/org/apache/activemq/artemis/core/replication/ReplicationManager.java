@@ -17,19 +17,23 @@
 package org.apache.activemq.artemis.core.replication;
 
 import java.io.FileInputStream;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
+import org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.ActiveMQException;
 import org.apache.activemq.artemis.api.core.ActiveMQExceptionType;
@@ -53,6 +57,8 @@ import org.apache.activemq.artemis.core.protocol.core.impl.ChannelImpl.CHANNEL_I
 import org.apache.activemq.artemis.core.protocol.core.impl.PacketImpl;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationAddMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationAddTXMessage;
+import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationBatchMessage;
+import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationBatchResponseMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationCommitMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationDeleteMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationDeleteTXMessage;
@@ -65,6 +71,7 @@ import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.Replicatio
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationPageWriteMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationPrepareMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationResponseMessageV2;
+import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationReuseFileMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationStartSyncMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationSyncFileMessage;
 import org.apache.activemq.artemis.core.server.ActiveMQComponent;
@@ -73,6 +80,7 @@ import org.apache.activemq.artemis.core.server.ActiveMQServerLogger;
 import org.apache.activemq.artemis.spi.core.protocol.RemotingConnection;
 import org.apache.activemq.artemis.utils.ExecutorFactory;
 import org.apache.activemq.artemis.utils.ReusableLatch;
+import org.apache.activemq.artemis.utils.compression.CompressionCodec;
 import org.jboss.logging.Logger;
 
 /**
@@ -120,6 +128,19 @@ public final class ReplicationManager implements ActiveMQComponent {
 
    private final Queue<OperationContext> pendingTokens = new ConcurrentLinkedQueue<>();
 
+   /**
+    * Packets waiting to be sent by the replication stream when batching, see {@link #sendPendingPackets()}.
+    * <p>
+    * Whoever polls a packet from it owns its token: the token must be either sent or completed.
+    */
+   private final Queue<Pair<Packet, OperationContext>> pendingPackets = new ConcurrentLinkedQueue<>();
+
+   private final AtomicBoolean sendScheduled = new AtomicBoolean(false);
+
+   private final int batchSize;
+
+   private final CompressionCodec compressionCodec;
+
    private final ExecutorFactory executorFactory;
 
    private final Executor replicationStream;
@@ -134,17 +155,52 @@ public final class ReplicationManager implements ActiveMQComponent {
 
    private final ReusableLatch synchronizationIsFinishedAcknowledgement = new ReusableLatch(0);
 
+   private volatile SyncFileManifest backupFiles;
+
+   private final int syncParallelism;
+
+   /**
+    * Streams sending files to the backup during the initial synchronization, created on first use.
+    */
+   private Executor[] syncStreams;
+
+   private int nextSyncStream;
+
+   private final ReusableLatch pendingSyncFiles = new ReusableLatch(0);
+
+   private final AtomicReference<Exception> syncFailure = new AtomicReference<>();
+
+   private final ReplicationSyncProgress syncProgress = new ReplicationSyncProgress();
+
    /**
     * @param remotingConnection
     */
    public ReplicationManager(CoreRemotingConnection remotingConnection,
                              final long timeout,
                              final ExecutorFactory executorFactory) {
+      this(remotingConnection, timeout, executorFactory, ActiveMQDefaultConfiguration.getDefaultReplicationBatchSize(), null, ActiveMQDefaultConfiguration.getDefaultInitialReplicationSyncParallelism());
+   }
+
+   /**
+    * @param batchSize        the maximum size in bytes of the packets sent as a single
+    *                         {@link ReplicationBatchMessage}, {@code 0} to send every packet on its own
+    * @param compressionCodec used to compress the batches, {@code null} to not compress them
+    * @param syncParallelism  the number of files sent concurrently during the initial synchronization
+    */
+   public ReplicationManager(CoreRemotingConnection remotingConnection,
+                             final long timeout,
+                             final ExecutorFactory executorFactory,
+                             final int batchSize,
+                             final CompressionCodec compressionCodec,
+                             final int syncParallelism) {
       this.executorFactory = executorFactory;
       this.replicatingChannel = remotingConnection.getChannel(CHANNEL_ID.REPLICATION.id, -1);
       this.remotingConnection = remotingConnection;
       this.replicationStream = executorFactory.getExecutor();
       this.timeout = timeout;
+      this.batchSize = batchSize;
+      this.compressionCodec = compressionCodec;
+      this.syncParallelism = syncParallelism;
    }
 
    public void appendUpdateRecord(final byte journalID,
@@ -256,6 +312,21 @@ public final class ReplicationManager implements ActiveMQComponent {
       }
    }
 
+   /**
+    * @param backupFiles the files the backup kept from its last synchronization, {@code null} if it has none
+    */
+   public void setBackupFiles(SyncFileManifest backupFiles) {
+      this.backupFiles = backupFiles;
+   }
+
+   /**
+    * @return whether the backup kept files from its last synchronization that it may reuse
+    */
+   public boolean hasBackupFiles() {
+      SyncFileManifest files = backupFiles;
+      return files != null && !files.isEmpty();
+   }
+
    @Override
    public synchronized boolean isStarted() {
       return started;
@@ -274,6 +345,8 @@ public final class ReplicationManager implements ActiveMQComponent {
       started = true;
 
       enabled = true;
+
+      syncProgress.started();
    }
 
    @Override
@@ -311,18 +384,26 @@ public final class ReplicationManager implements ActiveMQComponent {
     */
    public void clearReplicationTokens() {
       logger.trace("clearReplicationTokens initiating");
-      while (!pendingTokens.isEmpty()) {
-         OperationContext ctx = pendingTokens.poll();
+      Pair<Packet, OperationContext> pending;
+      while ((pending = pendingPackets.poll()) != null) {
+         replicationDone(pending.getB());
+      }
+      OperationContext ctx;
+      while ((ctx = pendingTokens.poll()) != null) {
          logger.trace("Calling ctx.replicationDone()");
-         try {
-            ctx.replicationDone();
-         } catch (Throwable e) {
-            ActiveMQServerLogger.LOGGER.errorCompletingCallbackOnReplicationManager(e);
-         }
+         replicationDone(ctx);
       }
       logger.trace("clearReplicationTokens finished");
    }
 
+   private static void replicationDone(final OperationContext ctx) {
+      try {
+         ctx.replicationDone();
+      } catch (Throwable e) {
+         ActiveMQServerLogger.LOGGER.errorCompletingCallbackOnReplicationManager(e);
+      }
+   }
+
    /**
     * A list of tokens that are still waiting for replications to be completed
     */
@@ -356,18 +437,21 @@ public final class ReplicationManager implements ActiveMQComponent {
       }
 
       if (enabled) {
-         if (useExecutor) {
+         if (useExecutor && isBatching()) {
+            pendingPackets.add(new Pair<>(packet, repliToken));
+            if (sendScheduled.compareAndSet(false, true)) {
+               replicationStream.execute(this::sendPendingPackets);
+            }
+         } else if (useExecutor) {
             replicationStream.execute(() -> {
                if (enabled) {
-                  pendingTokens.add(repliToken);
-                  flowControl(packet.expectedEncodeSize());
-                  replicatingChannel.send(packet);
+                  send(packet, repliToken);
+               } else {
+                  replicationDone(repliToken);
                }
             });
          } else {
-            pendingTokens.add(repliToken);
-            flowControl(packet.expectedEncodeSize());
-            replicatingChannel.send(packet);
+            send(packet, repliToken);
          }
       } else {
          // Already replicating channel failed, so just play the action now
@@ -383,6 +467,84 @@ public final class ReplicationManager implements ActiveMQComponent {
       return repliToken;
    }
 
+   private boolean isBatching() {
+      // the backup only tells which version it runs once it has subscribed to the topology
+      return batchSize > 0 && replicatingChannel.supports(PacketImpl.REPLICATION_BATCH);
+   }
+
+   private void send(final Packet packet, final OperationContext repliToken) {
+      pendingTokens.add(repliToken);
+      flowControl(packet.expectedEncodeSize());
+      replicatingChannel.send(packet);
+   }
+
+   /**
+    * Sends everything that piled up on {@link #pendingPackets} while the replication stream was busy, in
+    * order, grouping the consecutive packets that can be batched into {@link ReplicationBatchMessage}s of
+    * up to {@link #batchSize} bytes.
+    * <p>
+    * It can run while {@link #stop()} clears the tokens: the tokens of the packets it polled are completed here once
+    * replication is disabled, and the tokens it sent after they were cleared are cleared again.
+    */
+   private void sendPendingPackets() {
+      sendScheduled.set(false);
+
+      ReplicationBatchMessage batch = null;
+      List<OperationContext> batchTokens = new ArrayList<>();
+      Pair<Packet, OperationContext> pending;
+      while ((pending = pendingPackets.poll()) != null) {
+         if (!enabled) {
+            replicationDone(pending.getB());
+            continue;
+         }
+         final Packet packet = pending.getA();
+         if (ReplicationBatchMessage.isBatchable(packet)) {
+            if (batch == null) {
+               batch = new ReplicationBatchMessage(compressionCodec);
+            }
+            batch.addPacket((PacketImpl) packet);
+            batchTokens.add(pending.getB());
+            if (batch.getBatchedSize() >= batchSize) {
+               sendBatch(batch, batchTokens);
+               batch = null;
+            }
+         } else {
+            if (batch != null) {
+               sendBatch(batch, batchTokens);
+               batch = null;
+            }
+            send(packet, pending.getB());
+         }
+      }
+      if (batch != null) {
+         if (enabled) {
+            sendBatch(batch, batchTokens);
+         } else {
+            batchTokens.forEach(ReplicationManager::replicationDone);
+         }
+      }
+      if (!enabled) {
+         // no response will come for what was sent after stop() cleared the tokens
+         clearReplicationTokens();
+      }
+   }
+
+   private void sendBatch(final ReplicationBatchMessage batch, final List<OperationContext> batchTokens) {
+      if (batchTokens.size() == 1) {
+         send(batch.getPackets().get(0), batchTokens.get(0));
+      } else {
+         try {
+            batch.compress();
+         } catch (IOException e) {
+            logger.warn("Sending the replication batch uncompressed: " + e.getMessage(), e);
+         }
+         pendingTokens.addAll(batchTokens);
+         flowControl(batch.expectedEncodeSize());
+         replicatingChannel.send(batch);
+      }
+      batchTokens.clear();
+   }
+
    /**
     * This was written as a refactoring of sendReplicatePacket.
     * In case you refactor this in any way, this method must hold a lock on replication lock. .
@@ -418,6 +580,12 @@ public final class ReplicationManager implements ActiveMQComponent {
       ctx.replicationDone();
    }
 
+   private void replicated(final int count) {
+      for (int i = 0; i < count; i++) {
+         replicated();
+      }
+   }
+
    // Inner classes -------------------------------------------------
 
    private final class ReplicatedSessionFailureListener implements SessionFailureListener {
@@ -460,6 +628,8 @@ public final class ReplicationManager implements ActiveMQComponent {
                   synchronizationIsFinishedAcknowledgement.countDown();
                }
             }
+         } else if (packet.getType() == PacketImpl.REPLICATION_BATCH_RESPONSE) {
+            replicated(((ReplicationBatchResponseMessage) packet).getCount());
          }
       }
 
@@ -494,24 +664,130 @@ public final class ReplicationManager implements ActiveMQComponent {
          return;
       }
       SequentialFile file = jf.getFile().cloneFile();
-      try {
-         ActiveMQServerLogger.LOGGER.replicaSyncFile(file, file.size());
-         sendLargeFile(content, null, jf.getFileID(), file, Long.MAX_VALUE);
-      } finally {
-         if (file.isOpen())
-            file.close();
-      }
+      syncFile(content, null, jf.getFileID(), file, Long.MAX_VALUE);
    }
 
    public void syncLargeMessageFile(SequentialFile file, long size, long id) throws Exception {
       if (enabled) {
-         sendLargeFile(null, null, id, file, size);
+         syncFile(null, null, id, file, size);
       }
    }
 
    public void syncPages(SequentialFile file, long id, SimpleString queueName) throws Exception {
       if (enabled)
-         sendLargeFile(null, queueName, id, file, Long.MAX_VALUE);
+         syncFile(null, queueName, id, file, Long.MAX_VALUE);
+   }
+
+   /**
+    * Synchronizes a file with the backup, either telling it to reuse its own copy or sending it.
+    * <p>
+    * When the backup writes the chunks it receives asynchronously, files are sent concurrently by up to
+    * {@link #syncParallelism} streams, their chunks being interleaved on the replication channel. Use
+    * {@link #waitForSyncFiles()} to wait for them to be sent. The streams also compare the files with the
+    * copies of the backup, so the thread listing the files doesn't read them.
+    */
+   private void syncFile(AbstractJournalStorageManager.JournalContent content,
+                         SimpleString pageStore,
+                         long id,
+                         SequentialFile file,
+                         long maxBytesToSend) throws Exception {
+      final long size = Math.min(file.getJavaFile().length(), maxBytesToSend);
+      syncProgress.fileAdded(size);
+
+      final Executor syncStream = getSyncStream();
+      if (syncStream == null) {
+         reuseOrSendFile(content, pageStore, id, file, maxBytesToSend, size);
+         return;
+      }
+      pendingSyncFiles.countUp();
+      syncStream.execute(() -> {
+         try {
+            reuseOrSendFile(content, pageStore, id, file, maxBytesToSend, size);
+         } catch (Exception e) {
+            logger.warn("Error sending " + file.getFileName() + " to the backup: " + e.getMessage(), e);
+            syncFailure.compareAndSet(null, e);
+         } finally {
+            pendingSyncFiles.countDown();
+         }
+      });
+   }
+
+   private void reuseOrSendFile(AbstractJournalStorageManager.JournalContent content,
+                                SimpleString pageStore,
+                                long id,
+                                SequentialFile file,
+                                long maxBytesToSend,
+                                long size) throws Exception {
+      try {
+         if (reuseBackupFile(content, pageStore, id, file, size)) {
+            syncProgress.fileReused(size);
+            if (file.isOpen())
+               file.close();
+            return;
+         }
+      } catch (Exception e) {
+         if (file.isOpen())
+            file.close();
+         throw e;
+      }
+      if (content != null) {
+         ActiveMQServerLogger.LOGGER.replicaSyncFile(file, size);
+      }
+      sendLargeFile(content, pageStore, id, file, maxBytesToSend);
+      syncProgress.fileSynchronized(size);
+   }
+
+   /**
+    * @return the stream to send the next file, {@code null} to send it from the calling thread
+    */
+   private Executor getSyncStream() {
+      if (syncParallelism <= 1 || !replicatingChannel.supports(PacketImpl.REPLICATION_SYNC_FILE_V2)) {
+         return null;
+      }
+      if (syncStreams == null) {
+         syncStreams = new Executor[syncParallelism];
+         for (int i = 0; i < syncParallelism; i++) {
+            syncStreams[i] = executorFactory.getExecutor();
+         }
+      }
+      return syncStreams[nextSyncStream++ % syncStreams.length];
+   }
+
+   /**
+    * Waits for the files being sent concurrently to the backup, this must be called before
+    * {@link #sendSynchronizationDone(String, long)}.
+    *
+    * @throws Exception the first error sending one of the files
+    */
+   public void waitForSyncFiles() throws Exception {
+      pendingSyncFiles.await();
+      Exception failure = syncFailure.getAndSet(null);
+      if (failure != null) {
+         throw failure;
+      }
+   }
+
+   /**
+    * Tells the backup to reuse its own copy of the file, if it kept one with the same size and checksum,
+    * see {@link SyncFileManifest} for what the checksum covers.
+    *
+    * @return {@code true} if the backup reuses its copy, so that the file must not be sent
+    */
+   private boolean reuseBackupFile(AbstractJournalStorageManager.JournalContent content,
+                                   SimpleString pageStore,
+                                   long id,
+                                   SequentialFile file,
+                                   long size) throws Exception {
+      SyncFileManifest files = backupFiles;
+      if (files == null || !files.matches(SyncFileManifest.key(content, pageStore, id), file.getJavaFile(), size)) {
+         return false;
+      }
+      if (logger.isDebugEnabled()) {
+         logger.debug("Backup reuses its copy of " + file.getFileName());
+      }
+      // sent the same way as file contents, after the ReplicationStartSyncMessage reserving the file
+      sendReplicatePacket(new ReplicationReuseFileMessage(content, pageStore, id), true, false);
+      return true;
    }
 
    /**
@@ -534,6 +810,8 @@ public final class ReplicationManager implements ActiveMQComponent {
       if (!file.isOpen()) {
          file.open();
       }
+      // a backup that writes the chunks asynchronously doesn't respond to them
+      final boolean unacknowledged = replicatingChannel.supports(PacketImpl.REPLICATION_SYNC_FILE_V2);
       int size = 32 * 1024;
       final ByteBuf buffer = PooledByteBufAllocator.DEFAULT.directBuffer(size, size);
 
@@ -561,8 +839,19 @@ public final class ReplicationManager implements ActiveMQComponent {
                // We cannot simply send everything of a file through the executor,
                // otherwise we would run out of memory.
                // so we don't use the executor here
-               sendReplicatePacket(new ReplicationSyncFileMessage(content, pageStore, id, toSend, buffer), true, false);
-               if (bytesRead == -1 || bytesRead == 0 || maxBytesToSend == 0)
+               if (unacknowledged) {
+                  ReplicationSyncFileMessage chunk = new ReplicationSyncFileMessage(PacketImpl.REPLICATION_SYNC_FILE_V2, content, pageStore, id, toSend, buffer);
+                  if (!flowControl(chunk.expectedEncodeSize())) {
+                     break;
+                  }
+                  replicatingChannel.send(chunk);
+               } else {
+                  sendReplicatePacket(new ReplicationSyncFileMessage(content, pageStore, id, toSend, buffer), true, false);
+               }
+               if (toSend > 0) {
+                  syncProgress.bytesSent(toSend);
+               }
+               if (bytesRead == -1 || bytesRead == 0 || maxBytesToSend == 0 || !enabled)
                   break;
             }
          }
@@ -614,6 +903,7 @@ public final class ReplicationManager implements ActiveMQComponent {
             logger.debug(e);
          }
          inSync = false;
+         syncProgress.finished();
 
          logger.trace("sendSynchronizationDone finished");
       }
@@ -667,4 +957,8 @@ public final class ReplicationManager implements ActiveMQComponent {
    public boolean isSynchronizing() {
       return inSync;
    }
+
+   public ReplicationSyncProgress getSyncProgress() {
+      return syncProgress;
+   }
 }
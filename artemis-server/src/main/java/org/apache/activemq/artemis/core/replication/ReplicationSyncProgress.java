@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.replication;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of the initial synchronization of a replicated backup, as seen by the live server.
+ *
+ * @see ReplicationManager#getSyncProgress()
+ */
+public final class ReplicationSyncProgress {
+
+   private final AtomicInteger files = new AtomicInteger();
+
+   private final AtomicInteger filesSynchronized = new AtomicInteger();
+
+   private final AtomicInteger filesReused = new AtomicInteger();
+
+   private final AtomicLong bytes = new AtomicLong();
+
+   private final AtomicLong bytesSynchronized = new AtomicLong();
+
+   private final AtomicLong bytesSent = new AtomicLong();
+
+   private volatile long startTime;
+
+   private volatile long endTime;
+
+   void started() {
+      startTime = System.currentTimeMillis();
+   }
+
+   void finished() {
+      endTime = System.currentTimeMillis();
+   }
+
+   void fileAdded(long size) {
+      files.incrementAndGet();
+      bytes.addAndGet(size);
+   }
+
+   void fileReused(long size) {
+      filesReused.incrementAndGet();
+      fileSynchronized(size);
+   }
+
+   void fileSynchronized(long size) {
+      filesSynchronized.incrementAndGet();
+      bytesSynchronized.addAndGet(size);
+   }
+
+   void bytesSent(int size) {
+      bytesSent.addAndGet(size);
+   }
+
+   /**
+    * @return the number of files to synchronize
+    */
+   public int getFiles() {
+      return files.get();
+   }
+
+   /**
+    * @return the number of files already sent or reused by the backup
+    */
+   public int getFilesSynchronized() {
+      return filesSynchronized.get();
+   }
+
+   /**
+    * @return the number of files the backup reused from its last synchronization
+    */
+   public int getFilesReused() {
+      return filesReused.get();
+   }
+
+   /**
+    * @return the total size in bytes of the files to synchronize
+    */
+   public long getBytes() {
+      return bytes.get();
+   }
+
+   /**
+    * @return the size in bytes of the files already sent or reused by the backup
+    */
+   public long getBytesSynchronized() {
+      return bytesSynchronized.get();
+   }
+
+   /**
+    * @return the number of bytes actually sent to the backup
+    */
+   public long getBytesSent() {
+      return bytesSent.get();
+   }
+
+   public boolean isFinished() {
+      return endTime != 0;
+   }
+
+   /**
+    * @return the time in milliseconds the synchronization has been running, or took once finished
+    */
+   public long getElapsedTime() {
+      long start = startTime;
+      if (start == 0) {
+         return 0;
+      }
+      long end = endTime;
+      return (end == 0 ? System.currentTimeMillis() : end) - start;
+   }
+
+   /**
+    * @return the average number of bytes sent to the backup per second
+    */
+   public long getThroughput() {
+      long elapsed = getElapsedTime();
+      return elapsed == 0 ? 0 : getBytesSent() * 1000 / elapsed;
+   }
+}
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.replication;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.persistence.impl.journal.AbstractJournalStorageManager.JournalContent;
+import org.apache.activemq.artemis.core.server.files.FileMoveManager;
+import org.jboss.logging.Logger;
+
+/**
+ * The journal, page and large message files a backup kept from its last synchronization, identified by their
+ * sequence ID (the journal file ID, the page number or the message ID) along with their size and a CRC32 checksum.
+ * <p>
+ * A backup sends it when registering to the live, which then tells the backup to reuse the files it already has
+ * unchanged instead of sending them again.
+ * <p>
+ * Page and large message files are only ever appended to under the same ID, and a page rewritten by compaction
+ * shrinks, so their checksum only covers the first and last {@link #SAMPLE_SIZE} bytes: a copy stopped short has
+ * a different size, and the samples tell apart files two servers wrote under the same ID after a failover.
+ * Journal files are preallocated and keep their size whatever they hold, so their checksum covers the whole file,
+ * which is bounded by the journal size rather than by the size of the store.
+ *
+ * @see ReplicationManager#setBackupFiles(SyncFileManifest)
+ */
+public final class SyncFileManifest {
+
+   private static final Logger logger = Logger.getLogger(SyncFileManifest.class);
+
+   private static final Pattern BINDINGS_FILE = Pattern.compile("activemq-bindings-(\\d+)\\.bindings");
+
+   private static final Pattern MESSAGES_FILE = Pattern.compile("activemq-data-(\\d+)\\.amq");
+
+   private static final Pattern LARGE_MESSAGE_FILE = Pattern.compile("(\\d+)\\.msg");
+
+   private static final Pattern PAGE_FILE = Pattern.compile("(\\d+)\\.page");
+
+   private static final String ADDRESS_FILE = "address.txt";
+
+   private static final String JOURNAL_KEY = "journal/";
+
+   static final int SAMPLE_SIZE = 64 * 1024;
+
+   private final Map<String, Entry> files = new HashMap<>();
+
+   /**
+    * Lists the files of the folders the latest start of the backup moved its data to, see {@link FileMoveManager}.
+    */
+   public static SyncFileManifest load(Configuration configuration) throws IOException {
+      SyncFileManifest manifest = new SyncFileManifest();
+
+      File bindings = latestReplica(configuration.getBindingsLocation());
+      if (bindings != null) {
+         manifest.addFiles(bindings, BINDINGS_FILE, JournalContent.BINDINGS, null);
+      }
+      File journal = latestReplica(configuration.getJournalLocation());
+      if (journal != null) {
+         manifest.addFiles(journal, MESSAGES_FILE, JournalContent.MESSAGES, null);
+      }
+      File largeMessages = latestReplica(configuration.getLargeMessagesLocation());
+      if (largeMessages != null) {
+         manifest.addFiles(largeMessages, LARGE_MESSAGE_FILE, null, null);
+      }
+      File paging = latestReplica(configuration.getPagingLocation());
+      File[] stores = paging == null ? null : paging.listFiles();
+      if (stores != null) {
+         for (File store : stores) {
+            File addressFile = new File(store, ADDRESS_FILE);
+            if (addressFile.exists()) {
+               try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(addressFile)))) {
+                  manifest.addFiles(store, PAGE_FILE, null, new SimpleString(reader.readLine()));
+               }
+            }
+         }
+      }
+
+      if (logger.isDebugEnabled()) {
+         logger.debug("Backup kept " + manifest.size() + " files that may be reused by the next synchronization");
+      }
+      return manifest;
+   }
+
+   private static File latestReplica(File folder) {
+      FileMoveManager moveManager = new FileMoveManager(folder);
+      if (moveManager.getNumberOfFolders() == 0) {
+         return null;
+      }
+      return moveManager.getFolder(moveManager.getMaxID());
+   }
+
+   private void addFiles(File folder, Pattern pattern, JournalContent content, SimpleString pageStore) throws IOException {
+      File[] list = folder.listFiles();
+      if (list == null) {
+         return;
+      }
+      for (File file : list) {
+         Matcher matcher = pattern.matcher(file.getName());
+         if (file.isFile() && matcher.matches()) {
+            long id = Long.parseLong(matcher.group(1));
+            String key = key(content, pageStore, id);
+            files.put(key, new Entry(file.length(), checksum(key, file, file.length()), file));
+         }
+      }
+   }
+
+   /**
+    * @param content   the journal of a journal file, {@code null} otherwise
+    * @param pageStore the address of a page file, {@code null} otherwise
+    * @param id        the journal file ID, the page number or the large message ID
+    */
+   public static String key(JournalContent content, SimpleString pageStore, long id) {
+      if (content != null) {
+         return JOURNAL_KEY + content + "/" + id;
+      } else if (pageStore != null) {
+         return "page/" + pageStore + "/" + id;
+      } else {
+         return "large-message/" + id;
+      }
+   }
+
+   public int size() {
+      return files.size();
+   }
+
+   public boolean isEmpty() {
+      return files.isEmpty();
+   }
+
+   /**
+    * Whether the backup has the first {@code size} bytes of the given file, and nothing else, under that key.
+    */
+   public boolean matches(String key, File file, long size) throws IOException {
+      Entry entry = files.get(key);
+      return entry != null && entry.size == size && file.length() == size && entry.checksum == checksum(key, file, size);
+   }
+
+   /**
+    * @return the file the backup kept under that key, {@code null} if there is none
+    */
+   public File getFile(String key) {
+      Entry entry = files.get(key);
+      return entry == null ? null : entry.file;
+   }
+
+   public void encode(ActiveMQBuffer buffer) {
+      buffer.writeInt(files.size());
+      for (Map.Entry<String, Entry> file : files.entrySet()) {
+         buffer.writeString(file.getKey());
+         buffer.writeLong(file.getValue().size);
+         buffer.writeLong(file.getValue().checksum);
+      }
+   }
+
+   public void decode(ActiveMQBuffer buffer) {
+      int count = buffer.readInt();
+      for (int i = 0; i < count; i++) {
+         String key = buffer.readString();
+         long size = buffer.readLong();
+         long checksum = buffer.readLong();
+         files.put(key, new Entry(size, checksum, null));
+      }
+   }
+
+   /**
+    * @return the CRC32 of the first {@code size} bytes of a journal file, or of the samples of any other file
+    */
+   private static long checksum(String key, File file, long size) throws IOException {
+      CRC32 crc = new CRC32();
+      byte[] buffer = new byte[SAMPLE_SIZE];
+      try (RandomAccessFile input = new RandomAccessFile(file, "r")) {
+         if (key.startsWith(JOURNAL_KEY) || size <= 2L * SAMPLE_SIZE) {
+            update(crc, input, buffer, 0, size);
+         } else {
+            update(crc, input, buffer, 0, SAMPLE_SIZE);
+            update(crc, input, buffer, size - SAMPLE_SIZE, SAMPLE_SIZE);
+         }
+      }
+      return crc.getValue();
+   }
+
+   private static void update(CRC32 crc, RandomAccessFile input, byte[] buffer, long position, long length) throws IOException {
+      input.seek(position);
+      long remaining = length;
+      int read;
+      while (remaining > 0 && (read = input.read(buffer, 0, (int) Math.min(buffer.length, remaining))) != -1) {
+         crc.update(buffer, 0, read);
+         remaining -= read;
+      }
+   }
+
+   @Override
+   public String toString() {
+      return "SyncFileManifest(files=" + files.size() + ")";
+   }
+
+   private static final class Entry {
+
+      final long size;
+
+      final long checksum;
+
+      // only known on the backup
+      final File file;
+
+      Entry(long size, long checksum, File file) {
+         this.size = size;
+         this.checksum = checksum;
+         this.file = file;
+      }
+   }
+}
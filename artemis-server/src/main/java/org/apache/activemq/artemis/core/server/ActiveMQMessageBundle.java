@@ -26,6 +26,7 @@ import org.apache.activemq.artemis.api.core.ActiveMQClusterSecurityException;
 import org.apache.activemq.artemis.api.core.ActiveMQConnectionTimedOutException;
 import org.apache.activemq.artemis.api.core.ActiveMQDeleteAddressException;
 import org.apache.activemq.artemis.api.core.ActiveMQDisconnectedException;
+import org.apache.activemq.artemis.api.core.ActiveMQDuplicateIdException;
 import org.apache.activemq.artemis.api.core.ActiveMQDuplicateMetaDataException;
 import org.apache.activemq.artemis.api.core.ActiveMQException;
 import org.apache.activemq.artemis.api.core.ActiveMQIOErrorException;
@@ -36,6 +37,7 @@ import org.apache.activemq.artemis.api.core.ActiveMQInvalidFilterExpressionExcep
 import org.apache.activemq.artemis.api.core.ActiveMQInvalidQueueConfiguration;
 import org.apache.activemq.artemis.api.core.ActiveMQInvalidTransientQueueUseException;
 import org.apache.activemq.artemis.api.core.ActiveMQNonExistentQueueException;
+import org.apache.activemq.artemis.api.core.ActiveMQNotConnectedException;
 import org.apache.activemq.artemis.api.core.ActiveMQQueueExistsException;
 import org.apache.activemq.artemis.api.core.ActiveMQQueueMaxConsumerLimitReached;
 import org.apache.activemq.artemis.api.core.ActiveMQSecurityException;
@@ -430,4 +432,16 @@ public interface ActiveMQMessageBundle {
    @Message(id = 119212, value = "Invalid deletion policy type {0}", format = Message.Format.MESSAGE_FORMAT)
    IllegalArgumentException invalidDeletionPolicyType(String val);
 
+   @Message(id = 119213, value = "Large message body ended at {0} bytes, expected {1}", format = Message.Format.MESSAGE_FORMAT)
+   ActiveMQIllegalStateException largeMessageBodyTruncated(long position, long size);
+
+   @Message(id = 119214, value = "Connection {1} of bridge {0} is closed", format = Message.Format.MESSAGE_FORMAT)
+   ActiveMQNotConnectedException bridgeLaneClosed(SimpleString bridgeName, int lane);
+
+   @Message(id = 119215, value = "The backup has no {0} file to reuse for the synchronization", format = Message.Format.MESSAGE_FORMAT)
+   ActiveMQIllegalStateException replicationReuseFileMissing(String file);
+
+   @Message(id = 119216, value = "A bulk send of {0} messages was rolled back as one of them was routed concurrently", format = Message.Format.MESSAGE_FORMAT)
+   ActiveMQDuplicateIdException bulkSendRolledBack(int messages);
+
 }
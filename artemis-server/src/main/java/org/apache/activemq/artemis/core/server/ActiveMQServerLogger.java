@@ -394,6 +394,10 @@ public interface ActiveMQServerLogger extends BasicLogger {
    @Message(id = 221071, value = "Failing over based on quorum vote results.", format = Message.Format.MESSAGE_FORMAT)
    void failingOverBasedOnQuorumVoteResults();
 
+   @LogMessage(level = Logger.Level.INFO)
+   @Message(id = 221072, value = "Live server {0} answered on the replication connection, monitoring its heartbeats again", format = Message.Format.MESSAGE_FORMAT)
+   void liveAnsweredOnReplication(String nodeID);
+
    @LogMessage(level = Logger.Level.WARN)
    @Message(id = 222000, value = "ActiveMQServer is being finalized and has not been stopped. Please remember to stop the server before letting it go out of scope",
       format = Message.Format.MESSAGE_FORMAT)
@@ -1348,6 +1352,27 @@ public interface ActiveMQServerLogger extends BasicLogger {
    @Message(id = 222218, value = "Server disconnecting: {0}", format = Message.Format.MESSAGE_FORMAT)
    void disconnectCritical(String reason, @Cause Exception e);
 
+   @LogMessage(level = Logger.Level.WARN)
+   @Message(id = 222219, value = "Live server {0} is suspected to have failed, no heartbeat came back for {1} milliseconds (phi = {2})",
+      format = Message.Format.MESSAGE_FORMAT)
+   void liveSuspected(String nodeID, long silence, double phi);
+
+   @LogMessage(level = Logger.Level.WARN)
+   @Message(id = 222220, value = "Bridge {0} unable to send a batch of {1} messages, will try again once bridge reconnects", format = Message.Format.MESSAGE_FORMAT)
+   void bridgeUnableToSendBatch(@Cause Exception e, SimpleString bridgeName, int messages);
+
+   @LogMessage(level = Logger.Level.WARN)
+   @Message(id = 222221, value = "Could not store the acknowledgements of page {0} on subscription {1} as a bitmap", format = Message.Format.MESSAGE_FORMAT)
+   void pageAckBitmapError(@Cause Exception e, long pageNr, long cursorId);
+
+   @LogMessage(level = Logger.Level.WARN)
+   @Message(id = 222222, value = "Could not compact page {0} on address {1}", format = Message.Format.MESSAGE_FORMAT)
+   void pageCompactionError(@Cause Exception e, long pageNr, SimpleString address);
+
+   @LogMessage(level = Logger.Level.WARN)
+   @Message(id = 222223, value = "Could not flush the write buffer of the current page on address {0}", format = Message.Format.MESSAGE_FORMAT)
+   void pageWriteBufferFlushError(@Cause Exception e, SimpleString address);
+
 
    @LogMessage(level = Logger.Level.ERROR)
    @Message(id = 224000, value = "Failure in initialisation", format = Message.Format.MESSAGE_FORMAT)
@@ -27,6 +27,7 @@ import org.apache.activemq.artemis.api.core.RoutingType;
 import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.core.filter.Filter;
 import org.apache.activemq.artemis.core.paging.cursor.PageSubscription;
+import org.apache.activemq.artemis.core.server.cluster.RedistributionMetrics;
 import org.apache.activemq.artemis.core.server.impl.AckReason;
 import org.apache.activemq.artemis.core.transaction.Transaction;
 import org.apache.activemq.artemis.utils.ReferenceCounter;
@@ -199,6 +200,11 @@ public interface Queue extends Bindable,CriticalComponent {
 
    void cancelRedistributor() throws Exception;
 
+   /**
+    * Counters for the messages moved to other nodes of the cluster, kept across redistributors.
+    */
+   RedistributionMetrics getRedistributionMetrics();
+
    boolean hasMatchingConsumer(Message message);
 
    Collection<Consumer> getConsumers();
@@ -195,6 +195,15 @@ public interface ServerSession extends SecurityAuth {
 
    RoutingStatus send(Message message, boolean direct, boolean noAutoCreateQueue) throws Exception;
 
+   /**
+    * Routes the messages in a single transaction of their own, whether the sends of this session are auto committed or
+    * not.
+    *
+    * @param duplicateIDPrefix when not {@code null}, the bridge duplicate ID of each message is this prefix followed by
+    *                          the ID the message was sent with, and the messages already routed are skipped
+    */
+   void sendBulk(List<? extends Message> messages, byte[] duplicateIDPrefix, boolean direct) throws Exception;
+
    RoutingStatus send(Message message, boolean direct) throws Exception;
 
    void forceConsumerDelivery(long consumerID, long sequence) throws Exception;
@@ -16,6 +16,8 @@
  */
 package org.apache.activemq.artemis.core.server.cluster;
 
+import java.util.List;
+
 import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.core.server.ActiveMQComponent;
 import org.apache.activemq.artemis.core.server.Consumer;
@@ -52,4 +54,11 @@ public interface Bridge extends Consumer, ActiveMQComponent {
    void disconnect();
 
    boolean isConnected();
+
+   /**
+    * The number of parallel connections (lanes) this bridge forwards messages over.
+    */
+   int getConcurrency();
+
+   List<BridgeLaneStatistics> getLaneStatistics();
 }
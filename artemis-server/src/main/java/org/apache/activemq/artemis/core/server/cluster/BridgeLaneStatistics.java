@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.server.cluster;
+
+/**
+ * A snapshot of the traffic forwarded over one of the connections (lanes) of a {@link Bridge}.
+ * The counters restart every time the lane (re)connects.
+ */
+public final class BridgeLaneStatistics {
+
+   private final int lane;
+
+   private final boolean connected;
+
+   private final long connectedTime;
+
+   private final long messagesForwarded;
+
+   private final long messagesAcknowledged;
+
+   public BridgeLaneStatistics(final int lane,
+                               final boolean connected,
+                               final long connectedTime,
+                               final long messagesForwarded,
+                               final long messagesAcknowledged) {
+      this.lane = lane;
+      this.connected = connected;
+      this.connectedTime = connectedTime;
+      this.messagesForwarded = messagesForwarded;
+      this.messagesAcknowledged = messagesAcknowledged;
+   }
+
+   public int getLane() {
+      return lane;
+   }
+
+   public boolean isConnected() {
+      return connected;
+   }
+
+   /**
+    * @return the time (in milliseconds since the epoch) the lane connected, or 0 if it never did
+    */
+   public long getConnectedTime() {
+      return connectedTime;
+   }
+
+   public long getMessagesForwarded() {
+      return messagesForwarded;
+   }
+
+   public long getMessagesAcknowledged() {
+      return messagesAcknowledged;
+   }
+
+   public long getMessagesPending() {
+      return Math.max(0, messagesForwarded - messagesAcknowledged);
+   }
+
+   /**
+    * @return the messages acknowledged per second since the lane connected
+    */
+   public double getThroughput(final long now) {
+      long elapsed = now - connectedTime;
+      if (connectedTime <= 0 || elapsed <= 0) {
+         return 0;
+      }
+      return messagesAcknowledged * 1000d / elapsed;
+   }
+
+   @Override
+   public String toString() {
+      return "BridgeLaneStatistics [lane=" + lane +
+         ", connected=" + connected +
+         ", messagesForwarded=" + messagesForwarded +
+         ", messagesAcknowledged=" + messagesAcknowledged + "]";
+   }
+}
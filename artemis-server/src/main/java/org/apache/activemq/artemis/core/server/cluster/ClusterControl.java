@@ -35,6 +35,7 @@ import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.NodeAnnoun
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.QuorumVoteMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.QuorumVoteReplyMessage;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ScaleDownAnnounceMessage;
+import org.apache.activemq.artemis.core.replication.SyncFileManifest;
 import org.apache.activemq.artemis.core.server.ActiveMQMessageBundle;
 import org.apache.activemq.artemis.core.server.ActiveMQServer;
 import org.apache.activemq.artemis.core.server.ActiveMQServerLogger;
@@ -92,6 +93,17 @@ public class ClusterControl implements AutoCloseable {
     */
    public void announceReplicatingBackupToLive(final boolean attemptingFailBack,
                                                String replicationClusterName) throws ActiveMQException {
+      announceReplicatingBackupToLive(attemptingFailBack, replicationClusterName, null);
+   }
+
+   /**
+    * @param backupFiles the files the backup kept from its last synchronization, which the live may let it
+    *                    reuse, {@code null} if none
+    * @see #announceReplicatingBackupToLive(boolean, String)
+    */
+   public void announceReplicatingBackupToLive(final boolean attemptingFailBack,
+                                               String replicationClusterName,
+                                               SyncFileManifest backupFiles) throws ActiveMQException {
 
       ClusterConnectionConfiguration config = ConfigurationUtils.getReplicationClusterConfiguration(server.getConfiguration(), replicationClusterName);
       if (config == null) {
@@ -106,7 +118,7 @@ public class ClusterControl implements AutoCloseable {
          throw new ActiveMQException("lacking cluster connection");
       }
 
-      clusterChannel.send(new BackupRegistrationMessage(connector, clusterUser, clusterPassword, attemptingFailBack));
+      clusterChannel.send(new BackupRegistrationMessage(connector, clusterUser, clusterPassword, attemptingFailBack, backupFiles));
    }
 
    /**
@@ -238,6 +238,29 @@ public class ClusterController implements ActiveMQComponent {
       return connectToNodeInCluster(sessionFactory);
    }
 
+   /**
+    * connect to a specific node in the cluster used for replication, with a server locator of its own whose session
+    * factory doesn't ping the node, so that the caller can send pings of its own and tell their answers apart.
+    * Closing the locator closes the connection.
+    *
+    * @param transportConfiguration the configuration of the node to connect to.
+    * @return the session factory
+    * @throws Exception
+    */
+   public ClientSessionFactoryInternal connectToNodeInReplicatedClusterWithoutPings(TransportConfiguration transportConfiguration) throws Exception {
+      ServerLocatorInternal serverLocator = (ServerLocatorInternal) ActiveMQClient.createServerLocatorWithoutHA(transportConfiguration);
+      serverLocator.setConnectionTTL(replicationLocator.getConnectionTTL());
+      serverLocator.setCallTimeout(replicationLocator.getCallTimeout());
+      serverLocator.setClientFailureCheckPeriod(-1);
+      serverLocator.setProtocolManagerFactory(ActiveMQServerSideProtocolManagerFactory.getInstance(serverLocator));
+      try {
+         return (ClientSessionFactoryInternal) serverLocator.createSessionFactory(transportConfiguration, 0, false);
+      } catch (Exception e) {
+         serverLocator.close();
+         throw e;
+      }
+   }
+
    /**
     * connect to an already defined node in the cluster
     *
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.server.cluster;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the messages a queue moved to other nodes of the cluster through its redistributor.
+ * A queue keeps the same instance for its whole life, while redistributors come and go with the local consumers.
+ */
+public final class RedistributionMetrics {
+
+   // the rate is measured over windows of at least this many milliseconds
+   private static final long RATE_WINDOW = 1000;
+
+   private final AtomicLong messagesRedistributed = new AtomicLong(0);
+
+   private final AtomicLong batchesCommitted = new AtomicLong(0);
+
+   private final AtomicLong messagesPending = new AtomicLong(0);
+
+   private long windowStart;
+
+   private long windowMessages;
+
+   private double rate;
+
+   /**
+    * A batch was committed, its messages are pending until the storage confirms it.
+    */
+   public void batchCommitted(final int messages) {
+      batchesCommitted.incrementAndGet();
+      messagesPending.addAndGet(messages);
+   }
+
+   /**
+    * The storage confirmed a committed batch.
+    */
+   public void batchCompleted(final int messages, final long now) {
+      messagesPending.addAndGet(-messages);
+      messagesRedistributed.addAndGet(messages);
+
+      synchronized (this) {
+         if (windowStart == 0 || now - windowStart > RATE_WINDOW * 2) {
+            // first batch after being idle
+            windowStart = now;
+            windowMessages = 0;
+         }
+         windowMessages += messages;
+         if (now - windowStart >= RATE_WINDOW) {
+            rate = windowMessages * 1000d / (now - windowStart);
+            windowStart = now;
+            windowMessages = 0;
+         }
+      }
+   }
+
+   /**
+    * The storage reported an error for a committed batch.
+    */
+   public void batchFailed(final int messages) {
+      messagesPending.addAndGet(-messages);
+   }
+
+   public long getMessagesRedistributed() {
+      return messagesRedistributed.get();
+   }
+
+   public long getBatchesCommitted() {
+      return batchesCommitted.get();
+   }
+
+   public long getMessagesPending() {
+      return messagesPending.get();
+   }
+
+   /**
+    * @return messages per second redistributed in the last measuring window, 0 once redistribution went idle
+    */
+   public synchronized double getRate(final long now) {
+      if (windowStart == 0 || now - windowStart > RATE_WINDOW * 2) {
+         return 0;
+      }
+      return rate;
+   }
+
+   @Override
+   public String toString() {
+      return "RedistributionMetrics [messagesRedistributed=" + messagesRedistributed +
+         ", batchesCommitted=" + batchesCommitted +
+         ", messagesPending=" + messagesPending + "]";
+   }
+}
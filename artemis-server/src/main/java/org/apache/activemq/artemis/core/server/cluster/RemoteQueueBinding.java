@@ -32,4 +32,9 @@ public interface RemoteQueueBinding extends QueueBinding {
    void connect();
 
    long getRemoteQueueID();
+
+   /**
+    * Records the load last reported by the node hosting the remote queue.
+    */
+   void updateLoad(long messageCount, double consumeRate);
 }
@@ -49,6 +49,16 @@ public class ReplicaPolicy extends BackupPolicy {
    * */
    private boolean voteOnReplicationFailure;
 
+   /*
+   * how often heartbeats are sent to the live server on a dedicated connection, -1 to not send any
+   * */
+   private long liveHeartbeatPeriod = ActiveMQDefaultConfiguration.getDefaultLiveHeartbeatPeriod();
+
+   /*
+   * the suspicion level of the heartbeats above which the live server is considered to have failed
+   * */
+   private double liveHeartbeatPhiThreshold = ActiveMQDefaultConfiguration.getDefaultLiveHeartbeatPhiThreshold();
+
    private ReplicatedPolicy replicatedPolicy;
 
    private final NetworkHealthCheck networkHealthCheck;
@@ -210,4 +220,20 @@ public class ReplicaPolicy extends BackupPolicy {
    public boolean isVoteOnReplicationFailure() {
       return voteOnReplicationFailure;
    }
+
+   public long getLiveHeartbeatPeriod() {
+      return liveHeartbeatPeriod;
+   }
+
+   public void setLiveHeartbeatPeriod(long liveHeartbeatPeriod) {
+      this.liveHeartbeatPeriod = liveHeartbeatPeriod;
+   }
+
+   public double getLiveHeartbeatPhiThreshold() {
+      return liveHeartbeatPhiThreshold;
+   }
+
+   public void setLiveHeartbeatPhiThreshold(double liveHeartbeatPhiThreshold) {
+      this.liveHeartbeatPhiThreshold = liveHeartbeatPhiThreshold;
+   }
 }
@@ -50,6 +50,21 @@ public class ReplicatedPolicy implements HAPolicy<LiveActivation> {
    * */
    private int quorumSize;
 
+   /*
+   * the maximum size of the batches of replicated records sent to the backup, 0 to not batch them
+   * */
+   private int replicationBatchSize = ActiveMQDefaultConfiguration.getDefaultReplicationBatchSize();
+
+   /*
+   * the name of the codec compressing the batches of replicated records, null to not compress them
+   * */
+   private String replicationCompressionCodec;
+
+   /*
+   * the number of files streamed concurrently to the backup during its initial synchronization
+   * */
+   private int initialReplicationSyncParallelism = ActiveMQDefaultConfiguration.getDefaultInitialReplicationSyncParallelism();
+
    /*
    * this are only used as the policy when the server is started as a live after a failover
    * */
@@ -218,4 +233,28 @@ public class ReplicatedPolicy implements HAPolicy<LiveActivation> {
    public void setQuorumSize(int quorumSize) {
       this.quorumSize = quorumSize;
    }
+
+   public int getReplicationBatchSize() {
+      return replicationBatchSize;
+   }
+
+   public void setReplicationBatchSize(int replicationBatchSize) {
+      this.replicationBatchSize = replicationBatchSize;
+   }
+
+   public String getReplicationCompressionCodec() {
+      return replicationCompressionCodec;
+   }
+
+   public void setReplicationCompressionCodec(String replicationCompressionCodec) {
+      this.replicationCompressionCodec = replicationCompressionCodec;
+   }
+
+   public int getInitialReplicationSyncParallelism() {
+      return initialReplicationSyncParallelism;
+   }
+
+   public void setInitialReplicationSyncParallelism(int initialReplicationSyncParallelism) {
+      this.initialReplicationSyncParallelism = initialReplicationSyncParallelism;
+   }
 }
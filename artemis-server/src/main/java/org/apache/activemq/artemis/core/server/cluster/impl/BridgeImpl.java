@@ -26,12 +26,14 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.activemq.artemis.api.core.ActiveMQException;
 import org.apache.activemq.artemis.api.core.ActiveMQExceptionType;
 import org.apache.activemq.artemis.api.core.ActiveMQInterruptedException;
 import org.apache.activemq.artemis.api.core.Message;
 import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration;
 import org.apache.activemq.artemis.api.core.TransportConfiguration;
 import org.apache.activemq.artemis.api.core.client.ClientProducer;
 import org.apache.activemq.artemis.api.core.client.ClientSession;
@@ -41,11 +43,13 @@ import org.apache.activemq.artemis.api.core.client.SendAcknowledgementHandler;
 import org.apache.activemq.artemis.api.core.client.SessionFailureListener;
 import org.apache.activemq.artemis.api.core.client.TopologyMember;
 import org.apache.activemq.artemis.api.core.management.CoreNotificationType;
+import org.apache.activemq.artemis.core.client.impl.ClientProducerInternal;
 import org.apache.activemq.artemis.core.client.impl.ClientSessionFactoryImpl;
 import org.apache.activemq.artemis.core.client.impl.ClientSessionFactoryInternal;
 import org.apache.activemq.artemis.core.client.impl.ClientSessionInternal;
 import org.apache.activemq.artemis.core.client.impl.ServerLocatorInternal;
 import org.apache.activemq.artemis.core.filter.Filter;
+import org.apache.activemq.artemis.core.server.ActiveMQMessageBundle;
 import org.apache.activemq.artemis.core.server.ActiveMQServer;
 import org.apache.activemq.artemis.core.server.ActiveMQServerLogger;
 import org.apache.activemq.artemis.core.server.HandleStatus;
@@ -53,6 +57,7 @@ import org.apache.activemq.artemis.core.server.LargeServerMessage;
 import org.apache.activemq.artemis.core.server.MessageReference;
 import org.apache.activemq.artemis.core.server.Queue;
 import org.apache.activemq.artemis.core.server.cluster.Bridge;
+import org.apache.activemq.artemis.core.server.cluster.BridgeLaneStatistics;
 import org.apache.activemq.artemis.core.server.cluster.Transformer;
 import org.apache.activemq.artemis.core.server.impl.QueueImpl;
 import org.apache.activemq.artemis.core.server.management.Notification;
@@ -118,6 +123,16 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
 
    private final long maxRetryInterval;
 
+   /**
+    * The connections messages are forwarded over, lane 0 uses {@link #session} and {@link #producer}
+    * while the other lanes own a session factory of their own.
+    */
+   private final Lane[] lanes;
+
+   private int nextLane;
+
+   private final int batchSize;
+
    /**
     * Used when there's a scheduled reconnection
     */
@@ -173,6 +188,56 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
                      final String user,
                      final String password,
                      final ActiveMQServer server) {
+      this(serverLocator, initialConnectAttempts, reconnectAttempts, reconnectAttemptsSameNode, retryInterval, retryMultiplier, maxRetryInterval, nodeUUID, name, queue, executor, filter, forwardingAddress, scheduledExecutor, transformer, useDuplicateDetection, user, password, server, ActiveMQDefaultConfiguration.getDefaultBridgeConcurrency());
+   }
+
+   public BridgeImpl(final ServerLocatorInternal serverLocator,
+                     final int initialConnectAttempts,
+                     final int reconnectAttempts,
+                     final int reconnectAttemptsSameNode,
+                     final long retryInterval,
+                     final double retryMultiplier,
+                     final long maxRetryInterval,
+                     final UUID nodeUUID,
+                     final SimpleString name,
+                     final Queue queue,
+                     final Executor executor,
+                     final Filter filter,
+                     final SimpleString forwardingAddress,
+                     final ScheduledExecutorService scheduledExecutor,
+                     final Transformer transformer,
+                     final boolean useDuplicateDetection,
+                     final String user,
+                     final String password,
+                     final ActiveMQServer server,
+                     final int concurrency) {
+      this(serverLocator, initialConnectAttempts, reconnectAttempts, reconnectAttemptsSameNode, retryInterval, retryMultiplier, maxRetryInterval, nodeUUID, name, queue, executor, filter, forwardingAddress, scheduledExecutor, transformer, useDuplicateDetection, user, password, server, concurrency, 1);
+   }
+
+   /**
+    * @param batchSize the number of messages a lane sends, and the target routes, at once, 1 to send them one by one
+    */
+   public BridgeImpl(final ServerLocatorInternal serverLocator,
+                     final int initialConnectAttempts,
+                     final int reconnectAttempts,
+                     final int reconnectAttemptsSameNode,
+                     final long retryInterval,
+                     final double retryMultiplier,
+                     final long maxRetryInterval,
+                     final UUID nodeUUID,
+                     final SimpleString name,
+                     final Queue queue,
+                     final Executor executor,
+                     final Filter filter,
+                     final SimpleString forwardingAddress,
+                     final ScheduledExecutorService scheduledExecutor,
+                     final Transformer transformer,
+                     final boolean useDuplicateDetection,
+                     final String user,
+                     final String password,
+                     final ActiveMQServer server,
+                     final int concurrency,
+                     final int batchSize) {
 
       this.sequentialID = server.getStorageManager().generateID();
 
@@ -213,6 +278,14 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
       this.password = password;
 
       this.server = server;
+
+      this.batchSize = Math.max(1, batchSize);
+
+      this.lanes = new Lane[Math.max(1, concurrency)];
+
+      for (int i = 0; i < lanes.length; i++) {
+         lanes[i] = new Lane(i);
+      }
    }
 
    public static final byte[] getDuplicateBytes(final UUID nodeUUID, final long messageID) {
@@ -358,6 +431,7 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
                }
                sessionConsumer = null;
             }
+            closeLanes();
          }
       });
    }
@@ -367,6 +441,20 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
       return session != null;
    }
 
+   @Override
+   public int getConcurrency() {
+      return lanes.length;
+   }
+
+   @Override
+   public List<BridgeLaneStatistics> getLaneStatistics() {
+      List<BridgeLaneStatistics> statistics = new ArrayList<>(lanes.length);
+      for (Lane lane : lanes) {
+         statistics.add(lane.getStatistics());
+      }
+      return statistics;
+   }
+
    /**
     * The cluster manager needs to use the same executor to close the serverLocator, otherwise the stop will break.
     * This method is intended to expose this executor to the ClusterManager
@@ -546,7 +634,9 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
       }
 
       synchronized (this) {
-         if (!active || !session.isWritable(this)) {
+         final Lane lane = active ? selectLane(ref.getMessage()) : null;
+
+         if (lane == null) {
             if (logger.isDebugEnabled()) {
                logger.debug(this + "::Ignoring reference on bridge as it is set to inactive ref=" + ref);
             }
@@ -583,10 +673,10 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
          try {
             if (message.isLargeMessage()) {
                deliveringLargeMessage = true;
-               deliverLargeMessage(dest, ref, (LargeServerMessage) message);
+               deliverLargeMessage(lane, dest, ref, (LargeServerMessage) message);
                return HandleStatus.HANDLED;
             } else {
-               return deliverStandardMessage(dest, ref, message);
+               return deliverStandardMessage(lane, dest, ref, message, lane.isBatching() && isBatchable(message));
             }
          } catch (Exception e) {
             // If an exception happened, we must count down immediately
@@ -596,6 +686,35 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
       }
    }
 
+   /**
+    * Messages with a group ID always go over the same lane so their order is kept on the target,
+    * the others are spread round robin over the lanes that can take more data.
+    *
+    * @return the lane to forward the message over or {@code null} if it has to wait
+    */
+   private Lane selectLane(final Message message) {
+      if (lanes.length == 1) {
+         return lanes[0].isWritable() ? lanes[0] : null;
+      }
+
+      final SimpleString groupID = message.getGroupID();
+
+      if (groupID != null) {
+         Lane lane = lanes[(groupID.hashCode() & Integer.MAX_VALUE) % lanes.length];
+         return lane.isWritable() ? lane : null;
+      }
+
+      for (int i = 0; i < lanes.length; i++) {
+         Lane lane = lanes[nextLane];
+         nextLane = (nextLane + 1) % lanes.length;
+         if (lane.isWritable()) {
+            return lane;
+         }
+      }
+
+      return null;
+   }
+
    // FailureListener implementation --------------------------------
 
    @Override
@@ -632,6 +751,8 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
       } catch (Throwable dontCare) {
       }
 
+      closeLanes();
+
       if (scaleDownTargetNodeID != null && !scaleDownTargetNodeID.equals(nodeUUID.toString())) {
          synchronized (this) {
             try {
@@ -667,14 +788,15 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
       // fail(false);
    }
 
-   private void deliverLargeMessage(final SimpleString dest,
+   private void deliverLargeMessage(final Lane lane,
+                                    final SimpleString dest,
                                     final MessageReference ref,
                                     final LargeServerMessage message) {
       executor.execute(new Runnable() {
          @Override
          public void run() {
             try {
-               producer.send(dest, message);
+               lane.send(dest, message);
 
                // as soon as we are done sending the large message
                // we unset the delivery flag and we will call the deliveryAsync on the queue
@@ -697,9 +819,14 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
    /**
     * @param ref
     * @param message
+    * @param batched whether the lane sends the message in a batch rather than on its own
     * @return
     */
-   private HandleStatus deliverStandardMessage(SimpleString dest, final MessageReference ref, Message message) {
+   private HandleStatus deliverStandardMessage(final Lane lane,
+                                               SimpleString dest,
+                                               final MessageReference ref,
+                                               Message message,
+                                               final boolean batched) {
       // if we failover during send then there is a chance that the
       // that this will throw a disconnect, we need to remove the message
       // from the acks so it will get resent, duplicate detection will cope
@@ -710,7 +837,11 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
       }
 
       try {
-         producer.send(dest, message);
+         if (batched) {
+            lane.batch(dest, message);
+         } else {
+            lane.send(dest, message);
+         }
       } catch (final ActiveMQException e) {
          ActiveMQServerLogger.LOGGER.bridgeUnableToSendMessage(e, ref);
 
@@ -731,6 +862,11 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
       return HandleStatus.HANDLED;
    }
 
+   private boolean isBatchable(final Message message) {
+      // the producer would send a bigger one as a large message
+      return !message.isLargeMessage() && message.getEncodeSize() < serverLocator.getMinLargeMessageSize();
+   }
+
    /**
     * for use in tests mainly
     *
@@ -898,7 +1034,7 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
             producer = session.createProducer();
             session.addFailureListener(BridgeImpl.this);
 
-            session.setSendAcknowledgementHandler(BridgeImpl.this);
+            openLanes();
 
             afterConnect();
 
@@ -994,6 +1130,8 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
       } catch (Throwable ignored) {
       }
 
+      closeLanes();
+
       if (stopping)
          return;
 
@@ -1004,6 +1142,36 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
       futureScheduledReconnection = scheduledExecutor.schedule(new FutureConnectRunnable(executor, this), milliseconds, TimeUnit.MILLISECONDS);
    }
 
+   /**
+    * Lane 0 reuses the bridge session, the other lanes open a connection of their own to the same target.
+    */
+   private void openLanes() throws Exception {
+      closeLanes();
+
+      lanes[0].open(null, session, producer);
+
+      for (int i = 1; i < lanes.length; i++) {
+         ClientSessionFactoryInternal laneFactory = (ClientSessionFactoryInternal) serverLocator.createSessionFactory(csf.getConnectorConfiguration());
+         try {
+            laneFactory.setReconnectAttempts(0);
+            // Session is pre-acknowledge
+            ClientSessionInternal laneSession = (ClientSessionInternal) laneFactory.createSession(user, password, false, true, true, true, 1);
+            laneSession.addFailureListener(BridgeImpl.this);
+            lanes[i].open(laneFactory, laneSession, laneSession.createProducer());
+         } catch (Exception e) {
+            cleanUpSessionFactory(laneFactory);
+            closeLanes();
+            throw e;
+         }
+      }
+   }
+
+   private void closeLanes() {
+      for (Lane lane : lanes) {
+         lane.close();
+      }
+   }
+
    private void internalCancelReferences() {
       cancelRefs();
 
@@ -1087,6 +1255,8 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
             }
          }
 
+         closeLanes();
+
          internalCancelReferences();
 
          if (csf != null) {
@@ -1130,6 +1300,167 @@ public class BridgeImpl implements Bridge, SessionFailureListener, SendAcknowled
 
    }
 
+   /**
+    * One of the connections the bridge forwards over. Confirmations arriving on any lane are
+    * handled by the bridge itself, so the refs and duplicate IDs are shared between the lanes.
+    */
+   private final class Lane implements SendAcknowledgementHandler {
+
+      private final int index;
+
+      private final AtomicLong messagesForwarded = new AtomicLong(0);
+
+      private final AtomicLong messagesAcknowledged = new AtomicLong(0);
+
+      // null for lane 0, whose session factory belongs to the bridge
+      private volatile ClientSessionFactoryInternal factory;
+
+      private volatile ClientSessionInternal session;
+
+      private volatile ClientProducer producer;
+
+      private volatile long connectedTime;
+
+      // whether the messages are sent in bulks of up to batchSize, which the target has to support
+      private volatile boolean batching;
+
+      // the messages waiting to be sent in a single bulk, all to batchAddress
+      private final List<Message> batch = new ArrayList<>();
+
+      private SimpleString batchAddress;
+
+      private Lane(final int index) {
+         this.index = index;
+      }
+
+      private void open(final ClientSessionFactoryInternal factory,
+                        final ClientSessionInternal session,
+                        final ClientProducer producer) {
+         messagesForwarded.set(0);
+         messagesAcknowledged.set(0);
+         this.factory = factory;
+         this.producer = producer;
+         this.session = session;
+         this.connectedTime = System.currentTimeMillis();
+         this.batching = batchSize > 1 && producer instanceof ClientProducerInternal && ((ClientProducerInternal) producer).isBulkSendSupported();
+         session.setSendAcknowledgementHandler(this);
+      }
+
+      private void close() {
+         final ClientSessionFactoryInternal factoryToClose = factory;
+         final ClientSessionInternal sessionToClose = session;
+
+         session = null;
+         producer = null;
+         factory = null;
+
+         // the references of the batched messages are cancelled with the others the bridge was forwarding
+         synchronized (batch) {
+            batch.clear();
+         }
+
+         if (factoryToClose != null) {
+            if (sessionToClose != null) {
+               sessionToClose.removeFailureListener(BridgeImpl.this);
+               try {
+                  sessionToClose.cleanUp(false);
+               } catch (Throwable dontCare) {
+               }
+            }
+            try {
+               factoryToClose.cleanup();
+            } catch (Throwable dontCare) {
+            }
+         }
+      }
+
+      private boolean isWritable() {
+         final ClientSessionInternal sessionToUse = session;
+         return sessionToUse != null && sessionToUse.isWritable(BridgeImpl.this);
+      }
+
+      private void send(final SimpleString dest, final Message message) throws ActiveMQException {
+         final ClientProducer producerToUse = producer;
+         if (producerToUse == null) {
+            throw ActiveMQMessageBundle.BUNDLE.bridgeLaneClosed(name, index);
+         }
+         producerToUse.send(dest, message);
+         messagesForwarded.incrementAndGet();
+      }
+
+      private boolean isBatching() {
+         return batching;
+      }
+
+      /**
+       * Adds the message to the batch, sent once full or once the bridge executor gets to it, so the batch takes the
+       * messages the queue delivers in the meantime.
+       */
+      private void batch(final SimpleString dest, final Message message) throws ActiveMQException {
+         if (useDuplicateDetection) {
+            // the target rebuilds it from the prefix sent once for the whole batch
+            message.removeProperty(Message.HDR_BRIDGE_DUPLICATE_ID);
+         }
+
+         synchronized (batch) {
+            if (!batch.isEmpty() && !dest.equals(batchAddress)) {
+               flush();
+            }
+
+            batchAddress = dest;
+            batch.add(message);
+
+            if (batch.size() >= batchSize) {
+               flush();
+            } else if (batch.size() == 1) {
+               executor.execute(this::flushPending);
+            }
+         }
+      }
+
+      private void flushPending() {
+         int pending = 0;
+         try {
+            synchronized (batch) {
+               pending = batch.size();
+               flush();
+            }
+         } catch (final ActiveMQException e) {
+            ActiveMQServerLogger.LOGGER.bridgeUnableToSendBatch(e, name, pending);
+
+            connectionFailed(e, false);
+         }
+      }
+
+      // must hold the batch lock
+      private void flush() throws ActiveMQException {
+         if (batch.isEmpty()) {
+            return;
+         }
+
+         final ClientProducer producerToUse = producer;
+         if (producerToUse == null) {
+            throw ActiveMQMessageBundle.BUNDLE.bridgeLaneClosed(name, index);
+         }
+
+         final List<Message> messages = new ArrayList<>(batch);
+         batch.clear();
+
+         ((ClientProducerInternal) producerToUse).sendBulk(batchAddress, messages, useDuplicateDetection ? nodeUUID.asBytes() : null);
+         messagesForwarded.addAndGet(messages.size());
+      }
+
+      @Override
+      public void sendAcknowledged(final Message message) {
+         messagesAcknowledged.incrementAndGet();
+         BridgeImpl.this.sendAcknowledged(message);
+      }
+
+      private BridgeLaneStatistics getStatistics() {
+         return new BridgeLaneStatistics(index, session != null, connectedTime, messagesForwarded.get(), messagesAcknowledged.get());
+      }
+   }
+
    private class TopologyListener implements ClusterTopologyListener {
 
       // ClusterListener
@@ -23,6 +23,7 @@ import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 
+import org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration;
 import org.apache.activemq.artemis.api.core.ActiveMQException;
 import org.apache.activemq.artemis.api.core.ActiveMQExceptionType;
 import org.apache.activemq.artemis.api.core.Message;
@@ -107,9 +108,10 @@ public class ClusterConnectionBridge extends BridgeImpl {
                                   final SimpleString managementNotificationAddress,
                                   final MessageFlowRecord flowRecord,
                                   final TransportConfiguration connector,
-                                  final String storeAndForwardPrefix) {
+                                  final String storeAndForwardPrefix,
+                                  final int batchSize) {
       super(targetLocator, initialConnectAttempts, reconnectAttempts, 0, // reconnectAttemptsOnSameNode means nothing on the clustering bridge since we always try the same
-            retryInterval, retryMultiplier, maxRetryInterval, nodeUUID, name, queue, executor, filterString, forwardingAddress, scheduledExecutor, transformer, useDuplicateDetection, user, password, server);
+            retryInterval, retryMultiplier, maxRetryInterval, nodeUUID, name, queue, executor, filterString, forwardingAddress, scheduledExecutor, transformer, useDuplicateDetection, user, password, server, ActiveMQDefaultConfiguration.getDefaultBridgeConcurrency(), batchSize);
 
       this.discoveryLocator = discoveryLocator;
 
@@ -238,6 +240,8 @@ public class ClusterConnectionBridge extends BridgeImpl {
                                                    CoreNotificationType.PROPOSAL_RESPONSE +
                                                    "','" +
                                                    CoreNotificationType.UNPROPOSAL +
+                                                   "','" +
+                                                   CoreNotificationType.QUEUE_LOAD +
                                                    "') AND " +
                                                    ManagementHelper.HDR_DISTANCE +
                                                    "<" +
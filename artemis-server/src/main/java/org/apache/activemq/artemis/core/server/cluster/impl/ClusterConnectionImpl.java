@@ -18,7 +18,9 @@ package org.apache.activemq.artemis.core.server.cluster.impl;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -27,6 +29,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.activemq.artemis.api.core.ActiveMQException;
@@ -50,6 +53,7 @@ import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
 import org.apache.activemq.artemis.core.postoffice.Binding;
 import org.apache.activemq.artemis.core.postoffice.Bindings;
 import org.apache.activemq.artemis.core.postoffice.PostOffice;
+import org.apache.activemq.artemis.core.postoffice.impl.LocalQueueBinding;
 import org.apache.activemq.artemis.core.postoffice.impl.PostOfficeImpl;
 import org.apache.activemq.artemis.core.server.ActiveMQMessageBundle;
 import org.apache.activemq.artemis.core.server.ActiveMQServer;
@@ -173,6 +177,16 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
 
    private final int clusterNotificationAttempts;
 
+   private final long loadNotificationInterval;
+
+   private ScheduledFuture<?> loadNotifierFuture;
+
+   private final long topologyLoadHintInterval;
+
+   private ScheduledFuture<?> loadHintNotifierFuture;
+
+   private final int storeAndForwardBatchSize;
+
    private final String storeAndForwardPrefix;
 
    public ClusterConnectionImpl(final ClusterManager manager,
@@ -205,7 +219,10 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
                                 final String clusterPassword,
                                 final boolean allowDirectConnectionsOnly,
                                 final long clusterNotificationInterval,
-                                final int clusterNotificationAttempts) throws Exception {
+                                final int clusterNotificationAttempts,
+                                final long loadNotificationInterval,
+                                final long topologyLoadHintInterval,
+                                final int storeAndForwardBatchSize) throws Exception {
       this.nodeManager = nodeManager;
 
       this.connector = connector;
@@ -242,6 +259,12 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
 
       this.clusterNotificationAttempts = clusterNotificationAttempts;
 
+      this.loadNotificationInterval = loadNotificationInterval;
+
+      this.topologyLoadHintInterval = topologyLoadHintInterval;
+
+      this.storeAndForwardBatchSize = storeAndForwardBatchSize;
+
       this.executor = executorFactory.getExecutor();
 
       this.topology = new Topology(this, executor);
@@ -315,7 +338,10 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
                                 final String clusterPassword,
                                 final boolean allowDirectConnectionsOnly,
                                 final long clusterNotificationInterval,
-                                final int clusterNotificationAttempts) throws Exception {
+                                final int clusterNotificationAttempts,
+                                final long loadNotificationInterval,
+                                final long topologyLoadHintInterval,
+                                final int storeAndForwardBatchSize) throws Exception {
       this.nodeManager = nodeManager;
 
       this.connector = connector;
@@ -358,6 +384,12 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
 
       this.clusterNotificationAttempts = clusterNotificationAttempts;
 
+      this.loadNotificationInterval = loadNotificationInterval;
+
+      this.topologyLoadHintInterval = topologyLoadHintInterval;
+
+      this.storeAndForwardBatchSize = storeAndForwardBatchSize;
+
       this.executor = executorFactory.getExecutor();
 
       this.topology = new Topology(this, executor);
@@ -423,6 +455,18 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
          serverLocator.removeClusterTopologyListener(this);
       }
 
+      synchronized (this) {
+         if (loadNotifierFuture != null) {
+            loadNotifierFuture.cancel(false);
+            loadNotifierFuture = null;
+         }
+
+         if (loadHintNotifierFuture != null) {
+            loadHintNotifierFuture.cancel(false);
+            loadHintNotifierFuture = null;
+         }
+      }
+
       logger.debug("Cluster connection being stopped for node" + nodeManager.getNodeId() +
                       ", server = " +
                       this.server +
@@ -591,6 +635,14 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
       liveNotifier.updateAsLive();
       liveNotifier.schedule();
 
+      if (messageLoadBalancingType == MessageLoadBalancingType.LOAD_AWARE) {
+         loadNotifierFuture = scheduledExecutor.scheduleWithFixedDelay(new LoadNotifier(), loadNotificationInterval, loadNotificationInterval, TimeUnit.MILLISECONDS);
+      }
+
+      if (topologyLoadHintInterval > 0) {
+         loadHintNotifierFuture = scheduledExecutor.scheduleWithFixedDelay(new LoadHintNotifier(), topologyLoadHintInterval, topologyLoadHintInterval, TimeUnit.MILLISECONDS);
+      }
+
       serverLocator = clusterConnector.createServerLocator();
 
       if (serverLocator != null) {
@@ -807,7 +859,7 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
       targetLocator.addIncomingInterceptor(new IncomingInterceptorLookingForExceptionMessage(manager, executorFactory.getExecutor()));
       MessageFlowRecordImpl record = new MessageFlowRecordImpl(targetLocator, eventUID, targetNodeID, connector, queueName, queue);
 
-      ClusterConnectionBridge bridge = new ClusterConnectionBridge(this, manager, targetLocator, serverLocator, initialConnectAttempts, reconnectAttempts, retryInterval, retryIntervalMultiplier, maxRetryInterval, nodeManager.getUUID(), record.getEventUID(), record.getTargetNodeID(), record.getQueueName(), record.getQueue(), executorFactory.getExecutor(), null, null, scheduledExecutor, null, useDuplicateDetection, clusterUser, clusterPassword, server, managementService.getManagementAddress(), managementService.getManagementNotificationAddress(), record, record.getConnector(), storeAndForwardPrefix);
+      ClusterConnectionBridge bridge = new ClusterConnectionBridge(this, manager, targetLocator, serverLocator, initialConnectAttempts, reconnectAttempts, retryInterval, retryIntervalMultiplier, maxRetryInterval, nodeManager.getUUID(), record.getEventUID(), record.getTargetNodeID(), record.getQueueName(), record.getQueue(), executorFactory.getExecutor(), null, null, scheduledExecutor, null, useDuplicateDetection, clusterUser, clusterPassword, server, managementService.getManagementAddress(), managementService.getManagementNotificationAddress(), record, record.getConnector(), storeAndForwardPrefix, storeAndForwardBatchSize);
 
       targetLocator.setIdentity("(Cluster-connection-bridge::" + bridge.toString() + "::" + this.toString() + ")");
 
@@ -1060,6 +1112,10 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
                doUnProposalReceived(message);
                break;
             }
+            case QUEUE_LOAD: {
+               doQueueLoad(message);
+               break;
+            }
             default: {
                throw ActiveMQMessageBundle.BUNDLE.invalidType(ntype);
             }
@@ -1280,6 +1336,26 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
          binding.disconnect();
       }
 
+      private synchronized void doQueueLoad(final ClientMessage message) throws Exception {
+         if (!message.containsProperty(ManagementHelper.HDR_CLUSTER_NAME)) {
+            throw new IllegalStateException("clusterName is null");
+         }
+
+         SimpleString clusterName = message.getSimpleStringProperty(ManagementHelper.HDR_CLUSTER_NAME);
+
+         RemoteQueueBinding binding = bindings.get(clusterName);
+
+         if (binding == null) {
+            // the binding may not have been propagated yet, the next report will catch up
+            if (logger.isTraceEnabled()) {
+               logger.trace(ClusterConnectionImpl.this + " ignoring load of unknown binding " + clusterName);
+            }
+            return;
+         }
+
+         binding.updateLoad(message.getLongProperty(ManagementHelper.HDR_MESSAGE_COUNT), message.getDoubleProperty(ManagementHelper.HDR_CONSUME_RATE));
+      }
+
       private synchronized void doConsumerCreated(final ClientMessage message) throws Exception {
          if (logger.isTraceEnabled()) {
             logger.trace(ClusterConnectionImpl.this + " Consumer created " + message);
@@ -1501,6 +1577,198 @@ public final class ClusterConnectionImpl implements ClusterConnection, AfterConn
       }
    }
 
+   /**
+    * Periodically measures the consume rate of the local queues on addresses that are also bound on other nodes and
+    * reports it, along with their depth, so {@link MessageLoadBalancingType#LOAD_AWARE} routing on every node can
+    * weigh the queues against each other.
+    */
+   private final class LoadNotifier implements Runnable {
+
+      // an unchanged load is still reported this often, so nodes that joined since the last change catch up
+      private static final int MAX_SILENT_RUNS = 10;
+
+      private final Map<Long, QueueLoadSample> samples = new HashMap<>();
+
+      @Override
+      public void run() {
+         if (!started || stopping) {
+            return;
+         }
+
+         try {
+            sendQueueLoads();
+         } catch (Exception e) {
+            ActiveMQServerLogger.LOGGER.warn(e.getMessage(), e);
+         }
+      }
+
+      private void sendQueueLoads() throws Exception {
+         Collection<Binding> allBindings = postOffice.getAllBindings().values();
+
+         Set<SimpleString> clusteredAddresses = new HashSet<>();
+
+         for (Binding binding : allBindings) {
+            if (binding instanceof RemoteQueueBinding) {
+               clusteredAddresses.add(binding.getAddress());
+            }
+         }
+
+         long now = System.currentTimeMillis();
+
+         Set<Long> sampled = new HashSet<>();
+
+         for (Binding binding : allBindings) {
+            if (!(binding instanceof LocalQueueBinding) || !clusteredAddresses.contains(binding.getAddress())) {
+               continue;
+            }
+
+            LocalQueueBinding localBinding = (LocalQueueBinding) binding;
+
+            Queue queue = localBinding.getQueue();
+
+            sampled.add(queue.getID());
+
+            long acknowledged = queue.getMessagesAcknowledged();
+
+            QueueLoadSample sample = samples.get(queue.getID());
+
+            if (sample == null) {
+               samples.put(queue.getID(), new QueueLoadSample(acknowledged, now));
+               continue;
+            }
+
+            if (now <= sample.time) {
+               continue;
+            }
+
+            double rate = (acknowledged - sample.acknowledged) * 1000d / (now - sample.time);
+
+            sample.acknowledged = acknowledged;
+
+            sample.time = now;
+
+            localBinding.setConsumeRate(rate);
+
+            long messageCount = queue.getMessageCount();
+
+            if (messageCount != sample.reportedMessageCount || rate != sample.reportedRate || ++sample.silentRuns >= MAX_SILENT_RUNS) {
+               sample.reportedMessageCount = messageCount;
+               sample.reportedRate = rate;
+               sample.silentRuns = 0;
+
+               sendQueueLoad(localBinding, messageCount, rate);
+            }
+         }
+
+         samples.keySet().retainAll(sampled);
+      }
+
+      private void sendQueueLoad(final LocalQueueBinding binding, final long messageCount, final double rate) throws Exception {
+         TypedProperties props = new TypedProperties();
+
+         props.putSimpleStringProperty(ManagementHelper.HDR_ADDRESS, binding.getAddress());
+
+         props.putSimpleStringProperty(ManagementHelper.HDR_CLUSTER_NAME, binding.getClusterName());
+
+         props.putSimpleStringProperty(ManagementHelper.HDR_ROUTING_NAME, binding.getRoutingName());
+
+         props.putIntProperty(ManagementHelper.HDR_BINDING_TYPE, binding.getType().toInt());
+
+         props.putIntProperty(ManagementHelper.HDR_DISTANCE, 0);
+
+         props.putLongProperty(ManagementHelper.HDR_MESSAGE_COUNT, messageCount);
+
+         props.putDoubleProperty(ManagementHelper.HDR_CONSUME_RATE, rate);
+
+         managementService.sendNotification(new Notification(null, CoreNotificationType.QUEUE_LOAD, props));
+      }
+   }
+
+   private static final class QueueLoadSample {
+
+      long acknowledged;
+
+      long time;
+
+      long reportedMessageCount = -1;
+
+      double reportedRate = -1;
+
+      int silentRuns;
+
+      QueueLoadSample(final long acknowledged, final long time) {
+         this.acknowledged = acknowledged;
+         this.time = time;
+      }
+   }
+
+   /**
+    * Advertises the connection count and the load of this server in the topology, which carries them to the clients
+    * so they can steer new connections away from busy servers. The local member is only updated when either changed.
+    */
+   private final class LoadHintNotifier implements Runnable {
+
+      // the load is rounded to this many percent, so small fluctuations of the heap don't update the topology
+      private static final int LOAD_GRANULARITY = 5;
+
+      @Override
+      public void run() {
+         if (!started || stopping) {
+            return;
+         }
+
+         try {
+            updateLoadHints();
+         } catch (Exception e) {
+            ActiveMQServerLogger.LOGGER.warn(e.getMessage(), e);
+         }
+      }
+
+      private void updateLoadHints() {
+         TopologyMember localMember = getLocalMember();
+
+         if (localMember == null || localMember.getLive() == null) {
+            return;
+         }
+
+         int connectionCount = server.getConnectionCount();
+
+         int load = currentLoad();
+
+         if (connectionCount == localMember.getConnectionCount() && load == localMember.getLoad()) {
+            return;
+         }
+
+         TopologyMemberImpl member = new TopologyMemberImpl(manager.getNodeId(), manager.getBackupGroupName(), manager.getScaleDownGroupName(), localMember.getLive(), localMember.getBackup());
+         member.setLoadHints(connectionCount, load);
+
+         topology.updateMember(System.currentTimeMillis(), manager.getNodeId(), member);
+      }
+
+      /**
+       * @return the percentage of the CPU, of the heap or of the global address memory used, whichever is the highest.
+       * The global address memory is only taken into account when global-max-size is set.
+       */
+      private int currentLoad() {
+         Runtime runtime = Runtime.getRuntime();
+
+         double cpu = ManagementFactory.getOperatingSystemMXBean().getSystemLoadAverage() / runtime.availableProcessors();
+
+         double memory = (double) (runtime.totalMemory() - runtime.freeMemory()) / runtime.maxMemory();
+
+         long globalMaxSize = server.getConfiguration().getGlobalMaxSize();
+
+         if (globalMaxSize > 0) {
+            memory = Math.max(memory, (double) server.getPagingManager().getGlobalSize() / globalMaxSize);
+         }
+
+         // the load average is negative when the platform doesn't provide it
+         double usage = Math.min(1, Math.max(0, Math.max(cpu, memory)));
+
+         return (int) Math.round(usage * 100 / LOAD_GRANULARITY) * LOAD_GRANULARITY;
+      }
+   }
+
    private final class LiveNotifier implements Runnable {
 
       int notificationsSent = 0;
@@ -20,7 +20,7 @@ import org.apache.activemq.artemis.utils.uri.BeanSupport;
 import org.apache.commons.beanutils.Converter;
 
 public enum MessageLoadBalancingType {
-   OFF("OFF"), STRICT("STRICT"), ON_DEMAND("ON_DEMAND");
+   OFF("OFF"), STRICT("STRICT"), ON_DEMAND("ON_DEMAND"), LOAD_AWARE("LOAD_AWARE");
 
    static {
       // for URI support on ClusterConnection
@@ -52,6 +52,8 @@ public enum MessageLoadBalancingType {
          return MessageLoadBalancingType.STRICT;
       } else if (string.equals(ON_DEMAND.getType())) {
          return MessageLoadBalancingType.ON_DEMAND;
+      } else if (string.equals(LOAD_AWARE.getType())) {
+         return MessageLoadBalancingType.LOAD_AWARE;
       } else {
          return null;
       }
@@ -32,10 +32,18 @@ import org.apache.activemq.artemis.core.server.HandleStatus;
 import org.apache.activemq.artemis.core.server.MessageReference;
 import org.apache.activemq.artemis.core.server.Queue;
 import org.apache.activemq.artemis.core.server.RoutingContext;
+import org.apache.activemq.artemis.core.server.cluster.RedistributionMetrics;
 import org.apache.activemq.artemis.core.transaction.Transaction;
 import org.apache.activemq.artemis.core.transaction.impl.TransactionImpl;
 import org.apache.activemq.artemis.utils.ReusableLatch;
 
+/**
+ * Moves the messages of a queue without local consumers to the other nodes of the cluster.
+ * <p>
+ * Messages are routed and acknowledged on a shared transaction which is committed every {@code batchSize} messages,
+ * or when a delivery pass ends before the batch is full. The next batch is started without waiting for the storage to
+ * confirm the previous one.
+ */
 public class Redistributor implements Consumer {
 
    private boolean active;
@@ -50,10 +58,15 @@ public class Redistributor implements Consumer {
 
    private final Queue queue;
 
-   private int count;
-
    private final long sequentialID;
 
+   private final RedistributionMetrics metrics;
+
+   // the transaction the current batch is routed and acknowledged on, null when no batch is open
+   private Transaction batchTx;
+
+   private int batchCount;
+
    // a Flush executor here is happening inside another executor.
    // what may cause issues under load. Say you are running out of executors for cases where you don't need to wait at all.
    // So, instead of using a future we will use a plain ReusableLatch here
@@ -64,6 +77,15 @@ public class Redistributor implements Consumer {
                         final PostOffice postOffice,
                         final Executor executor,
                         final int batchSize) {
+      this(queue, storageManager, postOffice, executor, batchSize, new RedistributionMetrics());
+   }
+
+   public Redistributor(final Queue queue,
+                        final StorageManager storageManager,
+                        final PostOffice postOffice,
+                        final Executor executor,
+                        final int batchSize,
+                        final RedistributionMetrics metrics) {
       this.queue = queue;
 
       this.sequentialID = storageManager.generateID();
@@ -74,7 +96,13 @@ public class Redistributor implements Consumer {
 
       this.executor = executor;
 
-      this.batchSize = batchSize;
+      this.batchSize = Math.max(1, batchSize);
+
+      this.metrics = metrics;
+   }
+
+   public RedistributionMetrics getMetrics() {
+      return metrics;
    }
 
    @Override
@@ -109,6 +137,8 @@ public class Redistributor implements Consumer {
    public synchronized void stop() throws Exception {
       active = false;
 
+      commitBatch();
+
       boolean ok = flushExecutor();
 
       if (!ok) {
@@ -116,7 +146,9 @@ public class Redistributor implements Consumer {
       }
    }
 
-   public synchronized void close() {
+   public synchronized void close() throws Exception {
+      commitBatch();
+
       boolean ok = flushExecutor();
 
       if (!ok) {
@@ -145,6 +177,60 @@ public class Redistributor implements Consumer {
          return HandleStatus.NO_MATCH;
       }
 
+      if (reference.getMessage().isLargeMessage()) {
+         // large messages are sent on their own, after whatever was batched before them
+         commitBatch();
+
+         return handleLargeMessage(reference);
+      }
+
+      final boolean newBatch = batchTx == null;
+
+      if (newBatch) {
+         batchTx = new TransactionImpl(storageManager);
+      }
+
+      try {
+         final Pair<RoutingContext, Message> routingInfo = postOffice.redistribute(reference.getMessage(), queue, batchTx);
+
+         if (routingInfo == null) {
+            if (newBatch) {
+               batchTx = null;
+            }
+            return HandleStatus.BUSY;
+         }
+
+         postOffice.processRoute(routingInfo.getB(), routingInfo.getA(), false);
+
+         reference.handled();
+
+         queue.acknowledge(batchTx, reference);
+      } catch (Exception e) {
+         rollbackBatch();
+         throw e;
+      }
+
+      batchCount++;
+
+      if (newBatch) {
+         // closes the batch if this delivery pass runs out of messages before it is full
+         executor.execute(new BatchFlusher(batchTx));
+      }
+
+      if (batchCount >= batchSize) {
+         commitBatch();
+
+         // We continue the next batch on a different thread, so as not to keep the delivery thread busy for a very
+         // long time in the case there are many messages in the queue
+         active = false;
+
+         executor.execute(new Prompter());
+      }
+
+      return HandleStatus.HANDLED;
+   }
+
+   private HandleStatus handleLargeMessage(final MessageReference reference) throws Exception {
       final Transaction tx = new TransactionImpl(storageManager);
 
       final Pair<RoutingContext, Message> routingInfo = postOffice.redistribute(reference.getMessage(), queue, tx);
@@ -153,42 +239,37 @@ public class Redistributor implements Consumer {
          return HandleStatus.BUSY;
       }
 
-      if (!reference.getMessage().isLargeMessage()) {
-
-         postOffice.processRoute(routingInfo.getB(), routingInfo.getA(), false);
+      active = false;
+      executor.execute(new Runnable() {
+         @Override
+         public void run() {
+            try {
 
-         ackRedistribution(reference, tx);
-      } else {
-         active = false;
-         executor.execute(new Runnable() {
-            @Override
-            public void run() {
-               try {
+               postOffice.processRoute(routingInfo.getB(), routingInfo.getA(), false);
 
-                  postOffice.processRoute(routingInfo.getB(), routingInfo.getA(), false);
+               reference.handled();
 
-                  ackRedistribution(reference, tx);
+               queue.acknowledge(tx, reference);
 
-                  synchronized (Redistributor.this) {
-                     active = true;
+               commit(tx, 1);
 
-                     count++;
+               synchronized (Redistributor.this) {
+                  active = true;
 
-                     queue.deliverAsync();
-                  }
-               } catch (Exception e) {
-                  try {
-                     tx.rollback();
-                  } catch (Exception e2) {
-                     // Nothing much we can do now
+                  queue.deliverAsync();
+               }
+            } catch (Exception e) {
+               try {
+                  tx.rollback();
+               } catch (Exception e2) {
+                  // Nothing much we can do now
 
-                     // TODO log
-                     ActiveMQServerLogger.LOGGER.warn(e2.getMessage(), e2);
-                  }
+                  // TODO log
+                  ActiveMQServerLogger.LOGGER.warn(e2.getMessage(), e2);
                }
             }
-         });
-      }
+         }
+      });
 
       return HandleStatus.HANDLED;
    }
@@ -212,42 +293,87 @@ public class Redistributor implements Consumer {
       });
    }
 
-   private void ackRedistribution(final MessageReference reference, final Transaction tx) throws Exception {
-      reference.handled();
+   /**
+    * Commits the open batch, if any. The storage confirmation is only awaited through a callback.
+    */
+   private synchronized void commitBatch() throws Exception {
+      final Transaction tx = batchTx;
+      final int messages = batchCount;
+
+      batchTx = null;
+      batchCount = 0;
+
+      if (tx != null && messages > 0) {
+         commit(tx, messages);
+      }
+   }
 
-      queue.acknowledge(tx, reference);
+   private synchronized void rollbackBatch() {
+      final Transaction tx = batchTx;
 
+      batchTx = null;
+      batchCount = 0;
+
+      if (tx != null) {
+         try {
+            tx.rollback();
+         } catch (Exception e) {
+            ActiveMQServerLogger.LOGGER.warn(e.getMessage(), e);
+         }
+      }
+   }
+
+   private void commit(final Transaction tx, final int messages) throws Exception {
       tx.commit();
 
+      metrics.batchCommitted(messages);
+
       storageManager.afterCompleteOperations(new IOCallback() {
 
          @Override
          public void onError(final int errorCode, final String errorMessage) {
+            metrics.batchFailed(messages);
+
             ActiveMQServerLogger.LOGGER.ioErrorRedistributing(errorCode, errorMessage);
          }
 
          @Override
          public void done() {
-            execPrompter();
+            metrics.batchCompleted(messages, System.currentTimeMillis());
          }
       });
    }
 
-   private void execPrompter() {
-      count++;
+   private final class BatchFlusher implements Runnable {
 
-      // We use >= as the large message redistribution will set count to max_int
-      // so we are use the prompter will get called
-      if (count >= batchSize) {
-         // We continue the next batch on a different thread, so as not to keep the delivery thread busy for a very
-         // long time in the case there are many messages in the queue
-         active = false;
+      private final Transaction tx;
 
-         executor.execute(new Prompter());
-
-         count = 0;
+      private BatchFlusher(final Transaction tx) {
+         this.tx = tx;
       }
 
+      @Override
+      public void run() {
+         final int messages;
+
+         synchronized (Redistributor.this) {
+            // the batch was already committed because it was full
+            if (batchTx != tx) {
+               return;
+            }
+            messages = batchCount;
+            batchTx = null;
+            batchCount = 0;
+         }
+
+         // committing touches the queues, so it can't happen while holding the redistributor lock
+         // or it could deadlock with a delivery which locks the queue first
+         try {
+            commit(tx, messages);
+         } catch (Exception e) {
+            ActiveMQServerLogger.LOGGER.warn(e.getMessage(), e);
+         }
+      }
    }
 
    private class Prompter implements Runnable {
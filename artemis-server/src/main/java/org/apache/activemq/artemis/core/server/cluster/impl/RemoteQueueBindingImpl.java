@@ -64,6 +64,10 @@ public class RemoteQueueBindingImpl implements RemoteQueueBinding {
 
    private boolean connected = true;
 
+   private volatile long messageCount;
+
+   private volatile double consumeRate = -1;
+
    public RemoteQueueBindingImpl(final long id,
                                  final SimpleString address,
                                  final SimpleString uniqueName,
@@ -240,6 +244,8 @@ public class RemoteQueueBindingImpl implements RemoteQueueBinding {
    @Override
    public void reset() {
       consumerCount = 0;
+      messageCount = 0;
+      consumeRate = -1;
       filterCounts.clear();
       filters.clear();
    }
@@ -249,6 +255,22 @@ public class RemoteQueueBindingImpl implements RemoteQueueBinding {
       return consumerCount;
    }
 
+   @Override
+   public long getMessageCount() {
+      return messageCount;
+   }
+
+   @Override
+   public double getConsumeRate() {
+      return consumeRate;
+   }
+
+   @Override
+   public void updateLoad(final long messageCount, final double consumeRate) {
+      this.messageCount = messageCount;
+      this.consumeRate = consumeRate;
+   }
+
    @Override
    public String toString() {
       return "RemoteQueueBindingImpl(" +
@@ -257,6 +279,10 @@ public class RemoteQueueBindingImpl implements RemoteQueueBinding {
          consumerCount +
          ", distance=" +
          distance +
+         ", messageCount=" +
+         messageCount +
+         ", consumeRate=" +
+         consumeRate +
          ", filters=" +
          filters +
          ", id=" +
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.server.cluster.qourum;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.artemis.api.core.ActiveMQException;
+import org.apache.activemq.artemis.core.client.impl.ClientSessionFactoryInternal;
+import org.apache.activemq.artemis.core.protocol.core.Channel;
+import org.apache.activemq.artemis.core.protocol.core.ChannelHandler;
+import org.apache.activemq.artemis.core.protocol.core.CoreRemotingConnection;
+import org.apache.activemq.artemis.core.protocol.core.Packet;
+import org.apache.activemq.artemis.core.protocol.core.impl.ChannelImpl;
+import org.apache.activemq.artemis.core.protocol.core.impl.PacketImpl;
+import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.Ping;
+import org.apache.activemq.artemis.core.remoting.FailureListener;
+import org.jboss.logging.Logger;
+
+/**
+ * Sends heartbeats to the live server a backup replicates, on a connection of their own so that they don't queue
+ * behind the replicated data, and tells its {@link Listener} as soon as the live is suspected to have failed.
+ * <p>
+ * The heartbeats are core {@link Ping}s, which servers send back as soon as they receive them, and their round trips
+ * are fed to a {@link PhiAccrualFailureDetector}. The session factory of the connection must not ping on its own,
+ * or its pings would be taken for heartbeats.
+ * <p>
+ * Once the live is suspected the monitor keeps sending heartbeats but no longer suspects it, until it is told to
+ * {@link #resume()}.
+ */
+public final class LiveHeartbeatMonitor implements ChannelHandler, Runnable, FailureListener {
+
+   private static final Logger logger = Logger.getLogger(LiveHeartbeatMonitor.class);
+
+   private static final int WINDOW_SIZE = 100;
+
+   public interface Listener {
+
+      /**
+       * @param silence the time in milliseconds since the last heartbeat came back
+       * @param phi     the suspicion level which exceeded the threshold
+       */
+      void liveSuspected(long silence, double phi);
+   }
+
+   private final ClientSessionFactoryInternal sessionFactory;
+
+   private final ScheduledExecutorService scheduledPool;
+
+   private final long period;
+
+   private final double phiThreshold;
+
+   private final Listener listener;
+
+   private final PhiAccrualFailureDetector detector;
+
+   private Channel channel0;
+
+   private ChannelHandler channel0Handler;
+
+   private ScheduledFuture<?> future;
+
+   private boolean suspected;
+
+   /**
+    * @param sessionFactory connected to the live server without pinging it, dedicated to the heartbeats and closed
+    *                       with the monitor along with its server locator
+    * @param period         how often in milliseconds heartbeats are sent
+    * @param phiThreshold   the suspicion level above which the live is suspected to have failed
+    */
+   public LiveHeartbeatMonitor(ClientSessionFactoryInternal sessionFactory,
+                               ScheduledExecutorService scheduledPool,
+                               long period,
+                               double phiThreshold,
+                               Listener listener) {
+      this.sessionFactory = sessionFactory;
+      this.scheduledPool = scheduledPool;
+      this.period = period;
+      this.phiThreshold = phiThreshold;
+      this.listener = listener;
+      // heartbeats coming back at a steady rate shouldn't make a little jitter look suspicious
+      this.detector = new PhiAccrualFailureDetector(WINDOW_SIZE, Math.max(1, period / 4));
+   }
+
+   public synchronized void start() {
+      CoreRemotingConnection connection = (CoreRemotingConnection) sessionFactory.getConnection();
+      channel0 = connection.getChannel(ChannelImpl.CHANNEL_ID.PING.id, -1);
+      channel0Handler = channel0.getHandler();
+      channel0.setHandler(this);
+      connection.addFailureListener(this);
+      synchronized (detector) {
+         detector.heartbeat(System.currentTimeMillis());
+      }
+      future = scheduledPool.scheduleAtFixedRate(this, 0, period, TimeUnit.MILLISECONDS);
+   }
+
+   public synchronized void stop() {
+      if (future != null) {
+         future.cancel(false);
+         future = null;
+         sessionFactory.getServerLocator().close();
+      }
+   }
+
+   /**
+    * Suspects the live again from now on, without taking the silence which raised the suspicion, a GC pause on the
+    * live for instance, for a usual heartbeat interval.
+    */
+   public void resume() {
+      synchronized (detector) {
+         detector.restart(System.currentTimeMillis());
+         suspected = false;
+      }
+   }
+
+   @Override
+   public void handlePacket(Packet packet) {
+      if (packet.getType() == PacketImpl.PING) {
+         synchronized (detector) {
+            if (!suspected) {
+               detector.heartbeat(System.currentTimeMillis());
+            }
+         }
+      }
+      if (channel0Handler != null) {
+         channel0Handler.handlePacket(packet);
+      }
+   }
+
+   @Override
+   public void connectionFailed(ActiveMQException exception, boolean failedOver) {
+      synchronized (this) {
+         if (future == null) {
+            return;
+         }
+      }
+      logger.warn("Lost the connection heartbeats are sent to the live server on, relying on the replication connection only", exception);
+      stop();
+   }
+
+   @Override
+   public void connectionFailed(ActiveMQException exception, boolean failedOver, String scaleDownTargetNodeID) {
+      connectionFailed(exception, failedOver);
+   }
+
+   @Override
+   public void run() {
+      // still sent while suspected, they keep the connection alive on the live
+      channel0.send(new Ping(sessionFactory.getServerLocator().getConnectionTTL()));
+      final long now = System.currentTimeMillis();
+      final double phi;
+      final long silence;
+      synchronized (detector) {
+         if (suspected) {
+            return;
+         }
+         phi = detector.phi(now);
+         silence = now - detector.getLastHeartbeat();
+         suspected = phi > phiThreshold;
+      }
+      if (phi > phiThreshold) {
+         listener.liveSuspected(silence, phi);
+      } else if (logger.isTraceEnabled()) {
+         logger.trace("Live heartbeat phi = " + phi + " after " + silence + " ms");
+      }
+   }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.server.cluster.qourum;
+
+/**
+ * A phi accrual failure detector, as described by Hayashibara et al.
+ * <p>
+ * Rather than a boolean alive/dead, it gives the suspicion level {@code phi} that the monitored node failed,
+ * from how long it has been silent compared with the distribution of the last heartbeat inter-arrival times:
+ * {@code phi = -log10(P(a heartbeat arrives later than now))}. A threshold of {@code 1} means roughly a 10% chance
+ * of suspecting a node that is alive, {@code 2} a 1% chance and so on. The inter-arrival times are assumed to be
+ * normally distributed, using a logistic approximation of the normal cumulative distribution function.
+ * <p>
+ * This class is not thread safe.
+ */
+public final class PhiAccrualFailureDetector {
+
+   private final long[] intervals;
+
+   private final long minStdDeviation;
+
+   private int count;
+
+   private int next;
+
+   private long intervalSum;
+
+   private long squaredIntervalSum;
+
+   private long lastHeartbeat = -1;
+
+   /**
+    * @param windowSize      the number of inter-arrival times used to estimate their distribution
+    * @param minStdDeviation the minimum standard deviation in milliseconds, so that a few late heartbeats don't
+    *                        make the detector overly suspicious when they usually arrive at a steady rate
+    */
+   public PhiAccrualFailureDetector(int windowSize, long minStdDeviation) {
+      this.intervals = new long[windowSize];
+      this.minStdDeviation = minStdDeviation;
+   }
+
+   /**
+    * Records a heartbeat arriving at {@code now}, in milliseconds.
+    */
+   public void heartbeat(long now) {
+      if (lastHeartbeat >= 0) {
+         long interval = now - lastHeartbeat;
+         if (count == intervals.length) {
+            long oldest = intervals[next];
+            intervalSum -= oldest;
+            squaredIntervalSum -= oldest * oldest;
+         } else {
+            count++;
+         }
+         intervals[next] = interval;
+         next = (next + 1) % intervals.length;
+         intervalSum += interval;
+         squaredIntervalSum += interval * interval;
+      }
+      lastHeartbeat = now;
+   }
+
+   /**
+    * Takes {@code now} for the last heartbeat without learning the interval since the actual one, which wasn't a
+    * usual interval.
+    */
+   public void restart(long now) {
+      lastHeartbeat = now;
+   }
+
+   /**
+    * @return the time in milliseconds of the last heartbeat, {@code -1} if none arrived yet
+    */
+   public long getLastHeartbeat() {
+      return lastHeartbeat;
+   }
+
+   /**
+    * @return the suspicion level at {@code now} that the monitored node failed, {@code 0} until two heartbeats
+    * arrived
+    */
+   public double phi(long now) {
+      if (count == 0) {
+         return 0;
+      }
+      double mean = (double) intervalSum / count;
+      double variance = (double) squaredIntervalSum / count - mean * mean;
+      double stdDeviation = Math.max(Math.sqrt(Math.max(variance, 0)), minStdDeviation);
+
+      double y = (now - lastHeartbeat - mean) / stdDeviation;
+      double e = Math.exp(-y * (1.5976 + 0.070566 * y * y));
+      if (now - lastHeartbeat > mean) {
+         return -Math.log10(e / (1.0 + e));
+      } else {
+         return -Math.log10(1.0 - 1.0 / (1.0 + e));
+      }
+   }
+}
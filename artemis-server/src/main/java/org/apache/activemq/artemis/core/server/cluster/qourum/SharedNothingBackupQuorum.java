@@ -22,10 +22,17 @@ import java.util.concurrent.TimeUnit;
 
 import org.apache.activemq.artemis.api.core.ActiveMQException;
 import org.apache.activemq.artemis.api.core.client.SessionFailureListener;
+import org.apache.activemq.artemis.core.client.ActiveMQClientMessageBundle;
 import org.apache.activemq.artemis.core.client.impl.ClientSessionFactoryInternal;
 import org.apache.activemq.artemis.core.client.impl.Topology;
 import org.apache.activemq.artemis.core.persistence.StorageManager;
+import org.apache.activemq.artemis.core.protocol.core.Channel;
+import org.apache.activemq.artemis.core.protocol.core.ChannelHandler;
 import org.apache.activemq.artemis.core.protocol.core.CoreRemotingConnection;
+import org.apache.activemq.artemis.core.protocol.core.Packet;
+import org.apache.activemq.artemis.core.protocol.core.impl.ChannelImpl;
+import org.apache.activemq.artemis.core.protocol.core.impl.PacketImpl;
+import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.Ping;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationLiveIsStoppingMessage;
 import org.apache.activemq.artemis.core.server.ActiveMQServerLogger;
 import org.apache.activemq.artemis.core.server.NetworkHealthCheck;
@@ -55,6 +62,13 @@ public class SharedNothingBackupQuorum implements Quorum, SessionFailureListener
 
    private final NetworkHealthCheck networkHealthCheck;
 
+   private LiveHeartbeatMonitor heartbeatMonitor;
+
+   /**
+    * when a ping last came back on the replication connection
+    */
+   private volatile long lastReplicationPing;
+
    /**
     * This is a safety net in case the live sends the first {@link ReplicationLiveIsStoppingMessage}
     * with code {@link org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationLiveIsStoppingMessage.LiveStopping#STOP_CALLED} and crashes before sending the second with
@@ -123,6 +137,7 @@ public class SharedNothingBackupQuorum implements Quorum, SessionFailureListener
             }
          }
       }
+      stopLiveHeartbeat();
       latch.countDown();
    }
 
@@ -191,6 +206,88 @@ public class SharedNothingBackupQuorum implements Quorum, SessionFailureListener
       sessionFactory.addFailureListener(this);
    }
 
+   /**
+    * Monitors the live server with heartbeats sent on a connection of their own, checking the replication connection
+    * as soon as they stop coming back, see {@link LiveHeartbeatMonitor}.
+    *
+    * @param heartbeatSessionFactory connected to the live server without pinging it, closed along with its server
+    *                                locator once the live is no longer monitored
+    * @param period                  how often in milliseconds heartbeats are sent
+    * @param phiThreshold            the suspicion level above which the live is suspected to have failed
+    */
+   public synchronized void startLiveHeartbeat(final ClientSessionFactoryInternal heartbeatSessionFactory,
+                                               final long period,
+                                               final double phiThreshold) {
+      stopLiveHeartbeat();
+      watchReplicationPings();
+      heartbeatMonitor = new LiveHeartbeatMonitor(heartbeatSessionFactory, scheduledPool, period, phiThreshold, this::liveSuspected);
+      heartbeatMonitor.start();
+   }
+
+   private synchronized void stopLiveHeartbeat() {
+      if (heartbeatMonitor != null) {
+         heartbeatMonitor.stop();
+         heartbeatMonitor = null;
+      }
+   }
+
+   /**
+    * @return whether the live is still monitored by {@code monitor}, i.e. no action was decided on meanwhile
+    */
+   private synchronized boolean isMonitoredBy(LiveHeartbeatMonitor monitor) {
+      return monitor != null && heartbeatMonitor == monitor;
+   }
+
+   private synchronized void resumeLiveHeartbeat(LiveHeartbeatMonitor monitor) {
+      if (isMonitoredBy(monitor)) {
+         ActiveMQServerLogger.LOGGER.liveAnsweredOnReplication(targetServerID);
+         monitor.resume();
+      }
+   }
+
+   private void watchReplicationPings() {
+      final Channel channel0 = connection.getChannel(ChannelImpl.CHANNEL_ID.PING.id, -1);
+      final ChannelHandler channel0Handler = channel0.getHandler();
+      channel0.setHandler(new ChannelHandler() {
+         @Override
+         public void handlePacket(Packet packet) {
+            if (packet.getType() == PacketImpl.PING) {
+               lastReplicationPing = System.currentTimeMillis();
+            }
+            if (channel0Handler != null) {
+               channel0Handler.handlePacket(packet);
+            }
+         }
+      });
+   }
+
+   /**
+    * The heartbeats may only have been held up, by a GC pause on the live for instance, so the live is pinged on the
+    * replication connection too. If it doesn't answer there either that connection is failed, and an action is decided
+    * on exactly as when it fails on its own, otherwise the live is monitored again.
+    */
+   private void liveSuspected(final long silence, double phi) {
+      ActiveMQServerLogger.LOGGER.liveSuspected(targetServerID, silence, phi);
+      final LiveHeartbeatMonitor monitor;
+      synchronized (this) {
+         monitor = heartbeatMonitor;
+      }
+      final CoreRemotingConnection replicationConnection = connection;
+      final long pinged = System.currentTimeMillis();
+      replicationConnection.getChannel(ChannelImpl.CHANNEL_ID.PING.id, -1).send(new Ping(sessionFactory.getServerLocator().getConnectionTTL()));
+      // the replicated data may hold the answer up, so it gets as long as the heartbeats already got
+      scheduledPool.schedule(new Runnable() {
+         @Override
+         public void run() {
+            if (lastReplicationPing >= pinged) {
+               resumeLiveHeartbeat(monitor);
+            } else if (isMonitoredBy(monitor)) {
+               replicationConnection.fail(ActiveMQClientMessageBundle.BUNDLE.connectionTimedOut(replicationConnection.getTransportConnection()));
+            }
+         }
+      }, silence, TimeUnit.MILLISECONDS);
+   }
+
    /**
     * Releases the latch, causing the backup activation thread to fail-over.
     * <p>
@@ -229,6 +326,7 @@ public class SharedNothingBackupQuorum implements Quorum, SessionFailureListener
       if (connection != null) {
          connection.removeFailureListener(this);
       }
+      stopLiveHeartbeat();
    }
 
    /**
@@ -258,6 +356,7 @@ public class SharedNothingBackupQuorum implements Quorum, SessionFailureListener
    }
 
    public synchronized void reset() {
+      stopLiveHeartbeat();
       latch = new CountDownLatch(1);
    }
 
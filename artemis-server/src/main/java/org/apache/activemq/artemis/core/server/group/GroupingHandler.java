@@ -16,7 +16,11 @@
  */
 package org.apache.activemq.artemis.core.server.group;
 
+import java.util.List;
+
+import org.apache.activemq.artemis.api.core.Message;
 import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.postoffice.Binding;
 import org.apache.activemq.artemis.core.server.ActiveMQComponent;
 import org.apache.activemq.artemis.core.server.group.impl.GroupBinding;
 import org.apache.activemq.artemis.core.server.group.impl.Proposal;
@@ -44,6 +48,16 @@ public interface GroupingHandler extends NotificationListener, ActiveMQComponent
 
    Response getProposal(SimpleString fullID, boolean touchTime);
 
+   /**
+    * Handlers that can work out the owner of a group on their own choose its binding here, so the message is routed
+    * without going through {@link #propose(Proposal)}.
+    *
+    * @return the binding the group is routed to, or {@code null} if the group needs to be proposed
+    */
+   default Binding chooseBinding(Message message, SimpleString fullID, List<Binding> bindings) {
+      return null;
+   }
+
    void awaitBindings() throws Exception;
 
    /**
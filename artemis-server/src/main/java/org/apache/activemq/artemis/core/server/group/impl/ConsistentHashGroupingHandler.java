@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.server.group.impl;
+
+import java.util.List;
+
+import org.apache.activemq.artemis.api.core.Message;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.filter.Filter;
+import org.apache.activemq.artemis.core.postoffice.Binding;
+import org.apache.activemq.artemis.core.server.management.ManagementService;
+import org.apache.activemq.artemis.core.server.management.Notification;
+import org.apache.activemq.artemis.utils.ExecutorFactory;
+
+/**
+ * A grouping handler that doesn't need a coordinator.
+ * <p>
+ * Every node works out the owner of a group on its own by consistent (highest random weight) hashing of the group
+ * id over the bindings of the routing name, and as the cluster name of a binding is the same on every node, they all
+ * agree on the owner without exchanging any proposal. When a node leaves the cluster only the groups it owned are
+ * moved, and a node joining the cluster only takes over its fair share of the groups.
+ */
+public final class ConsistentHashGroupingHandler extends GroupHandlingAbstract {
+
+   private final SimpleString name;
+
+   private volatile boolean started = false;
+
+   public ConsistentHashGroupingHandler(final ExecutorFactory executorFactory,
+                                        final ManagementService managementService,
+                                        final SimpleString name,
+                                        final SimpleString address) {
+      super(executorFactory != null ? executorFactory.getExecutor() : null, managementService, address);
+      this.name = name;
+   }
+
+   @Override
+   public SimpleString getName() {
+      return name;
+   }
+
+   @Override
+   public void start() throws Exception {
+      started = true;
+   }
+
+   @Override
+   public void stop() throws Exception {
+      started = false;
+   }
+
+   @Override
+   public boolean isStarted() {
+      return started;
+   }
+
+   @Override
+   public Binding chooseBinding(final Message message, final SimpleString fullID, final List<Binding> bindings) {
+      int groupHash = fullID.hashCode();
+
+      Binding owner = null;
+
+      long ownerWeight = 0;
+
+      for (Binding binding : bindings) {
+         Filter filter = binding.getFilter();
+
+         if (filter != null && !filter.match(message)) {
+            continue;
+         }
+
+         long weight = weight(groupHash, binding.getClusterName());
+
+         if (owner == null || weight > ownerWeight) {
+            owner = binding;
+            ownerWeight = weight;
+         }
+      }
+
+      return owner;
+   }
+
+   /**
+    * The weight of a binding for a group, the binding with the highest weight owns the group.
+    * <p>
+    * Both hashes are mixed together with the finalizer of MurmurHash3, which is a bijection, so different bindings
+    * never get the same weight unless the hashes of their cluster names collide.
+    */
+   static long weight(final int groupHash, final SimpleString clusterName) {
+      long h = ((long) groupHash << 32) | (clusterName.hashCode() & 0xFFFFFFFFL);
+      h ^= h >>> 33;
+      h *= 0xff51afd7ed558ccdL;
+      h ^= h >>> 33;
+      h *= 0xc4ceb9fe1a85ec53L;
+      h ^= h >>> 33;
+      return h;
+   }
+
+   @Override
+   public Response propose(final Proposal proposal) throws Exception {
+      // there's nobody to agree with, whatever this node chose stands
+      return new Response(proposal.getGroupId(), proposal.getClusterName());
+   }
+
+   @Override
+   public Response receive(final Proposal proposal, final int distance) throws Exception {
+      // proposals only come from REMOTE handlers, which are not meant to be mixed with this one
+      return null;
+   }
+
+   @Override
+   public void proposed(final Response response) throws Exception {
+   }
+
+   @Override
+   public void sendProposalResponse(final Response response, final int distance) throws Exception {
+   }
+
+   @Override
+   public void resendPending() throws Exception {
+   }
+
+   @Override
+   public void addGroupBinding(final GroupBinding groupBinding) {
+   }
+
+   @Override
+   public Response getProposal(final SimpleString fullID, final boolean touchTime) {
+      return null;
+   }
+
+   @Override
+   public void awaitBindings() throws Exception {
+   }
+
+   @Override
+   public void forceRemove(final SimpleString groupid, final SimpleString clusterName) throws Exception {
+      fireUnproposed(groupid);
+   }
+
+   @Override
+   public void remove(final SimpleString groupid, final SimpleString clusterName) throws Exception {
+      fireUnproposed(groupid);
+   }
+
+   @Override
+   public void remove(final SimpleString groupid, final SimpleString clusterName, final int distance) throws Exception {
+      fireUnproposed(groupid);
+   }
+
+   @Override
+   public void onNotification(final Notification notification) {
+   }
+}
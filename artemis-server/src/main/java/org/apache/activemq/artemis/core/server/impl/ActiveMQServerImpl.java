@@ -75,6 +75,8 @@ import org.apache.activemq.artemis.core.management.impl.ActiveMQServerControlImp
 import org.apache.activemq.artemis.core.paging.PagingManager;
 import org.apache.activemq.artemis.core.paging.PagingStoreFactory;
 import org.apache.activemq.artemis.core.paging.cursor.PageSubscription;
+import org.apache.activemq.artemis.core.paging.cursor.impl.PageReadAhead;
+import org.apache.activemq.artemis.core.paging.impl.PageMappings;
 import org.apache.activemq.artemis.core.paging.impl.PagingManagerImpl;
 import org.apache.activemq.artemis.core.paging.impl.PagingStoreFactoryDatabase;
 import org.apache.activemq.artemis.core.paging.impl.PagingStoreFactoryNIO;
@@ -139,6 +141,7 @@ import org.apache.activemq.artemis.core.server.cluster.ha.HAPolicy;
 import org.apache.activemq.artemis.core.server.files.FileMoveManager;
 import org.apache.activemq.artemis.core.server.files.FileStoreMonitor;
 import org.apache.activemq.artemis.core.server.group.GroupingHandler;
+import org.apache.activemq.artemis.core.server.group.impl.ConsistentHashGroupingHandler;
 import org.apache.activemq.artemis.core.server.group.impl.GroupingHandlerConfiguration;
 import org.apache.activemq.artemis.core.server.group.impl.LocalGroupingHandler;
 import org.apache.activemq.artemis.core.server.group.impl.RemoteGroupingHandler;
@@ -2083,15 +2086,30 @@ public class ActiveMQServerImpl implements ActiveMQServer {
    }
 
    protected PagingManager createPagingManager() throws Exception {
-      return new PagingManagerImpl(getPagingStoreFactory(), addressSettingsRepository, configuration.getGlobalMaxSize());
+      return new PagingManagerImpl(getPagingStoreFactory(), addressSettingsRepository, configuration.getGlobalMaxSize(), configuration.getGlobalMaxSizeHotPercentage());
    }
 
    protected PagingStoreFactory getPagingStoreFactory() throws Exception {
+      PageReadAhead pageReadAhead = null;
+      if (configuration.getPageReadAhead() > 0) {
+         pageReadAhead = new PageReadAhead(ioExecutorFactory, configuration.getPageReadAhead(), configuration.getPageReadAheadMaxBytes());
+      }
       if (configuration.getStoreConfiguration() != null && configuration.getStoreConfiguration().getStoreType() == StoreConfiguration.StoreType.DATABASE) {
          DatabaseStorageConfiguration dbConf = (DatabaseStorageConfiguration) configuration.getStoreConfiguration();
-         return new PagingStoreFactoryDatabase(dbConf, storageManager, configuration.getJournalBufferTimeout_NIO(), scheduledPool, executorFactory, false, shutdownOnCriticalIO);
+         PagingStoreFactoryDatabase factory = new PagingStoreFactoryDatabase(dbConf, storageManager, configuration.getJournalBufferTimeout_NIO(), scheduledPool, executorFactory, false, shutdownOnCriticalIO);
+         factory.setPageReadAhead(pageReadAhead);
+         factory.setPageCompactPercentage(configuration.getPageCompactPercentage());
+         return factory;
+      }
+      PagingStoreFactoryNIO factory = new PagingStoreFactoryNIO(storageManager, configuration.getPagingLocation(), configuration.getJournalBufferTimeout_NIO(), scheduledPool, executorFactory, configuration.isJournalSyncNonTransactional(), shutdownOnCriticalIO);
+      factory.setPageReadAhead(pageReadAhead);
+      factory.setPageCompactPercentage(configuration.getPageCompactPercentage());
+      factory.setPageWriteBufferSize(configuration.getPageWriteBufferSize());
+      factory.setPageCompression(configuration.isPageCompressionEnabled());
+      if (configuration.getPageMappingMaxBytes() > 0) {
+         factory.setPageMappings(new PageMappings(configuration.getPageMappingMaxBytes()));
       }
-      return new PagingStoreFactoryNIO(storageManager, configuration.getPagingLocation(), configuration.getJournalBufferTimeout_NIO(), scheduledPool, executorFactory, configuration.isJournalSyncNonTransactional(), shutdownOnCriticalIO);
+      return factory;
    }
 
    /**
@@ -2792,6 +2810,8 @@ public class ActiveMQServerImpl implements ActiveMQServer {
          GroupingHandler groupingHandler1;
          if (config.getType() == GroupingHandlerConfiguration.TYPE.LOCAL) {
             groupingHandler1 = new LocalGroupingHandler(executorFactory, scheduledPool, managementService, config.getName(), config.getAddress(), getStorageManager(), config.getTimeout(), config.getGroupTimeout(), config.getReaperPeriod());
+         } else if (config.getType() == GroupingHandlerConfiguration.TYPE.CONSISTENT_HASH) {
+            groupingHandler1 = new ConsistentHashGroupingHandler(executorFactory, managementService, config.getName(), config.getAddress());
          } else {
             groupingHandler1 = new RemoteGroupingHandler(executorFactory, managementService, config.getName(), config.getAddress(), config.getTimeout(), config.getGroupTimeout());
          }
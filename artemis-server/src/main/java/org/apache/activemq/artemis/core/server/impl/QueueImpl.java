@@ -71,6 +71,7 @@ import org.apache.activemq.artemis.core.server.Queue;
 import org.apache.activemq.artemis.core.server.QueueFactory;
 import org.apache.activemq.artemis.core.server.RoutingContext;
 import org.apache.activemq.artemis.core.server.ScheduledDeliveryHandler;
+import org.apache.activemq.artemis.core.server.cluster.RedistributionMetrics;
 import org.apache.activemq.artemis.core.server.cluster.RemoteQueueBinding;
 import org.apache.activemq.artemis.core.server.cluster.impl.Redistributor;
 import org.apache.activemq.artemis.core.server.management.ManagementService;
@@ -112,7 +113,7 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
 
    private static final Logger logger = Logger.getLogger(QueueImpl.class);
 
-   public static final int REDISTRIBUTOR_BATCH_SIZE = 100;
+   public static final int REDISTRIBUTOR_BATCH_SIZE = AddressSettings.DEFAULT_REDISTRIBUTION_BATCH_SIZE;
 
    public static final int NUM_PRIORITIES = 10;
 
@@ -216,6 +217,8 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
 
    private ScheduledFuture<?> redistributorFuture;
 
+   private final RedistributionMetrics redistributionMetrics = new RedistributionMetrics();
+
    // We cache the consumers here since we don't want to include the redistributor
 
    private final AtomicInteger consumersCount = new AtomicInteger();
@@ -961,6 +964,11 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
       }
    }
 
+   @Override
+   public RedistributionMetrics getRedistributionMetrics() {
+      return redistributionMetrics;
+   }
+
    @Override
    public synchronized void cancelRedistributor() throws Exception {
       if (redistributor != null) {
@@ -2358,7 +2366,9 @@ public class QueueImpl extends CriticalComponentImpl implements Queue {
          if (logger.isTraceEnabled()) {
             logger.trace("QueueImpl::Adding redistributor on queue " + this.toString());
          }
-         redistributor = new Redistributor(this, storageManager, postOffice, executor, QueueImpl.REDISTRIBUTOR_BATCH_SIZE);
+         final int batchSize = addressSettingsRepository != null ? addressSettingsRepository.getMatch(address.toString()).getRedistributionBatchSize() : QueueImpl.REDISTRIBUTOR_BATCH_SIZE;
+
+         redistributor = new Redistributor(this, storageManager, postOffice, executor, batchSize, redistributionMetrics);
 
          consumerList.add(new ConsumerHolder(redistributor));
 
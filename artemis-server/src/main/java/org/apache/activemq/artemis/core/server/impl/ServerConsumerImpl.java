@@ -16,7 +16,9 @@
  */
 package org.apache.activemq.artemis.core.server.impl;
 
+import java.io.File;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -62,6 +64,7 @@ import org.apache.activemq.artemis.core.transaction.Transaction;
 import org.apache.activemq.artemis.core.transaction.impl.TransactionImpl;
 import org.apache.activemq.artemis.spi.core.protocol.SessionCallback;
 import org.apache.activemq.artemis.spi.core.remoting.ReadyListener;
+import org.apache.activemq.artemis.spi.core.remoting.SharedFileChannel;
 import org.apache.activemq.artemis.utils.FutureLatch;
 import org.apache.activemq.artemis.utils.collections.LinkedListIterator;
 import org.apache.activemq.artemis.utils.collections.TypedProperties;
@@ -1160,6 +1163,17 @@ public class ServerConsumerImpl implements ServerConsumer, ReadyListener {
 
       private LargeBodyEncoder context;
 
+      /**
+       * The body file when chunks may be sent by the transport straight from it, null once that isn't supported.
+       * It's opened once for the whole message and shared by the chunks still being written.
+       */
+      private SharedFileChannel bodyFile;
+
+      /**
+       * How much of the body was read through {@link #context}, as it isn't used for the chunks sent from {@link #bodyFile}
+       */
+      private long positionEncoder;
+
       private LargeMessageDeliverer(final LargeServerMessage message, final MessageReference ref) throws Exception {
          largeMessage = message;
 
@@ -1196,6 +1210,8 @@ public class ServerConsumerImpl implements ServerConsumer, ReadyListener {
 
                context.open();
 
+               bodyFile = openBodyFile(currentLargeMessage);
+
                sentInitialPacket = true;
 
                int packetSize = callback.sendLargeMessage(ref, currentLargeMessage, ServerConsumerImpl.this, context.getLargeBodySize(), ref.getDeliveryCount());
@@ -1232,21 +1248,47 @@ public class ServerConsumerImpl implements ServerConsumer, ReadyListener {
 
                localChunkLen = (int) Math.min(sizePendingLargeMessage - positionPendingLargeMessage, minLargeMessageSize);
 
-               ActiveMQBuffer bodyBuffer = ActiveMQBuffers.fixedBuffer(localChunkLen);
+               final boolean continues = positionPendingLargeMessage + localChunkLen < sizePendingLargeMessage;
 
-               context.encode(bodyBuffer, localChunkLen);
+               int packetSize = -1;
 
-               byte[] body;
+               int chunkLen = localChunkLen;
 
-               if (bodyBuffer.toByteBuffer().hasArray()) {
-                  body = bodyBuffer.toByteBuffer().array();
-               } else {
-                  body = new byte[0];
+               if (bodyFile != null) {
+                  if (!callback.isWritable(ServerConsumerImpl.this, protocolContext)) {
+                     // the chunks sent from the file aren't buffered, so they'd pile up on the connection:
+                     // readyForWriting resumes this once enough of them are written
+                     return false;
+                  }
+
+                  packetSize = callback.sendLargeMessageContinuation(ServerConsumerImpl.this, bodyFile, positionPendingLargeMessage, localChunkLen, continues);
+
+                  if (packetSize < 0) {
+                     releaseBodyFile();
+                  }
                }
 
-               int packetSize = callback.sendLargeMessageContinuation(ServerConsumerImpl.this, body, positionPendingLargeMessage + localChunkLen < sizePendingLargeMessage, false);
+               if (packetSize < 0) {
+                  skipEncoder(positionPendingLargeMessage - positionEncoder);
+
+                  ActiveMQBuffer bodyBuffer = ActiveMQBuffers.fixedBuffer(localChunkLen);
+
+                  context.encode(bodyBuffer, localChunkLen);
+
+                  byte[] body;
+
+                  if (bodyBuffer.toByteBuffer().hasArray()) {
+                     body = bodyBuffer.toByteBuffer().array();
+                  } else {
+                     body = new byte[0];
+                  }
+
+                  packetSize = callback.sendLargeMessageContinuation(ServerConsumerImpl.this, body, continues, false);
 
-               int chunkLen = body.length;
+                  chunkLen = body.length;
+
+                  positionEncoder += chunkLen;
+               }
 
                if (availableCredits != null) {
                   availableCredits.addAndGet(-packetSize);
@@ -1280,6 +1322,39 @@ public class ServerConsumerImpl implements ServerConsumer, ReadyListener {
          }
       }
 
+      /**
+       * @return the file to send the chunks from, or {@code null} to send them through {@link #context}
+       */
+      private SharedFileChannel openBodyFile(final LargeServerMessage currentLargeMessage) throws Exception {
+         if (!callback.supportsFileRegions()) {
+            return null;
+         }
+         // a large message stored in a database has no file to send from
+         final File javaFile = currentLargeMessage.getFile().getJavaFile();
+         return javaFile == null ? null : SharedFileChannel.open(javaFile);
+      }
+
+      /**
+       * Brings {@link #context} up to date after chunks were sent from {@link #bodyFile}
+       */
+      private void skipEncoder(long bytes) throws ActiveMQException {
+         while (bytes > 0) {
+            int read = context.encode(ByteBuffer.allocate((int) Math.min(bytes, minLargeMessageSize)));
+            if (read <= 0) {
+               throw ActiveMQMessageBundle.BUNDLE.largeMessageBodyTruncated(positionEncoder, sizePendingLargeMessage);
+            }
+            positionEncoder += read;
+            bytes -= read;
+         }
+      }
+
+      private void releaseBodyFile() {
+         if (bodyFile != null) {
+            bodyFile.release();
+            bodyFile = null;
+         }
+      }
+
       public void finish() throws Exception {
          synchronized (lock) {
             if (largeMessage == null) {
@@ -1292,6 +1367,8 @@ public class ServerConsumerImpl implements ServerConsumer, ReadyListener {
                context.close();
             }
 
+            releaseBodyFile();
+
             largeMessage.releaseResources();
 
             largeMessage.decrementDelayDeletionCount();
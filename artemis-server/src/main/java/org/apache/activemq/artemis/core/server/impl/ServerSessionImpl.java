@@ -18,6 +18,8 @@ package org.apache.activemq.artemis.core.server.impl;
 
 import static org.apache.activemq.artemis.api.core.JsonUtil.nullSafe;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -39,6 +41,7 @@ import org.apache.activemq.artemis.api.core.ActiveMQException;
 import org.apache.activemq.artemis.api.core.ActiveMQIOErrorException;
 import org.apache.activemq.artemis.api.core.ActiveMQIllegalStateException;
 import org.apache.activemq.artemis.api.core.ActiveMQNonExistentQueueException;
+import org.apache.activemq.artemis.api.core.ICoreMessage;
 import org.apache.activemq.artemis.api.core.Message;
 import org.apache.activemq.artemis.api.core.Pair;
 import org.apache.activemq.artemis.api.core.RoutingType;
@@ -59,6 +62,8 @@ import org.apache.activemq.artemis.core.postoffice.BindingType;
 import org.apache.activemq.artemis.core.postoffice.PostOffice;
 import org.apache.activemq.artemis.core.postoffice.QueueBinding;
 import org.apache.activemq.artemis.core.postoffice.RoutingStatus;
+import org.apache.activemq.artemis.core.postoffice.impl.PostOfficeImpl;
+import org.apache.activemq.artemis.core.protocol.core.CoreRemotingConnection;
 import org.apache.activemq.artemis.core.remoting.CloseListener;
 import org.apache.activemq.artemis.core.remoting.FailureListener;
 import org.apache.activemq.artemis.core.security.CheckType;
@@ -90,6 +95,8 @@ import org.apache.activemq.artemis.spi.core.protocol.SessionCallback;
 import org.apache.activemq.artemis.utils.JsonLoader;
 import org.apache.activemq.artemis.utils.PrefixUtil;
 import org.apache.activemq.artemis.utils.collections.TypedProperties;
+import org.apache.activemq.artemis.utils.compression.CompressionCodecs;
+import org.apache.activemq.artemis.utils.compression.MessageBodyCompression;
 import org.jboss.logging.Logger;
 
 /**
@@ -154,6 +161,9 @@ public class ServerSessionImpl implements ServerSession, FailureListener {
 
    protected final RoutingContext routingContext = new RoutingContextImpl(null);
 
+   // the transaction of the bulk being routed, used even when the sends are auto committed
+   private Transaction bulkTx;
+
    protected final SessionCallback callback;
 
    private volatile SimpleString defaultAddress;
@@ -1300,6 +1310,46 @@ public class ServerSessionImpl implements ServerSession, FailureListener {
       return send(getCurrentTransaction(), message, direct, noAutoCreateQueue);
    }
 
+   @Override
+   public synchronized void sendBulk(final List<? extends Message> messages,
+                                     final byte[] duplicateIDPrefix,
+                                     final boolean direct) throws Exception {
+      final Transaction bulkTx = newTransaction();
+      this.bulkTx = bulkTx;
+      try {
+         for (Message message : messages) {
+            if (duplicateIDPrefix != null) {
+               // the ID the message had on the source, before send gives it one of ours
+               byte[] duplicateID = ByteBuffer.allocate(duplicateIDPrefix.length + 8).put(duplicateIDPrefix).putLong(message.getMessageID()).array();
+               SimpleString address = message.getAddressSimpleString() != null ? message.getAddressSimpleString() : defaultAddress;
+               // a duplicate within the transaction would roll back the whole bulk, so it is skipped upfront
+               if (address != null && postOffice.getDuplicateIDCache(PostOfficeImpl.BRIDGE_CACHE_STR.concat(address)).contains(duplicateID)) {
+                  if (logger.isTraceEnabled()) {
+                     logger.trace("sendBulk skipping duplicate " + message);
+                  }
+                  continue;
+               }
+               message.putBytesProperty(Message.HDR_BRIDGE_DUPLICATE_ID, duplicateID);
+            }
+
+            send(bulkTx, message, direct, false);
+
+            if (bulkTx.getState() == State.ROLLEDBACK) {
+               throw ActiveMQMessageBundle.BUNDLE.bulkSendRolledBack(messages.size());
+            }
+         }
+
+         bulkTx.commit();
+      } catch (Exception e) {
+         if (bulkTx.getState() != State.ROLLEDBACK) {
+            bulkTx.rollback();
+         }
+         throw e;
+      } finally {
+         this.bulkTx = null;
+      }
+   }
+
    @Override
    public synchronized RoutingStatus send(Transaction tx,
                                           final Message message,
@@ -1634,6 +1684,23 @@ public class ServerSessionImpl implements ServerSession, FailureListener {
       theTx.rollback();
    }
 
+   /**
+    * Compresses the body of regular core messages when the address settings ask for it, the message is then stored
+    * and delivered compressed.
+    * <p>
+    * Only the messages sent by core clients are compressed, the messages other protocols converted to core are left
+    * in the form their own consumers expect.
+    */
+   private void compressBody(Message msg, SimpleString address) throws IOException {
+      if (msg instanceof ICoreMessage && !msg.isLargeMessage() && remotingConnection instanceof CoreRemotingConnection) {
+         AddressSettings settings = server.getAddressSettingsRepository().getMatch(address.toString());
+         int minSize = settings.getCompressMessageBodyMinSize();
+         if (minSize >= 0) {
+            MessageBodyCompression.compressBody((ICoreMessage) msg, CompressionCodecs.getCodec(settings.getCompressionCodec()), minSize);
+         }
+      }
+   }
+
    @Override
    public synchronized RoutingStatus doSend(final Transaction tx,
                                             final Message msg,
@@ -1658,17 +1725,20 @@ public class ServerSessionImpl implements ServerSession, FailureListener {
 
       // Consumer
       // check the user has write access to this address.
+      final boolean routeInTx = tx != null && (!autoCommitSends || tx == bulkTx);
+
       try {
          securityCheck(art.getA(), CheckType.SEND, this);
       } catch (ActiveMQException e) {
-         if (!autoCommitSends && tx != null) {
+         if (routeInTx) {
             tx.markAsRollbackOnly(e);
          }
          throw e;
       }
 
-      if (tx == null || autoCommitSends) {
-      } else {
+      compressBody(msg, art.getA());
+
+      if (routeInTx) {
          routingContext.setTransaction(tx);
       }
 
@@ -16,6 +16,7 @@
  */
 package org.apache.activemq.artemis.core.server.impl;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -24,6 +25,7 @@ import org.apache.activemq.artemis.api.core.ActiveMQInternalErrorException;
 import org.apache.activemq.artemis.api.core.Pair;
 import org.apache.activemq.artemis.api.core.TransportConfiguration;
 import org.apache.activemq.artemis.api.core.client.TopologyMember;
+import org.apache.activemq.artemis.core.client.impl.ClientSessionFactoryInternal;
 import org.apache.activemq.artemis.core.config.Configuration;
 import org.apache.activemq.artemis.core.paging.PagingManager;
 import org.apache.activemq.artemis.core.persistence.StorageManager;
@@ -31,6 +33,7 @@ import org.apache.activemq.artemis.core.postoffice.PostOffice;
 import org.apache.activemq.artemis.core.protocol.core.Channel;
 import org.apache.activemq.artemis.core.protocol.core.impl.wireformat.ReplicationLiveIsStoppingMessage;
 import org.apache.activemq.artemis.core.replication.ReplicationEndpoint;
+import org.apache.activemq.artemis.core.replication.SyncFileManifest;
 import org.apache.activemq.artemis.core.server.ActivationParams;
 import org.apache.activemq.artemis.core.server.ActiveMQMessageBundle;
 import org.apache.activemq.artemis.core.server.ActiveMQServer;
@@ -72,6 +75,8 @@ public final class SharedNothingBackupActivation extends Activation {
    ClusterControl clusterControl;
    private boolean closed;
    private volatile boolean backupUpToDate = true;
+   // the files moved away on start, which the live may let this backup reuse
+   private SyncFileManifest backupFiles;
    private final NetworkHealthCheck networkHealthCheck;
 
    private final ReusableLatch backupSyncLatch = new ReusableLatch(0);
@@ -110,6 +115,14 @@ public final class SharedNothingBackupActivation extends Activation {
          activeMQServer.getNodeManager().stop();
          activeMQServer.moveServerData(replicaPolicy.getMaxSavedReplicatedJournalsSize());
          activeMQServer.getNodeManager().start();
+         if (replicaPolicy.getMaxSavedReplicatedJournalsSize() != 0) {
+            try {
+               backupFiles = SyncFileManifest.load(activeMQServer.getConfiguration());
+            } catch (IOException e) {
+               logger.warn("Could not list the files kept from the last synchronization, all files will be synchronized again", e);
+               backupFiles = null;
+            }
+         }
          synchronized (this) {
             if (closed) {
                logger.trace("SharedNothingBackupActivation is closed, ignoring activation!");
@@ -493,8 +506,12 @@ public final class SharedNothingBackupActivation extends Activation {
             //get the connection and request replication to live
             clusterControl.authorize();
             connectToReplicationEndpoint(clusterControl);
+            replicationEndpoint.setBackupFiles(backupFiles);
             replicationEndpoint.start();
-            clusterControl.announceReplicatingBackupToLive(attemptFailBack, replicaPolicy.getClusterName());
+            clusterControl.announceReplicatingBackupToLive(attemptFailBack, replicaPolicy.getClusterName(), backupFiles);
+            if (replicaPolicy.getLiveHeartbeatPeriod() > 0) {
+               startLiveHeartbeat();
+            }
          } catch (Exception e) {
             //we shouldn't stop the server just mark the connector as tried and unavailable
             ActiveMQServerLogger.LOGGER.replicationStartProblem(e);
@@ -502,6 +519,16 @@ public final class SharedNothingBackupActivation extends Activation {
          }
       }
 
+      private void startLiveHeartbeat() {
+         try {
+            // a connection of their own, so that the heartbeats don't queue behind the replicated data
+            ClientSessionFactoryInternal heartbeatSessionFactory = activeMQServer.getClusterManager().getClusterController().connectToNodeInReplicatedClusterWithoutPings(clusterControl.getSessionFactory().getConnectorConfiguration());
+            backupQuorum.startLiveHeartbeat(heartbeatSessionFactory, replicaPolicy.getLiveHeartbeatPeriod(), replicaPolicy.getLiveHeartbeatPhiThreshold());
+         } catch (Exception e) {
+            logger.warn("Could not connect to the live server to send heartbeats, relying on the replication connection only", e);
+         }
+      }
+
       private synchronized ReplicationEndpoint connectToReplicationEndpoint(final ClusterControl control) throws Exception {
          if (!activeMQServer.isStarted())
             return null;
@@ -51,6 +51,7 @@ import org.apache.activemq.artemis.core.remoting.CloseListener;
 import org.apache.activemq.artemis.core.remoting.FailureListener;
 import org.apache.activemq.artemis.core.remoting.server.RemotingService;
 import org.apache.activemq.artemis.core.replication.ReplicationManager;
+import org.apache.activemq.artemis.core.replication.SyncFileManifest;
 import org.apache.activemq.artemis.core.server.ActiveMQMessageBundle;
 import org.apache.activemq.artemis.core.server.ActiveMQServerLogger;
 import org.apache.activemq.artemis.core.server.NodeManager;
@@ -59,6 +60,8 @@ import org.apache.activemq.artemis.core.server.cluster.ha.ReplicatedPolicy;
 import org.apache.activemq.artemis.core.server.cluster.qourum.QuorumManager;
 import org.apache.activemq.artemis.core.server.cluster.qourum.QuorumVoteServerConnect;
 import org.apache.activemq.artemis.spi.core.remoting.Acceptor;
+import org.apache.activemq.artemis.utils.compression.CompressionCodec;
+import org.apache.activemq.artemis.utils.compression.CompressionCodecs;
 import org.jboss.logging.Logger;
 
 public class SharedNothingLiveActivation extends LiveActivation {
@@ -137,7 +140,7 @@ public class SharedNothingLiveActivation extends LiveActivation {
                BackupRegistrationMessage msg = (BackupRegistrationMessage) packet;
                ClusterConnection clusterConnection = acceptorUsed.getClusterConnection();
                try {
-                  startReplication(channel.getConnection(), clusterConnection, getPair(msg.getConnector(), true), msg.isFailBackRequest());
+                  startReplication(channel.getConnection(), clusterConnection, getPair(msg.getConnector(), true), msg.isFailBackRequest(), msg.getBackupFiles());
                } catch (ActiveMQAlreadyReplicatingException are) {
                   channel.send(new BackupReplicationStartFailedMessage(BackupReplicationStartFailedMessage.BackupRegistrationProblem.ALREADY_REPLICATING));
                } catch (ActiveMQException e) {
@@ -153,6 +156,17 @@ public class SharedNothingLiveActivation extends LiveActivation {
                                 final ClusterConnection clusterConnection,
                                 final Pair<TransportConfiguration, TransportConfiguration> pair,
                                 final boolean isFailBackRequest) throws ActiveMQException {
+      startReplication(rc, clusterConnection, pair, isFailBackRequest, null);
+   }
+
+   /**
+    * @param backupFiles the files the backup kept from its last synchronization, {@code null} if none
+    */
+   public void startReplication(CoreRemotingConnection rc,
+                                final ClusterConnection clusterConnection,
+                                final Pair<TransportConfiguration, TransportConfiguration> pair,
+                                final boolean isFailBackRequest,
+                                final SyncFileManifest backupFiles) throws ActiveMQException {
       if (replicationManager != null) {
          throw new ActiveMQAlreadyReplicatingException();
       }
@@ -169,7 +183,10 @@ public class SharedNothingLiveActivation extends LiveActivation {
          ReplicationFailureListener listener = new ReplicationFailureListener();
          rc.addCloseListener(listener);
          rc.addFailureListener(listener);
-         replicationManager = new ReplicationManager(rc, clusterConnection.getCallTimeout(), activeMQServer.getExecutorFactory());
+         String codecName = replicatedPolicy.getReplicationCompressionCodec();
+         CompressionCodec codec = codecName == null ? null : CompressionCodecs.getCodec(codecName);
+         replicationManager = new ReplicationManager(rc, clusterConnection.getCallTimeout(), activeMQServer.getExecutorFactory(), replicatedPolicy.getReplicationBatchSize(), codec, replicatedPolicy.getInitialReplicationSyncParallelism());
+         replicationManager.setBackupFiles(backupFiles);
          replicationManager.start();
          Thread t = new Thread(new Runnable() {
             @Override
@@ -81,6 +81,9 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
 
    public static final long DEFAULT_REDISTRIBUTION_DELAY = -1;
 
+   // number of messages the redistributor moves to another node in a single transaction
+   public static final int DEFAULT_REDISTRIBUTION_BATCH_SIZE = 100;
+
    public static final long DEFAULT_EXPIRY_DELAY = -1;
 
    public static final boolean DEFAULT_SEND_TO_DLA_ON_NO_ROUTE = false;
@@ -98,6 +101,11 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
    // Default address drop threshold, applied to address settings with BLOCK policy.  -1 means no threshold enabled.
    public static final long DEFAULT_ADDRESS_REJECT_THRESHOLD = -1;
 
+   // -1 means regular messages aren't compressed by the broker
+   public static final int DEFAULT_COMPRESS_MESSAGE_BODY_MIN_SIZE = -1;
+
+   public static final String DEFAULT_COMPRESSION_CODEC = "deflate";
+
    private AddressFullMessagePolicy addressFullMessagePolicy = null;
 
    private Long maxSizeBytes = null;
@@ -128,6 +136,8 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
 
    private Long redistributionDelay = null;
 
+   private Integer redistributionBatchSize = null;
+
    private Boolean sendToDLAOnNoRoute = null;
 
    private Long slowConsumerThreshold = null;
@@ -172,6 +182,10 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
 
    private RoutingType defaultAddressRoutingType = null;
 
+   private Integer compressMessageBodyMinSize = null;
+
+   private String compressionCodec = null;
+
    //from amq5
    //make it transient
    private transient Integer queuePrefetch = null;
@@ -192,6 +206,7 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
       this.expiryDelay = other.expiryDelay;
       this.lastValueQueue = other.lastValueQueue;
       this.redistributionDelay = other.redistributionDelay;
+      this.redistributionBatchSize = other.redistributionBatchSize;
       this.sendToDLAOnNoRoute = other.sendToDLAOnNoRoute;
       this.slowConsumerThreshold = other.slowConsumerThreshold;
       this.slowConsumerCheckPeriod = other.slowConsumerCheckPeriod;
@@ -213,6 +228,8 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
       this.defaultPurgeOnNoConsumers = other.defaultPurgeOnNoConsumers;
       this.defaultQueueRoutingType = other.defaultQueueRoutingType;
       this.defaultAddressRoutingType = other.defaultAddressRoutingType;
+      this.compressMessageBodyMinSize = other.compressMessageBodyMinSize;
+      this.compressionCodec = other.compressionCodec;
    }
 
    public AddressSettings() {
@@ -352,6 +369,24 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
       return this;
    }
 
+   public int getCompressMessageBodyMinSize() {
+      return compressMessageBodyMinSize != null ? compressMessageBodyMinSize : AddressSettings.DEFAULT_COMPRESS_MESSAGE_BODY_MIN_SIZE;
+   }
+
+   public AddressSettings setCompressMessageBodyMinSize(int compressMessageBodyMinSize) {
+      this.compressMessageBodyMinSize = compressMessageBodyMinSize;
+      return this;
+   }
+
+   public String getCompressionCodec() {
+      return compressionCodec != null ? compressionCodec : AddressSettings.DEFAULT_COMPRESSION_CODEC;
+   }
+
+   public AddressSettings setCompressionCodec(String compressionCodec) {
+      this.compressionCodec = compressionCodec;
+      return this;
+   }
+
    public boolean isLastValueQueue() {
       return lastValueQueue != null ? lastValueQueue : AddressSettings.DEFAULT_LAST_VALUE_QUEUE;
    }
@@ -489,6 +524,15 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
       return this;
    }
 
+   public int getRedistributionBatchSize() {
+      return redistributionBatchSize != null ? redistributionBatchSize : AddressSettings.DEFAULT_REDISTRIBUTION_BATCH_SIZE;
+   }
+
+   public AddressSettings setRedistributionBatchSize(final int redistributionBatchSize) {
+      this.redistributionBatchSize = redistributionBatchSize;
+      return this;
+   }
+
    public long getSlowConsumerThreshold() {
       return slowConsumerThreshold != null ? slowConsumerThreshold : AddressSettings.DEFAULT_SLOW_CONSUMER_THRESHOLD;
    }
@@ -589,6 +633,9 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
       if (redistributionDelay == null) {
          redistributionDelay = merged.redistributionDelay;
       }
+      if (redistributionBatchSize == null) {
+         redistributionBatchSize = merged.redistributionBatchSize;
+      }
       if (sendToDLAOnNoRoute == null) {
          sendToDLAOnNoRoute = merged.sendToDLAOnNoRoute;
       }
@@ -655,6 +702,12 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
       if (defaultAddressRoutingType == null) {
          defaultAddressRoutingType = merged.defaultAddressRoutingType;
       }
+      if (compressMessageBodyMinSize == null) {
+         compressMessageBodyMinSize = merged.compressMessageBodyMinSize;
+      }
+      if (compressionCodec == null) {
+         compressionCodec = merged.compressionCodec;
+      }
    }
 
    @Override
@@ -751,6 +804,18 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
       defaultQueueRoutingType = RoutingType.getType(buffer.readByte());
 
       defaultAddressRoutingType = RoutingType.getType(buffer.readByte());
+
+      // settings stored by older versions end here
+      if (buffer.readableBytes() > 0) {
+         compressMessageBodyMinSize = BufferHelper.readNullableInteger(buffer);
+
+         SimpleString codecStr = buffer.readNullableSimpleString();
+         compressionCodec = codecStr != null ? codecStr.toString() : null;
+      }
+
+      if (buffer.readableBytes() > 0) {
+         redistributionBatchSize = BufferHelper.readNullableInteger(buffer);
+      }
    }
 
    @Override
@@ -788,7 +853,10 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
          BufferHelper.sizeOfNullableInteger(defaultMaxConsumers) +
          BufferHelper.sizeOfNullableBoolean(defaultPurgeOnNoConsumers) +
          DataConstants.SIZE_BYTE +
-         DataConstants.SIZE_BYTE;
+         DataConstants.SIZE_BYTE +
+         BufferHelper.sizeOfNullableInteger(compressMessageBodyMinSize) +
+         BufferHelper.sizeOfNullableSimpleString(compressionCodec) +
+         BufferHelper.sizeOfNullableInteger(redistributionBatchSize);
    }
 
    @Override
@@ -862,6 +930,12 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
       buffer.writeByte(defaultQueueRoutingType == null ? -1 : defaultQueueRoutingType.getType());
 
       buffer.writeByte(defaultAddressRoutingType == null ? -1 : defaultAddressRoutingType.getType());
+
+      BufferHelper.writeNullableInteger(buffer, compressMessageBodyMinSize);
+
+      buffer.writeNullableSimpleString(SimpleString.toSimpleString(compressionCodec));
+
+      BufferHelper.writeNullableInteger(buffer, redistributionBatchSize);
    }
 
    /* (non-Javadoc)
@@ -886,6 +960,7 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
       result = prime * result + ((redeliveryMultiplier == null) ? 0 : redeliveryMultiplier.hashCode());
       result = prime * result + ((maxRedeliveryDelay == null) ? 0 : maxRedeliveryDelay.hashCode());
       result = prime * result + ((redistributionDelay == null) ? 0 : redistributionDelay.hashCode());
+      result = prime * result + ((redistributionBatchSize == null) ? 0 : redistributionBatchSize.hashCode());
       result = prime * result + ((sendToDLAOnNoRoute == null) ? 0 : sendToDLAOnNoRoute.hashCode());
       result = prime * result + ((slowConsumerThreshold == null) ? 0 : slowConsumerThreshold.hashCode());
       result = prime * result + ((slowConsumerCheckPeriod == null) ? 0 : slowConsumerCheckPeriod.hashCode());
@@ -907,6 +982,8 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
       result = prime * result + ((defaultPurgeOnNoConsumers == null) ? 0 : defaultPurgeOnNoConsumers.hashCode());
       result = prime * result + ((defaultQueueRoutingType == null) ? 0 : defaultQueueRoutingType.hashCode());
       result = prime * result + ((defaultAddressRoutingType == null) ? 0 : defaultAddressRoutingType.hashCode());
+      result = prime * result + ((compressMessageBodyMinSize == null) ? 0 : compressMessageBodyMinSize.hashCode());
+      result = prime * result + ((compressionCodec == null) ? 0 : compressionCodec.hashCode());
       return result;
    }
 
@@ -997,6 +1074,11 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
             return false;
       } else if (!redistributionDelay.equals(other.redistributionDelay))
          return false;
+      if (redistributionBatchSize == null) {
+         if (other.redistributionBatchSize != null)
+            return false;
+      } else if (!redistributionBatchSize.equals(other.redistributionBatchSize))
+         return false;
       if (sendToDLAOnNoRoute == null) {
          if (other.sendToDLAOnNoRoute != null)
             return false;
@@ -1107,6 +1189,18 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
             return false;
       } else if (!defaultAddressRoutingType.equals(other.defaultAddressRoutingType))
          return false;
+
+      if (compressMessageBodyMinSize == null) {
+         if (other.compressMessageBodyMinSize != null)
+            return false;
+      } else if (!compressMessageBodyMinSize.equals(other.compressMessageBodyMinSize))
+         return false;
+
+      if (compressionCodec == null) {
+         if (other.compressionCodec != null)
+            return false;
+      } else if (!compressionCodec.equals(other.compressionCodec))
+         return false;
       return true;
    }
 
@@ -1146,6 +1240,8 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
          maxRedeliveryDelay +
          ", redistributionDelay=" +
          redistributionDelay +
+         ", redistributionBatchSize=" +
+         redistributionBatchSize +
          ", sendToDLAOnNoRoute=" +
          sendToDLAOnNoRoute +
          ", slowConsumerThreshold=" +
@@ -1184,6 +1280,10 @@ public class AddressSettings implements Mergeable<AddressSettings>, Serializable
          defaultQueueRoutingType +
          ", defaultAddressRoutingType=" +
          defaultAddressRoutingType +
+         ", compressMessageBodyMinSize=" +
+         compressMessageBodyMinSize +
+         ", compressionCodec=" +
+         compressionCodec +
          "]";
    }
 }
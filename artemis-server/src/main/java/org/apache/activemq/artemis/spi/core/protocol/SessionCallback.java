@@ -21,6 +21,7 @@ import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.core.server.MessageReference;
 import org.apache.activemq.artemis.core.server.ServerConsumer;
 import org.apache.activemq.artemis.spi.core.remoting.ReadyListener;
+import org.apache.activemq.artemis.spi.core.remoting.SharedFileChannel;
 
 public interface SessionCallback {
 
@@ -79,6 +80,28 @@ public interface SessionCallback {
                                     boolean continues,
                                     boolean requiresResponse);
 
+   /**
+    * @return true if {@link #sendLargeMessageContinuation(ServerConsumer, SharedFileChannel, long, int, boolean)}
+    * may be used, so it's worth opening the large message file for it
+    */
+   default boolean supportsFileRegions() {
+      return false;
+   }
+
+   /**
+    * Same as {@link #sendLargeMessageContinuation(ServerConsumer, byte[], boolean, boolean)} but the body is
+    * {@code length} bytes of {@code file} starting at {@code position}, sent without copying them through the heap.
+    *
+    * @return the packet size, or -1 if it can't be sent this way, in which case nothing was sent
+    */
+   default int sendLargeMessageContinuation(ServerConsumer consumerID,
+                                            SharedFileChannel file,
+                                            long position,
+                                            int length,
+                                            boolean continues) throws Exception {
+      return -1;
+   }
+
    void closed();
 
    void disconnect(ServerConsumer consumerId, String queueName);
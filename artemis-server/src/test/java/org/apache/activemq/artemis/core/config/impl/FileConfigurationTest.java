@@ -95,6 +95,12 @@ public class FileConfigurationTest extends ConfigurationImplTest {
       Assert.assertEquals(true, conf.isAmqpUseCoreSubscriptionNaming());
 
       Assert.assertEquals("max concurrent io", 17, conf.getPageMaxConcurrentIO());
+      Assert.assertEquals(3, conf.getPageReadAhead());
+      Assert.assertEquals(20 * 1024 * 1024, conf.getPageReadAheadMaxBytes());
+      Assert.assertEquals(60, conf.getPageCompactPercentage());
+      Assert.assertEquals(256 * 1024, conf.getPageWriteBufferSize());
+      Assert.assertEquals(true, conf.isPageCompressionEnabled());
+      Assert.assertEquals(64 * 1024 * 1024, conf.getPageMappingMaxBytes());
       Assert.assertEquals("somedir2", conf.getJournalDirectory());
       Assert.assertEquals(false, conf.isCreateJournalDir());
       Assert.assertEquals(JournalType.NIO, conf.getJournalType());
@@ -229,6 +235,7 @@ public class FileConfigurationTest extends ConfigurationImplTest {
             assertEquals("max retry interval", 10002, bc.getMaxRetryInterval());
             Assert.assertEquals(2, bc.getReconnectAttempts());
             Assert.assertEquals(true, bc.isUseDuplicateDetection());
+            Assert.assertEquals(4, bc.getConcurrency());
             Assert.assertEquals("connector1", bc.getStaticConnectors().get(0));
             Assert.assertEquals(null, bc.getDiscoveryGroupName());
             Assert.assertEquals(444, bc.getProducerWindowSize());
@@ -242,6 +249,7 @@ public class FileConfigurationTest extends ConfigurationImplTest {
             Assert.assertEquals(null, bc.getStaticConnectors());
             Assert.assertEquals("dg1", bc.getDiscoveryGroupName());
             Assert.assertEquals(568320, bc.getProducerWindowSize());
+            Assert.assertEquals(ActiveMQDefaultConfiguration.getDefaultBridgeConcurrency(), bc.getConcurrency());
          }
       }
 
@@ -275,6 +283,9 @@ public class FileConfigurationTest extends ConfigurationImplTest {
             Assert.assertEquals("connector2", ccc.getStaticConnectors().get(1));
             Assert.assertEquals(null, ccc.getDiscoveryGroupName());
             Assert.assertEquals(222, ccc.getProducerWindowSize());
+            Assert.assertEquals(500, ccc.getLoadNotificationInterval());
+            Assert.assertEquals(2000, ccc.getTopologyLoadHintInterval());
+            Assert.assertEquals(50, ccc.getStoreAndForwardBatchSize());
          } else {
             Assert.assertEquals("cluster-connection2", ccc.getName());
             Assert.assertEquals("queues2", ccc.getAddress());
@@ -287,6 +298,9 @@ public class FileConfigurationTest extends ConfigurationImplTest {
             Assert.assertEquals(Collections.emptyList(), ccc.getStaticConnectors());
             Assert.assertEquals("dg1", ccc.getDiscoveryGroupName());
             Assert.assertEquals(333, ccc.getProducerWindowSize());
+            Assert.assertEquals(ActiveMQDefaultConfiguration.getDefaultClusterLoadNotificationInterval(), ccc.getLoadNotificationInterval());
+            Assert.assertEquals(ActiveMQDefaultConfiguration.getDefaultClusterTopologyLoadHintInterval(), ccc.getTopologyLoadHintInterval());
+            Assert.assertEquals(ActiveMQDefaultConfiguration.getDefaultClusterStoreAndForwardBatchSize(), ccc.getStoreAndForwardBatchSize());
          }
       }
 
@@ -301,6 +315,7 @@ public class FileConfigurationTest extends ConfigurationImplTest {
       assertEquals(856686592L, conf.getAddressesSettings().get("a1").getMaxSizeBytes());
       assertEquals(81738173872337L, conf.getAddressesSettings().get("a1").getPageSizeBytes());
       assertEquals(10, conf.getAddressesSettings().get("a1").getPageCacheMaxSize());
+      assertEquals(250, conf.getAddressesSettings().get("a1").getRedistributionBatchSize());
       assertEquals(4, conf.getAddressesSettings().get("a1").getMessageCounterHistoryDayLimit());
       assertEquals(10, conf.getAddressesSettings().get("a1").getSlowConsumerThreshold());
       assertEquals(5, conf.getAddressesSettings().get("a1").getSlowConsumerCheckPeriod());
@@ -379,6 +394,7 @@ public class FileConfigurationTest extends ConfigurationImplTest {
       assertTrue(a2Role.isDeleteNonDurableQueue());
       assertFalse(a2Role.isManage());
       assertEquals(1234567, conf.getGlobalMaxSize());
+      assertEquals(25, conf.getGlobalMaxSizeHotPercentage());
       assertEquals(37, conf.getMaxDiskUsage());
       assertEquals(123, conf.getDiskScanPeriod());
 
@@ -120,6 +120,9 @@ public class HAPolicyConfigurationTest extends ActiveMQTestBase {
          assertTrue(replicatedPolicy.isCheckForLiveServer());
          assertEquals(replicatedPolicy.getClusterName(), "abcdefg");
          assertEquals(replicatedPolicy.getInitialReplicationSyncTimeout(), 9876);
+         assertEquals(replicatedPolicy.getReplicationBatchSize(), 4096);
+         assertEquals(replicatedPolicy.getReplicationCompressionCodec(), "lz4");
+         assertEquals(replicatedPolicy.getInitialReplicationSyncParallelism(), 2);
       } finally {
          server.stop();
       }
@@ -142,6 +145,8 @@ public class HAPolicyConfigurationTest extends ActiveMQTestBase {
          assertFalse(replicaPolicy.isRestartBackup());
          assertTrue(replicaPolicy.isAllowFailback());
          assertEquals(replicaPolicy.getInitialReplicationSyncTimeout(), 9876);
+         assertEquals(replicaPolicy.getLiveHeartbeatPeriod(), 250);
+         assertEquals(replicaPolicy.getLiveHeartbeatPhiThreshold(), 5.5, 0);
          ScaleDownPolicy scaleDownPolicy = replicaPolicy.getScaleDownPolicy();
          assertNotNull(scaleDownPolicy);
          assertEquals(scaleDownPolicy.getGroupName(), "boo!");
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.paging.cursor.impl;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.activemq.artemis.core.message.impl.CoreMessage;
+import org.apache.activemq.artemis.core.paging.PagedMessage;
+import org.apache.activemq.artemis.core.paging.impl.Page;
+import org.apache.activemq.artemis.core.paging.impl.PagedMessageImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LivePageCacheImplTest {
+
+   private static final int MESSAGES = 10_000;
+
+   @Test
+   public void testAddAndRead() throws Exception {
+      LivePageCacheImpl cache = new LivePageCacheImpl(new Page(null, null, null, null, 1));
+
+      Assert.assertNull(cache.getMessage(0));
+      Assert.assertEquals(0, cache.getMessages().length);
+
+      PagedMessage[] messages = new PagedMessage[MESSAGES];
+      for (int i = 0; i < MESSAGES; i++) {
+         messages[i] = newMessage(i);
+         cache.addLiveMessage(messages[i]);
+      }
+
+      Assert.assertEquals(MESSAGES, cache.getNumberOfMessages());
+      Assert.assertArrayEquals(messages, cache.getMessages());
+      for (int i = 0; i < MESSAGES; i++) {
+         Assert.assertSame(messages[i], cache.getMessage(i));
+      }
+      Assert.assertNull(cache.getMessage(MESSAGES));
+      Assert.assertEquals(3, cache.getNextMessageRoutedTo(1, 1));
+      Assert.assertEquals(MESSAGES, cache.getNextMessageRoutedTo(3, 0));
+   }
+
+   @Test
+   public void testReadWhileWriting() throws Exception {
+      final LivePageCacheImpl cache = new LivePageCacheImpl(new Page(null, null, null, null, 1));
+      final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+      Thread reader = new Thread(() -> {
+         try {
+            int routed = 0;
+            while (routed < MESSAGES) {
+               final int numberOfMessages = cache.getNumberOfMessages();
+               if (numberOfMessages > 0) {
+                  Assert.assertNotNull(cache.getMessage(numberOfMessages - 1));
+               }
+               final int next = cache.getNextMessageRoutedTo(1, routed);
+               Assert.assertTrue(next <= cache.getNumberOfMessages());
+               // anything below the number of messages read before is known to be routed
+               if (next < numberOfMessages) {
+                  Assert.assertEquals(1, cache.getMessage(next).getQueueIDs()[0]);
+                  routed = next + 1;
+               }
+            }
+         } catch (Throwable e) {
+            failure.set(e);
+         }
+      });
+      reader.start();
+
+      for (int i = 0; i < MESSAGES; i++) {
+         cache.addLiveMessage(newMessage(i));
+      }
+
+      reader.join(30_000);
+      Assert.assertFalse(reader.isAlive());
+      Assert.assertNull(failure.get());
+   }
+
+   private static PagedMessage newMessage(int i) {
+      // one message out of 3 is routed to the queue 1
+      return new PagedMessageImpl(new CoreMessage(i, 50), new long[]{i % 3 == 0 ? 1 : 2});
+   }
+}
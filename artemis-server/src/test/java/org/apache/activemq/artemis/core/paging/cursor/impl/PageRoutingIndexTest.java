@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.paging.cursor.impl;
+
+import org.apache.activemq.artemis.core.paging.PagedMessage;
+import org.apache.activemq.artemis.core.paging.impl.PagedMessageImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PageRoutingIndexTest {
+
+   @Test
+   public void testNextRoutedMessage() {
+      PagedMessage[] messages = new PagedMessage[100];
+      for (int i = 0; i < messages.length; i++) {
+         messages[i] = new PagedMessageImpl(null, i % 10 == 0 ? new long[]{1, 2} : new long[]{2});
+      }
+
+      PageRoutingIndex index = PageRoutingIndex.of(messages);
+
+      Assert.assertEquals(0, index.next(1, 0, messages.length));
+      Assert.assertEquals(10, index.next(1, 1, messages.length));
+      Assert.assertEquals(90, index.next(1, 90, messages.length));
+      Assert.assertEquals(100, index.next(1, 91, messages.length));
+      Assert.assertEquals(37, index.next(2, 37, messages.length));
+      Assert.assertEquals(100, index.next(3, 0, messages.length));
+   }
+
+   @Test
+   public void testLiveAdds() {
+      PageRoutingIndex index = new PageRoutingIndex();
+
+      Assert.assertEquals(0, index.next(1, 0, 0));
+
+      index.add(0, new long[]{2});
+      index.add(1, new long[]{2});
+      Assert.assertEquals(2, index.next(1, 0, 2));
+
+      for (int i = 2; i < 50; i++) {
+         index.add(i, new long[]{1});
+      }
+      Assert.assertEquals(2, index.next(1, 0, 50));
+      Assert.assertEquals(49, index.next(1, 49, 50));
+      Assert.assertEquals(50, index.next(2, 2, 50));
+   }
+
+   @Test
+   public void testPlaceholdersAreNeverRouted() {
+      PagedMessage[] messages = new PagedMessage[]{new PagedMessageImpl(null, new long[0]), new PagedMessageImpl(null, new long[]{1})};
+
+      PageRoutingIndex index = PageRoutingIndex.of(messages);
+
+      Assert.assertEquals(1, index.next(1, 0, messages.length));
+   }
+}
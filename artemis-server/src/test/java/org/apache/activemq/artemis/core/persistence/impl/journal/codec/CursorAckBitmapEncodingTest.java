@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.persistence.impl.journal.codec;
+
+import java.util.BitSet;
+
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.api.core.ActiveMQBuffers;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CursorAckBitmapEncodingTest {
+
+   @Test
+   public void testEncodeDecode() {
+      BitSet acks = new BitSet();
+      acks.set(0, 1000);
+      acks.set(1003);
+      acks.set(1500, 1510);
+
+      BitSet decoded = roundTrip(new CursorAckBitmapEncoding(10, 20, acks), 10, 20);
+
+      Assert.assertEquals(acks, decoded);
+   }
+
+   @Test
+   public void testLeadingAcksAreNotEncodedAsBits() {
+      BitSet acks = new BitSet();
+      acks.set(0, 100_000);
+
+      CursorAckBitmapEncoding encoding = new CursorAckBitmapEncoding(1, 2, acks);
+
+      Assert.assertTrue(encoding.getEncodeSize() < 64);
+      Assert.assertEquals(acks, roundTrip(encoding, 1, 2));
+   }
+
+   @Test
+   public void testEmptyAndSparse() {
+      Assert.assertEquals(new BitSet(), roundTrip(new CursorAckBitmapEncoding(1, 2, new BitSet()), 1, 2));
+
+      BitSet sparse = new BitSet();
+      sparse.set(7);
+      sparse.set(4096);
+      Assert.assertEquals(sparse, roundTrip(new CursorAckBitmapEncoding(1, 2, sparse), 1, 2));
+   }
+
+   private static BitSet roundTrip(CursorAckBitmapEncoding encoding, long queueID, long pageNr) {
+      ActiveMQBuffer buffer = ActiveMQBuffers.fixedBuffer(encoding.getEncodeSize());
+      encoding.encode(buffer);
+      Assert.assertEquals(encoding.getEncodeSize(), buffer.writerIndex());
+
+      CursorAckBitmapEncoding decoded = new CursorAckBitmapEncoding();
+      decoded.decode(buffer);
+
+      Assert.assertEquals(queueID, decoded.queueID);
+      Assert.assertEquals(pageNr, decoded.pageNr);
+      return decoded.acks;
+   }
+}
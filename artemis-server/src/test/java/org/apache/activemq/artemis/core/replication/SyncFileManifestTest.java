@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.replication;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.api.core.ActiveMQBuffers;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.persistence.impl.journal.AbstractJournalStorageManager.JournalContent;
+import org.apache.activemq.artemis.core.server.files.FileMoveManager;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SyncFileManifestTest {
+
+   @Rule
+   public TemporaryFolder temporaryFolder;
+
+   private Configuration configuration;
+
+   public SyncFileManifestTest() {
+      File parent = new File("./target/tmp");
+      parent.mkdirs();
+      temporaryFolder = new TemporaryFolder(parent);
+   }
+
+   @Before
+   public void setUp() {
+      File root = temporaryFolder.getRoot();
+      configuration = new ConfigurationImpl().setBindingsDirectory(new File(root, "bindings").getAbsolutePath()).setJournalDirectory(new File(root, "journal").getAbsolutePath()).setPagingDirectory(new File(root, "paging").getAbsolutePath()).setLargeMessagesDirectory(new File(root, "largemessages").getAbsolutePath());
+   }
+
+   @Test
+   public void testListsLatestReplicaOnly() throws Exception {
+      File oldJournal = replica(configuration.getJournalLocation(), 1);
+      File journal = replica(configuration.getJournalLocation(), 2);
+      write(new File(oldJournal, "activemq-data-1.amq"), "old");
+      write(new File(journal, "activemq-data-2.amq"), "journal");
+      write(new File(journal, "activemq-data-3.amq"), "journal");
+      write(new File(replica(configuration.getBindingsLocation(), 1), "activemq-bindings-5.bindings"), "bindings");
+      write(new File(replica(configuration.getLargeMessagesLocation(), 1), "7.msg"), "large message");
+      File store = new File(replica(configuration.getPagingLocation(), 1), "2c1e4c65-c3b2-11e7-9e09-c85b76e1f4d6");
+      write(new File(store, "address.txt"), "myAddress");
+      write(new File(store, "000000003.page"), "page");
+
+      SyncFileManifest manifest = SyncFileManifest.load(configuration);
+
+      Assert.assertEquals(5, manifest.size());
+      Assert.assertNull(manifest.getFile(SyncFileManifest.key(JournalContent.MESSAGES, null, 1)));
+      Assert.assertEquals(new File(journal, "activemq-data-2.amq"), manifest.getFile(SyncFileManifest.key(JournalContent.MESSAGES, null, 2)));
+      Assert.assertNotNull(manifest.getFile(SyncFileManifest.key(JournalContent.MESSAGES, null, 3)));
+      Assert.assertNotNull(manifest.getFile(SyncFileManifest.key(JournalContent.BINDINGS, null, 5)));
+      Assert.assertNotNull(manifest.getFile(SyncFileManifest.key(null, null, 7)));
+      Assert.assertNotNull(manifest.getFile(SyncFileManifest.key(null, new SimpleString("myAddress"), 3)));
+   }
+
+   @Test
+   public void testMatchesSameContentOnly() throws Exception {
+      write(new File(replica(configuration.getLargeMessagesLocation(), 1), "7.msg"), "large message");
+      SyncFileManifest manifest = SyncFileManifest.load(configuration);
+
+      // what the live knows, once sent over the wire
+      ActiveMQBuffer buffer = ActiveMQBuffers.dynamicBuffer(64);
+      manifest.encode(buffer);
+      SyncFileManifest received = new SyncFileManifest();
+      received.decode(buffer);
+      Assert.assertEquals(1, received.size());
+
+      String key = SyncFileManifest.key(null, null, 7);
+      File same = write(temporaryFolder.newFile(), "large message");
+      File changed = write(temporaryFolder.newFile(), "large massage");
+      File longer = write(temporaryFolder.newFile(), "large message, continued");
+
+      Assert.assertTrue(received.matches(key, same, same.length()));
+      Assert.assertFalse(received.matches(key, changed, changed.length()));
+      Assert.assertFalse(received.matches(key, longer, same.length()));
+      Assert.assertFalse(received.matches(SyncFileManifest.key(null, null, 8), same, same.length()));
+   }
+
+   @Test
+   public void testSamplesAppendOnlyFilesAndChecksJournalFilesWhole() throws Exception {
+      final int size = SyncFileManifest.SAMPLE_SIZE * 4;
+      write(new File(replica(configuration.getLargeMessagesLocation(), 1), "7.msg"), new byte[size]);
+      write(new File(replica(configuration.getJournalLocation(), 1), "activemq-data-2.amq"), new byte[size]);
+      SyncFileManifest manifest = SyncFileManifest.load(configuration);
+
+      String largeMessage = SyncFileManifest.key(null, null, 7);
+      String journal = SyncFileManifest.key(JournalContent.MESSAGES, null, 2);
+
+      byte[] changedMiddle = new byte[size];
+      changedMiddle[size / 2] = 1;
+      File middle = write(temporaryFolder.newFile(), changedMiddle);
+      byte[] changedTail = new byte[size];
+      changedTail[size - 1] = 1;
+      File tail = write(temporaryFolder.newFile(), changedTail);
+
+      // only the samples of an append-only file are read
+      Assert.assertTrue(manifest.matches(largeMessage, middle, size));
+      Assert.assertFalse(manifest.matches(largeMessage, tail, size));
+
+      Assert.assertFalse(manifest.matches(journal, middle, size));
+      Assert.assertFalse(manifest.matches(journal, tail, size));
+      Assert.assertTrue(manifest.matches(journal, write(temporaryFolder.newFile(), new byte[size]), size));
+   }
+
+   @Test
+   public void testEmptyWithoutReplica() throws Exception {
+      Assert.assertTrue(SyncFileManifest.load(configuration).isEmpty());
+   }
+
+   private static File replica(File folder, int id) {
+      File replica = new FileMoveManager(folder).getFolder(id);
+      replica.mkdirs();
+      return replica;
+   }
+
+   private static File write(File file, byte[] content) throws IOException {
+      file.getParentFile().mkdirs();
+      try (FileOutputStream output = new FileOutputStream(file)) {
+         output.write(content);
+      }
+      return file;
+   }
+
+   private static File write(File file, String content) throws IOException {
+      file.getParentFile().mkdirs();
+      try (PrintWriter writer = new PrintWriter(new FileOutputStream(file))) {
+         writer.print(content);
+      }
+      return file;
+   }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.core.server.cluster.qourum;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PhiAccrualFailureDetectorTest {
+
+   @Test
+   public void testNotSuspiciousBeforeTwoHeartbeats() {
+      PhiAccrualFailureDetector detector = new PhiAccrualFailureDetector(10, 10);
+      Assert.assertEquals(0, detector.phi(1000), 0);
+      detector.heartbeat(0);
+      Assert.assertEquals(0, detector.phi(60000), 0);
+   }
+
+   @Test
+   public void testSuspicionGrowsWithSilence() {
+      PhiAccrualFailureDetector detector = new PhiAccrualFailureDetector(100, 25);
+      long now = 0;
+      for (int i = 0; i < 50; i++) {
+         detector.heartbeat(now);
+         now += 100;
+      }
+      long last = detector.getLastHeartbeat();
+
+      double onTime = detector.phi(last + 100);
+      double late = detector.phi(last + 200);
+      double silent = detector.phi(last + 500);
+
+      Assert.assertTrue(onTime < 1);
+      Assert.assertTrue(late > onTime);
+      Assert.assertTrue(silent > late);
+      Assert.assertTrue(silent > 8);
+   }
+
+   @Test
+   public void testJitterMakesDetectorMoreTolerant() {
+      PhiAccrualFailureDetector steady = new PhiAccrualFailureDetector(100, 1);
+      PhiAccrualFailureDetector jittery = new PhiAccrualFailureDetector(100, 1);
+      long steadyNow = 0;
+      long jitteryNow = 0;
+      for (int i = 0; i < 50; i++) {
+         steady.heartbeat(steadyNow);
+         jittery.heartbeat(jitteryNow);
+         steadyNow += 100;
+         jitteryNow += i % 2 == 0 ? 50 : 150;
+      }
+
+      Assert.assertTrue(jittery.phi(jittery.getLastHeartbeat() + 200) < steady.phi(steady.getLastHeartbeat() + 200));
+   }
+
+   @Test
+   public void testRestartDoesNotLearnTheSilence() {
+      PhiAccrualFailureDetector detector = new PhiAccrualFailureDetector(100, 25);
+      long now = 0;
+      for (int i = 0; i < 50; i++) {
+         detector.heartbeat(now);
+         now += 100;
+      }
+      long pause = detector.getLastHeartbeat() + 5000;
+      Assert.assertTrue(detector.phi(pause) > 8);
+
+      detector.restart(pause);
+      Assert.assertEquals(pause, detector.getLastHeartbeat());
+      Assert.assertTrue(detector.phi(pause + 100) < 1);
+      Assert.assertTrue(detector.phi(pause + 500) > 8);
+   }
+
+   @Test
+   public void testOnlyTheWindowIsKept() {
+      PhiAccrualFailureDetector detector = new PhiAccrualFailureDetector(10, 10);
+      long now = 0;
+      for (int i = 0; i < 20; i++) {
+         detector.heartbeat(now);
+         now += 1000;
+      }
+      for (int i = 0; i < 11; i++) {
+         detector.heartbeat(now);
+         now += 100;
+      }
+
+      // the slow heartbeats left the window, 500ms of silence is now very suspicious
+      Assert.assertTrue(detector.phi(detector.getLastHeartbeat() + 500) > 8);
+   }
+}
@@ -17,10 +17,13 @@
 package org.apache.activemq.artemis.core.settings;
 
 import org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration;
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.api.core.ActiveMQBuffers;
 import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.core.settings.impl.AddressFullMessagePolicy;
 import org.apache.activemq.artemis.core.settings.impl.AddressSettings;
 import org.apache.activemq.artemis.tests.util.ActiveMQTestBase;
+import org.apache.activemq.artemis.utils.BufferHelper;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -50,6 +53,55 @@ public class AddressSettingsTest extends ActiveMQTestBase {
       Assert.assertEquals(AddressSettings.DEFAULT_AUTO_DELETE_ADDRESSES, addressSettings.isAutoDeleteAddresses());
       Assert.assertEquals(ActiveMQDefaultConfiguration.getDefaultPurgeOnNoConsumers(), addressSettings.isDefaultPurgeOnNoConsumers());
       Assert.assertEquals(ActiveMQDefaultConfiguration.getDefaultMaxQueueConsumers(), addressSettings.getDefaultMaxConsumers());
+      Assert.assertEquals(AddressSettings.DEFAULT_COMPRESS_MESSAGE_BODY_MIN_SIZE, addressSettings.getCompressMessageBodyMinSize());
+      Assert.assertEquals(AddressSettings.DEFAULT_COMPRESSION_CODEC, addressSettings.getCompressionCodec());
+      Assert.assertEquals(AddressSettings.DEFAULT_REDISTRIBUTION_BATCH_SIZE, addressSettings.getRedistributionBatchSize());
+   }
+
+   @Test
+   public void testEncodeDecodeCompression() {
+      AddressSettings addressSettings = new AddressSettings();
+      addressSettings.setCompressMessageBodyMinSize(16 * 1024);
+      addressSettings.setCompressionCodec("lz4");
+
+      ActiveMQBuffer buffer = ActiveMQBuffers.fixedBuffer(addressSettings.getEncodeSize());
+      addressSettings.encode(buffer);
+
+      AddressSettings decoded = new AddressSettings();
+      decoded.decode(buffer);
+      Assert.assertEquals(addressSettings, decoded);
+      Assert.assertEquals(16 * 1024, decoded.getCompressMessageBodyMinSize());
+      Assert.assertEquals("lz4", decoded.getCompressionCodec());
+
+      // settings stored before the compression fields existed
+      buffer = ActiveMQBuffers.fixedBuffer(new AddressSettings().getEncodeSize());
+      new AddressSettings().encode(buffer);
+      buffer.writerIndex(buffer.writerIndex() - BufferHelper.sizeOfNullableInteger(null) - BufferHelper.sizeOfNullableSimpleString(null) - BufferHelper.sizeOfNullableInteger(null));
+      decoded = new AddressSettings();
+      decoded.decode(buffer);
+      Assert.assertEquals(new AddressSettings(), decoded);
+   }
+
+   @Test
+   public void testEncodeDecodeRedistributionBatchSize() {
+      AddressSettings addressSettings = new AddressSettings();
+      addressSettings.setRedistributionBatchSize(500);
+
+      ActiveMQBuffer buffer = ActiveMQBuffers.fixedBuffer(addressSettings.getEncodeSize());
+      addressSettings.encode(buffer);
+
+      AddressSettings decoded = new AddressSettings();
+      decoded.decode(buffer);
+      Assert.assertEquals(addressSettings, decoded);
+      Assert.assertEquals(500, decoded.getRedistributionBatchSize());
+
+      // settings stored before the batch size existed
+      buffer = ActiveMQBuffers.fixedBuffer(addressSettings.getEncodeSize());
+      addressSettings.encode(buffer);
+      buffer.writerIndex(buffer.writerIndex() - BufferHelper.sizeOfNullableInteger(500));
+      decoded = new AddressSettings();
+      decoded.decode(buffer);
+      Assert.assertEquals(AddressSettings.DEFAULT_REDISTRIBUTION_BATCH_SIZE, decoded.getRedistributionBatchSize());
    }
 
    @Test
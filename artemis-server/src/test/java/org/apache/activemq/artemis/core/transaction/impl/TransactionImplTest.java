@@ -19,6 +19,7 @@ package org.apache.activemq.artemis.core.transaction.impl;
 
 import javax.transaction.xa.Xid;
 import java.nio.ByteBuffer;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -342,7 +343,7 @@ public class TransactionImplTest extends ActiveMQTestBase {
       }
 
       @Override
-      public void storeCursorAcknowledge(long queueID, PagePosition position) throws Exception {
+      public void storeCursorAcknowledge(long queueID, long bitmapRecordID, PagePosition position) throws Exception {
 
       }
 
@@ -382,7 +383,7 @@ public class TransactionImplTest extends ActiveMQTestBase {
       }
 
       @Override
-      public void storeCursorAcknowledgeTransactional(long txID, long queueID, PagePosition position) throws Exception {
+      public void storeCursorAcknowledgeTransactional(long txID, long queueID, long bitmapRecordID, PagePosition position) throws Exception {
 
       }
 
@@ -401,6 +402,11 @@ public class TransactionImplTest extends ActiveMQTestBase {
 
       }
 
+      @Override
+      public long storeCursorAckBitmap(long queueID, long pageNr, BitSet acks) throws Exception {
+         return 0;
+      }
+
       @Override
       public void deletePageComplete(long ackID) throws Exception {
 
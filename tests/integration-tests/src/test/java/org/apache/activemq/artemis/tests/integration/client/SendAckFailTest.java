@@ -21,6 +21,7 @@ import javax.transaction.xa.Xid;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.nio.ByteBuffer;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -414,8 +415,8 @@ public class SendAckFailTest extends ActiveMQTestBase {
       }
 
       @Override
-      public void storeCursorAcknowledge(long queueID, PagePosition position) throws Exception {
-         manager.storeCursorAcknowledge(queueID, position);
+      public void storeCursorAcknowledge(long queueID, long bitmapRecordID, PagePosition position) throws Exception {
+         manager.storeCursorAcknowledge(queueID, bitmapRecordID, position);
       }
 
       @Override
@@ -454,8 +455,8 @@ public class SendAckFailTest extends ActiveMQTestBase {
       }
 
       @Override
-      public void storeCursorAcknowledgeTransactional(long txID, long queueID, PagePosition position) throws Exception {
-         manager.storeCursorAcknowledgeTransactional(txID, queueID, position);
+      public void storeCursorAcknowledgeTransactional(long txID, long queueID, long bitmapRecordID, PagePosition position) throws Exception {
+         manager.storeCursorAcknowledgeTransactional(txID, queueID, bitmapRecordID, position);
       }
 
       @Override
@@ -473,6 +474,11 @@ public class SendAckFailTest extends ActiveMQTestBase {
          manager.storePageCompleteTransactional(txID, queueID, position);
       }
 
+      @Override
+      public long storeCursorAckBitmap(long queueID, long pageNr, BitSet acks) throws Exception {
+         return manager.storeCursorAckBitmap(queueID, pageNr, acks);
+      }
+
       @Override
       public void deletePageComplete(long ackID) throws Exception {
          manager.deletePageComplete(ackID);
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.tests.integration.client;
+
+import org.apache.activemq.artemis.api.core.TransportConfiguration;
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.StoreConfiguration;
+import org.apache.activemq.artemis.core.remoting.impl.netty.TransportConstants;
+
+/**
+ * Runs the LargeMessageTest over a netty acceptor sending the large message bodies straight from their files,
+ * falling back to chunks read by the server where there is no file, as on a database store.
+ */
+public class ZeroCopyLargeMessageTest extends LargeMessageTest {
+
+   public ZeroCopyLargeMessageTest(StoreConfiguration.StoreType storeType) {
+      super(storeType);
+   }
+
+   @Override
+   protected boolean isNetty() {
+      return true;
+   }
+
+   @Override
+   protected Configuration createDefaultConfig(final int serverID, final boolean netty) throws Exception {
+      Configuration configuration = super.createDefaultConfig(serverID, netty);
+      for (TransportConfiguration acceptor : configuration.getAcceptorConfigurations()) {
+         if (NETTY_ACCEPTOR_FACTORY.equals(acceptor.getFactoryClassName())) {
+            acceptor.getParams().put(TransportConstants.ZERO_COPY_LARGE_MESSAGES, true);
+         }
+      }
+      return configuration;
+   }
+}
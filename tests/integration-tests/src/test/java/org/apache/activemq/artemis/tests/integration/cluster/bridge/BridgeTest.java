@@ -69,6 +69,7 @@ import org.apache.activemq.artemis.core.server.ActiveMQServer;
 import org.apache.activemq.artemis.core.server.MessageReference;
 import org.apache.activemq.artemis.core.server.Queue;
 import org.apache.activemq.artemis.core.server.cluster.Bridge;
+import org.apache.activemq.artemis.core.server.cluster.BridgeLaneStatistics;
 import org.apache.activemq.artemis.core.server.cluster.Transformer;
 import org.apache.activemq.artemis.core.server.cluster.impl.BridgeImpl;
 import org.apache.activemq.artemis.core.server.impl.ActiveMQServerImpl;
@@ -1877,6 +1878,143 @@ public class BridgeTest extends ActiveMQTestBase {
       closeFields();
    }
 
+   @Test
+   public void testConcurrentLanesKeepGroupOrder() throws Exception {
+      Map<String, Object> server0Params = new HashMap<>();
+      server0 = createClusteredServerWithParams(isNetty(), 0, false, server0Params);
+
+      Map<String, Object> server1Params = new HashMap<>();
+      addTargetParameters(server1Params);
+      server1 = createClusteredServerWithParams(isNetty(), 1, false, server1Params);
+
+      final String testAddress = "testAddress";
+      final String queueName0 = "queue0";
+      final String forwardAddress = "forwardAddress";
+      final String queueName1 = "queue1";
+
+      Map<String, TransportConfiguration> connectors = new HashMap<>();
+      TransportConfiguration server0tc = new TransportConfiguration(getConnector(), server0Params);
+
+      TransportConfiguration server1tc = new TransportConfiguration(getConnector(), server1Params);
+      connectors.put(server1tc.getName(), server1tc);
+
+      server0.getConfiguration().setConnectorConfigurations(connectors);
+
+      final int concurrency = 3;
+
+      final int numGroups = 5;
+
+      final int numMessages = 300;
+
+      ArrayList<String> staticConnectors = new ArrayList<>();
+      staticConnectors.add(server1tc.getName());
+      BridgeConfiguration bridgeConfiguration = new BridgeConfiguration().setName("bridge1").setQueueName(queueName0).setForwardingAddress(forwardAddress).setRetryInterval(1000).setReconnectAttemptsOnSameNode(-1).setUseDuplicateDetection(true).setConfirmationWindowSize(1024).setConcurrency(concurrency).setStaticConnectors(staticConnectors);
+
+      List<BridgeConfiguration> bridgeConfigs = new ArrayList<>();
+      bridgeConfigs.add(bridgeConfiguration);
+      server0.getConfiguration().setBridgeConfigurations(bridgeConfigs);
+
+      CoreQueueConfiguration queueConfig0 = new CoreQueueConfiguration().setAddress(testAddress).setName(queueName0);
+      List<CoreQueueConfiguration> queueConfigs0 = new ArrayList<>();
+      queueConfigs0.add(queueConfig0);
+      server0.getConfiguration().setQueueConfigurations(queueConfigs0);
+
+      CoreQueueConfiguration queueConfig1 = new CoreQueueConfiguration().setAddress(forwardAddress).setName(queueName1);
+      List<CoreQueueConfiguration> queueConfigs1 = new ArrayList<>();
+      queueConfigs1.add(queueConfig1);
+      server1.getConfiguration().setQueueConfigurations(queueConfigs1);
+
+      server1.start();
+      server0.start();
+
+      locator = addServerLocator(ActiveMQClient.createServerLocatorWithoutHA(server0tc, server1tc));
+      ClientSessionFactory sf0 = locator.createSessionFactory(server0tc);
+
+      ClientSessionFactory sf1 = locator.createSessionFactory(server1tc);
+
+      ClientSession session0 = sf0.createSession(false, true, true);
+
+      ClientSession session1 = sf1.createSession(false, true, true);
+
+      ClientProducer producer0 = session0.createProducer(new SimpleString(testAddress));
+
+      ClientConsumer consumer1 = session1.createConsumer(queueName1);
+
+      session1.start();
+
+      final SimpleString propKey = new SimpleString("testkey");
+
+      int[] sent = new int[numGroups + 1];
+
+      for (int i = 0; i < numMessages; i++) {
+         ClientMessage message = session0.createMessage(true);
+
+         // the last "group" is made of messages without a group ID
+         int group = i % (numGroups + 1);
+
+         if (group < numGroups) {
+            message.putStringProperty(Message.HDR_GROUP_ID, new SimpleString("group" + group));
+         }
+
+         message.putIntProperty(propKey, sent[group]++);
+
+         producer0.send(message);
+      }
+
+      int[] received = new int[numGroups + 1];
+
+      for (int i = 0; i < numMessages; i++) {
+         ClientMessage message = consumer1.receive(5000);
+
+         Assert.assertNotNull(message);
+
+         SimpleString groupID = message.getSimpleStringProperty(Message.HDR_GROUP_ID);
+
+         if (groupID != null) {
+            int group = Integer.parseInt(groupID.toString().substring("group".length()));
+
+            Assert.assertEquals("messages of " + groupID + " out of order", received[group]++, message.getIntProperty(propKey).intValue());
+         } else {
+            received[numGroups]++;
+         }
+
+         message.acknowledge();
+      }
+
+      Assert.assertArrayEquals(sent, received);
+
+      Assert.assertNull(consumer1.receiveImmediate());
+
+      Bridge bridge = server0.getClusterManager().getBridges().get("bridge1");
+
+      Assert.assertEquals(concurrency, bridge.getConcurrency());
+
+      long forwarded = 0;
+
+      int lanesUsed = 0;
+
+      for (BridgeLaneStatistics lane : bridge.getLaneStatistics()) {
+         Assert.assertTrue(lane.isConnected());
+         forwarded += lane.getMessagesForwarded();
+         if (lane.getMessagesForwarded() > 0) {
+            lanesUsed++;
+         }
+      }
+
+      Assert.assertEquals(numMessages, forwarded);
+
+      Assert.assertTrue("messages were not spread over the lanes", lanesUsed > 1);
+
+      session0.close();
+
+      session1.close();
+
+      sf0.close();
+
+      sf1.close();
+      closeFields();
+   }
+
    @Test
    public void testInjectedTransformer() throws Exception {
       final SimpleString ADDRESS = new SimpleString("myAddress");
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.tests.integration.cluster.distribution;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.activemq.artemis.api.core.Interceptor;
+import org.apache.activemq.artemis.api.core.Message;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.api.core.client.ClientConsumer;
+import org.apache.activemq.artemis.api.core.client.ClientMessage;
+import org.apache.activemq.artemis.api.core.client.ClientProducer;
+import org.apache.activemq.artemis.api.core.client.ClientSession;
+import org.apache.activemq.artemis.core.client.impl.ClientProducerInternal;
+import org.apache.activemq.artemis.core.protocol.core.impl.PacketImpl;
+import org.apache.activemq.artemis.core.server.cluster.impl.MessageLoadBalancingType;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ClusterBulkSendTest extends ClusterTestBase {
+
+   private static final SimpleString ID_PROP = new SimpleString("id");
+
+   @Override
+   @Before
+   public void setUp() throws Exception {
+      super.setUp();
+
+      setupServer(0, isFileStorage(), isNetty());
+      setupServer(1, isFileStorage(), isNetty());
+   }
+
+   protected boolean isNetty() {
+      return false;
+   }
+
+   @Test
+   public void testBridgeSendsInBulks() throws Exception {
+      setupClusterConnection("cluster0", 0, 1, "queues", MessageLoadBalancingType.ON_DEMAND, 1, isNetty(), false);
+      setupClusterConnection("cluster1", 1, 0, "queues", MessageLoadBalancingType.ON_DEMAND, 1, isNetty(), false);
+      servers[0].getConfiguration().getClusterConfigurations().get(0).setStoreAndForwardBatchSize(10);
+      startServers(0, 1);
+
+      final AtomicInteger bulks = new AtomicInteger();
+      servers[1].getRemotingService().addIncomingInterceptor((Interceptor) (packet, connection) -> {
+         if (packet.getType() == PacketImpl.SESS_SEND_BULK) {
+            bulks.incrementAndGet();
+         }
+         return true;
+      });
+
+      setupSessionFactory(0, isNetty());
+      setupSessionFactory(1, isNetty());
+
+      createQueue(0, "queues.testaddress", "queue0", null, true);
+      createQueue(1, "queues.testaddress", "queue0", null, true);
+
+      addConsumer(0, 1, "queue0", null);
+
+      waitForBindings(0, "queues.testaddress", 1, 0, true);
+      waitForBindings(0, "queues.testaddress", 1, 1, false);
+
+      send(0, "queues.testaddress", 100, true, null);
+
+      verifyReceiveAll(100, 0);
+      verifyNotReceive(0);
+      assertTrue(bulks.get() > 0);
+   }
+
+   @Test
+   public void testBulkSkipsDuplicates() throws Exception {
+      startServers(1);
+
+      setupSessionFactory(1, isNetty());
+
+      createQueue(1, "queues.testaddress", "queue0", null, true);
+
+      byte[] prefix = "source-node".getBytes();
+
+      ClientSession session = addClientSession(sfs[1].createSession(false, true, true));
+      ClientProducer producer = session.createProducer("queues.testaddress");
+      assertTrue(((ClientProducerInternal) producer).isBulkSendSupported());
+
+      // sent one by one as bridges do when they don't send in bulks
+      ClientMessage single = createMessage(session, 3);
+      single.putBytesProperty(Message.HDR_BRIDGE_DUPLICATE_ID, ByteBuffer.allocate(prefix.length + 8).put(prefix).putLong(3).array());
+      producer.send(single);
+
+      ((ClientProducerInternal) producer).sendBulk(null, createMessages(session, 1, 5), prefix);
+      ((ClientProducerInternal) producer).sendBulk(null, createMessages(session, 4, 8), prefix);
+      // another source, with the same message IDs
+      ((ClientProducerInternal) producer).sendBulk(null, createMessages(session, 1, 2), "other-node".getBytes());
+
+      session.start();
+      ClientConsumer consumer = session.createConsumer("queue0");
+      List<Integer> received = new ArrayList<>();
+      ClientMessage message;
+      while ((message = consumer.receive(500)) != null) {
+         message.acknowledge();
+         received.add(message.getIntProperty(ID_PROP));
+      }
+
+      assertEquals(10, received.size());
+      Set<Integer> ids = new HashSet<>(received);
+      for (int id = 1; id <= 8; id++) {
+         assertTrue("missing " + id, ids.contains(id));
+      }
+   }
+
+   private static ClientMessage createMessage(ClientSession session, int id) {
+      ClientMessage message = session.createMessage(true);
+      // the ID the message had on the source node, completing the duplicate ID prefix
+      message.setMessageID(id);
+      message.putIntProperty(ID_PROP, id);
+      return message;
+   }
+
+   private static List<ClientMessage> createMessages(ClientSession session, int firstID, int lastID) {
+      List<ClientMessage> messages = new ArrayList<>();
+      for (int id = firstID; id <= lastID; id++) {
+         messages.add(createMessage(session, id));
+      }
+      return messages;
+   }
+}
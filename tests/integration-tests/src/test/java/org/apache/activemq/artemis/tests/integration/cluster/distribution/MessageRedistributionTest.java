@@ -30,6 +30,7 @@ import org.apache.activemq.artemis.api.core.client.ClientProducer;
 import org.apache.activemq.artemis.api.core.client.ClientSession;
 
 import org.apache.activemq.artemis.core.server.Bindable;
+import org.apache.activemq.artemis.core.server.cluster.RedistributionMetrics;
 import org.apache.activemq.artemis.core.server.cluster.impl.MessageLoadBalancingType;
 import org.apache.activemq.artemis.core.server.cluster.impl.Redistributor;
 import org.apache.activemq.artemis.core.server.group.impl.GroupingHandlerConfiguration;
@@ -37,6 +38,7 @@ import org.apache.activemq.artemis.core.server.impl.QueueImpl;
 import org.apache.activemq.artemis.core.settings.impl.AddressFullMessagePolicy;
 import org.apache.activemq.artemis.core.settings.impl.AddressSettings;
 import org.apache.activemq.artemis.tests.integration.IntegrationTestLogger;
+import org.apache.activemq.artemis.tests.util.Wait;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -982,6 +984,13 @@ public class MessageRedistributionTest extends ClusterTestBase {
       addConsumer(1, 1, "queue0", null);
 
       verifyReceiveAll(QueueImpl.REDISTRIBUTOR_BATCH_SIZE * 2, 1);
+
+      final RedistributionMetrics metrics = ((QueueImpl) servers[0].getPostOffice().getBinding(new SimpleString("queue0")).getBindable()).getRedistributionMetrics();
+      Assert.assertTrue(Wait.waitFor(() -> metrics.getMessagesRedistributed() == QueueImpl.REDISTRIBUTOR_BATCH_SIZE * 2, 5000, 10));
+      Assert.assertEquals(0, metrics.getMessagesPending());
+      // the messages were moved in whole batches, not one transaction each
+      Assert.assertTrue(metrics.getBatchesCommitted() >= 2);
+      Assert.assertTrue(metrics.getBatchesCommitted() < QueueImpl.REDISTRIBUTOR_BATCH_SIZE);
    }
 
    /*
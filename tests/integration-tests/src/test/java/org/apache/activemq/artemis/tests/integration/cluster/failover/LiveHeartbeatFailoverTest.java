@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.tests.integration.cluster.failover;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.activemq.artemis.api.core.ActiveMQException;
+import org.apache.activemq.artemis.api.core.Interceptor;
+import org.apache.activemq.artemis.api.core.TransportConfiguration;
+import org.apache.activemq.artemis.core.config.ha.ReplicaPolicyConfiguration;
+import org.apache.activemq.artemis.core.protocol.core.Packet;
+import org.apache.activemq.artemis.core.protocol.core.impl.PacketImpl;
+import org.apache.activemq.artemis.logs.AssertionLoggerHandler;
+import org.apache.activemq.artemis.spi.core.protocol.RemotingConnection;
+import org.apache.activemq.artemis.tests.util.TransportConfigurationUtils;
+import org.apache.activemq.artemis.tests.util.Wait;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LiveHeartbeatFailoverTest extends FailoverTestBase {
+
+   private final HeartbeatInterceptor interceptor = new HeartbeatInterceptor();
+
+   @Override
+   @Before
+   public void setUp() throws Exception {
+      AssertionLoggerHandler.startCapture();
+      startBackupServer = false;
+      super.setUp();
+      // before the backup connects, so that its connections are told apart from the start
+      liveServer.getServer().getRemotingService().addIncomingInterceptor(interceptor);
+      backupServer.start();
+      waitForBackup();
+   }
+
+   @Override
+   @After
+   public void tearDown() throws Exception {
+      AssertionLoggerHandler.stopCapture();
+      super.tearDown();
+   }
+
+   @Override
+   protected TransportConfiguration getAcceptorTransportConfiguration(final boolean live) {
+      return TransportConfigurationUtils.getInVMAcceptor(live);
+   }
+
+   @Override
+   protected TransportConfiguration getConnectorTransportConfiguration(final boolean live) {
+      return TransportConfigurationUtils.getInVMConnector(live);
+   }
+
+   @Override
+   protected void createConfigs() throws Exception {
+      createReplicatedConfigs();
+   }
+
+   @Override
+   protected void setupHAPolicyConfiguration() {
+      super.setupHAPolicyConfiguration();
+      ((ReplicaPolicyConfiguration) backupConfig.getHAPolicyConfiguration()).setLiveHeartbeatPeriod(100);
+   }
+
+   @Test
+   public void testLiveAnsweringOnReplicationIsMonitoredAgain() throws Exception {
+      interceptor.dropHeartbeats = true;
+
+      assertTrue(AssertionLoggerHandler.findText(10000, "AMQ222219"));
+      assertTrue(AssertionLoggerHandler.findText(10000, "AMQ221072"));
+
+      // the heartbeats are still monitored after the live was suspected
+      AssertionLoggerHandler.clear();
+      assertTrue(AssertionLoggerHandler.findText(10000, "AMQ222219"));
+      interceptor.dropHeartbeats = false;
+
+      assertFalse(AssertionLoggerHandler.findText(1000, "AMQ221071"));
+      assertFalse(backupServer.isActive());
+      assertTrue(backupServer.getServer().isReplicaSync());
+      assertTrue(liveServer.getServer().isReplicaSync());
+   }
+
+   @Test
+   public void testLiveSilentOnReplicationFailsTheReplication() throws Exception {
+      interceptor.dropHeartbeats = true;
+      interceptor.dropReplicationPings = true;
+
+      assertTrue(AssertionLoggerHandler.findText(10000, "AMQ222219"));
+      assertTrue(Wait.waitFor(() -> !liveServer.getServer().isReplicaSync()));
+      assertFalse(AssertionLoggerHandler.findText("AMQ221072"));
+   }
+
+   /**
+    * Drops the pings of the backup, telling the replication connection apart as the one the backup registers on.
+    */
+   private static final class HeartbeatInterceptor implements Interceptor {
+
+      private final Set<Object> replicationConnections = ConcurrentHashMap.newKeySet();
+
+      volatile boolean dropHeartbeats;
+
+      volatile boolean dropReplicationPings;
+
+      @Override
+      public boolean intercept(Packet packet, RemotingConnection connection) throws ActiveMQException {
+         if (packet.getType() == PacketImpl.BACKUP_REGISTRATION) {
+            replicationConnections.add(connection.getID());
+         }
+         if (packet.getType() != PacketImpl.PING) {
+            return true;
+         }
+         if (replicationConnections.contains(connection.getID())) {
+            return !dropReplicationPings;
+         }
+         return !dropHeartbeats;
+      }
+   }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.tests.integration.crossprotocol;
+
+import javax.jms.Connection;
+import javax.jms.ConnectionFactory;
+import javax.jms.MessageConsumer;
+import javax.jms.MessageProducer;
+import javax.jms.Queue;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.artemis.api.core.Message;
+import org.apache.activemq.artemis.api.core.RoutingType;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.server.ActiveMQServer;
+import org.apache.activemq.artemis.core.server.MessageReference;
+import org.apache.activemq.artemis.core.settings.impl.AddressSettings;
+import org.apache.activemq.artemis.tests.util.ActiveMQTestBase;
+import org.apache.activemq.artemis.tests.util.Wait;
+import org.apache.activemq.artemis.utils.collections.LinkedListIterator;
+import org.apache.qpid.jms.JmsConnectionFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Messages compressed for core clients must reach the consumers of other protocols with their original body.
+ */
+public class CompressedBodyCrossProtocolTest extends ActiveMQTestBase {
+
+   private static final String QUEUE_NAME = "compressedQueue";
+
+   private static final String URL = "tcp://localhost:61616";
+
+   private ActiveMQServer server;
+
+   private String body;
+
+   @Override
+   @Before
+   public void setUp() throws Exception {
+      super.setUp();
+      server = createServer(true, true);
+      server.getConfiguration().setSecurityEnabled(false);
+      server.start();
+      server.waitForActivation(10, TimeUnit.SECONDS);
+      server.createQueue(SimpleString.toSimpleString(QUEUE_NAME), RoutingType.ANYCAST, SimpleString.toSimpleString(QUEUE_NAME), null, true, false);
+
+      StringBuilder builder = new StringBuilder();
+      for (int i = 0; i < 1000; i++) {
+         builder.append("{\"id\":").append(i).append(",\"name\":\"compressible\"}");
+      }
+      body = builder.toString();
+   }
+
+   @Test
+   public void testCoreCompressedToOpenWire() throws Exception {
+      sendCompressedFromCore();
+      receive(new ActiveMQConnectionFactory(URL));
+   }
+
+   @Test
+   public void testCoreCompressedToAMQP() throws Exception {
+      sendCompressedFromCore();
+      receive(new JmsConnectionFactory("amqp://localhost:61616"));
+   }
+
+   @Test
+   public void testCoreCompressedToCore() throws Exception {
+      sendCompressedFromCore();
+      receive(new org.apache.activemq.artemis.jms.client.ActiveMQConnectionFactory(URL));
+   }
+
+   @Test
+   public void testOpenWireIsNotCompressedByTheBroker() throws Exception {
+      server.getAddressSettingsRepository().addMatch(QUEUE_NAME, new AddressSettings().setCompressMessageBodyMinSize(0));
+      send(new ActiveMQConnectionFactory(URL));
+      assertStoredCompressed(false);
+      receive(new ActiveMQConnectionFactory(URL));
+   }
+
+   @Test
+   public void testBrokerCompressedCoreToAMQP() throws Exception {
+      server.getAddressSettingsRepository().addMatch(QUEUE_NAME, new AddressSettings().setCompressMessageBodyMinSize(0));
+      send(new org.apache.activemq.artemis.jms.client.ActiveMQConnectionFactory(URL));
+      assertStoredCompressed(true);
+      receive(new JmsConnectionFactory("amqp://localhost:61616"));
+   }
+
+   private void sendCompressedFromCore() throws Exception {
+      org.apache.activemq.artemis.jms.client.ActiveMQConnectionFactory factory = new org.apache.activemq.artemis.jms.client.ActiveMQConnectionFactory(URL);
+      factory.setCompressMessageBodyMinSize(0);
+      send(factory);
+      assertStoredCompressed(true);
+   }
+
+   private void assertStoredCompressed(boolean compressed) throws Exception {
+      org.apache.activemq.artemis.core.server.Queue queue = server.locateQueue(SimpleString.toSimpleString(QUEUE_NAME));
+      Wait.waitFor(() -> queue.getMessageCount() == 1);
+      try (LinkedListIterator<MessageReference> iterator = queue.browserIterator()) {
+         assertTrue(iterator.hasNext());
+         Message message = iterator.next().getMessage();
+         assertEquals(compressed, message.containsProperty(Message.HDR_LARGE_COMPRESSED));
+      }
+   }
+
+   private void send(ConnectionFactory factory) throws Exception {
+      try (Connection connection = factory.createConnection()) {
+         Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+         Queue queue = session.createQueue(QUEUE_NAME);
+         MessageProducer producer = session.createProducer(queue);
+         producer.send(session.createTextMessage(body));
+      }
+   }
+
+   private void receive(ConnectionFactory factory) throws Exception {
+      try (Connection connection = factory.createConnection()) {
+         Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+         Queue queue = session.createQueue(QUEUE_NAME);
+         MessageConsumer consumer = session.createConsumer(queue);
+         connection.start();
+         TextMessage message = (TextMessage) consumer.receive(5000);
+         assertNotNull(message);
+         assertEquals(body, message.getText());
+      }
+   }
+}
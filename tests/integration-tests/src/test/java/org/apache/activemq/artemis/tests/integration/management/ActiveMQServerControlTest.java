@@ -65,8 +65,10 @@ import org.apache.activemq.artemis.tests.integration.IntegrationTestLogger;
 import org.apache.activemq.artemis.tests.unit.core.config.impl.fakes.FakeConnectorServiceFactory;
 import org.apache.activemq.artemis.tests.util.Wait;
 import org.apache.activemq.artemis.utils.RandomUtil;
+import org.apache.activemq.artemis.utils.SimpleStringPool;
 import org.apache.activemq.artemis.utils.UUIDGenerator;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -1062,6 +1064,38 @@ public class ActiveMQServerControlTest extends ManagementTestBase {
       locator.close();
    }
 
+   @Test
+   public void testStringPoolCounters() throws Exception {
+      Assume.assumeTrue(SimpleStringPool.DEFAULT.isEnabled());
+
+      String random = RandomUtil.randomString();
+
+      ActiveMQServerControl serverControl = createManagementControl();
+
+      ServerLocator locator = createInVMNonHALocator();
+      ClientSessionFactory csf = createSessionFactory(locator);
+      ClientSession session = csf.createSession();
+
+      session.createQueue(random, RoutingType.ANYCAST, random);
+
+      long hits = serverControl.getStringPoolHits();
+      long misses = serverControl.getStringPoolMisses();
+
+      // the queue name is decoded by the server on each query, so the later ones are found in the pool
+      for (int i = 0; i < 10; i++) {
+         session.queueQuery(SimpleString.toSimpleString(random));
+      }
+
+      assertTrue(serverControl.getStringPoolHits() >= hits + 9);
+      assertTrue(serverControl.getStringPoolMisses() >= misses);
+
+      session.deleteQueue(random);
+
+      session.close();
+
+      locator.close();
+   }
+
    @Test
    public void testTotalConnectionCount() throws Exception {
       final int CONNECTION_COUNT = 100;
@@ -287,6 +287,11 @@ public class ActiveMQServerControlUsingCoreTest extends ActiveMQServerControlTes
             return false;
          }
 
+         @Override
+         public String getReplicaSyncProgress() {
+            return (String) proxy.retrieveAttributeValue("replicaSyncProgress");
+         }
+
          @Override
          public int getIDCacheSize() {
             return (Integer) proxy.retrieveAttributeValue("IDCacheSize", Integer.class);
@@ -604,6 +609,16 @@ public class ActiveMQServerControlUsingCoreTest extends ActiveMQServerControlTes
             return (Long) proxy.retrieveAttributeValue("GlobalMaxSize", Long.class);
          }
 
+         @Override
+         public long getStringPoolHits() {
+            return (Long) proxy.retrieveAttributeValue("stringPoolHits", Long.class);
+         }
+
+         @Override
+         public long getStringPoolMisses() {
+            return (Long) proxy.retrieveAttributeValue("stringPoolMisses", Long.class);
+         }
+
          @Override
          public boolean freezeReplication() {
 
@@ -131,6 +131,16 @@ public class QueueControlUsingCoreTest extends QueueControlTest {
             return ((Number) proxy.retrieveAttributeValue("messagesKilled")).longValue();
          }
 
+         @Override
+         public long getMessagesRedistributed() {
+            return ((Number) proxy.retrieveAttributeValue("messagesRedistributed")).longValue();
+         }
+
+         @Override
+         public double getRedistributionRate() {
+            return ((Number) proxy.retrieveAttributeValue("redistributionRate")).doubleValue();
+         }
+
          @Override
          public void resetMessagesAdded() throws Exception {
             proxy.invokeOperation("resetMessagesAdded");
@@ -62,6 +62,7 @@ import org.apache.activemq.artemis.core.journal.PreparedTransactionInfo;
 import org.apache.activemq.artemis.core.journal.RecordInfo;
 import org.apache.activemq.artemis.core.paging.PagingManager;
 import org.apache.activemq.artemis.core.paging.PagingStore;
+import org.apache.activemq.artemis.core.paging.cursor.PageCache;
 import org.apache.activemq.artemis.core.paging.cursor.PageCursorProvider;
 import org.apache.activemq.artemis.core.paging.cursor.impl.PageCursorProviderImpl;
 import org.apache.activemq.artemis.core.paging.cursor.impl.PagePositionImpl;
@@ -948,6 +949,100 @@ public class PagingTest extends ActiveMQTestBase {
       server.stop();
    }
 
+   @Test
+   public void testCursorAcksStoredOnPageBitmaps() throws Exception {
+      if (storeType == StoreConfiguration.StoreType.DATABASE) {
+         // the living records are counted on the journal files
+         return;
+      }
+
+      clearDataRecreateServerDirs();
+
+      Configuration config = createDefaultInVMConfig().setJournalSyncNonTransactional(false);
+
+      final int pageSize = 100 * 1024;
+
+      server = createServer(true, config, pageSize, 2 * pageSize);
+
+      server.start();
+
+      final int numberOfMessages = 1000;
+
+      locator = createInVMNonHALocator().setBlockOnNonDurableSend(true).setBlockOnDurableSend(true).setBlockOnAcknowledge(true);
+
+      sf = createSessionFactory(locator);
+
+      ClientSession session = sf.createSession(false, false, false);
+
+      session.createQueue(PagingTest.ADDRESS, PagingTest.ADDRESS, null, true);
+
+      ClientProducer producer = session.createProducer(PagingTest.ADDRESS);
+
+      byte[] body = new byte[MESSAGE_SIZE];
+
+      for (int i = 0; i < numberOfMessages; i++) {
+         ClientMessage message = session.createMessage(true);
+         message.getBodyBuffer().writeBytes(body);
+         message.putIntProperty(new SimpleString("id"), i);
+         producer.send(message);
+      }
+      session.commit();
+      session.close();
+
+      Queue queue = server.locateQueue(ADDRESS);
+      int numberOfPages = queue.getPageSubscription().getPagingStore().getNumberOfPages();
+      assertTrue(numberOfPages > 1);
+
+      // every tenth message is left unacked so no page is complete
+      ClientSession sessionConsumer = sf.createSession(false, true, true);
+      sessionConsumer.start();
+      ClientConsumer consumer = sessionConsumer.createConsumer(PagingTest.ADDRESS);
+      for (int i = 0; i < numberOfMessages; i++) {
+         ClientMessage msg = consumer.receive(RECEIVE_TIMEOUT);
+         assertNotNull(msg);
+         if (msg.getIntProperty("id") % 10 != 0) {
+            msg.individualAcknowledge();
+         }
+      }
+      sessionConsumer.close();
+
+      sf.close();
+      locator.close();
+
+      server.stop();
+
+      HashMap<Integer, AtomicInteger> counts = countJournalLivingRecords(server.getConfiguration());
+
+      AtomicInteger bitmaps = counts.get((int) JournalRecordIds.PAGE_CURSOR_ACK_BITMAP);
+      AtomicInteger cursorAcks = counts.get((int) JournalRecordIds.ACKNOWLEDGE_CURSOR);
+
+      // a single bitmap per page, the acks replaced by a newer bitmap are gone with the older one
+      assertNotNull(bitmaps);
+      assertTrue("bitmaps = " + bitmaps, bitmaps.get() <= numberOfPages);
+      assertTrue("cursorAcks = " + cursorAcks, cursorAcks == null || cursorAcks.get() < numberOfMessages / 2);
+
+      server = createServer(true, config, pageSize, 2 * pageSize);
+      server.start();
+
+      locator = createInVMNonHALocator();
+      sf = createSessionFactory(locator);
+
+      sessionConsumer = sf.createSession(false, false, false);
+      sessionConsumer.start();
+      consumer = sessionConsumer.createConsumer(PagingTest.ADDRESS);
+      for (int i = 0; i < numberOfMessages; i += 10) {
+         ClientMessage msg = consumer.receive(RECEIVE_TIMEOUT);
+         assertNotNull(msg);
+         assertEquals(i, msg.getIntProperty("id").intValue());
+         msg.acknowledge();
+      }
+      sessionConsumer.commit();
+
+      assertNull(consumer.receiveImmediate());
+
+      sessionConsumer.close();
+   }
+
    @Test
    public void testPreparePersistent() throws Exception {
       clearDataRecreateServerDirs();
@@ -1302,6 +1397,383 @@ public class PagingTest extends ActiveMQTestBase {
 
    }
 
+   @Test
+   public void testReceiveWithReadAhead() throws Exception {
+      clearDataRecreateServerDirs();
+
+      Configuration config = createDefaultInVMConfig().setJournalSyncNonTransactional(false).setPageReadAhead(3);
+
+      server = createServer(true, config, PagingTest.PAGE_SIZE, PagingTest.PAGE_MAX);
+
+      server.start();
+
+      final int numberOfMessages = 500;
+
+      locator = createInVMNonHALocator().setBlockOnNonDurableSend(true).setBlockOnDurableSend(true).setBlockOnAcknowledge(true);
+
+      sf = createSessionFactory(locator);
+
+      ClientSession session = sf.createSession(false, false, false);
+
+      session.createQueue(PagingTest.ADDRESS, PagingTest.ADDRESS, null, true);
+
+      ClientProducer producer = session.createProducer(PagingTest.ADDRESS);
+
+      byte[] body = new byte[MESSAGE_SIZE];
+
+      for (int i = 0; i < numberOfMessages; i++) {
+         ClientMessage message = session.createMessage(true);
+
+         message.getBodyBuffer().writeBytes(body);
+
+         message.putIntProperty(new SimpleString("id"), i);
+
+         producer.send(message);
+         if (i % 100 == 0) {
+            session.commit();
+         }
+      }
+      session.commit();
+      session.close();
+
+      sf.close();
+      locator.close();
+
+      server.stop();
+
+      server = createServer(true, config, PagingTest.PAGE_SIZE, PagingTest.PAGE_MAX);
+      server.start();
+
+      locator = createInVMNonHALocator();
+      sf = createSessionFactory(locator);
+
+      Queue queue = server.locateQueue(ADDRESS);
+
+      assertTrue(queue.getPageSubscription().getPagingStore().getNumberOfPages() > 10);
+
+      ClientSession sessionConsumer = sf.createSession(false, false, false);
+      sessionConsumer.start();
+      ClientConsumer consumer = sessionConsumer.createConsumer(PagingTest.ADDRESS);
+      for (int i = 0; i < numberOfMessages; i++) {
+         ClientMessage msg = consumer.receive(RECEIVE_TIMEOUT);
+         assertNotNull(msg);
+         assertEquals(i, msg.getIntProperty("id").intValue());
+         msg.acknowledge();
+
+         if (i % 50 == 0) {
+            sessionConsumer.commit();
+         }
+      }
+
+      sessionConsumer.commit();
+
+      assertNull(consumer.receiveImmediate());
+
+      sessionConsumer.close();
+
+      assertEquals(0, getMessageCount(queue));
+
+      long timeout = System.currentTimeMillis() + 5000;
+      while (timeout > System.currentTimeMillis() && queue.getPageSubscription().getPagingStore().isPaging()) {
+         Thread.sleep(100);
+      }
+      assertFalse(queue.getPageSubscription().getPagingStore().isPaging());
+   }
+
+   @Test
+   public void testSendReceiveWithPageWriteBuffer() throws Exception {
+      clearDataRecreateServerDirs();
+
+      Configuration config = createDefaultInVMConfig().setPageWriteBufferSize(4 * 1024);
+
+      server = createServer(true, config, PagingTest.PAGE_SIZE, PagingTest.PAGE_MAX);
+
+      server.start();
+
+      final int numberOfMessages = 300;
+
+      locator = createInVMNonHALocator().setBlockOnNonDurableSend(true).setBlockOnDurableSend(true).setBlockOnAcknowledge(true);
+
+      sf = createSessionFactory(locator);
+
+      ClientSession session = sf.createSession(false, true, true);
+
+      session.createQueue(PagingTest.ADDRESS, PagingTest.ADDRESS, null, true);
+
+      ClientProducer producer = session.createProducer(PagingTest.ADDRESS);
+
+      byte[] body = new byte[MESSAGE_SIZE];
+
+      // bigger than the write buffer, so it's written directly between buffered messages
+      byte[] bigBody = new byte[MESSAGE_SIZE * 8];
+
+      for (int i = 0; i < numberOfMessages; i++) {
+         ClientMessage message = session.createMessage(true);
+
+         message.getBodyBuffer().writeBytes(i % 50 == 25 ? bigBody : body);
+
+         message.putIntProperty(new SimpleString("id"), i);
+
+         producer.send(message);
+      }
+      session.close();
+
+      sf.close();
+      locator.close();
+
+      server.stop();
+
+      server = createServer(true, config, PagingTest.PAGE_SIZE, PagingTest.PAGE_MAX);
+      server.start();
+
+      locator = createInVMNonHALocator();
+      sf = createSessionFactory(locator);
+
+      Queue queue = server.locateQueue(ADDRESS);
+
+      assertTrue(queue.getPageSubscription().getPagingStore().getNumberOfPages() > 10);
+
+      ClientSession sessionConsumer = sf.createSession(false, false, false);
+      sessionConsumer.start();
+      ClientConsumer consumer = sessionConsumer.createConsumer(PagingTest.ADDRESS);
+      for (int i = 0; i < numberOfMessages; i++) {
+         ClientMessage msg = consumer.receive(RECEIVE_TIMEOUT);
+         assertNotNull(msg);
+         assertEquals(i, msg.getIntProperty("id").intValue());
+         assertEquals(i % 50 == 25 ? bigBody.length : body.length, msg.getBodySize());
+         msg.acknowledge();
+
+         if (i % 50 == 0) {
+            sessionConsumer.commit();
+         }
+      }
+
+      sessionConsumer.commit();
+
+      assertNull(consumer.receiveImmediate());
+
+      sessionConsumer.close();
+   }
+
+   @Test
+   public void testCompactSparselyAckedPages() throws Exception {
+      if (storeType == StoreConfiguration.StoreType.DATABASE) {
+         // page files on the database are never compacted
+         return;
+      }
+
+      clearDataRecreateServerDirs();
+
+      Configuration config = createDefaultInVMConfig().setPageCompactPercentage(50);
+
+      server = createServer(true, config, PagingTest.PAGE_SIZE, PagingTest.PAGE_MAX);
+
+      server.start();
+
+      final int numberOfMessages = 200;
+
+      locator = createInVMNonHALocator().setBlockOnNonDurableSend(true).setBlockOnDurableSend(true).setBlockOnAcknowledge(true);
+
+      sf = createSessionFactory(locator);
+
+      ClientSession session = sf.createSession(false, false, false);
+
+      session.createQueue(PagingTest.ADDRESS, PagingTest.ADDRESS, null, true);
+
+      ClientProducer producer = session.createProducer(PagingTest.ADDRESS);
+
+      byte[] body = new byte[MESSAGE_SIZE];
+
+      for (int i = 0; i < numberOfMessages; i++) {
+         ClientMessage message = session.createMessage(true);
+         message.getBodyBuffer().writeBytes(body);
+         message.putIntProperty(new SimpleString("id"), i);
+         producer.send(message);
+      }
+      session.commit();
+      session.close();
+
+      final Queue queue = server.locateQueue(ADDRESS);
+      final File pagingDir = server.getConfiguration().getPagingLocation();
+      final long sizeBefore = pageFilesSize(pagingDir);
+
+      // every tenth message is left unacked, pinning every page
+      ClientSession sessionConsumer = sf.createSession(false, true, true);
+      sessionConsumer.start();
+      ClientConsumer consumer = sessionConsumer.createConsumer(PagingTest.ADDRESS);
+      for (int i = 0; i < numberOfMessages; i++) {
+         ClientMessage msg = consumer.receive(RECEIVE_TIMEOUT);
+         assertNotNull(msg);
+         if (msg.getIntProperty("id") % 10 != 0) {
+            msg.individualAcknowledge();
+         }
+      }
+      sessionConsumer.close();
+
+      assertTrue(Wait.waitFor(() -> {
+         queue.getPageSubscription().getPagingStore().getCursorProvider().cleanup();
+         return pageFilesSize(pagingDir) < sizeBefore;
+      }));
+
+      sf.close();
+      locator.close();
+
+      server.stop();
+
+      server = createServer(true, config, PagingTest.PAGE_SIZE, PagingTest.PAGE_MAX);
+      server.start();
+
+      locator = createInVMNonHALocator();
+      sf = createSessionFactory(locator);
+
+      sessionConsumer = sf.createSession(false, false, false);
+      sessionConsumer.start();
+      consumer = sessionConsumer.createConsumer(PagingTest.ADDRESS);
+      for (int i = 0; i < numberOfMessages; i += 10) {
+         ClientMessage msg = consumer.receive(RECEIVE_TIMEOUT);
+         assertNotNull(msg);
+         assertEquals(i, msg.getIntProperty("id").intValue());
+         msg.acknowledge();
+      }
+      sessionConsumer.commit();
+
+      assertNull(consumer.receiveImmediate());
+
+      sessionConsumer.close();
+
+      Queue reloadedQueue = server.locateQueue(ADDRESS);
+      assertEquals(0, getMessageCount(reloadedQueue));
+      assertTrue(Wait.waitFor(() -> !reloadedQueue.getPageSubscription().getPagingStore().isPaging()));
+   }
+
+   @Test
+   public void testIterateWhileCompactingPages() throws Exception {
+      if (storeType == StoreConfiguration.StoreType.DATABASE) {
+         // page files on the database are never compacted
+         return;
+      }
+
+      clearDataRecreateServerDirs();
+
+      Configuration config = createDefaultInVMConfig().setPageCompactPercentage(50);
+
+      server = createServer(true, config, PagingTest.PAGE_SIZE, PagingTest.PAGE_MAX);
+
+      server.start();
+
+      final int numberOfMessages = 200;
+
+      locator = createInVMNonHALocator().setBlockOnNonDurableSend(true).setBlockOnDurableSend(true).setBlockOnAcknowledge(true);
+
+      sf = createSessionFactory(locator);
+
+      ClientSession session = sf.createSession(false, false, false);
+
+      session.createQueue(PagingTest.ADDRESS, PagingTest.ADDRESS, null, true);
+
+      ClientProducer producer = session.createProducer(PagingTest.ADDRESS);
+
+      byte[] body = new byte[MESSAGE_SIZE];
+
+      for (int i = 0; i < numberOfMessages; i++) {
+         ClientMessage message = session.createMessage(true);
+         message.getBodyBuffer().writeBytes(body);
+         message.putIntProperty(new SimpleString("id"), i);
+         producer.send(message);
+      }
+      session.commit();
+      session.close();
+
+      final Queue queue = server.locateQueue(ADDRESS);
+      final File pagingDir = server.getConfiguration().getPagingLocation();
+      final long sizeBefore = pageFilesSize(pagingDir);
+
+      // every tenth message is left unacked, pinning every page
+      ClientSession sessionConsumer = sf.createSession(false, true, true);
+      sessionConsumer.start();
+      ClientConsumer consumer = sessionConsumer.createConsumer(PagingTest.ADDRESS);
+      for (int i = 0; i < numberOfMessages; i++) {
+         ClientMessage msg = consumer.receive(RECEIVE_TIMEOUT);
+         assertNotNull(msg);
+         if (msg.getIntProperty("id") % 10 != 0) {
+            msg.individualAcknowledge();
+         }
+      }
+      sessionConsumer.close();
+
+      final AtomicBoolean compacting = new AtomicBoolean(true);
+      final AtomicInteger errors = new AtomicInteger(0);
+
+      Thread compactor = new Thread() {
+         @Override
+         public void run() {
+            final long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+            try {
+               while (pageFilesSize(pagingDir) >= sizeBefore && System.currentTimeMillis() < timeout) {
+                  queue.getPageSubscription().getPagingStore().getCursorProvider().cleanup();
+               }
+            } catch (Throwable e) {
+               e.printStackTrace();
+               errors.incrementAndGet();
+            } finally {
+               compacting.set(false);
+            }
+         }
+      };
+
+      final List<Integer> unacked = unackedPagedIds(queue);
+      assertFalse(unacked.isEmpty());
+
+      compactor.start();
+
+      // the page caches are iterated while they are compacted, the unacked messages must never be missed
+      int iterations = 0;
+      do {
+         assertEquals(unacked, unackedPagedIds(queue));
+         iterations++;
+      }
+      while (compacting.get() || iterations < 2);
+
+      compactor.join();
+      assertEquals(0, errors.get());
+      assertTrue(pageFilesSize(pagingDir) < sizeBefore);
+   }
+
+   /**
+    * @return the ids of the messages left unacked by the compaction tests, as routed to {@code queue} on the page caches
+    */
+   private static List<Integer> unackedPagedIds(final Queue queue) {
+      PagingStore store = queue.getPageSubscription().getPagingStore();
+      PageCursorProvider provider = store.getCursorProvider();
+      List<Integer> ids = new ArrayList<>();
+      for (long pageNr = store.getFirstPage(); pageNr < store.getCurrentWritingPage(); pageNr++) {
+         PageCache cache = provider.getPageCache(pageNr);
+         assertNotNull(cache);
+         for (int i = cache.getNextMessageRoutedTo(queue.getID(), 0); i < cache.getNumberOfMessages(); i = cache.getNextMessageRoutedTo(queue.getID(), i + 1)) {
+            int id = cache.getMessage(i).getMessage().getIntProperty("id");
+            if (id % 10 == 0) {
+               ids.add(id);
+            }
+         }
+      }
+      return ids;
+   }
+
+   private static long pageFilesSize(final File dir) {
+      long size = 0;
+      File[] files = dir.listFiles();
+      if (files != null) {
+         for (File file : files) {
+            if (file.isDirectory()) {
+               size += pageFilesSize(file);
+            } else if (file.getName().endsWith(".page")) {
+               size += file.length();
+            }
+         }
+      }
+      return size;
+   }
+
    /**
     * This test will remove all the page directories during a restart, simulating a crash scenario. The server should still start after this
     */
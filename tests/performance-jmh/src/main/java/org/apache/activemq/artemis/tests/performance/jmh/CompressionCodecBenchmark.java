@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.tests.performance.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.activemq.artemis.utils.compression.CompressionCodec;
+import org.apache.activemq.artemis.utils.compression.CompressionCodecs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compresses and decompresses a 1MB large message body with each codec, as the producer and the consumer do.
+ * <p>
+ * The compression ratio of each codec and payload is printed during the setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CompressionCodecBenchmark {
+
+   private static final int BODY_SIZE = 1024 * 1024;
+
+   @Param({"deflate", "lz4"})
+   private String codecName;
+
+   @Param({"json", "random"})
+   private String payload;
+
+   private CompressionCodec codec;
+
+   private byte[] body;
+
+   private byte[] compressed;
+
+   private final byte[] chunk = new byte[100 * 1024];
+
+   @Setup
+   public void init() throws IOException {
+      codec = CompressionCodecs.getCodec(codecName);
+      if ("json".equals(payload)) {
+         StringBuilder builder = new StringBuilder(BODY_SIZE);
+         for (int i = 0; builder.length() < BODY_SIZE; i++) {
+            builder.append("{\"id\":").append(i).append(",\"customer\":\"customer-").append(i % 977).append("\",\"amount\":").append(i * 31 % 10000).append("}\n");
+         }
+         body = builder.substring(0, BODY_SIZE).getBytes(StandardCharsets.US_ASCII);
+      } else {
+         body = new byte[BODY_SIZE];
+         new Random(0).nextBytes(body);
+      }
+      compressed = new byte[BODY_SIZE * 2];
+      int length = 0;
+      try (InputStream input = codec.createCompressingReader(new ByteArrayInputStream(body), new AtomicLong())) {
+         int n;
+         while ((n = input.read(compressed, length, compressed.length - length)) > 0) {
+            length += n;
+         }
+      }
+      byte[] exact = new byte[length];
+      System.arraycopy(compressed, 0, exact, 0, length);
+      compressed = exact;
+      System.out.println();
+      System.out.println(codecName + "/" + payload + " compression ratio: " + (double) compressed.length / body.length);
+   }
+
+   @Benchmark
+   public long compress() throws IOException {
+      long total = 0;
+      InputStream input = codec.createCompressingReader(new ByteArrayInputStream(body), new AtomicLong());
+      int n;
+      while ((n = input.read(chunk, 0, chunk.length)) != -1) {
+         total += n;
+      }
+      return total;
+   }
+
+   @Benchmark
+   public long decompressReader() throws IOException {
+      long total = 0;
+      InputStream input = codec.createDecompressingReader(new ByteArrayInputStream(compressed));
+      int n;
+      while ((n = input.read(chunk, 0, chunk.length)) != -1) {
+         total += n;
+      }
+      return total;
+   }
+
+   @Benchmark
+   public long decompressWriter() throws IOException {
+      CountingOutputStream output = new CountingOutputStream();
+      try (OutputStream writer = codec.createDecompressingWriter(output)) {
+         for (int i = 0; i < compressed.length; i += chunk.length) {
+            writer.write(compressed, i, Math.min(chunk.length, compressed.length - i));
+         }
+      }
+      return output.count;
+   }
+
+   private static final class CountingOutputStream extends OutputStream {
+
+      long count;
+
+      @Override
+      public void write(int b) {
+         count++;
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) {
+         count += len;
+      }
+   }
+}
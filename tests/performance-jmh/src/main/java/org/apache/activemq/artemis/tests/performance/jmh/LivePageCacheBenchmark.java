@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.tests.performance.jmh;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.activemq.artemis.core.message.impl.CoreMessage;
+import org.apache.activemq.artemis.core.paging.PagedMessage;
+import org.apache.activemq.artemis.core.paging.cursor.impl.LivePageCacheImpl;
+import org.apache.activemq.artemis.core.paging.impl.Page;
+import org.apache.activemq.artemis.core.paging.impl.PagedMessageImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a page write adding messages to the {@link LivePageCacheImpl} of the current page while the cursors of
+ * 3 subscriptions depage from it.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LivePageCacheBenchmark {
+
+   // the messages of a 10MB page with 1KB messages, the writer moves to a new page after them
+   private static final int PAGE_MESSAGES = 10 * 1024;
+
+   private static final int SUBSCRIPTIONS = 3;
+
+   private Page page;
+
+   private PagedMessage[] messages;
+
+   private volatile LivePageCacheImpl cache;
+
+   private int written;
+
+   private final AtomicInteger cursors = new AtomicInteger();
+
+   @Setup
+   public void init() throws Exception {
+      page = new Page(null, null, null, null, 1);
+      messages = new PagedMessage[PAGE_MESSAGES];
+      for (int i = 0; i < PAGE_MESSAGES; i++) {
+         messages[i] = new PagedMessageImpl(new CoreMessage(i, 50), new long[]{i % SUBSCRIPTIONS});
+      }
+      cache = new LivePageCacheImpl(page);
+   }
+
+   @State(Scope.Thread)
+   public static class Cursor {
+
+      private LivePageCacheImpl cache;
+
+      private int position;
+
+      private long queueID;
+
+      @Setup
+      public void init(LivePageCacheBenchmark benchmark) {
+         queueID = benchmark.cursors.getAndIncrement() % SUBSCRIPTIONS;
+      }
+   }
+
+   @Benchmark
+   @Group("pageAndDepage")
+   @GroupThreads(1)
+   public void page() {
+      if (written == PAGE_MESSAGES) {
+         cache.close();
+         cache = new LivePageCacheImpl(page);
+         written = 0;
+      }
+      cache.addLiveMessage(messages[written++]);
+   }
+
+   @Benchmark
+   @Group("pageAndDepage")
+   @GroupThreads(SUBSCRIPTIONS)
+   public PagedMessage depage(Cursor cursor) {
+      final LivePageCacheImpl cache = this.cache;
+      if (cursor.cache != cache) {
+         cursor.cache = cache;
+         cursor.position = 0;
+      }
+      final int next = cache.getNextMessageRoutedTo(cursor.queueID, cursor.position);
+      final PagedMessage message = cache.getMessage(next);
+      if (message != null) {
+         cursor.position = next + 1;
+      }
+      return message;
+   }
+}
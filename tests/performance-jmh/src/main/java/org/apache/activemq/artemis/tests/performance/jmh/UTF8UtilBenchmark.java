@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.tests.performance.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.api.core.ActiveMQBuffers;
+import org.apache.activemq.artemis.utils.UTF8Util;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encodes and decodes strings of typical header sizes (property keys, addresses, short text bodies).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UTF8UtilBenchmark {
+
+   @Param({"8", "32", "128", "1024"})
+   private int length;
+
+   @Param({"true", "false"})
+   private boolean ascii;
+
+   private String string;
+
+   private ActiveMQBuffer buffer;
+
+   @Setup
+   public void init() {
+      StringBuilder builder = new StringBuilder(length);
+      for (int i = 0; i < length; i++) {
+         builder.append(ascii ? (char) ('a' + i % 26) : (char) (0xE0 + i % 26));
+      }
+      string = builder.toString();
+      buffer = ActiveMQBuffers.fixedBuffer(length * 3 + 2);
+   }
+
+   @Benchmark
+   public ActiveMQBuffer saveUTF() {
+      buffer.clear();
+      UTF8Util.saveUTF(buffer.byteBuf(), string);
+      return buffer;
+   }
+
+   @Benchmark
+   public String saveAndReadUTF() {
+      buffer.clear();
+      UTF8Util.saveUTF(buffer.byteBuf(), string);
+      return UTF8Util.readUTF(buffer);
+   }
+}
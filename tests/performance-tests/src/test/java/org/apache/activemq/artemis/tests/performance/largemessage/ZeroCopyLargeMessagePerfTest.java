@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.tests.performance.largemessage;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.artemis.api.core.RoutingType;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.api.core.TransportConfiguration;
+import org.apache.activemq.artemis.api.core.client.ClientConsumer;
+import org.apache.activemq.artemis.api.core.client.ClientMessage;
+import org.apache.activemq.artemis.api.core.client.ClientProducer;
+import org.apache.activemq.artemis.api.core.client.ClientSession;
+import org.apache.activemq.artemis.api.core.client.ClientSessionFactory;
+import org.apache.activemq.artemis.api.core.client.ServerLocator;
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.remoting.impl.netty.TransportConstants;
+import org.apache.activemq.artemis.core.server.ActiveMQServer;
+import org.apache.activemq.artemis.tests.util.ActiveMQTestBase;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Consumer throughput of 100 MB large messages, with and without {@link TransportConstants#ZERO_COPY_LARGE_MESSAGES}.
+ */
+@RunWith(Parameterized.class)
+public class ZeroCopyLargeMessagePerfTest extends ActiveMQTestBase {
+
+   private static final long MESSAGE_SIZE = 100L * 1024 * 1024;
+
+   private static final int MESSAGES = Integer.getInteger("ZERO_COPY_TEST_MESSAGES", 5);
+
+   private static final SimpleString QUEUE = new SimpleString("ZeroCopyLargeMessagePerfTest");
+
+   @Parameterized.Parameters(name = "zeroCopy={0}")
+   public static Collection<Object[]> parameters() {
+      return Arrays.asList(new Object[][]{{true}, {false}});
+   }
+
+   private final boolean zeroCopy;
+
+   public ZeroCopyLargeMessagePerfTest(boolean zeroCopy) {
+      this.zeroCopy = zeroCopy;
+   }
+
+   @Test
+   public void testConsumeLargeMessages() throws Exception {
+      Configuration configuration = createDefaultNettyConfig();
+      for (TransportConfiguration acceptor : configuration.getAcceptorConfigurations()) {
+         if (acceptor.getName().equals("netty")) {
+            acceptor.getParams().put(TransportConstants.ZERO_COPY_LARGE_MESSAGES, zeroCopy);
+         }
+      }
+      ActiveMQServer server = createServer(true, configuration);
+      server.start();
+
+      ServerLocator locator = createNettyNonHALocator();
+      ClientSessionFactory factory = createSessionFactory(locator);
+      ClientSession session = addClientSession(factory.createSession(false, true, true));
+      session.createQueue(QUEUE, RoutingType.ANYCAST, QUEUE, true);
+
+      ClientProducer producer = session.createProducer(QUEUE);
+      for (int i = 0; i < MESSAGES; i++) {
+         ClientMessage message = session.createMessage(true);
+         message.setBodyInputStream(createFakeLargeStream(MESSAGE_SIZE));
+         producer.send(message);
+      }
+
+      ClientConsumer consumer = session.createConsumer(QUEUE);
+      session.start();
+
+      final long[] received = new long[1];
+      OutputStream counter = new OutputStream() {
+         @Override
+         public void write(int b) {
+            received[0]++;
+         }
+
+         @Override
+         public void write(byte[] b, int off, int len) {
+            received[0] += len;
+         }
+      };
+
+      long start = System.nanoTime();
+      for (int i = 0; i < MESSAGES; i++) {
+         ClientMessage message = consumer.receive(60_000);
+         Assert.assertNotNull(message);
+         message.saveToOutputStream(counter);
+         message.acknowledge();
+      }
+      long elapsed = System.nanoTime() - start;
+
+      Assert.assertEquals(MESSAGES * MESSAGE_SIZE, received[0]);
+
+      double seconds = elapsed / (double) TimeUnit.SECONDS.toNanos(1);
+      System.out.println("zeroCopy=" + zeroCopy + ": received " + MESSAGES + " x " + (MESSAGE_SIZE >> 20) + " MB in " + seconds + "s = " + (received[0] >> 20) / seconds + " MB/s");
+   }
+}
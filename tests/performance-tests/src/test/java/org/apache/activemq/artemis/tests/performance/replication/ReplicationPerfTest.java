@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.tests.performance.replication;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.activemq.artemis.api.core.RoutingType;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.api.core.TransportConfiguration;
+import org.apache.activemq.artemis.api.core.client.ClientMessage;
+import org.apache.activemq.artemis.api.core.client.ClientProducer;
+import org.apache.activemq.artemis.api.core.client.ClientSession;
+import org.apache.activemq.artemis.api.core.client.ClientSessionFactory;
+import org.apache.activemq.artemis.api.core.client.ServerLocator;
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.ha.ReplicatedPolicyConfiguration;
+import org.apache.activemq.artemis.core.server.ActiveMQServer;
+import org.apache.activemq.artemis.tests.util.ActiveMQTestBase;
+import org.apache.activemq.artemis.tests.util.ReplicatedBackupUtils;
+import org.apache.activemq.artemis.tests.util.TransportConfigurationUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Durable send rate of concurrent producers on a server without a backup and on a replicated server, with the
+ * replication packets sent one by one, batched, and batched and compressed.
+ */
+@RunWith(Parameterized.class)
+public class ReplicationPerfTest extends ActiveMQTestBase {
+
+   private static final int MESSAGES = Integer.getInteger("REPLICATION_TEST_MESSAGES", 20_000);
+
+   private static final int PRODUCERS = Integer.getInteger("REPLICATION_TEST_PRODUCERS", 8);
+
+   private static final int MESSAGE_SIZE = 1024;
+
+   private static final SimpleString QUEUE = new SimpleString("ReplicationPerfTest");
+
+   @Parameterized.Parameters(name = "replicated={0}, batchSize={1}, codec={2}")
+   public static Collection<Object[]> parameters() {
+      return Arrays.asList(new Object[][]{{false, 0, null}, {true, 0, null}, {true, 64 * 1024, null}, {true, 64 * 1024, "lz4"}});
+   }
+
+   private final boolean replicated;
+
+   private final int batchSize;
+
+   private final String codec;
+
+   public ReplicationPerfTest(boolean replicated, int batchSize, String codec) {
+      this.replicated = replicated;
+      this.batchSize = batchSize;
+      this.codec = codec;
+   }
+
+   @Test
+   public void testDurableSends() throws Exception {
+      TransportConfiguration liveConnector = TransportConfigurationUtils.getNettyConnector(true, 0);
+      TransportConfiguration liveAcceptor = TransportConfigurationUtils.getNettyAcceptor(true, 0);
+
+      Configuration liveConfig = createDefaultConfig(true).clearAcceptorConfigurations().addAcceptorConfiguration(liveAcceptor);
+      ActiveMQServer live;
+      if (replicated) {
+         TransportConfiguration backupConnector = TransportConfigurationUtils.getNettyConnector(false, 0);
+         TransportConfiguration backupAcceptor = TransportConfigurationUtils.getNettyAcceptor(false, 0);
+         Configuration backupConfig = createDefaultConfig(1, true);
+         ReplicatedBackupUtils.configureReplicationPair(backupConfig, backupConnector, backupAcceptor, liveConfig, liveConnector, liveAcceptor);
+         ((ReplicatedPolicyConfiguration) liveConfig.getHAPolicyConfiguration()).setReplicationBatchSize(batchSize).setReplicationCompressionCodec(codec);
+
+         live = createServer(true, liveConfig);
+         live.start();
+         ActiveMQServer backup = createServer(true, backupConfig);
+         backup.start();
+         waitForRemoteBackupSynchronization(backup);
+      } else {
+         live = createServer(true, liveConfig);
+         live.start();
+      }
+
+      ServerLocator locator = createNettyNonHALocator();
+      ClientSessionFactory factory = createSessionFactory(locator);
+      ClientSession session = addClientSession(factory.createSession(false, true, true));
+      session.createQueue(QUEUE, RoutingType.ANYCAST, QUEUE, true);
+
+      final byte[] body = new byte[MESSAGE_SIZE];
+      final CountDownLatch done = new CountDownLatch(PRODUCERS);
+      final AtomicReference<Throwable> failure = new AtomicReference<>();
+      List<Thread> producers = new ArrayList<>();
+      for (int p = 0; p < PRODUCERS; p++) {
+         final ClientSession producerSession = addClientSession(factory.createSession(false, true, true));
+         producers.add(new Thread(() -> {
+            try {
+               ClientProducer producer = producerSession.createProducer(QUEUE);
+               for (int i = 0; i < MESSAGES / PRODUCERS; i++) {
+                  ClientMessage message = producerSession.createMessage(true);
+                  message.getBodyBuffer().writeBytes(body);
+                  producer.send(message);
+               }
+            } catch (Throwable e) {
+               failure.set(e);
+            } finally {
+               done.countDown();
+            }
+         }));
+      }
+
+      long start = System.nanoTime();
+      for (Thread producer : producers) {
+         producer.start();
+      }
+      Assert.assertTrue(done.await(5, TimeUnit.MINUTES));
+      long elapsed = System.nanoTime() - start;
+      Assert.assertNull(failure.get());
+
+      int sent = MESSAGES / PRODUCERS * PRODUCERS;
+      Assert.assertEquals(sent, getMessageCount(live, QUEUE.toString()));
+
+      double seconds = elapsed / (double) TimeUnit.SECONDS.toNanos(1);
+      System.out.println("replicated=" + replicated + ", batchSize=" + batchSize + ", codec=" + codec + ": sent " + sent + " durable messages from " + PRODUCERS + " producers in " + seconds + "s = " + sent / seconds + " msg/s");
+   }
+}
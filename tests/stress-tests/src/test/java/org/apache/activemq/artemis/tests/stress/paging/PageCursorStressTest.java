@@ -20,7 +20,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
 
@@ -99,6 +101,55 @@ public class PageCursorStressTest extends ActiveMQTestBase {
       System.out.println("Cache size = " + cursorProvider.getCacheSize());
    }
 
+   // Many subscriptions getting to the same pages at once must share a single read of each page
+   @Test
+   public void testConcurrentPageCacheLoads() throws Exception {
+
+      final int NUM_MESSAGES = 100;
+
+      final int NUM_READERS = 20;
+
+      final int numberOfPages = addMessages(NUM_MESSAGES, 1024 * 1024);
+
+      final PageCursorProviderImpl cursorProvider = new PageCursorProviderImpl(lookupPageStore(ADDRESS), server.getStorageManager(), server.getExecutorFactory().getExecutor(), numberOfPages);
+
+      final PageCache[][] caches = new PageCache[NUM_READERS][numberOfPages];
+      final CyclicBarrier barrier = new CyclicBarrier(NUM_READERS);
+      final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+      Thread[] readers = new Thread[NUM_READERS];
+      for (int r = 0; r < NUM_READERS; r++) {
+         final int reader = r;
+         readers[r] = new Thread(() -> {
+            try {
+               barrier.await();
+               for (int i = 0; i < numberOfPages; i++) {
+                  caches[reader][i] = cursorProvider.getPageCache(i + 1);
+               }
+            } catch (Throwable e) {
+               failure.set(e);
+            }
+         });
+         readers[r].start();
+      }
+
+      for (Thread reader : readers) {
+         reader.join();
+      }
+
+      assertNull(failure.get());
+
+      int numberOfMessages = 0;
+      for (int i = 0; i < numberOfPages; i++) {
+         assertNotNull(caches[0][i]);
+         numberOfMessages += caches[0][i].getNumberOfMessages();
+         for (int r = 1; r < NUM_READERS; r++) {
+            assertSame(caches[0][i], caches[r][i]);
+         }
+      }
+      assertEquals(NUM_MESSAGES, numberOfMessages);
+   }
+
    @Test
    public void testSimpleCursor() throws Exception {
 
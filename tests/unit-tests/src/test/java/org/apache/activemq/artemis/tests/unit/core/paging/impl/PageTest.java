@@ -28,6 +28,7 @@ import org.apache.activemq.artemis.core.message.impl.CoreMessage;
 import org.apache.activemq.artemis.core.message.impl.CoreMessagePersister;
 import org.apache.activemq.artemis.core.paging.PagedMessage;
 import org.apache.activemq.artemis.core.paging.impl.Page;
+import org.apache.activemq.artemis.core.paging.impl.PageMappings;
 import org.apache.activemq.artemis.core.paging.impl.PagedMessageImpl;
 import org.apache.activemq.artemis.core.persistence.impl.nullpm.NullStorageManager;
 import org.apache.activemq.artemis.core.protocol.core.impl.CoreProtocolManagerFactory;
@@ -68,6 +69,55 @@ public class PageTest extends ActiveMQTestBase {
       testDamagedPage(new NIOSequentialFileFactory(getTestDirfile(), 1), 1000);
    }
 
+   @Test
+   public void testPageWithWriteBufferNIO() throws Exception {
+      recreateDirectory(getTestDir());
+      testAdd(new NIOSequentialFileFactory(getTestDirfile(), 1), 1000, 4 * 1024, false);
+   }
+
+   @Test
+   public void testCompressedPageWithNIO() throws Exception {
+      recreateDirectory(getTestDir());
+      // the records only differ by a few bytes, so the page file must get much smaller than the records
+      testAdd(new NIOSequentialFileFactory(getTestDirfile(), 1), 1000, 4 * 1024, true);
+   }
+
+   @Test
+   public void testPageMappingsWithNIO() throws Exception {
+      recreateDirectory(getTestDir());
+      SequentialFileFactory factory = new NIOSequentialFileFactory(getTestDirfile(), 1);
+      PageMappings mappings = new PageMappings(1024 * 1024);
+
+      SequentialFile file = factory.createSequentialFile("00010.page");
+      Page impl = new Page(new SimpleString("something"), new NullStorageManager(), factory, file, 10);
+      impl.open();
+      SimpleString simpleDestination = new SimpleString("Test");
+      addPageElements(simpleDestination, impl, 100);
+      impl.sync();
+      impl.close();
+
+      file = factory.createSequentialFile("00010.page");
+      file.open();
+      impl = new Page(new SimpleString("something"), new NullStorageManager(), factory, file, 10);
+      impl.setMappings(mappings);
+
+      Assert.assertEquals(100, impl.read(new NullStorageManager()).size());
+      Assert.assertEquals(file.size(), mappings.getMappedBytes());
+
+      // the second read reuses the mapping kept open by the first one
+      List<PagedMessage> msgs = impl.read(new NullStorageManager());
+      Assert.assertEquals(100, msgs.size());
+      Assert.assertEquals(file.size(), mappings.getMappedBytes());
+      for (PagedMessage msg : msgs) {
+         Assert.assertEquals(simpleDestination, msg.getMessage().getAddressSimpleString());
+      }
+
+      impl.delete(null);
+
+      Assert.assertEquals(0, mappings.getMappedBytes());
+      Assert.assertEquals(0, factory.listFiles(".page").size());
+   }
+
    @Test
    public void testPageFakeWithoutCallbacks() throws Exception {
       testAdd(new FakeSequentialFileFactory(1, false), 10);
@@ -90,11 +140,22 @@ public class PageTest extends ActiveMQTestBase {
     * Validate if everything we add is recovered
     */
    protected void testAdd(final SequentialFileFactory factory, final int numberOfElements) throws Exception {
+      testAdd(factory, numberOfElements, 0, false);
+   }
+
+   protected void testAdd(final SequentialFileFactory factory,
+                          final int numberOfElements,
+                          final int writeBufferSize,
+                          final boolean compress) throws Exception {
 
       SequentialFile file = factory.createSequentialFile("00010.page");
 
       Page impl = new Page(new SimpleString("something"), new NullStorageManager(), factory, file, 10);
 
+      impl.setWriteBufferSize(writeBufferSize);
+
+      impl.setCompressWrites(compress);
+
       Assert.assertEquals(10, impl.getPageId());
 
       impl.open();
@@ -106,12 +167,23 @@ public class PageTest extends ActiveMQTestBase {
       addPageElements(simpleDestination, impl, numberOfElements);
 
       impl.sync();
+
+      if (compress) {
+         Assert.assertTrue(file.size() < impl.getSize() / 2);
+      } else if (writeBufferSize > 0) {
+         Assert.assertEquals(impl.getSize(), file.size());
+      }
+
+      final long recordsSize = impl.getSize();
+
       impl.close();
 
       file = factory.createSequentialFile("00010.page");
       file.open();
       impl = new Page(new SimpleString("something"), new NullStorageManager(), factory, file, 10);
 
+      Assert.assertEquals(recordsSize, impl.getDecodedSize());
+
       List<PagedMessage> msgs = impl.read(new NullStorageManager());
 
       Assert.assertEquals(numberOfElements, msgs.size());
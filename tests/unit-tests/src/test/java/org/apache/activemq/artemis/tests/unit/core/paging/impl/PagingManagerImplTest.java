@@ -30,6 +30,7 @@ import org.apache.activemq.artemis.core.paging.PagingStore;
 import org.apache.activemq.artemis.core.paging.impl.Page;
 import org.apache.activemq.artemis.core.paging.impl.PagingManagerImpl;
 import org.apache.activemq.artemis.core.paging.impl.PagingStoreFactoryNIO;
+import org.apache.activemq.artemis.core.paging.impl.PagingStoreImpl;
 import org.apache.activemq.artemis.core.persistence.StorageManager;
 import org.apache.activemq.artemis.core.persistence.impl.nullpm.NullStorageManager;
 import org.apache.activemq.artemis.core.server.impl.RoutingContextImpl;
@@ -93,6 +94,50 @@ public class PagingManagerImplTest extends ActiveMQTestBase {
 
    }
 
+   @Test
+   public void testHotStoresPageLast() throws Exception {
+      HierarchicalRepository<AddressSettings> addressSettings = new HierarchicalObjectRepository<>();
+      addressSettings.setDefault(new AddressSettings().setAddressFullMessagePolicy(AddressFullMessagePolicy.PAGE));
+
+      PagingStoreFactoryNIO storeFactory = new PagingStoreFactoryNIO(new NullStorageManager(), getPageDirFile(), 100, null, getOrderedExecutor(), true, null);
+
+      // the addresses that aren't hot start paging over 5000 bytes
+      PagingManagerImpl managerImpl = new PagingManagerImpl(storeFactory, addressSettings, 10000, 50);
+
+      managerImpl.start();
+
+      PagingStore hotStore = managerImpl.getPageStore(new SimpleString("hot"));
+      PagingStore coldStore = managerImpl.getPageStore(new SimpleString("cold"));
+
+      ICoreMessage msg = createMessage(1L, new SimpleString("hot"), createRandomBuffer(10));
+      for (int i = 0; i < 100; i++) {
+         // a paged reference being acknowledged
+         ((PagingStoreImpl) hotStore).nonDurableDown(msg, -1);
+      }
+
+      managerImpl.updateHotStores();
+
+      hotStore.addSize(1000);
+      Assert.assertFalse(managerImpl.isPagingPreferred(hotStore));
+      Assert.assertFalse(managerImpl.isPagingPreferred(coldStore));
+
+      coldStore.addSize(4500);
+      Assert.assertFalse(managerImpl.isGlobalFull());
+      Assert.assertTrue(managerImpl.isPagingPreferred(coldStore));
+      Assert.assertFalse(managerImpl.isPagingPreferred(hotStore));
+      Assert.assertTrue(coldStore.isPaging());
+
+      hotStore.addSize(1000);
+      Assert.assertFalse(hotStore.isPaging());
+
+      // only the global max size makes the hot stores page
+      hotStore.addSize(4000);
+      Assert.assertTrue(managerImpl.isGlobalFull());
+      Assert.assertTrue(hotStore.isPaging());
+
+      managerImpl.stop();
+   }
+
    @Override
    @Before
    public void setUp() throws Exception {
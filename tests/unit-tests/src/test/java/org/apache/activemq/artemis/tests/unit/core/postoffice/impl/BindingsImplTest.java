@@ -29,10 +29,12 @@ import org.apache.activemq.artemis.core.message.impl.CoreMessage;
 import org.apache.activemq.artemis.core.postoffice.Binding;
 import org.apache.activemq.artemis.core.postoffice.BindingType;
 import org.apache.activemq.artemis.core.postoffice.Bindings;
+import org.apache.activemq.artemis.core.postoffice.QueueBinding;
 import org.apache.activemq.artemis.core.postoffice.impl.BindingsImpl;
 import org.apache.activemq.artemis.core.server.Bindable;
 import org.apache.activemq.artemis.core.server.Queue;
 import org.apache.activemq.artemis.core.server.RoutingContext;
+import org.apache.activemq.artemis.core.server.cluster.impl.MessageLoadBalancingType;
 import org.apache.activemq.artemis.core.server.impl.RefsOperation;
 import org.apache.activemq.artemis.core.server.impl.RoutingContextImpl;
 import org.apache.activemq.artemis.core.transaction.Transaction;
@@ -67,6 +69,42 @@ public class BindingsImplTest extends ActiveMQTestBase {
       }
    }
 
+   @Test
+   public void testLoadAwareRoutingFavoursFasterQueue() throws Exception {
+      final Bindings bind = new BindingsImpl(null, null, null);
+      bind.setMessageLoadBalancingType(MessageLoadBalancingType.LOAD_AWARE);
+
+      FakeQueueBinding fast = new FakeQueueBinding(new SimpleString("a"), 1, 0, 100);
+      FakeQueueBinding slow = new FakeQueueBinding(new SimpleString("a"), 2, 1000, 0);
+      bind.addBinding(fast);
+      bind.addBinding(slow);
+
+      for (int i = 0; i < 1000; i++) {
+         bind.route(new CoreMessage(i, 100), new RoutingContextImpl(new FakeTransaction()));
+      }
+
+      assertEquals(1000, fast.routed + slow.routed);
+      assertTrue("slow queue got " + slow.routed + " messages", slow.routed < 10);
+   }
+
+   @Test
+   public void testLoadAwareRoutingRoundRobinsWhileLoadUnknown() throws Exception {
+      final Bindings bind = new BindingsImpl(null, null, null);
+      bind.setMessageLoadBalancingType(MessageLoadBalancingType.LOAD_AWARE);
+
+      FakeQueueBinding known = new FakeQueueBinding(new SimpleString("a"), 1, 0, 100);
+      FakeQueueBinding unknown = new FakeQueueBinding(new SimpleString("a"), 2, 0, -1);
+      bind.addBinding(known);
+      bind.addBinding(unknown);
+
+      for (int i = 0; i < 100; i++) {
+         bind.route(new CoreMessage(i, 100), new RoutingContextImpl(new FakeTransaction()));
+      }
+
+      assertEquals(50, known.routed);
+      assertEquals(50, unknown.routed);
+   }
+
    private void internalTest(final boolean route) throws Exception {
       final FakeBinding fake = new FakeBinding(new SimpleString("a"));
 
@@ -279,7 +317,7 @@ public class BindingsImplTest extends ActiveMQTestBase {
 
    }
 
-   private final class FakeBinding implements Binding {
+   private class FakeBinding implements Binding {
 
       @Override
       public void close() throws Exception {
@@ -401,6 +439,64 @@ public class BindingsImplTest extends ActiveMQTestBase {
 
    }
 
+   private final class FakeQueueBinding extends FakeBinding implements QueueBinding {
+
+      final long id;
+
+      final long messageCount;
+
+      final double consumeRate;
+
+      int routed;
+
+      FakeQueueBinding(final SimpleString name, final long id, final long messageCount, final double consumeRate) {
+         super(name);
+         this.id = id;
+         this.messageCount = messageCount;
+         this.consumeRate = consumeRate;
+      }
+
+      @Override
+      public long getID() {
+         return id;
+      }
+
+      @Override
+      public Filter getFilter() {
+         return null;
+      }
+
+      @Override
+      public boolean isHighAcceptPriority(final Message message) {
+         return true;
+      }
+
+      @Override
+      public void route(final Message message, final RoutingContext context) throws Exception {
+         routed++;
+      }
+
+      @Override
+      public int consumerCount() {
+         return 1;
+      }
+
+      @Override
+      public Queue getQueue() {
+         return null;
+      }
+
+      @Override
+      public long getMessageCount() {
+         return messageCount;
+      }
+
+      @Override
+      public double getConsumeRate() {
+         return consumeRate;
+      }
+   }
+
    // Package protected ---------------------------------------------
 
    // Protected -----------------------------------------------------
@@ -16,10 +16,13 @@
  */
 package org.apache.activemq.artemis.tests.unit.core.remoting.impl.netty;
 
+import java.io.File;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInboundHandlerAdapter;
@@ -32,6 +35,7 @@ import org.apache.activemq.artemis.core.server.ActiveMQComponent;
 import org.apache.activemq.artemis.spi.core.remoting.ClientConnectionLifeCycleListener;
 import org.apache.activemq.artemis.spi.core.remoting.ClientProtocolManager;
 import org.apache.activemq.artemis.spi.core.remoting.Connection;
+import org.apache.activemq.artemis.spi.core.remoting.SharedFileChannel;
 import org.apache.activemq.artemis.tests.util.ActiveMQTestBase;
 import org.junit.Assert;
 import org.junit.Test;
@@ -74,6 +78,41 @@ public class NettyConnectionTest extends ActiveMQTestBase {
 
    }
 
+   @Test
+   public void testFileRegionsCountTowardsWritability() throws Exception {
+      EmbeddedChannel channel = createChannel();
+      NettyConnection conn = new NettyConnection(emptyMap, channel, new MyListener(), false, false, true);
+
+      final int size = channel.config().getWriteBufferHighWaterMark() * 2;
+      File file = new File(getTestDirfile(), "region");
+      try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+         raf.setLength(size);
+      }
+
+      ActiveMQBuffer header = conn.createTransportBuffer(4);
+      header.writeInt(size);
+      ActiveMQBuffer trailer = conn.createTransportBuffer(1);
+      trailer.writeByte((byte) 0);
+
+      SharedFileChannel shared = SharedFileChannel.open(file);
+      conn.writeFileRegion(header, shared, 0, size, trailer);
+      Assert.assertEquals(3, channel.outboundMessages().size());
+
+      // the write keeps the file open after the owner released it
+      shared.release();
+      Assert.assertTrue(shared.channel().isOpen());
+
+      final AtomicBoolean ready = new AtomicBoolean(false);
+      Assert.assertFalse(conn.isWritable(() -> ready.set(true)));
+
+      // written
+      channel.releaseOutbound();
+
+      Assert.assertTrue(ready.get());
+      Assert.assertFalse(shared.channel().isOpen());
+      Assert.assertTrue(conn.isWritable(() -> { }));
+   }
+
    @Test(expected = IllegalStateException.class)
    public void throwsExceptionOnBlockUntilWritableIfClosed() {
       EmbeddedChannel channel = createChannel();
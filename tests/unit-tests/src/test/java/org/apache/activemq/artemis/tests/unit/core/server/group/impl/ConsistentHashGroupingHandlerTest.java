@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.activemq.artemis.tests.unit.core.server.group.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.message.impl.CoreMessage;
+import org.apache.activemq.artemis.core.postoffice.Binding;
+import org.apache.activemq.artemis.core.postoffice.impl.LocalQueueBinding;
+import org.apache.activemq.artemis.core.server.group.impl.ConsistentHashGroupingHandler;
+import org.apache.activemq.artemis.tests.unit.core.postoffice.impl.FakeQueue;
+import org.apache.activemq.artemis.tests.util.ActiveMQTestBase;
+import org.apache.activemq.artemis.utils.RandomUtil;
+import org.junit.Test;
+
+public class ConsistentHashGroupingHandlerTest extends ActiveMQTestBase {
+
+   private static final int GROUPS = 1000;
+
+   private final ConsistentHashGroupingHandler handler = new ConsistentHashGroupingHandler(null, null, new SimpleString("handler"), new SimpleString("address"));
+
+   @Test
+   public void testNodesAgreeOnOwner() throws Exception {
+      List<Binding> bindings = createBindings(4);
+      List<Binding> reversed = new ArrayList<>(bindings);
+      Collections.reverse(reversed);
+
+      ConsistentHashGroupingHandler other = new ConsistentHashGroupingHandler(null, null, new SimpleString("other"), new SimpleString("address"));
+
+      for (int i = 0; i < GROUPS; i++) {
+         SimpleString fullID = fullID(i);
+         assertSame(handler.chooseBinding(new CoreMessage(), fullID, bindings), other.chooseBinding(new CoreMessage(), fullID, reversed));
+      }
+   }
+
+   @Test
+   public void testOnlyGroupsOfLeavingNodeMove() throws Exception {
+      List<Binding> bindings = createBindings(4);
+      Binding[] before = owners(bindings);
+
+      Binding leaving = bindings.remove(2);
+      Binding[] after = owners(bindings);
+
+      int moved = 0;
+      for (int i = 0; i < GROUPS; i++) {
+         if (before[i] == leaving) {
+            moved++;
+            assertNotSame(leaving, after[i]);
+         } else {
+            assertSame(before[i], after[i]);
+         }
+      }
+      assertTrue("the leaving node owned " + moved + " groups", moved > 0);
+   }
+
+   @Test
+   public void testJoiningNodeTakesFairShare() throws Exception {
+      List<Binding> bindings = createBindings(5);
+      Binding joining = bindings.remove(4);
+      Binding[] before = owners(bindings);
+
+      bindings.add(joining);
+      Binding[] after = owners(bindings);
+
+      int moved = 0;
+      for (int i = 0; i < GROUPS; i++) {
+         if (before[i] != after[i]) {
+            moved++;
+            assertSame(joining, after[i]);
+         }
+      }
+      // a fifth of the groups is expected to move
+      assertTrue("moved " + moved + " groups", moved > GROUPS / 10 && moved < GROUPS * 3 / 10);
+   }
+
+   private Binding[] owners(List<Binding> bindings) {
+      Binding[] owners = new Binding[GROUPS];
+      for (int i = 0; i < GROUPS; i++) {
+         owners[i] = handler.chooseBinding(new CoreMessage(), fullID(i), bindings);
+      }
+      return owners;
+   }
+
+   private static SimpleString fullID(int group) {
+      return new SimpleString("group" + group + ".queue");
+   }
+
+   private static List<Binding> createBindings(int nodes) {
+      List<Binding> bindings = new ArrayList<>();
+      for (int i = 0; i < nodes; i++) {
+         bindings.add(new LocalQueueBinding(new SimpleString("address"), new FakeQueue(new SimpleString("queue")), new SimpleString(RandomUtil.randomString())));
+      }
+      return bindings;
+   }
+}
@@ -21,6 +21,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.ActiveMQBuffers;
@@ -92,6 +93,44 @@ public class UTF8Test extends ActiveMQTestBase {
       Assert.assertEquals(str, newStr);
    }
 
+   @Test
+   public void testSingleByteUTF() throws Exception {
+      ActiveMQBuffer buffer = ActiveMQBuffers.fixedBuffer(1024);
+
+      for (int size = 1; size < 40; size++) {
+         char[] chars = new char[size];
+         Arrays.fill(chars, 'a');
+
+         String str = new String(chars);
+
+         buffer.clear();
+         UTF8Util.saveUTF(buffer.byteBuf(), str);
+
+         ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+         new DataOutputStream(byteOut).writeUTF(str);
+
+         byte[] saved = new byte[buffer.writerIndex()];
+         buffer.readBytes(saved);
+         Assert.assertArrayEquals(byteOut.toByteArray(), saved);
+
+         // chars not taking a single byte anywhere in the string
+         for (char c : new char[]{0, 0x7f, 0xe9, 0x810}) {
+            for (int i = 0; i < size; i++) {
+               chars[i] = c;
+               str = new String(chars);
+
+               buffer.clear();
+               UTF8Util.saveUTF(buffer.byteBuf(), str);
+
+               Assert.assertEquals(DataConstants.SIZE_SHORT + size + (c < 0x800 ? 1 : 2), buffer.writerIndex());
+               Assert.assertEquals(str, UTF8Util.readUTF(buffer));
+
+               chars[i] = 'a';
+            }
+         }
+      }
+   }
+
    @Test
    public void testBigSize() throws Exception {
 